@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.BuildRequest;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ProjectDescription;
+import org.eclipse.xtext.testing.util.InMemoryURIHandler;
+
+import com.google.inject.Injector;
+
+/**
+ * Base class for benchmarks of the {@link IncrementalBuilder}. The source files of the project are
+ * {@link SyntheticModels synthetic models} that are kept in memory, so the benchmarks do not depend on the file
+ * system.
+ *
+ * @since 2.11
+ */
+public abstract class AbstractBuildBenchmark {
+
+	protected static final String PROJECT_NAME = "benchmark";
+
+	protected Injector injector;
+
+	protected InMemoryURIHandler uriHandler;
+
+	protected List<URI> sources;
+
+	/**
+	 * Creates the given number of source files with the given number of greetings each.
+	 */
+	protected void createSources(int files, int greetings) throws IOException {
+		injector = SyntheticModels.getInjector();
+		uriHandler = new InMemoryURIHandler();
+		sources = new ArrayList<URI>(files);
+		for (int i = 0; i < files; i++) {
+			URI uri = URI.createURI(InMemoryURIHandler.SCHEME + ":/src/file" + i + "." + SyntheticModels.FILE_EXTENSION);
+			writeSource(uri, SyntheticModels.createModel(i, greetings));
+			sources.add(uri);
+		}
+	}
+
+	protected void writeSource(URI uri, String model) throws IOException {
+		OutputStream out = uriHandler.createOutputStream(uri, Collections.emptyMap());
+		out.write(model.getBytes(StandardCharsets.UTF_8));
+		out.close();
+	}
+
+	protected IncrementalBuilder.Result build(BuildRequest request) {
+		IncrementalBuilder builder = injector.getInstance(IncrementalBuilder.class);
+		return builder.build(request,
+				uri -> IResourceServiceProvider.Registry.INSTANCE.getResourceServiceProvider(uri));
+	}
+
+	/**
+	 * Creates a request to build the given files on top of the given state. The state is updated by the build.
+	 */
+	protected BuildRequest newBuildRequest(List<URI> dirtyFiles, IndexState state) {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		resourceSet.getURIConverter().getURIHandlers().clear();
+		resourceSet.getURIConverter().getURIHandlers().add(uriHandler);
+		resourceSet.setClasspathURIContext(getClass().getClassLoader());
+		ProjectDescription projectDescription = new ProjectDescription();
+		projectDescription.setName(PROJECT_NAME);
+		projectDescription.attachToEmfObject(resourceSet);
+		new ChunkedResourceDescriptions(Collections.emptyMap(), resourceSet).setContainer(PROJECT_NAME,
+				state.getResourceDescriptions());
+		BuildRequest request = new BuildRequest();
+		request.setBaseDir(URI.createURI(InMemoryURIHandler.SCHEME + ":/"));
+		request.setResourceSet(resourceSet);
+		request.setDirtyFiles(dirtyFiles);
+		request.setState(state);
+		return request;
+	}
+
+}
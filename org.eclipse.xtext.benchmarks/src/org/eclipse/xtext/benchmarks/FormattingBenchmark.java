@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.formatting2.FormatterRequest;
+import org.eclipse.xtext.formatting2.IFormatter2;
+import org.eclipse.xtext.formatting2.regionaccess.ITextReplacement;
+import org.eclipse.xtext.formatting2.regionaccess.TextRegionAccessBuilder;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the formatting of a parsed model, including the creation of the text region access from its node model.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormattingBenchmark {
+
+	@Param({ "100", "1000" })
+	public int greetings;
+
+	private XtextResource resource;
+
+	private Injector injector;
+
+	@Setup
+	public void setUp() throws IOException {
+		injector = SyntheticModels.getInjector();
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		resource = SyntheticModels.load(resourceSet, 0, SyntheticModels.createModel(0, greetings));
+	}
+
+	@Benchmark
+	public List<ITextReplacement> format() {
+		TextRegionAccessBuilder builder = injector.getInstance(TextRegionAccessBuilder.class);
+		FormatterRequest request = injector.getInstance(FormatterRequest.class);
+		request.setTextRegionAccess(builder.forNodeModel(resource).create());
+		return injector.getInstance(IFormatter2.class).format(request);
+	}
+
+}
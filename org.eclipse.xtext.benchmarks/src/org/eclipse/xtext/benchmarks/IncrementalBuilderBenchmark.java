@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.BuildRequest;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.build.IndexState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures builds of a project with files that refer to each other, from indexing to generation. With more than one
+ * thread, source files are parsed concurrently by the {@link BuildRequest#getLoadingExecutor() loading executor}.
+ * <p>
+ * {@link #fullBuild()} builds all files from scratch. {@link #incrementalBuild()} changes the file in the middle of
+ * the project and builds it on top of the state of a full build. Like the language server, it copies that state and
+ * uses a fresh resource set for each build.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IncrementalBuilderBenchmark extends AbstractBuildBenchmark {
+
+	@Param({ "10", "100" })
+	public int files;
+
+	@Param({ "100" })
+	public int greetings;
+
+	@Param({ "1", "4" })
+	public int threads;
+
+	private ExecutorService executor;
+
+	private IndexState fullBuildState;
+
+	private URI changedFile;
+
+	private String changedModel;
+
+	private int changes;
+
+	@Setup
+	public void setUp() throws IOException {
+		createSources(files, greetings);
+		if (threads > 1) {
+			executor = Executors.newFixedThreadPool(threads);
+		}
+		fullBuildState = fullBuild().getIndexState();
+		changedFile = sources.get(files / 2);
+		changedModel = SyntheticModels.createModel(files / 2, greetings);
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Benchmark
+	public IncrementalBuilder.Result fullBuild() {
+		BuildRequest request = newBuildRequest(sources, new IndexState());
+		request.setLoadingExecutor(executor);
+		return build(request);
+	}
+
+	@Benchmark
+	public IncrementalBuilder.Result incrementalBuild() throws IOException {
+		// alternates between two versions of the file that export the same names
+		changes++;
+		writeSource(changedFile, changes % 2 == 0 ? changedModel : changedModel + "\n");
+		IndexState state = new IndexState(fullBuildState.getResourceDescriptions().copy(),
+				fullBuildState.getFileMappings().copy());
+		BuildRequest request = newBuildRequest(Collections.singletonList(changedFile), state);
+		request.setLoadingExecutor(executor);
+		return build(request);
+	}
+
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the resolution of all cross references of a freshly parsed model. The model is parsed before each
+ * invocation, so only the linking is measured.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkingBenchmark {
+
+	@Param({ "100", "1000" })
+	public int greetings;
+
+	private String model;
+
+	private XtextResource resource;
+
+	@Setup
+	public void setUpModel() {
+		model = SyntheticModels.createModel(0, greetings);
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpResource() throws IOException {
+		XtextResourceSet resourceSet = SyntheticModels.getInjector().getInstance(XtextResourceSet.class);
+		resource = SyntheticModels.load(resourceSet, 0, model);
+	}
+
+	@Benchmark
+	public XtextResource resolveAll() {
+		EcoreUtil2.resolveAll(resource);
+		return resource;
+	}
+
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the full parse of a model and the partial reparse after a single character edit.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParsingBenchmark {
+
+	@Param({ "100", "1000" })
+	public int greetings;
+
+	private String model;
+
+	private XtextResource resource;
+
+	private int editOffset;
+
+	private boolean toggle;
+
+	@Setup
+	public void setUp() throws IOException {
+		model = SyntheticModels.createModel(0, greetings);
+		resource = SyntheticModels.load(newResourceSet(), 0, model);
+		editOffset = SyntheticModels.getNameOffset(model, 0, greetings / 2);
+	}
+
+	@Benchmark
+	public XtextResource fullParse() throws IOException {
+		return SyntheticModels.load(newResourceSet(), 0, model);
+	}
+
+	@Benchmark
+	public XtextResource partialParse() {
+		toggle = !toggle;
+		resource.update(editOffset, 1, toggle ? "E" : "F");
+		return resource;
+	}
+
+	private XtextResourceSet newResourceSet() {
+		return SyntheticModels.getInjector().getInstance(XtextResourceSet.class);
+	}
+
+}
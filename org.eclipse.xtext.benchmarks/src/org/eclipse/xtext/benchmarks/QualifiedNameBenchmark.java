@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.build.BuildRequest;
+import org.eclipse.xtext.build.IndexState;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap that is retained by the index of a full build of a large workspace, with and without interning
+ * of qualified names. Interning is enabled by the system property <code>xtext.qn.interning</code>, so both variants
+ * run in their own fork.
+ * <p>
+ * The result to compare is the <code>retainedHeapKB</code> counter. It is the used heap after a full garbage
+ * collection while the index is still referenced, minus the used heap before the build. The time of the benchmark
+ * includes the garbage collections and is not meaningful.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class QualifiedNameBenchmark extends AbstractBuildBenchmark {
+
+	@Param({ "50000" })
+	public int files;
+
+	@Param({ "10" })
+	public int greetings;
+
+	// keeps the index of the last build reachable while the retained heap is measured
+	private IndexState index;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedHeap {
+		public long retainedHeapKB;
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		createSources(files, greetings);
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = "-Dxtext.qn.interning=true")
+	public void buildIndexInterned(RetainedHeap heap) {
+		buildIndex(heap);
+	}
+
+	@Benchmark
+	public void buildIndexNotInterned(RetainedHeap heap) {
+		buildIndex(heap);
+	}
+
+	private void buildIndex(RetainedHeap heap) {
+		index = null;
+		long usedHeapBeforeBuild = getUsedHeapAfterGC();
+		BuildRequest request = newBuildRequest(sources, new IndexState());
+		request.setIndexOnly(true);
+		index = build(request).getIndexState();
+		heap.retainedHeapKB = (getUsedHeapAfterGC() - usedHeapBeforeBuild) / 1024;
+	}
+
+	private static long getUsedHeapAfterGC() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the serialization of a model without a node model, as it is created by model transformations. Such models
+ * are sequenced by backtracking, so this benchmark covers the reuse of backtracking results, too. Both variants
+ * write the unformatted text to a writer that discards it, so that the allocation rates reported by
+ * <code>-prof gc</code> (<code>gc.alloc.rate.norm</code>) contain the memory used by the serializer only. The
+ * default variant builds the text region model of the whole document, the streaming variant writes the tokens as
+ * soon as they are sequenced.
+ *
+ * @since 2.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+	@Param({ "100", "1000" })
+	public int greetings;
+
+	private EObject model;
+
+	private ISerializer serializer;
+
+	private SaveOptions defaultOptions;
+
+	private SaveOptions streamingOptions;
+
+	private Writer writer;
+
+	@Setup
+	public void setUp() throws IOException {
+		XtextResourceSet resourceSet = SyntheticModels.getInjector().getInstance(XtextResourceSet.class);
+		XtextResource parsed = SyntheticModels.load(resourceSet, 0, SyntheticModels.createModel(0, greetings));
+		EcoreUtil2.resolveAll(parsed);
+		Resource copy = resourceSet.createResource(URI.createURI("copy." + SyntheticModels.FILE_EXTENSION));
+		copy.getContents().add(EcoreUtil.copy(parsed.getContents().get(0)));
+		model = copy.getContents().get(0);
+		serializer = SyntheticModels.getInjector().getInstance(ISerializer.class);
+		defaultOptions = SaveOptions.defaultOptions();
+		streamingOptions = SaveOptions.newBuilder().stream().getOptions();
+		writer = new DiscardingWriter();
+	}
+
+	@Benchmark
+	public Writer serialize() throws IOException {
+		serializer.serialize(model, writer, defaultOptions);
+		return writer;
+	}
+
+	@Benchmark
+	public Writer serializeStreaming() throws IOException {
+		serializer.serialize(model, writer, streamingOptions);
+		return writer;
+	}
+
+	private static class DiscardingWriter extends Writer {
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
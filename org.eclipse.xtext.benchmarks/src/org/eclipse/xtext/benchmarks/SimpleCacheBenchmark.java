@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.util.SimpleCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.google.common.base.Function;
+
+/**
+ * Measures the throughput of a {@link SimpleCache} that is shared by 1 to 32 threads. Most lookups hit the cache, the
+ * remaining ones discard and recompute an entry.
+ *
+ * @since 2.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimpleCacheBenchmark {
+
+	@Param({ "1000" })
+	public int keys;
+
+	/**
+	 * Every n-th lookup discards its entry first.
+	 */
+	@Param({ "100" })
+	public int discardEvery;
+
+	private SimpleCache<String, String> cache;
+
+	private String[] keyValues;
+
+	@Setup
+	public void setUp() {
+		cache = new SimpleCache<String, String>(new Function<String, String>() {
+			@Override
+			public String apply(String input) {
+				return input.toUpperCase();
+			}
+		});
+		keyValues = new String[keys];
+		for (int i = 0; i < keys; i++) {
+			keyValues[i] = "key" + i;
+			cache.get(keyValues[i]);
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String threads01() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(2)
+	public String threads02() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String threads04() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String threads08() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public String threads16() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(32)
+	public String threads32() {
+		return lookup();
+	}
+
+	private String lookup() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		String key = keyValues[random.nextInt(keys)];
+		if (random.nextInt(discardEvery) == 0) {
+			cache.discard(key);
+		}
+		return cache.get(key);
+	}
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.testlanguages.noJdt.NoJdtTestLanguageStandaloneSetup;
+import org.eclipse.xtext.util.StringInputStream;
+
+import com.google.inject.Injector;
+
+/**
+ * Creates models of the NoJdt test language of a configurable size. Each greeting of a file refers to the greeting
+ * with the same index in the previous file, or to the previous greeting if there is no previous file, so the models
+ * have cross references within and across files.
+ */
+public class SyntheticModels {
+
+	public static final String FILE_EXTENSION = "nojdt";
+
+	private static Injector injector;
+
+	public static synchronized Injector getInjector() {
+		if (injector == null) {
+			injector = new NoJdtTestLanguageStandaloneSetup().createInjectorAndDoEMFRegistration();
+		}
+		return injector;
+	}
+
+	public static String getName(int file, int greeting) {
+		return "F" + file + "G" + greeting;
+	}
+
+	public static String createModel(int file, int greetings) {
+		StringBuilder result = new StringBuilder(greetings * 32);
+		for (int i = 0; i < greetings; i++) {
+			result.append("Hello ").append(getName(file, i));
+			if (file > 0) {
+				result.append(" (from ").append(getName(file - 1, i)).append(")");
+			} else if (i > 0) {
+				result.append(" (from ").append(getName(file, i - 1)).append(")");
+			}
+			result.append("!\n");
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @return the offset of the name of the given greeting in a model that was created by
+	 *         {@link #createModel(int, int)}.
+	 */
+	public static int getNameOffset(String model, int file, int greeting) {
+		return model.indexOf("Hello " + getName(file, greeting) + " ") + "Hello ".length();
+	}
+
+	public static XtextResource load(XtextResourceSet resourceSet, int file, String model) throws IOException {
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("file" + file + "." + FILE_EXTENSION));
+		resource.load(new StringInputStream(model), null);
+		return resource;
+	}
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.editor.contentassist.antlr;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+import org.antlr.runtime.TokenSource;
+import org.eclipse.xtext.ide.LexerIdeBindings;
+import org.eclipse.xtext.ide.editor.contentassist.antlr.ContentAssistTokenCache;
+import org.eclipse.xtext.ide.editor.contentassist.antlr.internal.Lexer;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testlanguages.xtextgrammar.ide.XtextGrammarTestLanguageIdeInjectorProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+
+@RunWith(XtextRunner.class)
+@InjectWith(XtextGrammarTestLanguageIdeInjectorProvider.class)
+public class ContentAssistTokenCacheTest {
+
+	@Inject
+	@Named(LexerIdeBindings.CONTENT_ASSIST)
+	private Provider<Lexer> lexerProvider;
+
+	private int lexerInvocations;
+
+	private final Function<CharStream, TokenSource> lexerFactory = new Function<CharStream, TokenSource>() {
+		@Override
+		public TokenSource apply(CharStream stream) {
+			lexerInvocations++;
+			Lexer lexer = lexerProvider.get();
+			lexer.setCharStream(stream);
+			return lexer;
+		}
+	};
+
+	@Test public void testSameInput() {
+		ContentAssistTokenCache cache = new ContentAssistTokenCache();
+		String input = "grammar foo.Bar with org.eclipse.xtext.common.Terminals\n generate bar 'http://bar'\n Rule: name=ID;";
+		assertTokens(input, lex(cache, input));
+		lexerInvocations = 0;
+		List<Token> tokens = lex(cache, input);
+		assertEquals(1, lexerInvocations);
+		assertTokens(input, tokens);
+	}
+
+	@Test public void testAppendedInput() {
+		ContentAssistTokenCache cache = new ContentAssistTokenCache();
+		String input = "grammar foo.Bar with org.eclipse.xtext.common.Terminals\n generate bar 'http://bar'\n Rule: name";
+		lex(cache, input);
+		String appended = input + "=ID;";
+		assertTokens(appended, lex(cache, appended));
+	}
+
+	@Test public void testShortenedInput() {
+		ContentAssistTokenCache cache = new ContentAssistTokenCache();
+		String input = "grammar foo.Bar with org.eclipse.xtext.common.Terminals\n generate bar 'http://bar'\n Rule: name=ID;";
+		lex(cache, input);
+		String shortened = input.substring(0, input.indexOf("Terminals") + 4);
+		assertTokens(shortened, lex(cache, shortened));
+	}
+
+	@Test public void testModifiedInput() {
+		ContentAssistTokenCache cache = new ContentAssistTokenCache();
+		String input = "grammar foo.Bar with org.eclipse.xtext.common.Terminals\n generate bar 'http://bar'\n Rule: name=ID;";
+		lex(cache, input);
+		String modified = input.replace("'http://bar'", "'http://bar");
+		assertTokens(modified, lex(cache, modified));
+		String multiline = input.replace("generate", "/*\n*/ generate");
+		assertTokens(multiline, lex(cache, multiline));
+	}
+
+	private List<Token> lex(ContentAssistTokenCache cache, String input) {
+		return lex(cache.createTokenSource(input, lexerFactory));
+	}
+
+	private List<Token> lex(TokenSource source) {
+		List<Token> result = Lists.newArrayList();
+		Token token = source.nextToken();
+		while (token.getType() != Token.EOF) {
+			result.add(token);
+			token = source.nextToken();
+		}
+		return result;
+	}
+
+	private void assertTokens(String input, List<Token> actual) {
+		List<Token> expected = lex(lexerFactory.apply(new ANTLRStringStream(input)));
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			CommonToken expectedToken = (CommonToken) expected.get(i);
+			CommonToken actualToken = (CommonToken) actual.get(i);
+			assertEquals(expectedToken.getType(), actualToken.getType());
+			assertEquals(expectedToken.getText(), actualToken.getText());
+			assertEquals(expectedToken.getStartIndex(), actualToken.getStartIndex());
+			assertEquals(expectedToken.getStopIndex(), actualToken.getStopIndex());
+			assertEquals(expectedToken.getLine(), actualToken.getLine());
+			assertEquals(expectedToken.getCharPositionInLine(), actualToken.getCharPositionInLine());
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.editor.hierarchy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.editor.hierarchy.CallHierarchyGraph;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultReferenceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CallHierarchyGraphTest extends Assert {
+
+	private static class Description extends AbstractResourceDescription {
+		private final URI uri;
+		private final List<IReferenceDescription> references;
+
+		private Description(String uri, IReferenceDescription... references) {
+			this.uri = URI.createURI(uri);
+			this.references = Arrays.asList(references);
+		}
+
+		@Override
+		protected List<IEObjectDescription> computeExportedObjects() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<QualifiedName> getImportedNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<IReferenceDescription> getReferenceDescriptions() {
+			return references;
+		}
+
+		@Override
+		public URI getURI() {
+			return uri;
+		}
+	}
+
+	@Test public void testInitialize() {
+		IReferenceDescription aToB = reference("a.x#/0/0", "b.x#/0", "a.x#/0");
+		IReferenceDescription cToB = reference("c.x#/1/0", "b.x#/0", "c.x#/1");
+		CallHierarchyGraph graph = new CallHierarchyGraph();
+		graph.initialize(new ResourceDescriptionsData(Arrays.<IResourceDescription> asList(
+				new Description("a.x", aToB), new Description("b.x"), new Description("c.x", cToB))));
+		assertEquals(Arrays.asList(aToB, cToB), graph.getIncomingReferences(URI.createURI("b.x#/0")));
+		assertEquals(Arrays.asList(aToB), graph.getOutgoingReferences(URI.createURI("a.x#/0")));
+		assertEquals(Collections.emptyList(), graph.getIncomingReferences(URI.createURI("a.x#/0")));
+	}
+
+	@Test public void testUpdate() {
+		IReferenceDescription aToB = reference("a.x#/0/0", "b.x#/0", "a.x#/0");
+		IReferenceDescription cToB = reference("c.x#/1/0", "b.x#/0", "c.x#/1");
+		Description a = new Description("a.x", aToB);
+		Description c = new Description("c.x", cToB);
+		CallHierarchyGraph graph = new CallHierarchyGraph();
+		graph.initialize(new ResourceDescriptionsData(Arrays.<IResourceDescription> asList(a, c)));
+
+		IReferenceDescription aToC = reference("a.x#/0/0", "c.x#/1", "a.x#/0");
+		graph.update(Arrays.asList(new DefaultResourceDescriptionDelta(a, new Description("a.x", aToC)),
+				new DefaultResourceDescriptionDelta(c, null)));
+		assertEquals(Collections.emptyList(), graph.getIncomingReferences(URI.createURI("b.x#/0")));
+		assertEquals(Arrays.asList(aToC), graph.getIncomingReferences(URI.createURI("c.x#/1")));
+		assertEquals(Arrays.asList(aToC), graph.getOutgoingReferences(URI.createURI("a.x#/0")));
+		assertEquals(Collections.emptyList(), graph.getOutgoingReferences(URI.createURI("c.x#/1")));
+	}
+
+	@Test public void testDeltasBeforeInitializationAreIgnored() {
+		IReferenceDescription aToB = reference("a.x#/0/0", "b.x#/0", "a.x#/0");
+		Description a = new Description("a.x", aToB);
+		CallHierarchyGraph graph = new CallHierarchyGraph();
+		graph.update(Arrays.asList(new DefaultResourceDescriptionDelta(null, a)));
+		assertFalse(graph.isInitialized());
+		graph.initialize(new ResourceDescriptionsData(Collections.<IResourceDescription> emptyList()));
+		assertEquals(Collections.emptyList(), graph.getIncomingReferences(URI.createURI("b.x#/0")));
+	}
+
+	@Test public void testOtherIndexIsReadUnlessDeltasAreReceived() {
+		IReferenceDescription aToB = reference("a.x#/0/0", "b.x#/0", "a.x#/0");
+		IReferenceDescription cToB = reference("c.x#/1/0", "b.x#/0", "c.x#/1");
+		Description a = new Description("a.x", aToB);
+		CallHierarchyGraph graph = new CallHierarchyGraph();
+		graph.initialize(new ResourceDescriptionsData(Arrays.<IResourceDescription> asList(a)));
+		graph.initialize(new ResourceDescriptionsData(Arrays.<IResourceDescription> asList(new Description("c.x", cToB))));
+		assertEquals(Arrays.asList(cToB), graph.getIncomingReferences(URI.createURI("b.x#/0")));
+
+		graph.afterBuild(Arrays.<IResourceDescription.Delta> asList(new DefaultResourceDescriptionDelta(null, a)));
+		graph.initialize(new ResourceDescriptionsData(Collections.<IResourceDescription> emptyList()));
+		assertEquals(Arrays.asList(cToB, aToB), graph.getIncomingReferences(URI.createURI("b.x#/0")));
+	}
+
+	private IReferenceDescription reference(String source, String target, String container) {
+		return new DefaultReferenceDescription(URI.createURI(source), URI.createURI(target), null, -1,
+				URI.createURI(container));
+	}
+
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.editor.hierarchy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.findReferences.IReferenceFinder;
+import org.eclipse.xtext.ide.editor.hierarchy.DefaultCallHierarchyBuilder;
+import org.eclipse.xtext.ide.editor.hierarchy.DefaultHierarchyNode;
+import org.eclipse.xtext.ide.editor.hierarchy.ICallHierarchyBuilder.CallHierarchyType;
+import org.eclipse.xtext.ide.editor.hierarchy.IHierarchyNode;
+import org.eclipse.xtext.ide.editor.hierarchy.IndexedCallHierarchyBuilder;
+import org.eclipse.xtext.ide.tests.testlanguage.TestLanguageIdeInjectorProvider;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Model;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Property;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.util.concurrent.IUnitOfWork;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+/**
+ * Compares the call hierarchies of the {@link IndexedCallHierarchyBuilder} with the ones of the
+ * {@link DefaultCallHierarchyBuilder}.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(TestLanguageIdeInjectorProvider.class)
+public class IndexedCallHierarchyBuilderTest extends Assert {
+
+	@Inject
+	private Provider<XtextResourceSet> resourceSetProvider;
+
+	@Inject
+	private Provider<IndexedCallHierarchyBuilder> indexedBuilderProvider;
+
+	@Inject
+	private Provider<DefaultCallHierarchyBuilder> defaultBuilderProvider;
+
+	private XtextResourceSet resourceSet;
+
+	private ResourceDescriptionsData index;
+
+	private Model foo;
+
+	private Model bar;
+
+	@Before
+	public void setUp() throws IOException {
+		resourceSet = resourceSetProvider.get();
+		foo = (Model) load("foo.testlang", "type Foo {\n\tBar bar\n\tBaz baz\n}\ntype Baz {\n}\n");
+		bar = (Model) load("bar.testlang", "type Bar {\n}\n");
+		EcoreUtil.resolveAll(resourceSet);
+		List<IResourceDescription> descriptions = new ArrayList<IResourceDescription>();
+		for (Resource resource : resourceSet.getResources()) {
+			descriptions.add(((XtextResource) resource).getResourceServiceProvider().getResourceDescriptionManager()
+					.getResourceDescription(resource));
+		}
+		index = new ResourceDescriptionsData(descriptions);
+	}
+
+	@Test public void testCallees() {
+		URI fooURI = EcoreUtil.getURI(foo.getTypes().get(0));
+		assertEquals(Arrays.asList("Bar", "Baz"), children(defaultBuilder(CallHierarchyType.CALLEE), fooURI));
+		assertEquals(Arrays.asList("Bar", "Baz"), children(indexedBuilder(CallHierarchyType.CALLEE), fooURI));
+	}
+
+	@Test public void testCallers() {
+		URI barURI = EcoreUtil.getURI(bar.getTypes().get(0));
+		List<String> expected = children(defaultBuilder(CallHierarchyType.CALLER), barURI);
+		assertEquals(1, expected.size());
+		assertEquals(expected, children(indexedBuilder(CallHierarchyType.CALLER), barURI));
+	}
+
+	@Test public void testCalleesOfDeclarationThatIsNotExported() {
+		EObject typeReference = ((Property) foo.getTypes().get(0).getMembers().get(0)).getType();
+		DefaultHierarchyNode root = new DefaultHierarchyNode();
+		root.setElement(EObjectDescription.create(QualifiedName.create("bar"), typeReference));
+		root.setMayHaveChildren(true);
+		assertEquals(Arrays.asList("Bar"), names(defaultBuilder(CallHierarchyType.CALLEE).buildChildren(root, null)));
+		assertEquals(Arrays.asList("Bar"), names(indexedBuilder(CallHierarchyType.CALLEE).buildChildren(root, null)));
+	}
+
+	private EObject load(String uri, String model) throws IOException {
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI(uri));
+		resource.load(new StringInputStream(model), null);
+		return resource.getContents().get(0);
+	}
+
+	private DefaultCallHierarchyBuilder defaultBuilder(CallHierarchyType type) {
+		return configure(defaultBuilderProvider.get(), type);
+	}
+
+	private DefaultCallHierarchyBuilder indexedBuilder(CallHierarchyType type) {
+		return configure(indexedBuilderProvider.get(), type);
+	}
+
+	private DefaultCallHierarchyBuilder configure(DefaultCallHierarchyBuilder builder, CallHierarchyType type) {
+		builder.setHierarchyType(type);
+		builder.setIndexData(index);
+		builder.setResourceAccess(new IReferenceFinder.IResourceAccess() {
+			@Override
+			public <R> R readOnly(URI targetURI, IUnitOfWork<R, ResourceSet> work) {
+				try {
+					return work.exec(resourceSet);
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		return builder;
+	}
+
+	private List<String> children(DefaultCallHierarchyBuilder builder, URI rootURI) {
+		List<IHierarchyNode> roots = new ArrayList<IHierarchyNode>(builder.buildRoots(rootURI, null));
+		assertEquals(1, roots.size());
+		return names(builder.buildChildren(roots.get(0), null));
+	}
+
+	private List<String> names(Iterable<IHierarchyNode> nodes) {
+		List<String> result = new ArrayList<String>();
+		for (IHierarchyNode node : nodes) {
+			result.add(node.getElement().getQualifiedName().toString());
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.editor.syntaxcoloring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.xtext.ide.editor.syntaxcoloring.HighlightingStyles;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor;
+import org.eclipse.xtext.ide.tests.testlanguage.TestLanguageIdeInjectorProvider;
+import org.eclipse.xtext.ide.tests.testlanguage.coloring.TestLanguageSemanticHighlightingCalculator;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Model;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testing.util.ParseHelper;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.TextRegion;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Inject;
+
+@RunWith(XtextRunner.class)
+@InjectWith(TestLanguageIdeInjectorProvider.class)
+public class RegionSemanticHighlightingCalculatorTest extends Assert {
+
+	private static final String MODEL = "type A {\n\tint a\n}\ntype B {\n\t// TODO b\n\tint b\n\top foo() { }\n}\n";
+
+	@Inject
+	private ParseHelper<Model> parseHelper;
+
+	@Inject
+	private TestLanguageSemanticHighlightingCalculator calculator;
+
+	@Test public void testWholeDocument() throws Exception {
+		List<String> positions = highlight(new TextRegion(0, MODEL.length()));
+		assertEquals(4, positions.size());
+		assertTrue(positions.contains(position(MODEL.indexOf("a\n"), 1, TestLanguageSemanticHighlightingCalculator.MEMBER_ID)));
+		assertTrue(positions.contains(position(MODEL.indexOf("b\n\top"), 1, TestLanguageSemanticHighlightingCalculator.MEMBER_ID)));
+		assertTrue(positions.contains(position(MODEL.indexOf("foo"), 3, TestLanguageSemanticHighlightingCalculator.MEMBER_ID)));
+		assertTrue(positions.contains(position(MODEL.indexOf("TODO"), 4, HighlightingStyles.TASK_ID)));
+	}
+
+	@Test public void testElementsOutsideOfRegionAreSkipped() throws Exception {
+		List<String> positions = highlight(new TextRegion(MODEL.indexOf("int a"), 5));
+		assertEquals(1, positions.size());
+		assertEquals(position(MODEL.indexOf("a\n"), 1, TestLanguageSemanticHighlightingCalculator.MEMBER_ID), positions.get(0));
+	}
+
+	@Test public void testTasksInRegion() throws Exception {
+		List<String> positions = highlight(new TextRegion(MODEL.indexOf("// TODO"), 9));
+		assertTrue(positions.contains(position(MODEL.indexOf("TODO"), 4, HighlightingStyles.TASK_ID)));
+		assertFalse(positions.contains(position(MODEL.indexOf("a\n"), 1, TestLanguageSemanticHighlightingCalculator.MEMBER_ID)));
+		assertFalse(positions.contains(position(MODEL.indexOf("foo"), 3, TestLanguageSemanticHighlightingCalculator.MEMBER_ID)));
+	}
+
+	private List<String> highlight(ITextRegion region) throws Exception {
+		XtextResource resource = (XtextResource) parseHelper.parse(MODEL).eResource();
+		final List<String> result = new ArrayList<String>();
+		calculator.provideHighlightingFor(resource, region, new IHighlightedPositionAcceptor() {
+			@Override
+			public void addPosition(int offset, int length, String... id) {
+				result.add(position(offset, length, id));
+			}
+		}, CancelIndicator.NullImpl);
+		return result;
+	}
+
+	private String position(int offset, int length, String... id) {
+		return offset + ":" + length + ":" + String.join(",", id);
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.xtext.ISetupExtension;
+import org.eclipse.xtext.ide.server.ILanguageServerExtension;
+import org.eclipse.xtext.ide.server.ILanguageServerSetupExtension;
+import org.eclipse.xtext.ide.server.LanguageServerImpl;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.tests.testlanguage.ide.TestLangLSPExtension;
+import org.eclipse.xtext.ide.tests.testlanguage.ide.TestLangLSPExtension.TextOfLineParam;
+import org.eclipse.xtext.ide.tests.testlanguage.ide.TestLanguageIdeSetup;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.ResourceServiceProviderServiceLoader.LazyResourceServiceProvider;
+import org.eclipse.xtext.resource.impl.ResourceServiceProviderRegistryImpl;
+import org.eclipse.xtext.util.Modules2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
+public class LazyLanguageServerExtensionTest extends Assert {
+
+	public static class LazyTestLanguageIdeSetup extends TestLanguageIdeSetup implements ISetupExtension, ILanguageServerSetupExtension {
+
+		@Override
+		public List<String> getFileExtensions() {
+			return Collections.singletonList("testlang");
+		}
+
+		@Override
+		public Class<? extends ILanguageServerExtension> getLanguageServerExtensionType() {
+			return TestLangLSPExtension.class;
+		}
+
+	}
+
+	public static class LazyTestLanguageIdeSetupWithoutExtensionType extends TestLanguageIdeSetup implements ISetupExtension {
+
+		@Override
+		public List<String> getFileExtensions() {
+			return Collections.singletonList("testlang");
+		}
+
+	}
+
+	@Test public void testLanguageIsInitializedOnFirstRequest() {
+		LazyResourceServiceProvider resourceServiceProvider = new LazyResourceServiceProvider(new LazyTestLanguageIdeSetup());
+		LanguageServerImpl languageServer = createLanguageServer(resourceServiceProvider);
+
+		assertTrue(languageServer.supportedMethods().containsKey("getTextOfLine"));
+		assertFalse(resourceServiceProvider.isInitialized());
+
+		TextOfLineParam param = new TextOfLineParam();
+		param.uri = "file:/mydoc.testlang";
+		languageServer.request("getTextOfLine", param);
+		assertTrue(resourceServiceProvider.isInitialized());
+	}
+
+	@Test public void testExtensionOfLanguageWithoutExtensionTypeIsNotLost() {
+		LazyResourceServiceProvider resourceServiceProvider = new LazyResourceServiceProvider(new LazyTestLanguageIdeSetupWithoutExtensionType());
+		LanguageServerImpl languageServer = createLanguageServer(resourceServiceProvider);
+
+		assertTrue(languageServer.supportedMethods().containsKey("getTextOfLine"));
+		assertTrue(resourceServiceProvider.isInitialized());
+	}
+
+	private LanguageServerImpl createLanguageServer(LazyResourceServiceProvider resourceServiceProvider) {
+		final IResourceServiceProvider.Registry registry = new ResourceServiceProviderRegistryImpl();
+		registry.getExtensionToFactoryMap().put("testlang", resourceServiceProvider);
+		return Guice.createInjector(Modules2.mixin(new ServerModule(), new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(IResourceServiceProvider.Registry.class).toInstance(registry);
+			}
+		})).getInstance(LanguageServerImpl.class);
+	}
+
+}
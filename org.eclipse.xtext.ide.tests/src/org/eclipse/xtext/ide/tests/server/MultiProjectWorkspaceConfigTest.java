@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.util.HashMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.MultiProjectWorkspaceConfig;
+import org.eclipse.xtext.workspace.FileProjectConfig;
+import org.eclipse.xtext.workspace.IProjectConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MultiProjectWorkspaceConfigTest extends Assert {
+
+	private FileProjectConfig project(String path, String name) {
+		FileProjectConfig result = new FileProjectConfig(URI.createURI(path), name);
+		result.addSourceFolder("src");
+		return result;
+	}
+
+	@Test public void testReplaceProject() {
+		MultiProjectWorkspaceConfig config = new MultiProjectWorkspaceConfig(new HashMap<String, IProjectConfig>());
+		FileProjectConfig foo = project("file:/ws/foo/", "foo");
+		config.addProject(foo);
+		config.addProject(project("file:/ws/bar/", "bar"));
+		assertSame(foo, config.findProjectContaining(URI.createURI("file:/ws/foo/src/a.txt")));
+		FileProjectConfig movedFoo = project("file:/ws/moved/", "foo");
+		config.addProject(movedFoo);
+		assertNull(config.findProjectContaining(URI.createURI("file:/ws/foo/src/a.txt")));
+		assertSame(movedFoo, config.findProjectContaining(URI.createURI("file:/ws/moved/src/a.txt")));
+	}
+
+	@Test public void testChangedSourceFolders() {
+		MultiProjectWorkspaceConfig config = new MultiProjectWorkspaceConfig(new HashMap<String, IProjectConfig>());
+		FileProjectConfig foo = project("file:/ws/foo/", "foo");
+		config.addProject(foo);
+		assertNull(config.findProjectContaining(URI.createURI("file:/ws/foo/src-gen/a.txt")));
+		foo.addSourceFolder("src-gen");
+		config.invalidateSourceFolderTrie();
+		assertSame(foo, config.findProjectContaining(URI.createURI("file:/ws/foo/src-gen/a.txt")));
+	}
+
+}
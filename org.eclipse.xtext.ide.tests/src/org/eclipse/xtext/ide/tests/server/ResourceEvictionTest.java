@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Modules2;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+
+/**
+ * Tests that the resources of a project are evicted after a build and after reads, except for open documents.
+ */
+public class ResourceEvictionTest extends Assert {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private WorkspaceManager workspaceManager;
+
+	private File root;
+
+	@Before
+	public void setup() throws IOException {
+		workspaceManager = Guice.createInjector(Modules2.mixin(new ServerModule(), new AbstractModule() {
+			@Override
+			protected void configure() {
+				bindConstant().annotatedWith(Names.named(ProjectManager.MAX_CACHED_RESOURCES)).to(1);
+			}
+		})).getInstance(WorkspaceManager.class);
+		root = temporaryFolder.newFolder("workspace");
+	}
+
+	@Test
+	public void testCachedResourcesAreLimited() throws IOException {
+		URI foo = createFile("Foo.testlang", "type Foo {}");
+		createFile("Bar.testlang", "type Bar {}");
+		createFile("Baz.testlang", "type Baz {}");
+		workspaceManager.initialize(URI.createFileURI(root.getAbsolutePath()), (uri, issues) -> {}, CancelIndicator.NullImpl);
+		XtextResourceSet resourceSet = workspaceManager.getProjectManager(foo).getResourceSet();
+		assertEquals(1, resourceSet.getResources().size());
+	}
+
+	@Test
+	public void testOpenDocumentsAndRecentlyUsedResourcesAreKept() throws IOException {
+		URI foo = createFile("Foo.testlang", "type Foo {}");
+		URI bar = createFile("Bar.testlang", "type Bar {}");
+		URI baz = createFile("Baz.testlang", "type Baz {}");
+		workspaceManager.initialize(URI.createFileURI(root.getAbsolutePath()), (uri, issues) -> {}, CancelIndicator.NullImpl);
+		workspaceManager.getProjectManager(baz).getResource(baz);
+		workspaceManager.didOpen(foo, 1, "type Foo { Bar bar Baz baz }", CancelIndicator.NullImpl);
+		XtextResourceSet resourceSet = workspaceManager.getProjectManager(foo).getResourceSet();
+		assertEquals(2, resourceSet.getResources().size());
+		assertNotNull(resourceSet.getResource(foo, false));
+		assertNotNull(resourceSet.getResource(baz, false));
+		assertNull(resourceSet.getResource(bar, false));
+	}
+
+	@Test
+	public void testResourcesLoadedByReadsAreEvicted() throws IOException {
+		URI foo = createFile("Foo.testlang", "type Foo {}");
+		URI bar = createFile("Bar.testlang", "type Bar {}");
+		URI baz = createFile("Baz.testlang", "type Baz {}");
+		workspaceManager.initialize(URI.createFileURI(root.getAbsolutePath()), (uri, issues) -> {}, CancelIndicator.NullImpl);
+		for (URI uri : new URI[] { foo, bar, baz }) {
+			workspaceManager.doRead(uri, (document, resource) -> resource);
+		}
+		XtextResourceSet resourceSet = workspaceManager.getProjectManager(foo).getResourceSet();
+		assertEquals(1, resourceSet.getResources().size());
+		assertNotNull(resourceSet.getResource(baz, false));
+	}
+
+	private URI createFile(String name, String contents) throws IOException {
+		File file = new File(root, name);
+		Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+		return URI.createFileURI(file.getAbsolutePath());
+	}
+
+}
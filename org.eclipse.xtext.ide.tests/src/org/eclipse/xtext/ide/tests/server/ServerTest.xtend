@@ -10,6 +10,7 @@ package org.eclipse.xtext.ide.tests.server
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams
 import org.eclipse.lsp4j.FileChangeType
 import org.eclipse.lsp4j.FileEvent
+import org.eclipse.lsp4j.PublishDiagnosticsParams
 import org.junit.Test
 
 import static org.junit.Assert.*
@@ -67,6 +68,22 @@ class ServerTest extends AbstractTestLangLanguageServerTest {
     	assertTrue(diagnostics.values.join(','), diagnostics.values.forall[empty])
     }
     
+    @Test
+    def void testUnchangedDiagnosticsAreNotSentAgain() {
+        val path = 'MyType1.testlang'.writeFile( '''
+            type Test {
+                NonExisting foo
+            }
+        ''')
+    	initialize
+    	assertEquals(1, notifications.filter[value instanceof PublishDiagnosticsParams].size)
+    	
+    	languageServer.getWorkspaceService.didChangeWatchedFiles(
+    		new DidChangeWatchedFilesParams(#[new FileEvent(path, FileChangeType.Changed)])
+    	)
+    	assertEquals(1, notifications.filter[value instanceof PublishDiagnosticsParams].size)
+    }
+    
     
     
 }
\ No newline at end of file
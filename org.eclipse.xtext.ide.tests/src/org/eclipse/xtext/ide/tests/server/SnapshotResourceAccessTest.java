@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.ide.server.findReferences.SnapshotResourceAccess;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Model;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Property;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.TypeDeclaration;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.TypeReference;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.inject.Guice;
+
+/**
+ * Tests that snapshot reads load resources without touching the resource sets of the projects.
+ */
+public class SnapshotResourceAccessTest extends Assert {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private WorkspaceManager workspaceManager;
+
+	private File root;
+
+	@Before
+	public void setup() throws IOException {
+		workspaceManager = Guice.createInjector(new ServerModule()).getInstance(WorkspaceManager.class);
+		root = temporaryFolder.newFolder("workspace");
+	}
+
+	@Test
+	public void testResourcesAreLoadedIntoTheirOwnResourceSet() throws IOException {
+		URI foo = createFile("Foo.testlang", "type Foo { Bar bar }");
+		createFile("Bar.testlang", "type Bar {}");
+		workspaceManager.initialize(URI.createFileURI(root.getAbsolutePath()), (uri, issues) -> {}, CancelIndicator.NullImpl);
+		XtextResourceSet projectResourceSet = workspaceManager.getProjectManager(foo).getResourceSet();
+		int cachedResources = projectResourceSet.getResources().size();
+
+		SnapshotResourceAccess access = new SnapshotResourceAccess(workspaceManager, workspaceManager.getIndex());
+		ResourceSet snapshotResourceSet = access.readOnly(foo, resourceSet -> resourceSet);
+		assertNotSame(projectResourceSet, snapshotResourceSet);
+		TypeDeclaration bar = access.readOnly(foo, resourceSet -> {
+			assertSame(snapshotResourceSet, resourceSet);
+			Model model = (Model) resourceSet.getResource(foo, true).getContents().get(0);
+			Property property = (Property) model.getTypes().get(0).getMembers().get(0);
+			return ((TypeReference) property.getType()).getTypeRef();
+		});
+		assertFalse(bar.eIsProxy());
+		assertEquals("Bar", bar.getName());
+		assertEquals(cachedResources, projectResourceSet.getResources().size());
+	}
+
+	private URI createFile(String name, String contents) throws IOException {
+		File file = new File(root, name);
+		Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+		return URI.createFileURI(file.getAbsolutePath());
+	}
+
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.server.coloring;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.ColoringInformation;
+import org.eclipse.lsp4j.ColoringStyle;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.coloring.AbstractIncrementalColoringService;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.ITextRegion;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IncrementalColoringServiceTest extends Assert {
+
+	private static final List<Integer> STYLES = Collections.singletonList(ColoringStyle.Identifier);
+
+	/**
+	 * Colors each occurrence of 'foo' that intersects the requested region.
+	 */
+	private static class FooColoringService extends AbstractIncrementalColoringService {
+		private String text;
+		private Object semanticState;
+		private ITextRegion lastRegion;
+
+		@Override
+		protected Object getSemanticState(XtextResource resource) {
+			return semanticState;
+		}
+
+		@Override
+		protected void computeColoring(XtextResource resource, ITextRegion region, IColoringAcceptor acceptor) {
+			lastRegion = region;
+			int index = text.indexOf("foo");
+			while (index >= 0) {
+				if (index <= region.getOffset() + region.getLength() && region.getOffset() <= index + 3) {
+					acceptor.addColoring(index, 3, STYLES);
+				}
+				index = text.indexOf("foo", index + 1);
+			}
+		}
+	}
+
+	private final FooColoringService service = new FooColoringService();
+	private final XtextResource resource = new XtextResource(URI.createURI("file:/test.testlang"));
+
+	@Test public void testOnlyChangedRegionIsRecomputed() {
+		List<? extends ColoringInformation> coloring = getColoring(1, "foo bar\nfoo");
+		assertEquals(0, service.lastRegion.getOffset());
+		assertEquals(11, service.lastRegion.getLength());
+		assertEquals(2, coloring.size());
+		coloring = getColoring(2, "foo bar baz\nfoo");
+		assertEquals(7, service.lastRegion.getOffset());
+		assertEquals(4, service.lastRegion.getLength());
+		assertEquals(2, coloring.size());
+		assertRange(0, 0, 0, 3, coloring.get(0).getRange());
+		assertRange(1, 0, 1, 3, coloring.get(1).getRange());
+	}
+
+	@Test public void testChangedColoring() {
+		getColoring(1, "foo bar\nfoo");
+		List<? extends ColoringInformation> coloring = getColoring(2, "foo bar\nfox");
+		assertEquals(1, coloring.size());
+		coloring = getColoring(3, "foo foo\nfox");
+		assertEquals(2, coloring.size());
+		assertRange(0, 4, 0, 7, coloring.get(1).getRange());
+	}
+
+	@Test public void testUnchangedTextIsRecomputedCompletely() {
+		getColoring(1, "foo bar\nfoo");
+		getColoring(2, "foo bar\nfoo");
+		assertEquals(0, service.lastRegion.getOffset());
+		assertEquals(11, service.lastRegion.getLength());
+	}
+
+	@Test public void testChangedSemanticStateIsRecomputedCompletely() {
+		getColoring(1, "foo bar\nfoo");
+		service.semanticState = "renamed";
+		getColoring(2, "foo baz\nfoo");
+		assertEquals(0, service.lastRegion.getOffset());
+		assertEquals(11, service.lastRegion.getLength());
+		getColoring(3, "foo bar\nfoo");
+		assertEquals(6, service.lastRegion.getOffset());
+		assertEquals(1, service.lastRegion.getLength());
+	}
+
+	private List<? extends ColoringInformation> getColoring(int version, String text) {
+		service.text = text;
+		return service.getColoring(resource, new Document(version, text));
+	}
+
+	private void assertRange(int startLine, int startColumn, int endLine, int endColumn, Range range) {
+		assertEquals(startLine, range.getStart().getLine());
+		assertEquals(startColumn, range.getStart().getCharacter());
+		assertEquals(endLine, range.getEnd().getLine());
+		assertEquals(endColumn, range.getEnd().getCharacter());
+	}
+
+}
@@ -75,6 +75,20 @@ class RequestManagerTest {
 		assertEquals(1, future.get)
 	}
 
+	@Test(timeout = 1000)
+	def void testRunSnapshotReadDuringWrite() {
+		val future = requestManager.runWrite [
+			while (sharedState.get == 0) {
+			}
+			sharedState.incrementAndGet
+		]
+		requestManager.runSnapshotRead [
+			sharedState.incrementAndGet
+		]
+		future.join
+		assertEquals(2, sharedState.get)
+	}
+
 	@Test(timeout = 1000)
 	def void testRunWrite() {
 		requestManager.runWrite [
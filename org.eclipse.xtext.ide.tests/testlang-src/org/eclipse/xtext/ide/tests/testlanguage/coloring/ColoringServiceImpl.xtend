@@ -7,20 +7,16 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.tests.testlanguage.coloring
 
-import com.google.common.collect.ImmutableList
+import com.google.inject.Inject
+import com.google.inject.Singleton
+import java.util.Arrays
 import java.util.Collections
-import org.eclipse.emf.ecore.util.EcoreUtil
-import org.eclipse.lsp4j.ColoringInformation
 import org.eclipse.lsp4j.ColoringStyle
-import org.eclipse.lsp4j.Range
-import org.eclipse.xtext.ide.server.Document
-import org.eclipse.xtext.ide.server.coloring.IColoringService
-import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Operation
-import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Property
-import org.eclipse.xtext.nodemodel.util.NodeModelUtils
+import org.eclipse.xtext.ide.server.coloring.AbstractIncrementalColoringService
+import org.eclipse.xtext.ide.server.coloring.AbstractIncrementalColoringService.IColoringAcceptor
 import org.eclipse.xtext.resource.XtextResource
-
-import static org.eclipse.xtext.ide.tests.testlanguage.testLanguage.TestLanguagePackage.Literals.MEMBER__NAME
+import org.eclipse.xtext.util.CancelIndicator
+import org.eclipse.xtext.util.ITextRegion
 
 /**
  * Basic coloring service that highlights the method and variable declarations
@@ -28,32 +24,19 @@ import static org.eclipse.xtext.ide.tests.testlanguage.testLanguage.TestLanguage
  * 
  * @author akos.kitta - Initial contribution and API
  */
-class ColoringServiceImpl implements IColoringService {
+@Singleton
+class ColoringServiceImpl extends AbstractIncrementalColoringService {
 
 	static val STYLE_IDS = Collections.singletonList(ColoringStyle.Identifier);
 
-	@Override
-	override getColoring(XtextResource resource, Document document) {
-		if (resource === null) {
-			return emptyList;
-		}
-		val builder = ImmutableList.builder;
-		EcoreUtil.getAllContents(resource, true).forEach [
-			val nodes = if (it instanceof Property) {
-					NodeModelUtils.findNodesForFeature(it, MEMBER__NAME);
-				} else if (it instanceof Operation) {
-					NodeModelUtils.findNodesForFeature(it, MEMBER__NAME);
-				} else {
-					emptyList;
-				}
-			nodes.forEach [
-				val start = offset;
-				val end = offset + length;
-				val range = new Range(document.getPosition(start), document.getPosition(end));
-				builder.add(new ColoringInformation(range, STYLE_IDS));
-			]
-		];
-		return builder.build;
+	@Inject TestLanguageSemanticHighlightingCalculator calculator
+
+	override protected computeColoring(XtextResource resource, ITextRegion region, IColoringAcceptor acceptor) {
+		calculator.provideHighlightingFor(resource, region, [ offset, length, ids |
+			if (Arrays.asList(ids).contains(TestLanguageSemanticHighlightingCalculator.MEMBER_ID)) {
+				acceptor.addColoring(offset, length, STYLE_IDS)
+			}
+		], CancelIndicator.NullImpl)
 	}
 
 }
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.tests.testlanguage.coloring;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.DefaultSemanticHighlightingCalculator;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.Member;
+import org.eclipse.xtext.ide.tests.testlanguage.testLanguage.TestLanguagePackage;
+import org.eclipse.xtext.util.CancelIndicator;
+
+/**
+ * Highlights the names of the members for testing purposes.
+ */
+public class TestLanguageSemanticHighlightingCalculator extends DefaultSemanticHighlightingCalculator {
+
+	public static final String MEMBER_ID = "member";
+
+	@Override
+	protected boolean highlightElement(EObject object, IHighlightedPositionAcceptor acceptor,
+			CancelIndicator cancelIndicator) {
+		if (object instanceof Member) {
+			highlightFeature(acceptor, object, TestLanguagePackage.Literals.MEMBER__NAME, MEMBER_ID);
+			return true;
+		}
+		return false;
+	}
+
+}
@@ -17,6 +17,7 @@ import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.xtend2.lib.StringConcatenation;
@@ -24,6 +25,7 @@ import org.eclipse.xtext.ide.tests.server.AbstractTestLangLanguageServerTest;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.Pair;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -151,4 +153,36 @@ public class ServerTest extends AbstractTestLangLanguageServerTest {
     boolean _forall = IterableExtensions.<List<Diagnostic>>forall(_values_2, _function);
     Assert.assertTrue(_join, _forall);
   }
+  
+  @Test
+  public void testUnchangedDiagnosticsAreNotSentAgain() {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("type Test {");
+    _builder.newLine();
+    _builder.append("    ");
+    _builder.append("NonExisting foo");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    final String path = this.writeFile("MyType1.testlang", _builder);
+    this.initialize();
+    final Function1<Pair<String, Object>, Boolean> _function = (Pair<String, Object> it) -> {
+      Object _value = it.getValue();
+      return Boolean.valueOf((_value instanceof PublishDiagnosticsParams));
+    };
+    Iterable<Pair<String, Object>> _filter = IterableExtensions.<Pair<String, Object>>filter(this.notifications, _function);
+    int _size = IterableExtensions.size(_filter);
+    Assert.assertEquals(1, _size);
+    WorkspaceService _workspaceService = this.languageServer.getWorkspaceService();
+    FileEvent _fileEvent = new FileEvent(path, FileChangeType.Changed);
+    DidChangeWatchedFilesParams _didChangeWatchedFilesParams = new DidChangeWatchedFilesParams(Collections.<FileEvent>unmodifiableList(CollectionLiterals.<FileEvent>newArrayList(_fileEvent)));
+    _workspaceService.didChangeWatchedFiles(_didChangeWatchedFilesParams);
+    final Function1<Pair<String, Object>, Boolean> _function_1 = (Pair<String, Object> it) -> {
+      Object _value = it.getValue();
+      return Boolean.valueOf((_value instanceof PublishDiagnosticsParams));
+    };
+    Iterable<Pair<String, Object>> _filter_1 = IterableExtensions.<Pair<String, Object>>filter(this.notifications, _function_1);
+    int _size_1 = IterableExtensions.size(_filter_1);
+    Assert.assertEquals(1, _size_1);
+  }
 }
@@ -98,6 +98,26 @@ public class RequestManagerTest {
     }
   }
   
+  @Test(timeout = 1000)
+  public void testRunSnapshotReadDuringWrite() {
+    final Function1<CancelIndicator, Integer> _function = (CancelIndicator it) -> {
+      int _xblockexpression = (int) 0;
+      {
+        while ((this.sharedState.get() == 0)) {
+        }
+        _xblockexpression = this.sharedState.incrementAndGet();
+      }
+      return Integer.valueOf(_xblockexpression);
+    };
+    final CompletableFuture<Integer> future = this.requestManager.<Integer>runWrite(_function);
+    final Function1<CancelIndicator, Integer> _function_1 = (CancelIndicator it) -> {
+      return Integer.valueOf(this.sharedState.incrementAndGet());
+    };
+    this.requestManager.<Integer>runSnapshotRead(_function_1);
+    future.join();
+    Assert.assertEquals(2, this.sharedState.get());
+  }
+  
   @Test(timeout = 1000)
   public void testRunWrite() {
     final Function1<CancelIndicator, Integer> _function = (CancelIndicator it) -> {
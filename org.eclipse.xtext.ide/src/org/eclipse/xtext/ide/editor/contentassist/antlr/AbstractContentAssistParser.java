@@ -38,6 +38,7 @@ import org.eclipse.xtext.ide.editor.partialEditing.IPartialEditingContentAssistP
 import org.eclipse.xtext.parser.antlr.IUnorderedGroupHelper;
 import org.eclipse.xtext.xtext.RuleNames;
 
+import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
@@ -62,6 +63,9 @@ public abstract class AbstractContentAssistParser implements IContentAssistParse
 	@Inject
 	private RuleNames ruleNames;
 	
+	@Inject
+	private ContentAssistTokenCache tokenCache;
+	
 	private AbstractRule entryRule;
 	
 	@Inject
@@ -78,7 +82,19 @@ public abstract class AbstractContentAssistParser implements IContentAssistParse
 		return entryRule;
 	}
 	
+	/**
+	 * Creates the token source for the given input. If a {@link ContentAssistTokenCache} is available,
+	 * the tokens of a previously lexed input are reused as far as possible.
+	 */
 	protected TokenSource createTokenSource(String input) {
+		if (tokenCache != null) {
+			return tokenCache.createTokenSource(input, new Function<CharStream, TokenSource>() {
+				@Override
+				public TokenSource apply(CharStream stream) {
+					return createLexer(stream);
+				}
+			});
+		}
 		return createLexer(new ANTLRStringStream(input));
 	}
 	
@@ -399,4 +415,18 @@ public abstract class AbstractContentAssistParser implements IContentAssistParse
 	public RequiredRuleNameComputer getRequiredRuleNameComputer() {
 		return requiredRuleNameComputer;
 	}
+	
+	/**
+	 * @since 2.11
+	 */
+	public void setTokenCache(ContentAssistTokenCache tokenCache) {
+		this.tokenCache = tokenCache;
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	public ContentAssistTokenCache getTokenCache() {
+		return tokenCache;
+	}
 }
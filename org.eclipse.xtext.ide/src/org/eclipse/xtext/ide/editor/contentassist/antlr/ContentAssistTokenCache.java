@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.editor.contentassist.antlr;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.antlr.runtime.CommonToken;
+import org.antlr.runtime.Token;
+import org.antlr.runtime.TokenSource;
+
+import com.google.common.base.Function;
+import com.google.inject.Singleton;
+
+/**
+ * Remembers the tokens of the most recently lexed content assist input. The content assist parser is invoked
+ * up to three times per request with different prefixes of the same document, and subsequent requests usually
+ * differ only after the last edit. Tokens that were produced from the common prefix of the old and the new input
+ * can be reused, so only the text after the first difference has to be lexed again.
+ *
+ * A token is only reused if the lexer did not look at any character beyond the common prefix while producing it.
+ *
+ * @since 2.11
+ */
+@Singleton
+public class ContentAssistTokenCache {
+
+	/**
+	 * A string stream that records the largest index that was inspected by the lexer.
+	 */
+	protected static class LookAheadTrackingStringStream extends ANTLRStringStream {
+
+		private int maxLookAheadIndex = -1;
+
+		public LookAheadTrackingStringStream(String input) {
+			super(input);
+		}
+
+		@Override
+		public int LA(int i) {
+			if (i > 0) {
+				int index = p + i - 1;
+				if (index > maxLookAheadIndex) {
+					maxLookAheadIndex = index;
+				}
+			}
+			return super.LA(i);
+		}
+
+		public int getMaxLookAheadIndex() {
+			return maxLookAheadIndex;
+		}
+	}
+
+	/**
+	 * The tokens of a completely lexed input together with the largest character index that was inspected up to
+	 * and including each token.
+	 */
+	protected static class Entry {
+		private final String input;
+		private final List<Token> tokens;
+		private final int[] lookAheadIndexes;
+
+		protected Entry(String input, List<Token> tokens, int[] lookAheadIndexes) {
+			this.input = input;
+			this.tokens = tokens;
+			this.lookAheadIndexes = lookAheadIndexes;
+		}
+
+		/**
+		 * @return the number of leading tokens that would be produced in exactly the same way for the given input.
+		 */
+		protected int getReusableTokenCount(String other) {
+			if (input.equals(other)) {
+				return tokens.size();
+			}
+			int commonPrefix = getCommonPrefixLength(input, other);
+			int result = 0;
+			while (result < tokens.size() && lookAheadIndexes[result] < commonPrefix) {
+				result++;
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Replays the reusable tokens of an entry and continues with a fresh lexer afterwards. If the input was
+	 * lexed completely, the produced tokens are put into the cache.
+	 */
+	protected class CachingTokenSource implements TokenSource {
+
+		private final String input;
+		private final Function<CharStream, TokenSource> lexerFactory;
+		private final List<Token> reusedTokens;
+		private final int[] reusedLookAheadIndexes;
+		private final List<Token> tokens;
+		private final List<Integer> lookAheadIndexes;
+		private LookAheadTrackingStringStream stream;
+		private TokenSource lexer;
+		private boolean done;
+
+		protected CachingTokenSource(String input, Function<CharStream, TokenSource> lexerFactory, Entry entry,
+				int reusableTokens) {
+			this.input = input;
+			this.lexerFactory = lexerFactory;
+			if (entry != null && reusableTokens > 0) {
+				this.reusedTokens = entry.tokens.subList(0, reusableTokens);
+				this.reusedLookAheadIndexes = entry.lookAheadIndexes;
+			} else {
+				this.reusedTokens = new ArrayList<Token>(0);
+				this.reusedLookAheadIndexes = new int[0];
+			}
+			this.tokens = new ArrayList<Token>();
+			this.lookAheadIndexes = new ArrayList<Integer>();
+		}
+
+		@Override
+		public Token nextToken() {
+			if (done) {
+				return Token.EOF_TOKEN;
+			}
+			int index = tokens.size();
+			if (index < reusedTokens.size()) {
+				Token reused = reusedTokens.get(index);
+				record(reused, reusedLookAheadIndexes[index]);
+				return new CommonToken(reused);
+			}
+			if (lexer == null) {
+				stream = new LookAheadTrackingStringStream(input);
+				lexer = lexerFactory.apply(stream);
+				if (!tokens.isEmpty()) {
+					CommonToken last = (CommonToken) tokens.get(tokens.size() - 1);
+					stream.seek(last.getStopIndex() + 1);
+				}
+			}
+			Token result = lexer.nextToken();
+			if (result == null || result.getType() == Token.EOF) {
+				done = true;
+				put(input, tokens, lookAheadIndexes);
+				return result;
+			}
+			if (!(result instanceof CommonToken)) {
+				// we cannot resume lexing after foreign token implementations
+				done = true;
+				return result;
+			}
+			record(result, stream.getMaxLookAheadIndex());
+			return result;
+		}
+
+		private void record(Token token, int lookAheadIndex) {
+			tokens.add(new CommonToken(token));
+			lookAheadIndexes.add(lookAheadIndex);
+		}
+
+		@Override
+		public String getSourceName() {
+			return "ContentAssistTokenCache";
+		}
+	}
+
+	private static final int MAX_ENTRIES = 4;
+
+	private final LinkedList<Entry> entries = new LinkedList<Entry>();
+
+	/**
+	 * Return a token source for the given input that reuses the tokens of a previously lexed input as far as
+	 * possible. The lexer factory is used to lex the remaining text.
+	 */
+	public TokenSource createTokenSource(String input, Function<CharStream, TokenSource> lexerFactory) {
+		Entry bestEntry = null;
+		int bestTokenCount = 0;
+		synchronized (entries) {
+			for (Entry entry : entries) {
+				int count = entry.getReusableTokenCount(input);
+				if (count > bestTokenCount) {
+					bestEntry = entry;
+					bestTokenCount = count;
+				}
+			}
+		}
+		return new CachingTokenSource(input, lexerFactory, bestEntry, bestTokenCount);
+	}
+
+	protected void put(String input, List<Token> tokens, List<Integer> lookAheadIndexes) {
+		int[] indexes = new int[lookAheadIndexes.size()];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = lookAheadIndexes.get(i);
+		}
+		Entry newEntry = new Entry(input, tokens, indexes);
+		synchronized (entries) {
+			Iterator<Entry> iterator = entries.iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().input.equals(input)) {
+					iterator.remove();
+				}
+			}
+			entries.addFirst(newEntry);
+			while (entries.size() > MAX_ENTRIES) {
+				entries.removeLast();
+			}
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	protected static int getCommonPrefixLength(String a, String b) {
+		int max = Math.min(a.length(), b.length());
+		for (int i = 0; i < max; i++) {
+			if (a.charAt(i) != b.charAt(i)) {
+				return i;
+			}
+		}
+		return max;
+	}
+
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.editor.hierarchy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.inject.Singleton;
+
+/**
+ * The incoming and outgoing references of all declarations in the index, so that a call hierarchy can be expanded
+ * without searching the whole index for each node. Only indexed references are contained, i.e. references between
+ * different resources.
+ * 
+ * The graph is created from the index on first access. If the index is a {@link IResourceDescription.Event.Source
+ * source of events}, the graph registers itself as a listener and is updated with the deltas of each build. The
+ * graph can also be registered as a {@link ILanguageServerAccess.IBuildListener build listener} of the language
+ * server. Otherwise it is created again whenever it is accessed with a different index.
+ * 
+ * @since 2.11
+ */
+@Singleton
+public class CallHierarchyGraph implements IResourceDescription.Event.Listener, ILanguageServerAccess.IBuildListener {
+
+	private final Map<URI, List<IReferenceDescription>> referencesByResource = Maps.newHashMap();
+
+	private final SetMultimap<URI, IReferenceDescription> incoming = LinkedHashMultimap.create();
+
+	private final SetMultimap<URI, IReferenceDescription> outgoing = LinkedHashMultimap.create();
+
+	private boolean initialized;
+
+	private IResourceDescriptions index;
+
+	private boolean receivesDeltas;
+
+	/**
+	 * Creates the graph from the given index unless it was created from the same index before or is kept up to date
+	 * with the deltas of the builds.
+	 */
+	public synchronized void initialize(IResourceDescriptions index) {
+		if (initialized && (receivesDeltas || this.index == index)) {
+			return;
+		}
+		clear();
+		for (IResourceDescription description : index.getAllResourceDescriptions()) {
+			add(description);
+		}
+		this.index = index;
+		initialized = true;
+		if (!receivesDeltas && index instanceof IResourceDescription.Event.Source) {
+			((IResourceDescription.Event.Source) index).addListener(this);
+			receivesDeltas = true;
+		}
+	}
+
+	public synchronized boolean isInitialized() {
+		return initialized;
+	}
+
+	/**
+	 * Discards the graph, so it is created from the index again on next access.
+	 */
+	public synchronized void clear() {
+		referencesByResource.clear();
+		incoming.clear();
+		outgoing.clear();
+		index = null;
+		initialized = false;
+	}
+
+	/**
+	 * Replaces the references of the changed resources. Deltas are ignored as long as the graph was not created.
+	 */
+	public synchronized void update(Iterable<? extends IResourceDescription.Delta> deltas) {
+		if (!initialized) {
+			return;
+		}
+		for (IResourceDescription.Delta delta : deltas) {
+			remove(delta.getUri());
+			if (delta.getNew() != null) {
+				add(delta.getNew());
+			}
+		}
+	}
+
+	@Override
+	public synchronized void descriptionsChanged(IResourceDescription.Event event) {
+		receivesDeltas = true;
+		update(event.getDeltas());
+	}
+
+	@Override
+	public synchronized void afterBuild(List<IResourceDescription.Delta> deltas) {
+		receivesDeltas = true;
+		update(deltas);
+	}
+
+	/**
+	 * @return the indexed references to the given object.
+	 */
+	public synchronized List<IReferenceDescription> getIncomingReferences(URI targetObjectURI) {
+		return ImmutableList.copyOf(incoming.get(targetObjectURI));
+	}
+
+	/**
+	 * @return the indexed references whose {@link IReferenceDescription#getContainerEObjectURI() exported container}
+	 *         is the given declaration.
+	 */
+	public synchronized List<IReferenceDescription> getOutgoingReferences(URI sourceDeclarationURI) {
+		return ImmutableList.copyOf(outgoing.get(sourceDeclarationURI));
+	}
+
+	protected void add(IResourceDescription description) {
+		List<IReferenceDescription> references = ImmutableList.copyOf(description.getReferenceDescriptions());
+		if (references.isEmpty()) {
+			return;
+		}
+		referencesByResource.put(description.getURI(), references);
+		for (IReferenceDescription reference : references) {
+			if (reference.getTargetEObjectUri() != null) {
+				incoming.put(reference.getTargetEObjectUri(), reference);
+			}
+			if (reference.getContainerEObjectURI() != null) {
+				outgoing.put(reference.getContainerEObjectURI(), reference);
+			}
+		}
+	}
+
+	protected void remove(URI resourceURI) {
+		List<IReferenceDescription> references = referencesByResource.remove(resourceURI);
+		if (references == null) {
+			return;
+		}
+		for (IReferenceDescription reference : references) {
+			if (reference.getTargetEObjectUri() != null) {
+				incoming.remove(reference.getTargetEObjectUri(), reference);
+			}
+			if (reference.getContainerEObjectURI() != null) {
+				outgoing.remove(reference.getContainerEObjectURI(), reference);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.editor.hierarchy;
+
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ITextRegionWithLineInformation;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+/**
+ * A hierarchy node reference whose text and location are computed when they are accessed for the first time, i.e.
+ * when the node is displayed. Only its navigation element is known upfront.
+ * 
+ * @since 2.11
+ */
+public class DeferredHierarchyNodeReference implements IHierarchyNodeReference {
+
+	private final Object navigationElement;
+
+	private final Supplier<IHierarchyNodeReference> delegate;
+
+	/**
+	 * @param resolver
+	 *            computes the actual reference; called at most once.
+	 */
+	public DeferredHierarchyNodeReference(Object navigationElement, Supplier<IHierarchyNodeReference> resolver) {
+		this.navigationElement = navigationElement;
+		this.delegate = Suppliers.memoize(resolver);
+	}
+
+	protected IHierarchyNodeReference getDelegate() {
+		return delegate.get();
+	}
+
+	@Override
+	public Object getNavigationElement() {
+		return navigationElement;
+	}
+
+	@Override
+	public String getText() {
+		return getDelegate().getText();
+	}
+
+	@Override
+	public int getOffset() {
+		return getDelegate().getOffset();
+	}
+
+	@Override
+	public int getLength() {
+		return getDelegate().getLength();
+	}
+
+	@Override
+	public int getLineNumber() {
+		return getDelegate().getLineNumber();
+	}
+
+	@Override
+	public int getEndLineNumber() {
+		return getDelegate().getEndLineNumber();
+	}
+
+	@Override
+	public ITextRegion merge(ITextRegion region) {
+		return getDelegate().merge(region);
+	}
+
+	@Override
+	public ITextRegionWithLineInformation merge(ITextRegionWithLineInformation other) {
+		return getDelegate().merge(other);
+	}
+
+	@Override
+	public boolean contains(ITextRegion other) {
+		return getDelegate().contains(other);
+	}
+
+	@Override
+	public boolean contains(int offset) {
+		return getDelegate().contains(offset);
+	}
+
+}
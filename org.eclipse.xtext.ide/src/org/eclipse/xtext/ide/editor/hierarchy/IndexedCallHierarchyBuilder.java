@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.editor.hierarchy;
+
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.findReferences.IReferenceFinder;
+import org.eclipse.xtext.findReferences.ReferenceAcceptor;
+import org.eclipse.xtext.findReferences.TargetURIs;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.util.concurrent.IUnitOfWork;
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+
+/**
+ * A call hierarchy builder that takes the indexed references from the {@link CallHierarchyGraph} instead of searching
+ * the whole index for each expanded node. Only the resource of the expanded declaration is loaded to find the
+ * references within that resource. The callees of a declaration that is not exported are searched like in the default
+ * builder, since the index records references only for exported containers. The text and location of a reference
+ * are computed when the node is displayed.
+ * 
+ * See {@link CallHierarchyGraph} for how the graph is kept up to date with the index.
+ * 
+ * @since 2.11
+ */
+public class IndexedCallHierarchyBuilder extends DefaultCallHierarchyBuilder {
+
+	@Inject
+	private CallHierarchyGraph graph;
+
+	protected CallHierarchyGraph getGraph() {
+		graph.initialize(getIndexData());
+		return graph;
+	}
+
+	@Override
+	protected void findSourceDeclarations(URI targetDeclarationURI, IProgressMonitor monitor,
+			final Procedure2<? super IEObjectDescription, ? super IReferenceDescription> acceptor) {
+		final TargetURIs targetURIs = collectTargetURIs(targetDeclarationURI);
+		IReferenceFinder.Acceptor referenceAcceptor = new ReferenceAcceptor(getResourceServiceProviderRegistry(),
+				new IAcceptor<IReferenceDescription>() {
+					@Override
+					public void accept(IReferenceDescription reference) {
+						if (filterReference(reference)) {
+							acceptor.apply(findSourceDeclaration(reference), reference);
+						}
+					}
+				});
+		Set<URI> targetResourceURIs = ImmutableSet.copyOf(targetURIs.getTargetResourceURIs());
+		getReferenceFinder().findReferences(targetURIs, targetResourceURIs, getResourceAccess(), getIndexData(),
+				referenceAcceptor, monitor);
+		CallHierarchyGraph graph = getGraph();
+		for (URI targetURI : targetURIs) {
+			checkCanceled(monitor);
+			for (IReferenceDescription reference : graph.getIncomingReferences(targetURI)) {
+				if (!targetResourceURIs.contains(reference.getSourceEObjectUri().trimFragment())) {
+					referenceAcceptor.accept(reference);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void findTargetDeclarations(URI sourceDeclarationURI, final IProgressMonitor monitor,
+			final Procedure2<? super IEObjectDescription, ? super IReferenceDescription> acceptor) {
+		final IReferenceFinder.Acceptor referenceAcceptor = new ReferenceAcceptor(getResourceServiceProviderRegistry(),
+				new IAcceptor<IReferenceDescription>() {
+					@Override
+					public void accept(IReferenceDescription reference) {
+						if (filterReference(reference)) {
+							acceptor.apply(findTargetDeclaration(reference), reference);
+						}
+					}
+				});
+		final URI sourceResourceURI = sourceDeclarationURI.trimFragment();
+		final CallHierarchyGraph graph = getDescription(sourceDeclarationURI) != null ? getGraph() : null;
+		readOnly(sourceDeclarationURI, new IUnitOfWork<Object, EObject>() {
+			@Override
+			public Object exec(EObject sourceDeclaration) throws Exception {
+				if (sourceDeclaration == null) {
+					return null;
+				}
+				if (graph == null) {
+					// the indexed references of a declaration that is not exported are recorded for its exported
+					// container, so they cannot be told apart from the references of its siblings
+					getReferenceFinder().findAllReferences(sourceDeclaration, referenceAcceptor, monitor);
+					return null;
+				}
+				Predicate<URI> local = new Predicate<URI>() {
+					@Override
+					public boolean apply(URI targetURI) {
+						return sourceResourceURI.equals(targetURI.trimFragment());
+					}
+				};
+				getReferenceFinder().findReferences(local, sourceDeclaration, referenceAcceptor, monitor);
+				TreeIterator<EObject> contents = EcoreUtil2.eAll(sourceDeclaration);
+				while (contents.hasNext()) {
+					checkCanceled(monitor);
+					for (IReferenceDescription reference : graph.getOutgoingReferences(EcoreUtil.getURI(contents.next()))) {
+						referenceAcceptor.accept(reference);
+					}
+				}
+				return null;
+			}
+		});
+	}
+
+	@Override
+	protected IHierarchyNodeReference createNodeReference(final IReferenceDescription reference) {
+		return new DeferredHierarchyNodeReference(reference, new Supplier<IHierarchyNodeReference>() {
+			@Override
+			public IHierarchyNodeReference get() {
+				return resolveNodeReference(reference);
+			}
+		});
+	}
+
+	/**
+	 * Computes the text and the location of the given reference.
+	 */
+	protected IHierarchyNodeReference resolveNodeReference(IReferenceDescription reference) {
+		return super.createNodeReference(reference);
+	}
+
+	private void checkCanceled(IProgressMonitor monitor) {
+		if (monitor != null && monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+}
@@ -13,6 +13,7 @@ import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.ILeafNode;
 import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
@@ -22,6 +23,7 @@ import org.eclipse.xtext.tasks.ITaskFinder;
 import org.eclipse.xtext.tasks.Task;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.TextRegion;
 
 import com.google.inject.Inject;
 
@@ -45,6 +47,24 @@ public class DefaultSemanticHighlightingCalculator implements ISemanticHighlight
 		doProvideHighlightingFor(resource, acceptor, cancelIndicator);
 	}
 
+	/**
+	 * Computes the highlighting for the elements whose text intersects the given region only, e.g. the region that
+	 * changed since the previous version of the document. Subtrees that lie completely outside of the region are
+	 * skipped. Positions of the visited elements may be announced even if they are outside of the region.
+	 * 
+	 * @since 2.11
+	 */
+	public void provideHighlightingFor(XtextResource resource, ITextRegion region, IHighlightedPositionAcceptor acceptor,
+			CancelIndicator cancelIndicator) {
+		if (resource == null)
+			return;
+		IParseResult parseResult = resource.getParseResult();
+		if (parseResult == null || parseResult.getRootASTElement() == null)
+			return;
+		highlightElementRecursively(parseResult.getRootASTElement(), region, acceptor, cancelIndicator);
+		highlightTasks(resource, region, acceptor);
+	}
+
 	/**
 	 * <p>
 	 * Actual implementation of the semantic highlighting calculation. It is ensured, that the given resource is not
@@ -90,6 +110,23 @@ public class DefaultSemanticHighlightingCalculator implements ISemanticHighlight
 		}
 	}
 
+	/**
+	 * @since 2.11
+	 */
+	protected void highlightElementRecursively(EObject element, ITextRegion region,
+			IHighlightedPositionAcceptor acceptor, CancelIndicator cancelIndicator) {
+		TreeIterator<EObject> iterator = EcoreUtil2.eAll(element);
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			ICompositeNode node = NodeModelUtils.getNode(object);
+			if (node != null && !intersects(node.getTotalTextRegion(), region)) {
+				iterator.prune();
+			} else if (highlightElement(object, acceptor, cancelIndicator)) {
+				iterator.prune();
+			}
+		}
+	}
+
 	/**
 	 * @return true to skip the children of this element, false otherwise
 	 */
@@ -105,6 +142,26 @@ public class DefaultSemanticHighlightingCalculator implements ISemanticHighlight
 		}
 	}
 
+	/**
+	 * @since 2.11
+	 */
+	protected void highlightTasks(XtextResource resource, ITextRegion region, IHighlightedPositionAcceptor acceptor) {
+		List<Task> tasks = taskFinder.findTasks(resource);
+		for (Task task : tasks) {
+			if (intersects(new TextRegion(task.getOffset(), task.getTagLength()), region))
+				acceptor.addPosition(task.getOffset(), task.getTagLength(), HighlightingStyles.TASK_ID);
+		}
+	}
+
+	/**
+	 * Regions that touch each other are considered to intersect, since an insertion at the boundary of an element may
+	 * change its highlighting.
+	 */
+	private boolean intersects(ITextRegion first, ITextRegion second) {
+		return first.getOffset() <= second.getOffset() + second.getLength()
+				&& second.getOffset() <= first.getOffset() + first.getLength();
+	}
+
 	/**
 	 * Highlights an object at the position of the given {@link EStructuralFeature}
 	 */
@@ -10,15 +10,18 @@ package org.eclipse.xtext.ide.server
 import com.google.common.collect.LinkedListMultimap
 import com.google.common.collect.Multimap
 import com.google.inject.Inject
+import com.google.inject.Provider
 import java.util.Collections
 import java.util.List
 import java.util.Map
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
 import java.util.function.Function
 import org.eclipse.emf.common.util.URI
 import org.eclipse.lsp4j.CodeActionParams
 import org.eclipse.lsp4j.CodeLens
 import org.eclipse.lsp4j.CodeLensParams
+import org.eclipse.lsp4j.ColoringInformation
 import org.eclipse.lsp4j.ColoringParams
 import org.eclipse.lsp4j.CompletionItem
 import org.eclipse.lsp4j.CompletionList
@@ -65,9 +68,11 @@ import org.eclipse.lsp4j.services.TextDocumentService
 import org.eclipse.lsp4j.services.WorkspaceService
 import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor
 import org.eclipse.xtext.ide.server.ILanguageServerAccess.IBuildListener
+import org.eclipse.xtext.ide.server.coloring.AbstractIncrementalColoringService
 import org.eclipse.xtext.ide.server.coloring.IColoringService
 import org.eclipse.xtext.ide.server.concurrent.RequestManager
 import org.eclipse.xtext.ide.server.contentassist.ContentAssistService
+import org.eclipse.xtext.ide.server.findReferences.SnapshotResourceAccess
 import org.eclipse.xtext.ide.server.findReferences.WorkspaceResourceAccess
 import org.eclipse.xtext.ide.server.formatting.FormattingService
 import org.eclipse.xtext.ide.server.hover.HoverService
@@ -77,9 +82,11 @@ import org.eclipse.xtext.ide.server.symbol.DocumentSymbolService
 import org.eclipse.xtext.ide.server.symbol.WorkspaceSymbolService
 import org.eclipse.xtext.resource.IResourceDescription.Delta
 import org.eclipse.xtext.resource.IResourceServiceProvider
+import org.eclipse.xtext.resource.ResourceServiceProviderServiceLoader.LazyResourceServiceProvider
 import org.eclipse.xtext.resource.XtextResource
 import org.eclipse.xtext.util.CancelIndicator
 import org.eclipse.xtext.util.internal.Log
+import org.eclipse.xtext.util.metrics.Metrics
 import org.eclipse.xtext.validation.Issue
 
 /**
@@ -97,6 +104,15 @@ import org.eclipse.xtext.validation.Issue
 	WorkspaceManager workspaceManager
 	InitializeParams params
 	
+	// the coloring that has been sent last for each open document
+	val Map<String, List<? extends ColoringInformation>> sentColorings = new ConcurrentHashMap
+	
+	// the diagnostics that have been published last for each resource
+	val Map<String, List<Diagnostic>> publishedDiagnostics = new ConcurrentHashMap
+	
+	// the diagnostics of the running build that have not been published yet
+	val Map<String, List<Diagnostic>> pendingDiagnostics = newLinkedHashMap
+	
 	@Inject
 	def void setWorkspaceManager(WorkspaceManager manager) {
 		this.workspaceManager = manager
@@ -133,9 +149,10 @@ import org.eclipse.xtext.validation.Issue
 			documentHighlightProvider = true
 		]
 
-		requestManager.runWrite [ cancelIndicator |
+		requestManager.runWrite("initialize") [ cancelIndicator |
 			val rootURI = URI.createFileURI(params.rootPath).toPath.toUri
 			workspaceManager.initialize(rootURI, [this.publishDiagnostics($0, $1)], cancelIndicator)
+			flushDiagnostics
 			return null
 		]
 
@@ -166,14 +183,14 @@ import org.eclipse.xtext.validation.Issue
 	// end notification callbacks
 	// file/content change events
 	override didOpen(DidOpenTextDocumentParams params) {
-		requestManager.runWrite [ cancelIndicator |
+		requestManager.runWrite("textDocument/didOpen") [ cancelIndicator |
 			workspaceManager.didOpen(params.textDocument.uri.toUri, params.textDocument.version, params.textDocument.text, cancelIndicator)
 			return null
 		]
 	}
 
 	override didChange(DidChangeTextDocumentParams params) {
-		requestManager.runWrite [ cancelIndicator |
+		requestManager.runWrite("textDocument/didChange") [ cancelIndicator |
 			workspaceManager.didChange(params.textDocument.uri.toUri, params.textDocument.version, params.contentChanges.map [ event |
 				new TextEdit(event.range, event.text)
 			], cancelIndicator)
@@ -182,8 +199,14 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override didClose(DidCloseTextDocumentParams params) {
-		requestManager.runWrite [ cancelIndicator |
-			workspaceManager.didClose(params.textDocument.uri.toUri, cancelIndicator)
+		requestManager.runWrite("textDocument/didClose") [ cancelIndicator |
+			val uri = params.textDocument.uri.toUri
+			sentColorings.remove(uri.toString)
+			val coloringService = uri.resourceServiceProvider?.get(IColoringService)
+			if (coloringService instanceof AbstractIncrementalColoringService) {
+				coloringService.discard(uri.toString)
+			}
+			workspaceManager.didClose(uri, cancelIndicator)
 			return null
 		]
 	}
@@ -194,7 +217,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-		requestManager.runWrite [ cancelIndicator |
+		requestManager.runWrite("workspace/didChangeWatchedFiles") [ cancelIndicator |
 			val dirtyFiles = newArrayList
 			val deletedFiles = newArrayList
 			for (fileEvent : params.changes) {
@@ -210,7 +233,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 	
 	override didChangeConfiguration(DidChangeConfigurationParams params) {
-        requestManager.runWrite [ cancelIndicator |
+        requestManager.runWrite("workspace/didChangeConfiguration") [ cancelIndicator |
             workspaceManager.refreshWorkspaceConfig(cancelIndicator)
             return null
         ]
@@ -223,11 +246,34 @@ import org.eclipse.xtext.validation.Issue
 	LanguageClient client
 
 	private def void publishDiagnostics(URI uri, Iterable<? extends Issue> issues) {
-		val diagnostics = new PublishDiagnosticsParams => [
-			it.uri = toPath(uri)
-			it.diagnostics = issues.map[toDiagnostic].toList
-		]
-		client.publishDiagnostics(diagnostics)
+		val path = toPath(uri)
+		val diagnostics = issues.map[toDiagnostic].toList
+		synchronized (pendingDiagnostics) {
+			pendingDiagnostics.put(path, diagnostics)
+		}
+	}
+
+	/**
+	 * Sends the diagnostics that have been collected during the last build in one batch. Diagnostics that did not
+	 * change since they have been published last are not sent again.
+	 */
+	protected def void flushDiagnostics() {
+		val Map<String, List<Diagnostic>> pending = newLinkedHashMap
+		synchronized (pendingDiagnostics) {
+			pending.putAll(pendingDiagnostics)
+			pendingDiagnostics.clear
+		}
+		for (entry : pending.entrySet) {
+			if (publishedDiagnostics.put(entry.key, entry.value) == entry.value) {
+				Metrics.counter("lsp.diagnostics", "suppressed").increment
+			} else {
+				client.publishDiagnostics(new PublishDiagnosticsParams => [
+					uri = entry.key
+					diagnostics = entry.value
+				])
+				Metrics.counter("lsp.diagnostics", "sent").increment
+			}
+		}
 	}
 
 	private def Diagnostic toDiagnostic(Issue issue) {
@@ -268,7 +314,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 	// completion stuff
 	override CompletableFuture<CompletionList> completion(TextDocumentPositionParams params) {
-		return requestManager.runRead[ origialCancelIndicator |
+		return requestManager.runRead("textDocument/completion") [ origialCancelIndicator |
 		    
 		    val cancelIndicator = new BufferedCancelIndicator(origialCancelIndicator)
 			val uri = params.textDocument.uri.toUri
@@ -287,7 +333,7 @@ import org.eclipse.xtext.validation.Issue
 	// end completion stuff
 	// symbols
 	override definition(TextDocumentPositionParams params) {
-		return requestManager.<List<? extends Location>>runRead[ cancelIndicator |
+		return requestManager.<List<? extends Location>>runRead("textDocument/definition") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val documentSymbolService = resourceServiceProvider?.get(DocumentSymbolService)
@@ -303,7 +349,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override references(ReferenceParams params) {
-		return requestManager.<List<? extends Location>>runRead[ cancelIndicator |
+		return requestManager.<List<? extends Location>>runRead("textDocument/references") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val documentSymbolService = resourceServiceProvider?.get(DocumentSymbolService)
@@ -327,7 +373,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override documentSymbol(DocumentSymbolParams params) {
-		return requestManager.<List<? extends SymbolInformation>>runRead[ cancelIndicator |
+		return requestManager.<List<? extends SymbolInformation>>runRead("textDocument/documentSymbol") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val documentSymbolService = resourceServiceProvider?.get(DocumentSymbolService)
@@ -341,9 +387,10 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override symbol(WorkspaceSymbolParams params) {
-		return requestManager.<List<? extends SymbolInformation>>runRead [ cancelIndicator |
+		return requestManager.<List<? extends SymbolInformation>>runSnapshotRead("workspace/symbol") [ cancelIndicator |
 			val indexData = workspaceManager.index
-			return workspaceSymbolService.getSymbols(params.query, resourceAccess, indexData, cancelIndicator)
+			val snapshotAccess = new SnapshotResourceAccess(workspaceManager, indexData)
+			return workspaceSymbolService.getSymbols(params.query, snapshotAccess, indexData, cancelIndicator)
 		]
 	}
 
@@ -352,7 +399,7 @@ import org.eclipse.xtext.validation.Issue
 	// hover
 	
 	override hover(TextDocumentPositionParams params) {
-		return requestManager.runRead[ cancelIndicator |
+		return requestManager.runRead("textDocument/hover") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val hoverService = resourceServiceProvider?.get(HoverService)
@@ -373,7 +420,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override signatureHelp(TextDocumentPositionParams position) {
-		return requestManager.runRead [ cancelIndicator |
+		return requestManager.runRead("textDocument/signatureHelp") [ cancelIndicator |
             val uri = position.textDocument.uri.toUri;
             val serviceProvider = uri.resourceServiceProvider;
             val helper = serviceProvider?.get(ISignatureHelpService);
@@ -389,7 +436,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override documentHighlight(TextDocumentPositionParams position) {
-		return requestManager.runRead [ cancelIndicator |
+		return requestManager.runRead("textDocument/documentHighlight") [ cancelIndicator |
 			val uri = position.textDocument.uri.toUri;
 			val serviceProvider = uri.resourceServiceProvider;
 			val service =  serviceProvider?.get(IDocumentHighlightService);
@@ -417,7 +464,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override formatting(DocumentFormattingParams params) {
-		return requestManager.runRead[ cancelIndicator |
+		return requestManager.runRead("textDocument/formatting") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val formatterService = resourceServiceProvider?.get(FormattingService)
@@ -436,7 +483,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 
 	override rangeFormatting(DocumentRangeFormattingParams params) {
-		return requestManager.runRead[ cancelIndicator |
+		return requestManager.runRead("textDocument/rangeFormatting") [ cancelIndicator |
 			val uri = params.textDocument.uri.toUri
 			val resourceServiceProvider = uri.resourceServiceProvider
 			val formatterService = resourceServiceProvider?.get(FormattingService)
@@ -498,28 +545,29 @@ import org.eclipse.xtext.validation.Issue
 			val supportedMethods = <String,JsonRpcMethod>newLinkedHashMap()
 			supportedMethods.putAll(ServiceEndpoints.getSupportedMethods(class))
 			val extensions = <String,JsonRpcMethod>newLinkedHashMap()
-			for (resourceServiceProvider : languagesRegistry.extensionToFactoryMap.values.toSet.filter(IResourceServiceProvider)) {
-				val ext = resourceServiceProvider.get(ILanguageServerExtension)
-				if (ext !== null) {
-					ext.initialize(access)
-					val supportedExtensions = if (ext instanceof JsonRpcMethodProvider) {
-						ext.supportedMethods
-					} else {
-						ServiceEndpoints.getSupportedMethods(ext.class)
-					}
-					for (entry : supportedExtensions.entrySet) {
-						if (supportedMethods.containsKey(entry.key)) {
-							LOG.error("The json rpc method '"+entry.key+"' can not be an extension as it is already defined in the LSP standard.")
-						} else {
-							val existing = extensions.put(entry.key, entry.value)
-							if (existing !== null && existing != entry.value) {
-								LOG.error("An incompatible LSP extension '"+entry.key+"' has already been registered. Using 1 ignoring 2. \n1 : "+existing+" \n2 : "+entry.value)
-								extensions.put(entry.key, existing)
+			for (registered : languagesRegistry.extensionToFactoryMap.values.toSet) {
+				if (registered instanceof LazyResourceServiceProvider && !(registered as LazyResourceServiceProvider).initialized
+						&& (registered as LazyResourceServiceProvider).setup instanceof ILanguageServerSetupExtension) {
+					// the setup of a lazily registered language is run on the first invocation of its extension
+					val lazyProvider = registered as LazyResourceServiceProvider
+					val setup = lazyProvider.setup as ILanguageServerSetupExtension
+					val supportedExtensions = ServiceEndpoints.getSupportedMethods(setup.languageServerExtensionType)
+					val endpoint = new LazyExtensionEndpoint(lazyProvider, access)
+					registerExtension(supportedExtensions, endpoint, supportedMethods, extensions)
+				} else {
+					// lazily registered languages that don't declare the type of their extension are initialized here,
+					// otherwise their extensions would be lost
+					val resourceServiceProvider = if (registered instanceof Provider<?>) registered.get else registered
+					if (resourceServiceProvider instanceof IResourceServiceProvider) {
+						val ext = resourceServiceProvider.get(ILanguageServerExtension)
+						if (ext !== null) {
+							ext.initialize(access)
+							val supportedExtensions = if (ext instanceof JsonRpcMethodProvider) {
+								ext.supportedMethods
 							} else {
-								val endpoint = ServiceEndpoints.toEndpoint(ext)
-								extensionProviders.put(entry.key, endpoint)
-								supportedMethods.put(entry.key, entry.value)
+								ServiceEndpoints.getSupportedMethods(ext.class)
 							}
+							registerExtension(supportedExtensions, ServiceEndpoints.toEndpoint(ext), supportedMethods, extensions)
 						}
 					}
 				}
@@ -529,6 +577,64 @@ import org.eclipse.xtext.validation.Issue
 		}
 	}
 	
+	private def void registerExtension(Map<String, JsonRpcMethod> supportedExtensions, Endpoint endpoint, Map<String, JsonRpcMethod> supportedMethods, Map<String, JsonRpcMethod> extensions) {
+		for (entry : supportedExtensions.entrySet) {
+			if (supportedMethods.containsKey(entry.key)) {
+				LOG.error("The json rpc method '"+entry.key+"' can not be an extension as it is already defined in the LSP standard.")
+			} else {
+				val existing = extensions.put(entry.key, entry.value)
+				if (existing !== null && existing != entry.value) {
+					LOG.error("An incompatible LSP extension '"+entry.key+"' has already been registered. Using 1 ignoring 2. \n1 : "+existing+" \n2 : "+entry.value)
+					extensions.put(entry.key, existing)
+				} else {
+					extensionProviders.put(entry.key, endpoint)
+					supportedMethods.put(entry.key, entry.value)
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Creates and initializes the {@link ILanguageServerExtension} of a lazily registered language when one of its
+	 * methods is invoked for the first time.
+	 * 
+	 * @since 2.11
+	 */
+	protected static class LazyExtensionEndpoint implements Endpoint {
+		
+		val LazyResourceServiceProvider resourceServiceProvider
+		
+		val ILanguageServerAccess access
+		
+		Endpoint delegate
+		
+		new(LazyResourceServiceProvider resourceServiceProvider, ILanguageServerAccess access) {
+			this.resourceServiceProvider = resourceServiceProvider
+			this.access = access
+		}
+		
+		protected def synchronized Endpoint getDelegate() {
+			if (delegate === null) {
+				val ext = resourceServiceProvider.get.get(ILanguageServerExtension)
+				if (ext === null) {
+					throw ILanguageServerExtension.NOT_HANDLED_EXCEPTION
+				}
+				ext.initialize(access)
+				delegate = ServiceEndpoints.toEndpoint(ext)
+			}
+			return delegate
+		}
+		
+		override notify(String method, Object parameter) {
+			getDelegate.notify(method, parameter)
+		}
+		
+		override request(String method, Object parameter) {
+			getDelegate.request(method, parameter)
+		}
+		
+	}
+	
 	ILanguageServerAccess access = new ILanguageServerAccess () {
 		
 		override <T> doRead(String uri, Function<Context, T> function) {
@@ -551,6 +657,7 @@ import org.eclipse.xtext.validation.Issue
 	}
 	
 	override afterBuild(List<Delta> deltas) {
+		flushDiagnostics
 		if (client instanceof LanguageClientExtensions) {
 		deltas.filter[^new !== null].map[uri.toString].forEach [
 				access.<Void>doRead(it) [ ctx |
@@ -565,7 +672,10 @@ import org.eclipse.xtext.validation.Issue
 								val coloringInfos = coloringService.getColoring(resource, doc);
 								if (!coloringInfos.nullOrEmpty) {
 									val uri = resource.URI.toString;
-									client.updateColoring(new ColoringParams(uri, coloringInfos));
+									// don't send the coloring again if it did not change since the last build
+									if (sentColorings.put(uri, coloringInfos) != coloringInfos) {
+										client.updateColoring(new ColoringParams(uri, coloringInfos));
+									}
 								}
 							}
 						}
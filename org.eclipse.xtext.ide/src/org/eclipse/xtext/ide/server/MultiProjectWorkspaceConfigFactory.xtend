@@ -17,6 +17,7 @@ import org.eclipse.xtext.util.IAcceptor
 import org.eclipse.xtext.workspace.IProjectConfig
 import org.eclipse.xtext.workspace.ISourceFolder
 import org.eclipse.xtext.workspace.IWorkspaceConfig
+import org.eclipse.xtext.workspace.SourceFolderTrie
 
 import static extension org.eclipse.xtext.util.UriUtil.*
 
@@ -32,7 +33,7 @@ class MultiProjectWorkspaceConfigFactory implements IWorkspaceConfigFactory {
             val name2config = <String, IProjectConfig> newHashMap
             val result = new MultiProjectWorkspaceConfig(name2config)
             val IAcceptor<IProjectConfig> acceptor = [
-                name2config.put(name, it)
+                result.addProject(it)
             ]
             baseFile.listFiles.filter[directory].forEach [
                 addProjectConfigs(URI.createFileURI(absolutePath), result, acceptor)   
@@ -52,6 +53,24 @@ class MultiProjectWorkspaceConfig implements IWorkspaceConfig {
     
     val Map<String, IProjectConfig> name2config 
     
+    SourceFolderTrie sourceFolderTrie
+    
+    /**
+     * Adds the given project, or replaces the project with the same name.
+     */
+    def synchronized void addProject(IProjectConfig project) {
+        name2config.put(project.name, project)
+        sourceFolderTrie = null
+    }
+    
+    /**
+     * Discards the index used by {@link #findProjectContaining(URI)}. Has to be called if the map of projects
+     * is modified without {@link #addProject(IProjectConfig)}, or if the source folders of a project change.
+     */
+    def synchronized void invalidateSourceFolderTrie() {
+        sourceFolderTrie = null
+    }
+    
     override getProjects() {
         new HashSet(name2config.values)
     }
@@ -61,9 +80,14 @@ class MultiProjectWorkspaceConfig implements IWorkspaceConfig {
     }
     
     override findProjectContaining(URI member) {
-        name2config.values.filter[
-            findSourceFolderContaining(member) !== null
-        ].maxBy[path.segmentCount]
+        getSourceFolderTrie.findProjectContaining(member)
+    }
+    
+    protected def synchronized SourceFolderTrie getSourceFolderTrie() {
+        if (sourceFolderTrie === null) {
+            sourceFolderTrie = new SourceFolderTrie(name2config.values)
+        }
+        return sourceFolderTrie
     }
 }
 
@@ -9,8 +9,12 @@ package org.eclipse.xtext.ide.server
 
 import com.google.inject.Inject
 import com.google.inject.Provider
+import com.google.inject.name.Named
+import java.util.HashSet
+import java.util.LinkedHashMap
 import java.util.List
 import java.util.Map
+import java.util.concurrent.locks.ReentrantReadWriteLock
 import org.eclipse.emf.common.util.URI
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtend.lib.annotations.Accessors
@@ -23,6 +27,7 @@ import org.eclipse.xtext.resource.IExternalContentSupport
 import org.eclipse.xtext.resource.IExternalContentSupport.IExternalContentProvider
 import org.eclipse.xtext.resource.IResourceServiceProvider
 import org.eclipse.xtext.resource.XtextResourceSet
+import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions
 import org.eclipse.xtext.resource.impl.ProjectDescription
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData
@@ -38,11 +43,24 @@ import org.eclipse.xtext.workspace.ProjectConfigAdapter
  */
 class ProjectManager {
     
+    /**
+     * The number of resources that are kept in the resource set between two builds, not counting open documents.
+     */
+    public static val MAX_CACHED_RESOURCES = "org.eclipse.xtext.ide.server.ProjectManager.maxCachedResources"
+    
     @Inject protected IncrementalBuilder incrementalBuilder
     @Inject protected Provider<XtextResourceSet> resourceSetProvider
     @Inject protected IResourceServiceProvider.Registry languagesRegistry
     @Inject protected IFileSystemScanner fileSystemScanner
     @Inject protected IExternalContentSupport externalContentSupport
+    @Inject protected IResourceClusteringPolicy clusteringPolicy
+    @Inject(optional=true) @Named(MAX_CACHED_RESOURCES) protected int maxCachedResources = 1000
+    
+    // access ordered, i.e. the least recently used URI comes first
+    val Map<URI, Boolean> recentlyUsed = new LinkedHashMap(16, 0.75f, true)
+    
+    // readers of the resource set hold the read lock, eviction between builds takes the write lock
+    val resourceSetLock = new ReentrantReadWriteLock
     
     @Accessors(PUBLIC_GETTER)
     IndexState indexState = new IndexState
@@ -84,6 +102,7 @@ class ProjectManager {
             languagesRegistry.getResourceServiceProvider(it)
         ])
         indexState = result.indexState
+        evictResources(request.resourceSet)
         resourceSet = request.resourceSet
         indexProvider.get.put(projectDescription.name, indexState.resourceDescriptions)
         return result;
@@ -114,8 +133,92 @@ class ProjectManager {
         ]
     }
     
+    /**
+     * Creates a resource set for a request that runs concurrently with builds, see
+     * {@link org.eclipse.xtext.ide.server.concurrent.RequestManager#runSnapshotRead(String, Function1) runSnapshotRead}.
+     * It is owned by the caller and resolves against the given index snapshot instead of the index of the running build.
+     */
+    def XtextResourceSet createSnapshotResourceSet(ChunkedResourceDescriptions index) {
+        resourceSetProvider.get => [
+            projectDescription.attachToEmfObject(it)
+            ProjectConfigAdapter.install(it, projectConfig)
+            index.createShallowCopyWith(it)
+            externalContentSupport.configureResourceSet(it, openedDocumentsContentProvider)
+        ]
+    }
+    
     def Resource getResource(URI uri) {
-        resourceSet.getResource(uri, true)
+        val resource = resourceSet.getResource(uri, true)
+        synchronized (recentlyUsed) {
+            recentlyUsed.put(uri, Boolean.TRUE)
+        }
+        return resource
+    }
+    
+    /**
+     * Runs the given work, which may use resources of this project's resource set. No resources are evicted while
+     * work is running. Afterwards the least recently used resources are evicted if there are more than
+     * {@link #MAX_CACHED_RESOURCES} of them and no other work is running, so the resource set doesn't grow between
+     * builds.
+     */
+    def <T> T doRead(()=>T work) {
+        resourceSetLock.readLock.lock
+        try {
+            return work.apply
+        } finally {
+            resourceSetLock.readLock.unlock
+            evictResourcesIfIdle
+        }
+    }
+    
+    protected def void evictResourcesIfIdle() {
+        val resourceSet = this.resourceSet
+        if (resourceSet === null || resourceSet.resources.size <= maxCachedResources)
+            return;
+        // fails while this or another thread is still reading, a later read evicts then
+        if (resourceSetLock.writeLock.tryLock) {
+            try {
+                evictResources(resourceSet)
+            } finally {
+                resourceSetLock.writeLock.unlock
+            }
+        }
+    }
+    
+    /**
+     * Unloads the least recently used resources that are not open in an editor if there are more than
+     * {@link #MAX_CACHED_RESOURCES} of them, or half of them if the {@link IResourceClusteringPolicy} reports that
+     * memory is low. Resources that have been loaded indirectly, e.g. during linking, are unloaded first. Unloaded
+     * resources are loaded again on demand, from their binary storage if available.
+     * 
+     * This is called at the end of a build, before the given resource set is handed out to read requests, and
+     * between builds when no {@link #doRead(Function0) read} is running, so it never unloads a resource that is still
+     * in use.
+     */
+    protected def void evictResources(XtextResourceSet resourceSet) {
+        val uri2resource = <URI, Resource>newLinkedHashMap
+        for (resource : resourceSet.resources) {
+            uri2resource.put(resource.URI, resource)
+        }
+        val candidates = <Resource>newArrayList
+        synchronized (recentlyUsed) {
+            recentlyUsed.keySet.retainAll(uri2resource.keySet)
+            candidates += uri2resource.values.filter[!recentlyUsed.containsKey(URI)]
+            candidates += recentlyUsed.keySet.map[uri2resource.get(it)]
+        }
+        candidates.removeIf[openedDocumentsContentProvider.hasContent(URI)]
+        val limit = if (clusteringPolicy.continueProcessing(resourceSet, null, candidates.size))
+                maxCachedResources
+            else
+                candidates.size / 2
+        val evicted = new HashSet(candidates.subList(0, Math.max(0, candidates.size - limit)))
+        synchronized (recentlyUsed) {
+            recentlyUsed.keySet.removeAll(evicted.map[URI].toSet)
+        }
+        for (resource : evicted) {
+            resource.unload
+        }
+        resourceSet.resources.removeAll(evicted)
     }
     
     def void reportProjectIssue(String message, String code, Severity severity) {
@@ -7,18 +7,19 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.server
 
+import com.google.common.collect.ImmutableMap
 import com.google.inject.Inject
 import com.google.inject.Provider
 import java.util.ArrayList
 import java.util.List
 import java.util.Map
+import java.util.concurrent.ConcurrentHashMap
 import org.eclipse.emf.common.util.URI
 import org.eclipse.lsp4j.TextEdit
 import org.eclipse.xtext.ide.server.ILanguageServerAccess.IBuildListener
 import org.eclipse.xtext.resource.IExternalContentSupport.IExternalContentProvider
 import org.eclipse.xtext.resource.IResourceDescription
 import org.eclipse.xtext.resource.IResourceDescription.Delta
-import org.eclipse.xtext.resource.IResourceDescriptions
 import org.eclipse.xtext.resource.XtextResource
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData
@@ -38,7 +39,7 @@ import org.eclipse.xtext.workspace.IWorkspaceConfig
     @Inject IProjectDescriptionFactory projectDescriptionFactory
     BuildManager buildManager
     
-    Map<String, ProjectManager> projectName2ProjectManager = newHashMap
+    Map<String, ProjectManager> projectName2ProjectManager = new ConcurrentHashMap
 
     URI baseDir
     (URI, Iterable<Issue>)=>void issueAcceptor
@@ -52,7 +53,13 @@ import org.eclipse.xtext.workspace.IWorkspaceConfig
     
     Map<String, ResourceDescriptionsData> fullIndex = newHashMap()
     
-    Map<URI, Document> openDocuments = newHashMap()
+    /**
+     * An immutable copy of the full index that is published after each build. The chunks of a published
+     * index are never modified since every build works on a copy of the previous project index.
+     */
+    volatile ChunkedResourceDescriptions indexSnapshot = new ChunkedResourceDescriptions
+    
+    Map<URI, Document> openDocuments = new ConcurrentHashMap
     
     val openedDocumentsContentProvider = new IExternalContentProvider() {
 
@@ -100,7 +107,11 @@ import org.eclipse.xtext.workspace.IWorkspaceConfig
             projectName2ProjectManager.remove(deletedProject)
             fullIndex.remove(deletedProject)
         }
-        val result = buildManager.doInitialBuild(newProjects, cancelIndicator)
+        val result = try {
+            buildManager.doInitialBuild(newProjects, cancelIndicator)
+        } finally {
+            publishIndexSnapshot
+        }
         afterBuild(result)
     }
 	
@@ -111,13 +122,24 @@ import org.eclipse.xtext.workspace.IWorkspaceConfig
 	}
 
     def List<IResourceDescription.Delta> doBuild(List<URI> dirtyFiles, List<URI> deletedFiles, CancelIndicator cancelIndicator) {
-    	val doBuild = buildManager.doBuild(dirtyFiles, deletedFiles, cancelIndicator)
+    	val doBuild = try {
+    		buildManager.doBuild(dirtyFiles, deletedFiles, cancelIndicator)
+    	} finally {
+    		publishIndexSnapshot
+    	}
     	afterBuild(doBuild)
 		return doBuild
     }
     
-    def IResourceDescriptions getIndex() {
-    	return new ChunkedResourceDescriptions(fullIndex)
+    /**
+     * @return the index as it was published after the last build. It is safe to use while another build is running.
+     */
+    def ChunkedResourceDescriptions getIndex() {
+    	return indexSnapshot
+    }
+    
+    protected def void publishIndexSnapshot() {
+    	indexSnapshot = new ChunkedResourceDescriptions(ImmutableMap.copyOf(fullIndex))
     }
 
     def URI getProjectBaseDir(URI candidate) {
@@ -169,9 +191,11 @@ import org.eclipse.xtext.workspace.IWorkspaceConfig
     def <T> T doRead(URI uri, (Document, XtextResource)=>T work) {
     	val resourceURI = uri.trimFragment
     	val projectMnr = getProjectManager(resourceURI)
-        val resource = projectMnr.getResource(resourceURI) as XtextResource
-        var doc = getDocument(resource)
-        return work.apply(doc, projectMnr.getResource(resourceURI) as XtextResource)
+    	return projectMnr.doRead [
+            val resource = projectMnr.getResource(resourceURI) as XtextResource
+            val doc = getDocument(resource)
+            return work.apply(doc, resource)
+        ]
     }
     
     protected def Document getDocument(XtextResource resource) {
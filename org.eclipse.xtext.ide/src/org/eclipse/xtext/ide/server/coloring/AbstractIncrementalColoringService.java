@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.coloring;
+
+import static java.util.Collections.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.lsp4j.ColoringInformation;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.TextRegion;
+import org.eclipse.xtext.util.Tuples;
+
+import com.google.common.base.Objects;
+
+/**
+ * A coloring service that recomputes the coloring of an open document only for the region that changed since the
+ * previous version of the document. The coloring of the unchanged text before and after the changed region is taken
+ * from a per document cache and shifted accordingly.
+ *
+ * A change may affect the coloring of other parts of the document, e.g. when a declaration is renamed, its references
+ * are colored differently. So the whole document is colored again if its {@link #getSemanticState(XtextResource)
+ * semantic state} changed. A full computation is also done whenever the document is colored for the first time or its
+ * text did not change, e.g. when it is rebuilt due to a change in another document. Implementations should be bound
+ * as singletons, so the cache survives between builds.
+ *
+ * @since 2.11
+ */
+public abstract class AbstractIncrementalColoringService implements IColoringService {
+
+	/**
+	 * Receives the colored regions of a document.
+	 */
+	public static interface IColoringAcceptor {
+		void addColoring(int offset, int length, List<Integer> styles);
+	}
+
+	protected static class ColoredRegion {
+		private final int offset;
+		private final int length;
+		private final List<Integer> styles;
+
+		protected ColoredRegion(int offset, int length, List<Integer> styles) {
+			this.offset = offset;
+			this.length = length;
+			this.styles = styles;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		public int getLength() {
+			return length;
+		}
+
+		public int getEndOffset() {
+			return offset + length;
+		}
+
+		public List<Integer> getStyles() {
+			return styles;
+		}
+	}
+
+	protected static class CachedColoring {
+		private final String text;
+		private final Object semanticState;
+		private final Collection<ColoredRegion> regions;
+
+		protected CachedColoring(String text, Object semanticState, Collection<ColoredRegion> regions) {
+			this.text = text;
+			this.semanticState = semanticState;
+			this.regions = regions;
+		}
+	}
+
+	private static final int MAX_CACHED_DOCUMENTS = 100;
+
+	private final Map<String, CachedColoring> cache = new LinkedHashMap<String, CachedColoring>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedColoring> eldest) {
+			return size() > MAX_CACHED_DOCUMENTS;
+		}
+	};
+
+	/**
+	 * Computes the coloring for the given region. Implementations should visit only the elements whose text
+	 * intersects the region, but may announce colorings outside of it.
+	 */
+	protected abstract void computeColoring(XtextResource resource, ITextRegion region, IColoringAcceptor acceptor);
+
+	/**
+	 * Returns the semantic information that the coloring of the unchanged text depends on. If it differs from the one
+	 * of the previous version of the document, the whole document is colored again. By default these are the names
+	 * and types of the objects that the resource exports. Implementations whose coloring depends on other
+	 * information, e.g. on local declarations, should override this method.
+	 */
+	protected Object getSemanticState(XtextResource resource) {
+		IResourceServiceProvider resourceServiceProvider = resource.getResourceServiceProvider();
+		if (resourceServiceProvider == null) {
+			return null;
+		}
+		IResourceDescription description = resourceServiceProvider.getResourceDescriptionManager()
+				.getResourceDescription(resource);
+		List<Object> result = new ArrayList<Object>();
+		for (IEObjectDescription exported : description.getExportedObjects()) {
+			result.add(Tuples.create(exported.getQualifiedName(), exported.getEClass()));
+		}
+		return result;
+	}
+
+	@Override
+	public List<? extends ColoringInformation> getColoring(XtextResource resource, Document document) {
+		if (resource == null) {
+			return emptyList();
+		}
+		String uri = resource.getURI().toString();
+		String text = document.getContents();
+		Object semanticState = getSemanticState(resource);
+		CachedColoring previous;
+		synchronized (cache) {
+			previous = cache.get(uri);
+		}
+		TreeMap<Integer, ColoredRegion> regions = new TreeMap<Integer, ColoredRegion>();
+		if (previous == null || previous.text.equals(text) || !Objects.equal(previous.semanticState, semanticState)) {
+			collect(resource, new TextRegion(0, text.length()), regions);
+		} else {
+			String oldText = previous.text;
+			int start = 0;
+			int maxStart = Math.min(oldText.length(), text.length());
+			while (start < maxStart && oldText.charAt(start) == text.charAt(start)) {
+				start++;
+			}
+			int oldEnd = oldText.length();
+			int newEnd = text.length();
+			while (oldEnd > start && newEnd > start && oldText.charAt(oldEnd - 1) == text.charAt(newEnd - 1)) {
+				oldEnd--;
+				newEnd--;
+			}
+			int delta = newEnd - oldEnd;
+			for (ColoredRegion region : previous.regions) {
+				if (region.getEndOffset() < start) {
+					regions.put(region.getOffset(), region);
+				} else if (region.getOffset() > oldEnd) {
+					regions.put(region.getOffset() + delta,
+							new ColoredRegion(region.getOffset() + delta, region.getLength(), region.getStyles()));
+				}
+			}
+			collect(resource, new TextRegion(start, newEnd - start), regions);
+		}
+		synchronized (cache) {
+			cache.put(uri, new CachedColoring(text, semanticState, new ArrayList<ColoredRegion>(regions.values())));
+		}
+		return toColoringInformation(regions.values(), text);
+	}
+
+	/**
+	 * Discards the cached coloring of the document with the given URI.
+	 */
+	public void discard(String uri) {
+		synchronized (cache) {
+			cache.remove(uri);
+		}
+	}
+
+	protected void collect(XtextResource resource, ITextRegion region, final Map<Integer, ColoredRegion> result) {
+		computeColoring(resource, region, new IColoringAcceptor() {
+			@Override
+			public void addColoring(int offset, int length, List<Integer> styles) {
+				result.put(offset, new ColoredRegion(offset, length, styles));
+			}
+		});
+	}
+
+	/**
+	 * Converts the given regions, which are sorted by offset, to coloring information. The line offsets of the text
+	 * are computed once, so the conversion does not scan the text for each region.
+	 */
+	protected List<ColoringInformation> toColoringInformation(Collection<ColoredRegion> regions, String text) {
+		List<Integer> lineOffsets = new ArrayList<Integer>();
+		lineOffsets.add(0);
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) == '\n') {
+				lineOffsets.add(i + 1);
+			}
+		}
+		List<ColoringInformation> result = new ArrayList<ColoringInformation>(regions.size());
+		for (ColoredRegion region : regions) {
+			if (region.getOffset() < 0 || region.getEndOffset() > text.length()) {
+				continue;
+			}
+			Range range = new Range(getPosition(lineOffsets, region.getOffset()),
+					getPosition(lineOffsets, region.getEndOffset()));
+			result.add(new ColoringInformation(range, region.getStyles()));
+		}
+		return result;
+	}
+
+	private Position getPosition(List<Integer> lineOffsets, int offset) {
+		int line = binarySearch(lineOffsets, offset);
+		if (line < 0) {
+			line = -line - 2;
+		}
+		return new Position(line, offset - lineOffsets.get(line));
+	}
+
+}
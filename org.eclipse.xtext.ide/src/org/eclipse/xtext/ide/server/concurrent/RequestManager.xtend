@@ -18,6 +18,7 @@ import org.apache.log4j.Logger
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures
 import org.eclipse.xtext.service.OperationCanceledManager
 import org.eclipse.xtext.util.CancelIndicator
+import org.eclipse.xtext.util.metrics.Metrics
 
 /**
  * @author kosyakov - Initial contribution and API
@@ -57,10 +58,19 @@ class RequestManager {
 	 * </p>
 	 */
 	def <V> CompletableFuture<V> runWrite((CancelIndicator)=>V writeRequest) {
+		return runWrite('write', writeRequest)
+	}
+	
+	/**
+	 * Like {@link #runWrite(Function1)}, but measures the request under the given method name,
+	 * e.g. <code>textDocument/didChange</code>.
+	 */
+	def <V> CompletableFuture<V> runWrite(String method, (CancelIndicator)=>V writeRequest) {
 		semaphore.acquire(MAX_PERMITS)
 		return CompletableFutures.computeAsync(executorService) [
 			val cancelIndicator = new RequestCancelIndicator(it)
 			cancelIndicators += cancelIndicator
+			val timer = Metrics.timer("lsp.request", method).start
 	
 			try {
 				return writeRequest.apply([
@@ -75,6 +85,7 @@ class RequestManager {
 	            throw t
 			} finally {
 				cancelIndicators -= cancelIndicator
+				timer.stop
 				semaphore.release(MAX_PERMITS)
 			}
 		]
@@ -93,10 +104,20 @@ class RequestManager {
 	 * </p>
 	 */
 	def <V> CompletableFuture<V> runRead((CancelIndicator)=>V readRequest) {
+		return runRead('read', readRequest)
+	}
+	
+	/**
+	 * Like {@link #runRead(Function1)}, but measures the request under the given method name,
+	 * e.g. <code>textDocument/hover</code>.
+	 */
+	def <V> CompletableFuture<V> runRead(String method, (CancelIndicator)=>V readRequest) {
 		return CompletableFutures.computeAsync(executorService) [
 			val cancelIndicator = new RequestCancelIndicator(it)
 			cancelIndicators += cancelIndicator
     		semaphore.acquire(1)
+			// measured after acquiring the permit, so waiting behind write requests doesn't count as latency
+			val timer = Metrics.timer("lsp.request", method).start
     		cancelIndicator.checkCanceled
 			try {
 				return readRequest.apply [
@@ -111,11 +132,55 @@ class RequestManager {
 	            throw t
 			} finally {
 				cancelIndicators -= cancelIndicator
+				timer.stop
 				semaphore.release(1)
 			}
 		]
 	}
 	
+	/**
+	 * <p>
+	 * The given <i>snapshot read request</i> will be run concurrent with <i>running read and write requests</i>.
+	 * </p>
+	 * <p>
+	 * It must only access state that is published atomically by write requests, such as the
+	 * {@link org.eclipse.xtext.ide.server.WorkspaceManager#getIndex() index snapshot}. It must neither
+	 * depend on the contents of open documents nor load resources through the workspace manager,
+	 * because the resource sets of the projects are not thread-safe. Resources can be loaded through a
+	 * {@link org.eclipse.xtext.ide.server.findReferences.SnapshotResourceAccess SnapshotResourceAccess} instead.
+	 * </p>
+	 */
+	def <V> CompletableFuture<V> runSnapshotRead((CancelIndicator)=>V readRequest) {
+		return runSnapshotRead('snapshotRead', readRequest)
+	}
+	
+	/**
+	 * Like {@link #runSnapshotRead(Function1)}, but measures the request under the given method name,
+	 * e.g. <code>workspace/symbol</code>.
+	 */
+	def <V> CompletableFuture<V> runSnapshotRead(String method, (CancelIndicator)=>V readRequest) {
+		return CompletableFutures.computeAsync(executorService) [
+			val cancelIndicator = new RequestCancelIndicator(it)
+			cancelIndicators += cancelIndicator
+			val timer = Metrics.timer("lsp.request", method).start
+			try {
+				return readRequest.apply [
+					cancelIndicator.checkCanceled
+					return false
+				]
+			} catch (Throwable t) {
+	            if (isCancelException(t)) {
+	            	LOGGER.info("request cancelled.")
+	            	throw new CancellationException()
+	            }
+	            throw t
+			} finally {
+				cancelIndicators -= cancelIndicator
+				timer.stop
+			}
+		]
+	}
+	
 	protected def boolean isCancelException(Throwable t) {
         if(t === null) return false;
         val cause = if (t instanceof CompletionException) t.cause else t
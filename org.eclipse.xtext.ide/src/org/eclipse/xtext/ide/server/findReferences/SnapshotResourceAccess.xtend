@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.findReferences
+
+import java.util.Map
+import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.ecore.resource.ResourceSet
+import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor
+import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess
+import org.eclipse.xtext.ide.server.WorkspaceManager
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions
+import org.eclipse.xtext.util.concurrent.IUnitOfWork
+
+/**
+ * Resource access for a single snapshot read request. Resources are loaded into resource sets that belong to the
+ * request and resolve against the given index snapshot, so they can be read while a build is running.
+ * 
+ * @see org.eclipse.xtext.ide.server.concurrent.RequestManager#runSnapshotRead(String, org.eclipse.xtext.xbase.lib.Functions.Function1)
+ * @since 2.11
+ */
+@FinalFieldsConstructor
+class SnapshotResourceAccess implements IResourceAccess {
+
+	val WorkspaceManager workspaceManager
+
+	val ChunkedResourceDescriptions index
+
+	val Map<String, ResourceSet> projectName2ResourceSet = newHashMap
+
+	override <R> readOnly(URI targetURI, IUnitOfWork<R, ResourceSet> work) {
+		val projectManager = workspaceManager.getProjectManager(targetURI.trimFragment)
+		val resourceSet = projectName2ResourceSet.computeIfAbsent(projectManager.projectDescription.name) [
+			projectManager.createSnapshotResourceSet(index)
+		]
+		return work.exec(resourceSet)
+	}
+
+}
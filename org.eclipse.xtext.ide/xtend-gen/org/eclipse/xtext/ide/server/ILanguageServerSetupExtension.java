@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.xtext.ide.server;
+
+import org.eclipse.xtext.ide.server.ILanguageServerExtension;
+
+/**
+ * Declares the {@link ILanguageServerExtension} of a language whose setup implements
+ * {@link org.eclipse.xtext.ISetupExtension ISetupExtension}. The language server announces the methods of the
+ * declared type without running the setup, the extension itself is created and initialized when one of its methods
+ * is invoked for the first time.
+ * 
+ * Lazily registered languages that don't implement this interface are initialized when the language server collects
+ * its extensions.
+ * 
+ * @since 2.11
+ */
+@SuppressWarnings("all")
+public interface ILanguageServerSetupExtension {
+  /**
+   * @return the type that declares the json rpc methods of the language's {@link ILanguageServerExtension}.
+   */
+  public abstract Class<? extends ILanguageServerExtension> getLanguageServerExtensionType();
+}
@@ -12,6 +12,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.log4j.Logger;
@@ -83,15 +85,19 @@ import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor;
+import org.eclipse.xtext.ISetup;
 import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.ide.server.Document;
 import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 import org.eclipse.xtext.ide.server.ILanguageServerExtension;
+import org.eclipse.xtext.ide.server.ILanguageServerSetupExtension;
 import org.eclipse.xtext.ide.server.UriExtensions;
 import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.ide.server.coloring.AbstractIncrementalColoringService;
 import org.eclipse.xtext.ide.server.coloring.IColoringService;
 import org.eclipse.xtext.ide.server.concurrent.RequestManager;
 import org.eclipse.xtext.ide.server.contentassist.ContentAssistService;
+import org.eclipse.xtext.ide.server.findReferences.SnapshotResourceAccess;
 import org.eclipse.xtext.ide.server.findReferences.WorkspaceResourceAccess;
 import org.eclipse.xtext.ide.server.formatting.FormattingService;
 import org.eclipse.xtext.ide.server.hover.HoverService;
@@ -100,11 +106,14 @@ import org.eclipse.xtext.ide.server.signatureHelp.ISignatureHelpService;
 import org.eclipse.xtext.ide.server.symbol.DocumentSymbolService;
 import org.eclipse.xtext.ide.server.symbol.WorkspaceSymbolService;
 import org.eclipse.xtext.resource.IResourceDescription;
-import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.ResourceServiceProviderServiceLoader;
 import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.internal.Log;
+import org.eclipse.xtext.util.metrics.Counter;
+import org.eclipse.xtext.util.metrics.Metrics;
 import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Exceptions;
@@ -146,6 +155,51 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
     }
   }
   
+  /**
+   * Creates and initializes the {@link ILanguageServerExtension} of a lazily registered language when one of its
+   * methods is invoked for the first time.
+   * 
+   * @since 2.11
+   */
+  protected static class LazyExtensionEndpoint implements Endpoint {
+    private final ResourceServiceProviderServiceLoader.LazyResourceServiceProvider resourceServiceProvider;
+    
+    private final ILanguageServerAccess access;
+    
+    private Endpoint delegate;
+    
+    public LazyExtensionEndpoint(final ResourceServiceProviderServiceLoader.LazyResourceServiceProvider resourceServiceProvider, final ILanguageServerAccess access) {
+      this.resourceServiceProvider = resourceServiceProvider;
+      this.access = access;
+    }
+    
+    protected synchronized Endpoint getDelegate() {
+      if ((this.delegate == null)) {
+        IResourceServiceProvider _get = this.resourceServiceProvider.get();
+        final ILanguageServerExtension ext = _get.<ILanguageServerExtension>get(ILanguageServerExtension.class);
+        if ((ext == null)) {
+          throw ILanguageServerExtension.NOT_HANDLED_EXCEPTION;
+        }
+        ext.initialize(this.access);
+        Endpoint _endpoint = ServiceEndpoints.toEndpoint(ext);
+        this.delegate = _endpoint;
+      }
+      return this.delegate;
+    }
+    
+    @Override
+    public void notify(final String method, final Object parameter) {
+      Endpoint _delegate = this.getDelegate();
+      _delegate.notify(method, parameter);
+    }
+    
+    @Override
+    public CompletableFuture<?> request(final String method, final Object parameter) {
+      Endpoint _delegate = this.getDelegate();
+      return _delegate.request(method, parameter);
+    }
+  }
+  
   @Inject
   private RequestManager requestManager;
   
@@ -164,6 +218,12 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
   
   private InitializeParams params;
   
+  private final Map<String, List<? extends ColoringInformation>> sentColorings = new ConcurrentHashMap<String, List<? extends ColoringInformation>>();
+  
+  private final Map<String, List<Diagnostic>> publishedDiagnostics = new ConcurrentHashMap<String, List<Diagnostic>>();
+  
+  private final Map<String, List<Diagnostic>> pendingDiagnostics = CollectionLiterals.<String, List<Diagnostic>>newLinkedHashMap();
+  
   @Inject
   public void setWorkspaceManager(final WorkspaceManager manager) {
     this.workspaceManager = manager;
@@ -220,9 +280,10 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
         this.publishDiagnostics($0, $1);
       };
       this.workspaceManager.initialize(rootURI, _function_2, cancelIndicator);
+      this.flushDiagnostics();
       return null;
     };
-    this.requestManager.<Object>runWrite(_function_1);
+    this.requestManager.<Object>runWrite("initialize", _function_1);
     this.access.addBuildListener(this);
     return CompletableFuture.<InitializeResult>completedFuture(result);
   }
@@ -264,7 +325,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       this.workspaceManager.didOpen(_uri_1, _version, _text, cancelIndicator);
       return null;
     };
-    this.requestManager.<Object>runWrite(_function);
+    this.requestManager.<Object>runWrite("textDocument/didOpen", _function);
   }
   
   @Override
@@ -285,7 +346,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       this.workspaceManager.didChange(_uri_1, _version, _map, cancelIndicator);
       return null;
     };
-    this.requestManager.<Object>runWrite(_function);
+    this.requestManager.<Object>runWrite("textDocument/didChange", _function);
   }
   
   @Override
@@ -293,11 +354,23 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
     final Function1<CancelIndicator, Object> _function = (CancelIndicator cancelIndicator) -> {
       TextDocumentIdentifier _textDocument = params.getTextDocument();
       String _uri = _textDocument.getUri();
-      URI _uri_1 = this._uriExtensions.toUri(_uri);
-      this.workspaceManager.didClose(_uri_1, cancelIndicator);
+      final URI uri = this._uriExtensions.toUri(_uri);
+      String _string = uri.toString();
+      this.sentColorings.remove(_string);
+      IResourceServiceProvider _resourceServiceProvider = this.languagesRegistry.getResourceServiceProvider(uri);
+      IColoringService _get = null;
+      if (_resourceServiceProvider!=null) {
+        _get=_resourceServiceProvider.<IColoringService>get(IColoringService.class);
+      }
+      final IColoringService coloringService = _get;
+      if ((coloringService instanceof AbstractIncrementalColoringService)) {
+        String _string_1 = uri.toString();
+        ((AbstractIncrementalColoringService)coloringService).discard(_string_1);
+      }
+      this.workspaceManager.didClose(uri, cancelIndicator);
       return null;
     };
-    this.requestManager.<Object>runWrite(_function);
+    this.requestManager.<Object>runWrite("textDocument/didClose", _function);
   }
   
   @Override
@@ -326,7 +399,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       this.workspaceManager.doBuild(dirtyFiles, deletedFiles, cancelIndicator);
       return null;
     };
-    this.requestManager.<Object>runWrite(_function);
+    this.requestManager.<Object>runWrite("workspace/didChangeWatchedFiles", _function);
   }
   
   @Override
@@ -335,7 +408,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       this.workspaceManager.refreshWorkspaceConfig(cancelIndicator);
       return null;
     };
-    this.requestManager.<Object>runWrite(_function);
+    this.requestManager.<Object>runWrite("workspace/didChangeConfiguration", _function);
   }
   
   private WorkspaceResourceAccess resourceAccess;
@@ -343,19 +416,51 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
   private LanguageClient client;
   
   private void publishDiagnostics(final URI uri, final Iterable<? extends Issue> issues) {
-    PublishDiagnosticsParams _publishDiagnosticsParams = new PublishDiagnosticsParams();
-    final Procedure1<PublishDiagnosticsParams> _function = (PublishDiagnosticsParams it) -> {
-      String _path = this._uriExtensions.toPath(uri);
-      it.setUri(_path);
-      final Function1<Issue, Diagnostic> _function_1 = (Issue it_1) -> {
-        return this.toDiagnostic(it_1);
-      };
-      Iterable<Diagnostic> _map = IterableExtensions.map(issues, _function_1);
-      List<Diagnostic> _list = IterableExtensions.<Diagnostic>toList(_map);
-      it.setDiagnostics(_list);
+    final String path = this._uriExtensions.toPath(uri);
+    final Function1<Issue, Diagnostic> _function = (Issue it) -> {
+      return this.toDiagnostic(it);
     };
-    final PublishDiagnosticsParams diagnostics = ObjectExtensions.<PublishDiagnosticsParams>operator_doubleArrow(_publishDiagnosticsParams, _function);
-    this.client.publishDiagnostics(diagnostics);
+    Iterable<Diagnostic> _map = IterableExtensions.map(issues, _function);
+    final List<Diagnostic> diagnostics = IterableExtensions.<Diagnostic>toList(_map);
+    synchronized (this.pendingDiagnostics) {
+      this.pendingDiagnostics.put(path, diagnostics);
+    }
+  }
+  
+  /**
+   * Sends the diagnostics that have been collected during the last build in one batch. Diagnostics that did not
+   * change since they have been published last are not sent again.
+   */
+  protected void flushDiagnostics() {
+    final Map<String, List<Diagnostic>> pending = CollectionLiterals.<String, List<Diagnostic>>newLinkedHashMap();
+    synchronized (this.pendingDiagnostics) {
+      pending.putAll(this.pendingDiagnostics);
+      this.pendingDiagnostics.clear();
+    }
+    Set<Map.Entry<String, List<Diagnostic>>> _entrySet = pending.entrySet();
+    for (final Map.Entry<String, List<Diagnostic>> entry : _entrySet) {
+      String _key = entry.getKey();
+      List<Diagnostic> _value = entry.getValue();
+      List<Diagnostic> _put = this.publishedDiagnostics.put(_key, _value);
+      List<Diagnostic> _value_1 = entry.getValue();
+      boolean _equals = Objects.equal(_put, _value_1);
+      if (_equals) {
+        Counter _counter = Metrics.counter("lsp.diagnostics", "suppressed");
+        _counter.increment();
+      } else {
+        PublishDiagnosticsParams _publishDiagnosticsParams = new PublishDiagnosticsParams();
+        final Procedure1<PublishDiagnosticsParams> _function = (PublishDiagnosticsParams it) -> {
+          String _key_1 = entry.getKey();
+          it.setUri(_key_1);
+          List<Diagnostic> _value_2 = entry.getValue();
+          it.setDiagnostics(_value_2);
+        };
+        PublishDiagnosticsParams _doubleArrow = ObjectExtensions.<PublishDiagnosticsParams>operator_doubleArrow(_publishDiagnosticsParams, _function);
+        this.client.publishDiagnostics(_doubleArrow);
+        Counter _counter_1 = Metrics.counter("lsp.diagnostics", "sent");
+        _counter_1.increment();
+      }
+    }
   }
   
   private Diagnostic toDiagnostic(final Issue issue) {
@@ -440,7 +545,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       final CompletionList result = this.workspaceManager.<CompletionList>doRead(uri, _function_1);
       return result;
     };
-    return this.requestManager.<CompletionList>runRead(_function);
+    return this.requestManager.<CompletionList>runRead("textDocument/completion", _function);
   }
   
   @Override
@@ -466,7 +571,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       final List<? extends Location> definitions = this.workspaceManager.<List<? extends Location>>doRead(uri, _function_1);
       return definitions;
     };
-    return this.requestManager.<List<? extends Location>>runRead(_function);
+    return this.requestManager.<List<? extends Location>>runRead("textDocument/definition", _function);
   }
   
   @Override
@@ -496,14 +601,14 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
           _xifexpression = CollectionLiterals.emptyList();
         }
         final List<? extends Location> definitions = _xifexpression;
-        final IResourceDescriptions indexData = this.workspaceManager.getIndex();
+        final ChunkedResourceDescriptions indexData = this.workspaceManager.getIndex();
         final List<? extends Location> references = documentSymbolService.getReferences(resource, offset, this.resourceAccess, indexData, cancelIndicator);
         final Iterable<Location> result = Iterables.<Location>concat(definitions, references);
         return IterableExtensions.<Location>toList(result);
       };
       return this.workspaceManager.<List<Location>>doRead(uri, _function_1);
     };
-    return this.requestManager.<List<? extends Location>>runRead(_function);
+    return this.requestManager.<List<? extends Location>>runRead("textDocument/references", _function);
   }
   
   @Override
@@ -526,17 +631,18 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<List<? extends SymbolInformation>>doRead(uri, _function_1);
     };
-    return this.requestManager.<List<? extends SymbolInformation>>runRead(_function);
+    return this.requestManager.<List<? extends SymbolInformation>>runRead("textDocument/documentSymbol", _function);
   }
   
   @Override
   public CompletableFuture<List<? extends SymbolInformation>> symbol(final WorkspaceSymbolParams params) {
     final Function1<CancelIndicator, List<? extends SymbolInformation>> _function = (CancelIndicator cancelIndicator) -> {
-      final IResourceDescriptions indexData = this.workspaceManager.getIndex();
+      final ChunkedResourceDescriptions indexData = this.workspaceManager.getIndex();
+      final SnapshotResourceAccess snapshotAccess = new SnapshotResourceAccess(this.workspaceManager, indexData);
       String _query = params.getQuery();
-      return this.workspaceSymbolService.getSymbols(_query, this.resourceAccess, indexData, cancelIndicator);
+      return this.workspaceSymbolService.getSymbols(_query, snapshotAccess, indexData, cancelIndicator);
     };
-    return this.requestManager.<List<? extends SymbolInformation>>runRead(_function);
+    return this.requestManager.<List<? extends SymbolInformation>>runSnapshotRead("workspace/symbol", _function);
   }
   
   @Override
@@ -562,7 +668,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<Hover>doRead(uri, _function_1);
     };
-    return this.requestManager.<Hover>runRead(_function);
+    return this.requestManager.<Hover>runRead("textDocument/hover", _function);
   }
   
   @Override
@@ -592,7 +698,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<SignatureHelp>doRead(uri, _function_1);
     };
-    return this.requestManager.<SignatureHelp>runRead(_function);
+    return this.requestManager.<SignatureHelp>runRead("textDocument/signatureHelp", _function);
   }
   
   @Override
@@ -617,7 +723,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<List<? extends DocumentHighlight>>doRead(uri, _function_1);
     };
-    return this.requestManager.<List<? extends DocumentHighlight>>runRead(_function);
+    return this.requestManager.<List<? extends DocumentHighlight>>runRead("textDocument/documentHighlight", _function);
   }
   
   @Override
@@ -661,7 +767,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<List<? extends TextEdit>>doRead(uri, _function_1);
     };
-    return this.requestManager.<List<? extends TextEdit>>runRead(_function);
+    return this.requestManager.<List<? extends TextEdit>>runRead("textDocument/formatting", _function);
   }
   
   @Override
@@ -691,7 +797,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       };
       return this.workspaceManager.<List<? extends TextEdit>>doRead(uri, _function_1);
     };
-    return this.requestManager.<List<? extends TextEdit>>runRead(_function);
+    return this.requestManager.<List<? extends TextEdit>>runRead("textDocument/rangeFormatting", _function);
   }
   
   @Override
@@ -766,53 +872,38 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
       Map<String, Object> _extensionToFactoryMap = this.languagesRegistry.getExtensionToFactoryMap();
       Collection<Object> _values = _extensionToFactoryMap.values();
       Set<Object> _set = IterableExtensions.<Object>toSet(_values);
-      Iterable<IResourceServiceProvider> _filter = Iterables.<IResourceServiceProvider>filter(_set, IResourceServiceProvider.class);
-      for (final IResourceServiceProvider resourceServiceProvider : _filter) {
-        {
-          final ILanguageServerExtension ext = resourceServiceProvider.<ILanguageServerExtension>get(ILanguageServerExtension.class);
-          if ((ext != null)) {
-            ext.initialize(this.access);
-            Map<String, JsonRpcMethod> _xifexpression = null;
-            if ((ext instanceof JsonRpcMethodProvider)) {
-              _xifexpression = ((JsonRpcMethodProvider)ext).supportedMethods();
-            } else {
-              Class<? extends ILanguageServerExtension> _class_1 = ext.getClass();
-              _xifexpression = ServiceEndpoints.getSupportedMethods(_class_1);
-            }
-            final Map<String, JsonRpcMethod> supportedExtensions = _xifexpression;
-            Set<Map.Entry<String, JsonRpcMethod>> _entrySet = supportedExtensions.entrySet();
-            for (final Map.Entry<String, JsonRpcMethod> entry : _entrySet) {
-              String _key = entry.getKey();
-              boolean _containsKey = supportedMethods.containsKey(_key);
-              if (_containsKey) {
-                String _key_1 = entry.getKey();
-                String _plus = ("The json rpc method \'" + _key_1);
-                String _plus_1 = (_plus + "\' can not be an extension as it is already defined in the LSP standard.");
-                LanguageServerImpl.LOG.error(_plus_1);
+      for (final Object registered : _set) {
+        if ((((registered instanceof ResourceServiceProviderServiceLoader.LazyResourceServiceProvider) && (!((ResourceServiceProviderServiceLoader.LazyResourceServiceProvider) registered).isInitialized())) && 
+          (((ResourceServiceProviderServiceLoader.LazyResourceServiceProvider) registered).getSetup() instanceof ILanguageServerSetupExtension))) {
+          final ResourceServiceProviderServiceLoader.LazyResourceServiceProvider lazyProvider = ((ResourceServiceProviderServiceLoader.LazyResourceServiceProvider) registered);
+          ISetup _setup = lazyProvider.getSetup();
+          final ILanguageServerSetupExtension setup = ((ILanguageServerSetupExtension) _setup);
+          Class<? extends ILanguageServerExtension> _languageServerExtensionType = setup.getLanguageServerExtensionType();
+          final Map<String, JsonRpcMethod> supportedExtensions = ServiceEndpoints.getSupportedMethods(_languageServerExtensionType);
+          final LanguageServerImpl.LazyExtensionEndpoint endpoint = new LanguageServerImpl.LazyExtensionEndpoint(lazyProvider, this.access);
+          this.registerExtension(supportedExtensions, endpoint, supportedMethods, extensions);
+        } else {
+          Object _xifexpression = null;
+          if ((registered instanceof Provider<?>)) {
+            _xifexpression = ((Provider<?>)registered).get();
+          } else {
+            _xifexpression = registered;
+          }
+          final Object resourceServiceProvider = _xifexpression;
+          if ((resourceServiceProvider instanceof IResourceServiceProvider)) {
+            final ILanguageServerExtension ext = ((IResourceServiceProvider)resourceServiceProvider).<ILanguageServerExtension>get(ILanguageServerExtension.class);
+            if ((ext != null)) {
+              ext.initialize(this.access);
+              Map<String, JsonRpcMethod> _xifexpression_1 = null;
+              if ((ext instanceof JsonRpcMethodProvider)) {
+                _xifexpression_1 = ((JsonRpcMethodProvider)ext).supportedMethods();
               } else {
-                String _key_2 = entry.getKey();
-                JsonRpcMethod _value = entry.getValue();
-                final JsonRpcMethod existing = extensions.put(_key_2, _value);
-                if (((existing != null) && (!Objects.equal(existing, entry.getValue())))) {
-                  String _key_3 = entry.getKey();
-                  String _plus_2 = ("An incompatible LSP extension \'" + _key_3);
-                  String _plus_3 = (_plus_2 + "\' has already been registered. Using 1 ignoring 2. \n1 : ");
-                  String _plus_4 = (_plus_3 + existing);
-                  String _plus_5 = (_plus_4 + " \n2 : ");
-                  JsonRpcMethod _value_1 = entry.getValue();
-                  String _plus_6 = (_plus_5 + _value_1);
-                  LanguageServerImpl.LOG.error(_plus_6);
-                  String _key_4 = entry.getKey();
-                  extensions.put(_key_4, existing);
-                } else {
-                  final Endpoint endpoint = ServiceEndpoints.toEndpoint(ext);
-                  String _key_5 = entry.getKey();
-                  this.extensionProviders.put(_key_5, endpoint);
-                  String _key_6 = entry.getKey();
-                  JsonRpcMethod _value_2 = entry.getValue();
-                  supportedMethods.put(_key_6, _value_2);
-                }
+                Class<? extends ILanguageServerExtension> _class_1 = ext.getClass();
+                _xifexpression_1 = ServiceEndpoints.getSupportedMethods(_class_1);
               }
+              final Map<String, JsonRpcMethod> supportedExtensions_1 = _xifexpression_1;
+              Endpoint _endpoint = ServiceEndpoints.toEndpoint(ext);
+              this.registerExtension(supportedExtensions_1, _endpoint, supportedMethods, extensions);
             }
           }
         }
@@ -822,6 +913,42 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
     }
   }
   
+  private void registerExtension(final Map<String, JsonRpcMethod> supportedExtensions, final Endpoint endpoint, final Map<String, JsonRpcMethod> supportedMethods, final Map<String, JsonRpcMethod> extensions) {
+    Set<Map.Entry<String, JsonRpcMethod>> _entrySet = supportedExtensions.entrySet();
+    for (final Map.Entry<String, JsonRpcMethod> entry : _entrySet) {
+      String _key = entry.getKey();
+      boolean _containsKey = supportedMethods.containsKey(_key);
+      if (_containsKey) {
+        String _key_1 = entry.getKey();
+        String _plus = ("The json rpc method \'" + _key_1);
+        String _plus_1 = (_plus + "\' can not be an extension as it is already defined in the LSP standard.");
+        LanguageServerImpl.LOG.error(_plus_1);
+      } else {
+        String _key_2 = entry.getKey();
+        JsonRpcMethod _value = entry.getValue();
+        final JsonRpcMethod existing = extensions.put(_key_2, _value);
+        if (((existing != null) && (!Objects.equal(existing, entry.getValue())))) {
+          String _key_3 = entry.getKey();
+          String _plus_2 = ("An incompatible LSP extension \'" + _key_3);
+          String _plus_3 = (_plus_2 + "\' has already been registered. Using 1 ignoring 2. \n1 : ");
+          String _plus_4 = (_plus_3 + existing);
+          String _plus_5 = (_plus_4 + " \n2 : ");
+          JsonRpcMethod _value_1 = entry.getValue();
+          String _plus_6 = (_plus_5 + _value_1);
+          LanguageServerImpl.LOG.error(_plus_6);
+          String _key_4 = entry.getKey();
+          extensions.put(_key_4, existing);
+        } else {
+          String _key_5 = entry.getKey();
+          this.extensionProviders.put(_key_5, endpoint);
+          String _key_6 = entry.getKey();
+          JsonRpcMethod _value_2 = entry.getValue();
+          supportedMethods.put(_key_6, _value_2);
+        }
+      }
+    }
+  }
+  
   private ILanguageServerAccess access = new ILanguageServerAccess() {
     @Override
     public <T extends Object> CompletableFuture<T> doRead(final String uri, final Function<ILanguageServerAccess.Context, T> function) {
@@ -851,6 +978,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
   
   @Override
   public void afterBuild(final List<IResourceDescription.Delta> deltas) {
+    this.flushDiagnostics();
     if ((this.client instanceof LanguageClientExtensions)) {
       final Function1<IResourceDescription.Delta, Boolean> _function = (IResourceDescription.Delta it) -> {
         IResourceDescription _new = it.getNew();
@@ -885,8 +1013,12 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
                 if (_not) {
                   URI _uRI_1 = resource.getURI();
                   final String uri = _uRI_1.toString();
-                  ColoringParams _coloringParams = new ColoringParams(uri, coloringInfos);
-                  ((LanguageClientExtensions)this.client).updateColoring(_coloringParams);
+                  List<? extends ColoringInformation> _put = this.sentColorings.put(uri, coloringInfos);
+                  boolean _notEquals = (!Objects.equal(_put, coloringInfos));
+                  if (_notEquals) {
+                    ColoringParams _coloringParams = new ColoringParams(uri, coloringInfos);
+                    ((LanguageClientExtensions)this.client).updateColoring(_coloringParams);
+                  }
                 }
               }
             }
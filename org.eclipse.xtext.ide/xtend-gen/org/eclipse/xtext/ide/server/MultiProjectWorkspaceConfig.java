@@ -14,16 +14,33 @@ import java.util.Set;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor;
 import org.eclipse.xtext.workspace.IProjectConfig;
-import org.eclipse.xtext.workspace.ISourceFolder;
 import org.eclipse.xtext.workspace.IWorkspaceConfig;
-import org.eclipse.xtext.xbase.lib.Functions.Function1;
-import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.workspace.SourceFolderTrie;
 
 @FinalFieldsConstructor
 @SuppressWarnings("all")
 public class MultiProjectWorkspaceConfig implements IWorkspaceConfig {
   private final Map<String, IProjectConfig> name2config;
   
+  private SourceFolderTrie sourceFolderTrie;
+  
+  /**
+   * Adds the given project, or replaces the project with the same name.
+   */
+  public synchronized void addProject(final IProjectConfig project) {
+    String _name = project.getName();
+    this.name2config.put(_name, project);
+    this.sourceFolderTrie = null;
+  }
+  
+  /**
+   * Discards the index used by {@link #findProjectContaining(URI)}. Has to be called if the map of projects
+   * is modified without {@link #addProject(IProjectConfig)}, or if the source folders of a project change.
+   */
+  public synchronized void invalidateSourceFolderTrie() {
+    this.sourceFolderTrie = null;
+  }
+  
   @Override
   public Set<? extends IProjectConfig> getProjects() {
     Collection<IProjectConfig> _values = this.name2config.values();
@@ -37,17 +54,17 @@ public class MultiProjectWorkspaceConfig implements IWorkspaceConfig {
   
   @Override
   public IProjectConfig findProjectContaining(final URI member) {
-    Collection<IProjectConfig> _values = this.name2config.values();
-    final Function1<IProjectConfig, Boolean> _function = (IProjectConfig it) -> {
-      ISourceFolder _findSourceFolderContaining = it.findSourceFolderContaining(member);
-      return Boolean.valueOf((_findSourceFolderContaining != null));
-    };
-    Iterable<IProjectConfig> _filter = IterableExtensions.<IProjectConfig>filter(_values, _function);
-    final Function1<IProjectConfig, Integer> _function_1 = (IProjectConfig it) -> {
-      URI _path = it.getPath();
-      return Integer.valueOf(_path.segmentCount());
-    };
-    return IterableExtensions.<IProjectConfig, Integer>maxBy(_filter, _function_1);
+    SourceFolderTrie _sourceFolderTrie = this.getSourceFolderTrie();
+    return _sourceFolderTrie.findProjectContaining(member);
+  }
+  
+  protected synchronized SourceFolderTrie getSourceFolderTrie() {
+    if ((this.sourceFolderTrie == null)) {
+      Collection<IProjectConfig> _values = this.name2config.values();
+      SourceFolderTrie _sourceFolderTrie = new SourceFolderTrie(_values);
+      this.sourceFolderTrie = _sourceFolderTrie;
+    }
+    return this.sourceFolderTrie;
   }
   
   public MultiProjectWorkspaceConfig(final Map<String, IProjectConfig> name2config) {
@@ -37,8 +37,7 @@ public class MultiProjectWorkspaceConfigFactory implements IWorkspaceConfigFacto
       final HashMap<String, IProjectConfig> name2config = CollectionLiterals.<String, IProjectConfig>newHashMap();
       final MultiProjectWorkspaceConfig result = new MultiProjectWorkspaceConfig(name2config);
       final IAcceptor<IProjectConfig> _function = (IProjectConfig it) -> {
-        String _name = it.getName();
-        name2config.put(_name, it);
+        result.addProject(it);
       };
       final IAcceptor<IProjectConfig> acceptor = _function;
       File[] _listFiles = baseFile.listFiles();
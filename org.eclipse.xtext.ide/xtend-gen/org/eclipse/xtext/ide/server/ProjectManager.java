@@ -7,14 +7,22 @@
  */
 package org.eclipse.xtext.ide.server;
 
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtend.lib.annotations.AccessorType;
@@ -27,6 +35,7 @@ import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.resource.IExternalContentSupport;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
 import org.eclipse.xtext.resource.impl.ProjectDescription;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
@@ -38,7 +47,9 @@ import org.eclipse.xtext.workspace.IProjectConfig;
 import org.eclipse.xtext.workspace.ISourceFolder;
 import org.eclipse.xtext.workspace.ProjectConfigAdapter;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.ObjectExtensions;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
@@ -50,6 +61,11 @@ import org.eclipse.xtext.xbase.lib.Pure;
  */
 @SuppressWarnings("all")
 public class ProjectManager {
+  /**
+   * The number of resources that are kept in the resource set between two builds, not counting open documents.
+   */
+  public final static String MAX_CACHED_RESOURCES = "org.eclipse.xtext.ide.server.ProjectManager.maxCachedResources";
+  
   @Inject
   protected IncrementalBuilder incrementalBuilder;
   
@@ -65,6 +81,17 @@ public class ProjectManager {
   @Inject
   protected IExternalContentSupport externalContentSupport;
   
+  @Inject
+  protected IResourceClusteringPolicy clusteringPolicy;
+  
+  @Inject(optional = true)
+  @Named(ProjectManager.MAX_CACHED_RESOURCES)
+  protected int maxCachedResources = 1000;
+  
+  private final Map<URI, Boolean> recentlyUsed = new LinkedHashMap<URI, Boolean>(16, 0.75f, true);
+  
+  private final ReentrantReadWriteLock resourceSetLock = new ReentrantReadWriteLock();
+  
   @Accessors(AccessorType.PUBLIC_GETTER)
   private IndexState indexState = new IndexState();
   
@@ -115,6 +142,8 @@ public class ProjectManager {
     };
     final IncrementalBuilder.Result result = this.incrementalBuilder.build(request, _function);
     this.indexState = result.getIndexState();
+    XtextResourceSet _resourceSet = request.getResourceSet();
+    this.evictResources(_resourceSet);
     this.resourceSet = request.getResourceSet();
     Map<String, ResourceDescriptionsData> _get = this.indexProvider.get();
     String _name = this.projectDescription.getName();
@@ -160,8 +189,135 @@ public class ProjectManager {
     return ObjectExtensions.<XtextResourceSet>operator_doubleArrow(_get, _function);
   }
   
+  /**
+   * Creates a resource set for a request that runs concurrently with builds, see
+   * {@link org.eclipse.xtext.ide.server.concurrent.RequestManager#runSnapshotRead(String, Function1) runSnapshotRead}.
+   * It is owned by the caller and resolves against the given index snapshot instead of the index of the running build.
+   */
+  public XtextResourceSet createSnapshotResourceSet(final ChunkedResourceDescriptions index) {
+    XtextResourceSet _get = this.resourceSetProvider.get();
+    final Procedure1<XtextResourceSet> _function = (XtextResourceSet it) -> {
+      this.projectDescription.attachToEmfObject(it);
+      ProjectConfigAdapter.install(it, this.projectConfig);
+      index.createShallowCopyWith(it);
+      this.externalContentSupport.configureResourceSet(it, this.openedDocumentsContentProvider);
+    };
+    return ObjectExtensions.<XtextResourceSet>operator_doubleArrow(_get, _function);
+  }
+  
   public Resource getResource(final URI uri) {
-    return this.resourceSet.getResource(uri, true);
+    final Resource resource = this.resourceSet.getResource(uri, true);
+    synchronized (this.recentlyUsed) {
+      this.recentlyUsed.put(uri, Boolean.TRUE);
+    }
+    return resource;
+  }
+  
+  /**
+   * Runs the given work, which may use resources of this project's resource set. No resources are evicted while
+   * work is running. Afterwards the least recently used resources are evicted if there are more than
+   * {@link #MAX_CACHED_RESOURCES} of them and no other work is running, so the resource set doesn't grow between
+   * builds.
+   */
+  public <T extends Object> T doRead(final Function0<? extends T> work) {
+    ReentrantReadWriteLock.ReadLock _readLock = this.resourceSetLock.readLock();
+    _readLock.lock();
+    try {
+      return work.apply();
+    } finally {
+      ReentrantReadWriteLock.ReadLock _readLock_1 = this.resourceSetLock.readLock();
+      _readLock_1.unlock();
+      this.evictResourcesIfIdle();
+    }
+  }
+  
+  protected void evictResourcesIfIdle() {
+    final XtextResourceSet resourceSet = this.resourceSet;
+    if (((resourceSet == null) || (resourceSet.getResources().size() <= this.maxCachedResources))) {
+      return;
+    }
+    ReentrantReadWriteLock.WriteLock _writeLock = this.resourceSetLock.writeLock();
+    boolean _tryLock = _writeLock.tryLock();
+    if (_tryLock) {
+      try {
+        this.evictResources(resourceSet);
+      } finally {
+        ReentrantReadWriteLock.WriteLock _writeLock_1 = this.resourceSetLock.writeLock();
+        _writeLock_1.unlock();
+      }
+    }
+  }
+  
+  /**
+   * Unloads the least recently used resources that are not open in an editor if there are more than
+   * {@link #MAX_CACHED_RESOURCES} of them, or half of them if the {@link IResourceClusteringPolicy} reports that
+   * memory is low. Resources that have been loaded indirectly, e.g. during linking, are unloaded first. Unloaded
+   * resources are loaded again on demand, from their binary storage if available.
+   * 
+   * This is called at the end of a build, before the given resource set is handed out to read requests, and
+   * between builds when no {@link #doRead(Function0) read} is running, so it never unloads a resource that is still
+   * in use.
+   */
+  protected void evictResources(final XtextResourceSet resourceSet) {
+    final LinkedHashMap<URI, Resource> uri2resource = CollectionLiterals.<URI, Resource>newLinkedHashMap();
+    EList<Resource> _resources = resourceSet.getResources();
+    for (final Resource resource : _resources) {
+      URI _uRI = resource.getURI();
+      uri2resource.put(_uRI, resource);
+    }
+    final ArrayList<Resource> candidates = CollectionLiterals.<Resource>newArrayList();
+    synchronized (this.recentlyUsed) {
+      Set<URI> _keySet = this.recentlyUsed.keySet();
+      Set<URI> _keySet_1 = uri2resource.keySet();
+      _keySet.retainAll(_keySet_1);
+      Collection<Resource> _values = uri2resource.values();
+      final Function1<Resource, Boolean> _function = (Resource it) -> {
+        URI _uRI_1 = it.getURI();
+        boolean _containsKey = this.recentlyUsed.containsKey(_uRI_1);
+        return Boolean.valueOf((!_containsKey));
+      };
+      Iterable<Resource> _filter = IterableExtensions.<Resource>filter(_values, _function);
+      Iterables.<Resource>addAll(candidates, _filter);
+      Set<URI> _keySet_2 = this.recentlyUsed.keySet();
+      final Function1<URI, Resource> _function_1 = (URI it) -> {
+        return uri2resource.get(it);
+      };
+      Iterable<Resource> _map = IterableExtensions.<URI, Resource>map(_keySet_2, _function_1);
+      Iterables.<Resource>addAll(candidates, _map);
+    }
+    final Predicate<Resource> _function_2 = (Resource it) -> {
+      return this.openedDocumentsContentProvider.hasContent(it.getURI());
+    };
+    candidates.removeIf(_function_2);
+    int _xifexpression = (int) 0;
+    int _size = candidates.size();
+    boolean _continueProcessing = this.clusteringPolicy.continueProcessing(resourceSet, null, _size);
+    if (_continueProcessing) {
+      _xifexpression = this.maxCachedResources;
+    } else {
+      int _size_1 = candidates.size();
+      _xifexpression = (_size_1 / 2);
+    }
+    final int limit = _xifexpression;
+    int _size_2 = candidates.size();
+    int _minus = (_size_2 - limit);
+    int _max = Math.max(0, _minus);
+    List<Resource> _subList = candidates.subList(0, _max);
+    final HashSet<Resource> evicted = new HashSet<Resource>(_subList);
+    synchronized (this.recentlyUsed) {
+      Set<URI> _keySet_3 = this.recentlyUsed.keySet();
+      final Function1<Resource, URI> _function_3 = (Resource it) -> {
+        return it.getURI();
+      };
+      Iterable<URI> _map_1 = IterableExtensions.<Resource, URI>map(evicted, _function_3);
+      Set<URI> _set = IterableExtensions.<URI>toSet(_map_1);
+      _keySet_3.removeAll(_set);
+    }
+    for (final Resource resource_1 : evicted) {
+      resource_1.unload();
+    }
+    EList<Resource> _resources_1 = resourceSet.getResources();
+    _resources_1.removeAll(evicted);
   }
   
   public void reportProjectIssue(final String message, final String code, final Severity severity) {
@@ -7,6 +7,7 @@
  */
 package org.eclipse.xtext.ide.server;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
@@ -32,7 +34,6 @@ import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.IExternalContentSupport;
 import org.eclipse.xtext.resource.IResourceDescription;
-import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
@@ -44,6 +45,7 @@ import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.workspace.IProjectConfig;
 import org.eclipse.xtext.workspace.IWorkspaceConfig;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
 import org.eclipse.xtext.xbase.lib.Functions.Function2;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
@@ -65,7 +67,7 @@ public class WorkspaceManager {
   
   private BuildManager buildManager;
   
-  private Map<String, ProjectManager> projectName2ProjectManager = CollectionLiterals.<String, ProjectManager>newHashMap();
+  private Map<String, ProjectManager> projectName2ProjectManager = new ConcurrentHashMap<String, ProjectManager>();
   
   private URI baseDir;
   
@@ -81,7 +83,13 @@ public class WorkspaceManager {
   
   private Map<String, ResourceDescriptionsData> fullIndex = CollectionLiterals.<String, ResourceDescriptionsData>newHashMap();
   
-  private Map<URI, Document> openDocuments = CollectionLiterals.<URI, Document>newHashMap();
+  /**
+   * An immutable copy of the full index that is published after each build. The chunks of a published
+   * index are never modified since every build works on a copy of the previous project index.
+   */
+  private volatile ChunkedResourceDescriptions indexSnapshot = new ChunkedResourceDescriptions();
+  
+  private Map<URI, Document> openDocuments = new ConcurrentHashMap<URI, Document>();
   
   private final IExternalContentSupport.IExternalContentProvider openedDocumentsContentProvider = new IExternalContentSupport.IExternalContentProvider() {
     @Override
@@ -149,7 +157,13 @@ public class WorkspaceManager {
         this.fullIndex.remove(deletedProject);
       }
     }
-    final List<IResourceDescription.Delta> result = this.buildManager.doInitialBuild(newProjects, cancelIndicator);
+    List<IResourceDescription.Delta> _xtrycatchfinallyexpression = null;
+    try {
+      _xtrycatchfinallyexpression = this.buildManager.doInitialBuild(newProjects, cancelIndicator);
+    } finally {
+      this.publishIndexSnapshot();
+    }
+    final List<IResourceDescription.Delta> result = _xtrycatchfinallyexpression;
     this.afterBuild(result);
   }
   
@@ -160,13 +174,28 @@ public class WorkspaceManager {
   }
   
   public List<IResourceDescription.Delta> doBuild(final List<URI> dirtyFiles, final List<URI> deletedFiles, final CancelIndicator cancelIndicator) {
-    final List<IResourceDescription.Delta> doBuild = this.buildManager.doBuild(dirtyFiles, deletedFiles, cancelIndicator);
+    List<IResourceDescription.Delta> _xtrycatchfinallyexpression = null;
+    try {
+      _xtrycatchfinallyexpression = this.buildManager.doBuild(dirtyFiles, deletedFiles, cancelIndicator);
+    } finally {
+      this.publishIndexSnapshot();
+    }
+    final List<IResourceDescription.Delta> doBuild = _xtrycatchfinallyexpression;
     this.afterBuild(doBuild);
     return doBuild;
   }
   
-  public IResourceDescriptions getIndex() {
-    return new ChunkedResourceDescriptions(this.fullIndex);
+  /**
+   * @return the index as it was published after the last build. It is safe to use while another build is running.
+   */
+  public ChunkedResourceDescriptions getIndex() {
+    return this.indexSnapshot;
+  }
+  
+  protected void publishIndexSnapshot() {
+    ImmutableMap<String, ResourceDescriptionsData> _copyOf = ImmutableMap.<String, ResourceDescriptionsData>copyOf(this.fullIndex);
+    ChunkedResourceDescriptions _chunkedResourceDescriptions = new ChunkedResourceDescriptions(_copyOf);
+    this.indexSnapshot = _chunkedResourceDescriptions;
   }
   
   public URI getProjectBaseDir(final URI candidate) {
@@ -246,11 +275,13 @@ public class WorkspaceManager {
   public <T extends Object> T doRead(final URI uri, final Function2<? super Document, ? super XtextResource, ? extends T> work) {
     final URI resourceURI = uri.trimFragment();
     final ProjectManager projectMnr = this.getProjectManager(resourceURI);
-    Resource _resource = projectMnr.getResource(resourceURI);
-    final XtextResource resource = ((XtextResource) _resource);
-    Document doc = this.getDocument(resource);
-    Resource _resource_1 = projectMnr.getResource(resourceURI);
-    return work.apply(doc, ((XtextResource) _resource_1));
+    final Function0<T> _function = () -> {
+      Resource _resource = projectMnr.getResource(resourceURI);
+      final XtextResource resource = ((XtextResource) _resource);
+      final Document doc = this.getDocument(resource);
+      return work.apply(doc, resource);
+    };
+    return projectMnr.<T>doRead(_function);
   }
   
   protected Document getDocument(final XtextResource resource) {
@@ -22,6 +22,8 @@ import org.eclipse.xtext.ide.server.concurrent.Cancellable;
 import org.eclipse.xtext.ide.server.concurrent.RequestCancelIndicator;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 
@@ -62,12 +64,21 @@ public class RequestManager {
    * </p>
    */
   public <V extends Object> CompletableFuture<V> runWrite(final Function1<? super CancelIndicator, ? extends V> writeRequest) {
+    return this.<V>runWrite("write", writeRequest);
+  }
+  
+  /**
+   * Like {@link #runWrite(Function1)}, but measures the request under the given method name,
+   * e.g. <code>textDocument/didChange</code>.
+   */
+  public <V extends Object> CompletableFuture<V> runWrite(final String method, final Function1<? super CancelIndicator, ? extends V> writeRequest) {
     try {
       this.semaphore.acquire(this.MAX_PERMITS);
       final Function<CancelChecker, V> _function = (CancelChecker it) -> {
         try {
           final RequestCancelIndicator cancelIndicator = new RequestCancelIndicator(it);
           this.cancelIndicators.add(cancelIndicator);
+          final Timer.Context timer = Metrics.timer("lsp.request", method).start();
           try {
             final CancelIndicator _function_1 = () -> {
               cancelIndicator.checkCanceled();
@@ -88,6 +99,7 @@ public class RequestManager {
             }
           } finally {
             this.cancelIndicators.remove(cancelIndicator);
+            timer.stop();
             this.semaphore.release(this.MAX_PERMITS);
           }
         } catch (Throwable _e) {
@@ -112,11 +124,20 @@ public class RequestManager {
    * </p>
    */
   public <V extends Object> CompletableFuture<V> runRead(final Function1<? super CancelIndicator, ? extends V> readRequest) {
+    return this.<V>runRead("read", readRequest);
+  }
+  
+  /**
+   * Like {@link #runRead(Function1)}, but measures the request under the given method name,
+   * e.g. <code>textDocument/hover</code>.
+   */
+  public <V extends Object> CompletableFuture<V> runRead(final String method, final Function1<? super CancelIndicator, ? extends V> readRequest) {
     final Function<CancelChecker, V> _function = (CancelChecker it) -> {
       try {
         final RequestCancelIndicator cancelIndicator = new RequestCancelIndicator(it);
         this.cancelIndicators.add(cancelIndicator);
         this.semaphore.acquire(1);
+        final Timer.Context timer = Metrics.timer("lsp.request", method).start();
         cancelIndicator.checkCanceled();
         try {
           final CancelIndicator _function_1 = () -> {
@@ -138,6 +159,7 @@ public class RequestManager {
           }
         } finally {
           this.cancelIndicators.remove(cancelIndicator);
+          timer.stop();
           this.semaphore.release(1);
         }
       } catch (Throwable _e) {
@@ -147,6 +169,61 @@ public class RequestManager {
     return CompletableFutures.<V>computeAsync(this.executorService, _function);
   }
   
+  /**
+   * <p>
+   * The given <i>snapshot read request</i> will be run concurrent with <i>running read and write requests</i>.
+   * </p>
+   * <p>
+   * It must only access state that is published atomically by write requests, such as the
+   * {@link org.eclipse.xtext.ide.server.WorkspaceManager#getIndex() index snapshot}. It must neither
+   * depend on the contents of open documents nor load resources through the workspace manager,
+   * because the resource sets of the projects are not thread-safe. Resources can be loaded through a
+   * {@link org.eclipse.xtext.ide.server.findReferences.SnapshotResourceAccess SnapshotResourceAccess} instead.
+   * </p>
+   */
+  public <V extends Object> CompletableFuture<V> runSnapshotRead(final Function1<? super CancelIndicator, ? extends V> readRequest) {
+    return this.<V>runSnapshotRead("snapshotRead", readRequest);
+  }
+  
+  /**
+   * Like {@link #runSnapshotRead(Function1)}, but measures the request under the given method name,
+   * e.g. <code>workspace/symbol</code>.
+   */
+  public <V extends Object> CompletableFuture<V> runSnapshotRead(final String method, final Function1<? super CancelIndicator, ? extends V> readRequest) {
+    final Function<CancelChecker, V> _function = (CancelChecker it) -> {
+      try {
+        final RequestCancelIndicator cancelIndicator = new RequestCancelIndicator(it);
+        this.cancelIndicators.add(cancelIndicator);
+        final Timer.Context timer = Metrics.timer("lsp.request", method).start();
+        try {
+          final CancelIndicator _function_1 = () -> {
+            cancelIndicator.checkCanceled();
+            return false;
+          };
+          return readRequest.apply(_function_1);
+        } catch (final Throwable _t) {
+          if (_t instanceof Throwable) {
+            final Throwable t = (Throwable)_t;
+            boolean _isCancelException = this.isCancelException(t);
+            if (_isCancelException) {
+              RequestManager.LOGGER.info("request cancelled.");
+              throw new CancellationException();
+            }
+            throw t;
+          } else {
+            throw Exceptions.sneakyThrow(_t);
+          }
+        } finally {
+          this.cancelIndicators.remove(cancelIndicator);
+          timer.stop();
+        }
+      } catch (Throwable _e) {
+        throw Exceptions.sneakyThrow(_e);
+      }
+    };
+    return CompletableFutures.<V>computeAsync(this.executorService, _function);
+  }
+  
   protected boolean isCancelException(final Throwable t) {
     if ((t == null)) {
       return false;
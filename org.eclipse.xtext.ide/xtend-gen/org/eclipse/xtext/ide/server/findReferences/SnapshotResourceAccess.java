@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.xtext.ide.server.findReferences;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor;
+import org.eclipse.xtext.findReferences.IReferenceFinder;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.util.concurrent.IUnitOfWork;
+import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+
+/**
+ * Resource access for a single snapshot read request. Resources are loaded into resource sets that belong to the
+ * request and resolve against the given index snapshot, so they can be read while a build is running.
+ * 
+ * @see org.eclipse.xtext.ide.server.concurrent.RequestManager#runSnapshotRead(String, org.eclipse.xtext.xbase.lib.Functions.Function1)
+ * @since 2.11
+ */
+@FinalFieldsConstructor
+@SuppressWarnings("all")
+public class SnapshotResourceAccess implements IReferenceFinder.IResourceAccess {
+  private final WorkspaceManager workspaceManager;
+  
+  private final ChunkedResourceDescriptions index;
+  
+  private final Map<String, ResourceSet> projectName2ResourceSet = CollectionLiterals.<String, ResourceSet>newHashMap();
+  
+  @Override
+  public <R extends Object> R readOnly(final URI targetURI, final IUnitOfWork<R, ResourceSet> work) {
+    try {
+      URI _trimFragment = targetURI.trimFragment();
+      final ProjectManager projectManager = this.workspaceManager.getProjectManager(_trimFragment);
+      String _name = projectManager.getProjectDescription().getName();
+      final Function<String, ResourceSet> _function = (String it) -> {
+        return projectManager.createSnapshotResourceSet(this.index);
+      };
+      final ResourceSet resourceSet = this.projectName2ResourceSet.computeIfAbsent(_name, _function);
+      return work.exec(resourceSet);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  public SnapshotResourceAccess(final WorkspaceManager workspaceManager, final ChunkedResourceDescriptions index) {
+    super();
+    this.workspaceManager = workspaceManager;
+    this.index = index;
+  }
+}
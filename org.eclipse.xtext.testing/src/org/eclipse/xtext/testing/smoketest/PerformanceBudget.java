@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.testing.smoketest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Optional annotation for a smoke test suite that turns it into a performance regression test, too. The time and the
+ * allocated memory of each phase that is {@link ScenarioProcessor#measure(String, java.util.concurrent.Callable)
+ * measured} by the processor are summed up per test and scenario and compared to a stored baseline.
+ * 
+ * The baseline is written after the suite was run if the file does not exist yet or if the system property
+ * {@code xtext.smoketest.updateBaseline} is set to {@code true}.
+ * 
+ * @since 2.11
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+@Beta
+public @interface PerformanceBudget {
+
+	/**
+	 * The path of the baseline file, relative to the working directory.
+	 */
+	String baseline();
+
+	/**
+	 * The allowed relative increase of time and allocated memory compared to the baseline, e.g. {@code 0.5} for 50%.
+	 */
+	double tolerance() default 0.5;
+
+	/**
+	 * Phases that take less time than this in total are not compared to the baseline, since their timings are
+	 * dominated by noise.
+	 */
+	long minimumMillis() default 10;
+
+	/**
+	 * If set to false, regressions are only logged as warnings instead of failing the test.
+	 */
+	boolean failOnRegression() default true;
+}
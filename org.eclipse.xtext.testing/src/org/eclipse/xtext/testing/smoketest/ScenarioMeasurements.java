@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.testing.smoketest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * The time and the memory that the phases of a smoke test took in total, e.g. the time of all the partial reparses of
+ * a scenario. The allocated memory is only known if the JVM supports the measurement of thread allocations, otherwise
+ * it is reported as {@code -1}.
+ * 
+ * @since 2.11
+ */
+@Beta
+public class ScenarioMeasurements {
+
+	public static final String PARSE = "parse";
+	public static final String REPARSE = "reparse";
+	public static final String LINK = "link";
+	public static final String VALIDATE = "validate";
+
+	/**
+	 * The accumulated measurements of a single phase.
+	 */
+	public static class Measurement {
+		private int count;
+		private long nanos;
+		private long allocatedBytes;
+
+		public Measurement(int count, long nanos, long allocatedBytes) {
+			this.count = count;
+			this.nanos = nanos;
+			this.allocatedBytes = allocatedBytes;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * @return the allocated bytes or {@code -1} if they are unknown.
+		 */
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		@Override
+		public String toString() {
+			return count + "x " + nanos / 1000000 + "ms " + allocatedBytes / 1024 + "KB";
+		}
+	}
+
+	private static final Method ALLOCATED_BYTES = findAllocatedBytesMethod();
+
+	private static Method findAllocatedBytesMethod() {
+		try {
+			Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+			if (type.isInstance(ManagementFactory.getThreadMXBean())) {
+				return type.getMethod("getThreadAllocatedBytes", long.class);
+			}
+		} catch (Exception e) {
+			// not supported by this JVM
+		}
+		return null;
+	}
+
+	private final Map<String, Measurement> measurements = new TreeMap<String, Measurement>();
+
+	/**
+	 * Runs the given operation and adds its time and allocated memory to the given phase.
+	 */
+	public <T> T measure(String phase, Callable<T> operation) throws Exception {
+		long bytesBefore = getAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return operation.call();
+		} finally {
+			long nanos = System.nanoTime() - start;
+			long bytesAfter = getAllocatedBytes();
+			add(phase, nanos, bytesBefore < 0 || bytesAfter < 0 ? -1 : bytesAfter - bytesBefore);
+		}
+	}
+
+	public synchronized void add(String phase, long nanos, long allocatedBytes) {
+		Measurement measurement = measurements.get(phase);
+		if (measurement == null) {
+			measurements.put(phase, new Measurement(1, nanos, allocatedBytes));
+		} else {
+			measurement.count++;
+			measurement.nanos += nanos;
+			if (measurement.allocatedBytes < 0 || allocatedBytes < 0) {
+				measurement.allocatedBytes = -1;
+			} else {
+				measurement.allocatedBytes += allocatedBytes;
+			}
+		}
+	}
+
+	/**
+	 * @return the measurements by phase, sorted by the name of the phase.
+	 */
+	public synchronized Map<String, Measurement> getMeasurements() {
+		return Collections.unmodifiableMap(new TreeMap<String, Measurement>(measurements));
+	}
+
+	protected long getAllocatedBytes() {
+		if (ALLOCATED_BYTES == null) {
+			return -1;
+		}
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			return (Long) ALLOCATED_BYTES.invoke(bean, Thread.currentThread().getId());
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+
+}
@@ -7,6 +7,8 @@
  *******************************************************************************/
 package org.eclipse.xtext.testing.smoketest;
 
+import java.util.concurrent.Callable;
+
 import com.google.common.annotations.Beta;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -26,6 +28,8 @@ public abstract class ScenarioProcessor {
 	@Inject
 	private Injector injector;
 	
+	private ScenarioMeasurements measurements;
+	
 	/**
 	 * Obtain an instance of the given class from the injector.
 	 * Primary use case is for {@link Scenario scenarios} to obtain
@@ -35,6 +39,28 @@ public abstract class ScenarioProcessor {
 		return injector.getInstance(service);
 	}
 	
+	/**
+	 * Set by the runner if the smoke test suite has a {@link PerformanceBudget}.
+	 * 
+	 * @since 2.11
+	 */
+	public void setMeasurements(ScenarioMeasurements measurements) {
+		this.measurements = measurements;
+	}
+	
+	/**
+	 * Runs the given operation and, if the smoke test suite has a {@link PerformanceBudget},
+	 * adds its time and allocated memory to the given phase, e.g. {@link ScenarioMeasurements#REPARSE}.
+	 * 
+	 * @since 2.11
+	 */
+	protected <T> T measure(String phase, Callable<T> operation) throws Exception {
+		if (measurements == null) {
+			return operation.call();
+		}
+		return measurements.measure(phase, operation);
+	}
+	
 	/**
 	 * Optional pre processing of the input data to reduce the number of permutations.
 	 * Return {@code null} if the data should be skipped. The test will be marked as ignored.
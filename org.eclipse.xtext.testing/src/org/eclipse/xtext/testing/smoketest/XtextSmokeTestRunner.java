@@ -7,7 +7,11 @@
  *******************************************************************************/
 package org.eclipse.xtext.testing.smoketest;
 
+import java.io.IOException;
+
 import org.eclipse.xtext.testing.smoketest.internal.RunnerBuilder;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 
@@ -26,13 +30,33 @@ import com.google.common.annotations.Beta;
  * If the original test suite contains test classes or test methods that should be skipped
  * by the smoke test, annotate those with {@link IgnoredBySmokeTest}.
  * 
+ * If the suite is annotated with {@link PerformanceBudget}, the measurements of the
+ * processor are compared to a baseline, so the smoke test detects performance regressions, too.
+ * 
  * @author Sebastian Zarnekow - Initial contribution and API
  */
 @Beta
 public class XtextSmokeTestRunner extends Suite {
 
+	private final RunnerBuilder builder;
+
 	public XtextSmokeTestRunner(Class<?> klass) throws InitializationError {
-		super(klass, new RunnerBuilder(klass));
+		this(klass, new RunnerBuilder(klass));
+	}
+	
+	private XtextSmokeTestRunner(Class<?> klass, RunnerBuilder builder) throws InitializationError {
+		super(klass, builder);
+		this.builder = builder;
+	}
+	
+	@Override
+	public void run(RunNotifier notifier) {
+		super.run(notifier);
+		try {
+			builder.finished();
+		} catch (IOException e) {
+			notifier.fireTestFailure(new Failure(getDescription(), e));
+		}
 	}
 
 }
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.xtext.testing.IInjectorProvider;
 import org.eclipse.xtext.testing.IRegistryConfigurator;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
 import org.eclipse.xtext.testing.smoketest.ScenarioProcessor;
 import org.junit.internal.AssumptionViolatedException;
 import org.junit.runner.Description;
@@ -152,19 +153,20 @@ public abstract class AbstractParallelScenarioRunner extends AbstractScenarioRun
 			public void evaluate() throws Throwable {
 				String testData = AbstractParallelScenarioRunner.this.testData.remove(method);
 				if (testData != null)
-					process(testData);
+					process(method, testData);
 			}
 		};
 	}
 	
 	@Override
-	protected void process(String data) throws Exception {
+	protected void process(String data, ScenarioMeasurements measurements) throws Exception {
 		IInjectorProvider delegate = getOrCreateInjectorProvider().getDelegate();
 		ScenarioProcessor processor = delegate.getInjector().getInstance(getProcessorClass());
 		String preProcessed = processor.preProcess(data);
 		if (preProcessed == null) {
 			throw new AssumptionViolatedException("Input is filtered by the pre processing step: " + data);
 		}
+		processor.setMeasurements(measurements);
 		doProcess(preProcessed, processor);
 	}
 	
@@ -13,6 +13,7 @@ import org.eclipse.xtext.testing.IInjectorProvider;
 import org.eclipse.xtext.testing.IRegistryConfigurator;
 import org.eclipse.xtext.testing.XtextRunner;
 import org.eclipse.xtext.testing.smoketest.IgnoredBySmokeTest;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
 import org.eclipse.xtext.testing.smoketest.ScenarioProcessor;
 import org.junit.Ignore;
 import org.junit.internal.AssumptionViolatedException;
@@ -32,6 +33,7 @@ public abstract class AbstractScenarioRunner extends XtextRunner {
 
 	private WrappingInjectorProvider injectorProvider = null;
 	private final Class<? extends ScenarioProcessor> processorClass;
+	private PerformanceBaseline performanceBaseline;
 	
 	public AbstractScenarioRunner(Class<?> klass, Class<? extends ScenarioProcessor> processorClass) throws InitializationError {
 		super(klass);
@@ -51,6 +53,13 @@ public abstract class AbstractScenarioRunner extends XtextRunner {
 		return processorClass;
 	}
 	
+	/**
+	 * @since 2.11
+	 */
+	public void setPerformanceBaseline(PerformanceBaseline performanceBaseline) {
+		this.performanceBaseline = performanceBaseline;
+	}
+	
 	@Override
 	protected void runChild(final FrameworkMethod method, RunNotifier notifier) {
 		Description description= describeChild(method);
@@ -88,13 +97,36 @@ public abstract class AbstractScenarioRunner extends XtextRunner {
 						registryConfigurator.restoreRegistry();
 					}
 				} catch(TestDataCarrier testData) {
-					process(testData.getData());
+					process(method, testData.getData());
 				}
 			}
 		};
 	}
 	
+	/**
+	 * Processes the data of the given method and, if the suite has a performance budget,
+	 * compares the measurements to the baseline.
+	 * 
+	 * @since 2.11
+	 */
+	protected void process(FrameworkMethod method, String data) throws Exception {
+		if (performanceBaseline == null) {
+			process(data);
+		} else {
+			ScenarioMeasurements measurements = new ScenarioMeasurements();
+			process(data, measurements);
+			performanceBaseline.check(getTestClass().getName() + "." + testName(method), measurements);
+		}
+	}
+	
 	protected void process(String data) throws Exception {
+		process(data, null);
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected void process(String data, ScenarioMeasurements measurements) throws Exception {
 		IInjectorProvider delegate = getOrCreateInjectorProvider().getDelegate();
 		if (delegate instanceof IRegistryConfigurator) {
 			IRegistryConfigurator registryConfigurator = (IRegistryConfigurator) delegate;
@@ -105,6 +137,7 @@ public abstract class AbstractScenarioRunner extends XtextRunner {
 				if (preProcessed == null) {
 					throw new AssumptionViolatedException("Input is filtered by the pre processing step: " + data);
 				}
+				processor.setMeasurements(measurements);
 				doProcess(preProcessed, processor);
 			} finally {
 				registryConfigurator.restoreRegistry();
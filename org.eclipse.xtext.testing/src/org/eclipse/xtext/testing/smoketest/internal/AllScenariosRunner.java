@@ -32,6 +32,16 @@ public class AllScenariosRunner extends ParentRunner<Runner> {
 	private final List<Runner> runners;
 
 	public AllScenariosRunner(Class<?> testClass, ProcessedBy processor, Scenario[] scenarios) throws InitializationError {
+		this(testClass, processor, scenarios, null);
+	}
+	
+	/**
+	 * @param performanceBaseline the baseline of the {@link org.eclipse.xtext.testing.smoketest.PerformanceBudget} or
+	 *            <code>null</code> if the suite has no budget.
+	 * @since 2.11
+	 */
+	public AllScenariosRunner(Class<?> testClass, ProcessedBy processor, Scenario[] scenarios,
+			PerformanceBaseline performanceBaseline) throws InitializationError {
 		super(testClass);
 		this.runners = Lists.newArrayList();
 		if (processor.processCompleteInput()) {
@@ -49,6 +59,9 @@ public class AllScenariosRunner extends ParentRunner<Runner> {
 				runners.add(new PermutingScenarioRunner(testClass, processor.value(), scenario));
 			}
 		}
+		for(Runner runner: runners) {
+			((AbstractScenarioRunner) runner).setPerformanceBaseline(performanceBaseline);
+		}
 	}
 	
 	@Override
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.testing.smoketest.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.xtext.testing.smoketest.PerformanceBudget;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements.Measurement;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+
+/**
+ * Compares the measurements of smoke tests to the baseline of a {@link PerformanceBudget} and records them for the next
+ * baseline. The baseline file has one line per test and phase with the tab separated test name, phase, time in
+ * nanoseconds and allocated bytes.
+ * 
+ * @since 2.11
+ */
+@Beta
+public class PerformanceBaseline {
+
+	private static final Logger LOG = Logger.getLogger(PerformanceBaseline.class);
+
+	public static final String UPDATE_PROPERTY = "xtext.smoketest.updateBaseline";
+
+	/**
+	 * Phases that allocate less memory than this are not compared to the baseline.
+	 */
+	private static final long MINIMUM_BYTES = 1024 * 1024;
+
+	private static final String SEPARATOR = "\t";
+
+	private final File file;
+	private final double tolerance;
+	private final long minimumNanos;
+	private final boolean failOnRegression;
+	private final Map<String, Measurement> expected;
+	private final Map<String, Measurement> recorded = new TreeMap<String, Measurement>();
+
+	public PerformanceBaseline(PerformanceBudget budget) throws IOException {
+		this(new File(budget.baseline()), budget.tolerance(), budget.minimumMillis() * 1000000,
+				budget.failOnRegression());
+	}
+
+	public PerformanceBaseline(File file, double tolerance, long minimumNanos, boolean failOnRegression)
+			throws IOException {
+		this.file = file;
+		this.tolerance = tolerance;
+		this.minimumNanos = minimumNanos;
+		this.failOnRegression = failOnRegression;
+		this.expected = read(file);
+	}
+
+	/**
+	 * Records the measurements of the given test and compares them to the baseline.
+	 * 
+	 * @throws AssertionError
+	 *             if a phase regressed and the budget does not allow regressions.
+	 */
+	public void check(String test, ScenarioMeasurements measurements) {
+		List<String> regressions = Lists.newArrayList();
+		for (Map.Entry<String, Measurement> entry : measurements.getMeasurements().entrySet()) {
+			String key = test + SEPARATOR + entry.getKey();
+			Measurement actual = entry.getValue();
+			synchronized (recorded) {
+				recorded.put(key, actual);
+			}
+			Measurement baseline = expected.get(key);
+			if (baseline == null) {
+				continue;
+			}
+			if (actual.getNanos() >= minimumNanos && exceeds(actual.getNanos(), baseline.getNanos())) {
+				regressions.add(entry.getKey() + " took " + actual.getNanos() / 1000000 + "ms instead of "
+						+ baseline.getNanos() / 1000000 + "ms");
+			}
+			if (actual.getAllocatedBytes() >= MINIMUM_BYTES && baseline.getAllocatedBytes() >= 0
+					&& exceeds(actual.getAllocatedBytes(), baseline.getAllocatedBytes())) {
+				regressions.add(entry.getKey() + " allocated " + actual.getAllocatedBytes() / 1024 + "KB instead of "
+						+ baseline.getAllocatedBytes() / 1024 + "KB");
+			}
+		}
+		if (!regressions.isEmpty()) {
+			String message = "Performance regression in " + test + ": " + Joiner.on(", ").join(regressions);
+			if (failOnRegression) {
+				throw new AssertionError(message);
+			}
+			LOG.warn(message);
+		}
+	}
+
+	protected boolean exceeds(long actual, long baseline) {
+		return actual > baseline * (1 + tolerance);
+	}
+
+	/**
+	 * Writes the recorded measurements if the baseline does not exist yet or if it should be updated. Measurements of
+	 * tests that did not run are kept.
+	 */
+	public void saveIfNecessary() throws IOException {
+		if (file.exists() && !Boolean.getBoolean(UPDATE_PROPERTY)) {
+			return;
+		}
+		Map<String, Measurement> result = new TreeMap<String, Measurement>(expected);
+		synchronized (recorded) {
+			result.putAll(recorded);
+		}
+		List<String> lines = Lists.newArrayList();
+		for (Map.Entry<String, Measurement> entry : result.entrySet()) {
+			lines.add(entry.getKey() + SEPARATOR + entry.getValue().getNanos() + SEPARATOR
+					+ entry.getValue().getAllocatedBytes());
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+	}
+
+	private static Map<String, Measurement> read(File file) throws IOException {
+		Map<String, Measurement> result = new TreeMap<String, Measurement>();
+		if (!file.exists()) {
+			return result;
+		}
+		for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+			String[] segments = line.split(SEPARATOR);
+			if (segments.length == 4) {
+				result.put(segments[0] + SEPARATOR + segments[1],
+						new Measurement(1, Long.parseLong(segments[2]), Long.parseLong(segments[3])));
+			}
+		}
+		return result;
+	}
+
+}
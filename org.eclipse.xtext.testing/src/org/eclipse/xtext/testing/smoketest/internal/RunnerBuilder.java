@@ -7,8 +7,11 @@
  *******************************************************************************/
 package org.eclipse.xtext.testing.smoketest.internal;
 
+import java.io.IOException;
+
 import org.eclipse.xtext.testing.XtextRunner;
 import org.eclipse.xtext.testing.smoketest.IgnoredBySmokeTest;
+import org.eclipse.xtext.testing.smoketest.PerformanceBudget;
 import org.eclipse.xtext.testing.smoketest.ProcessedBy;
 import org.eclipse.xtext.testing.smoketest.Scenario;
 import org.eclipse.xtext.testing.smoketest.Scenarios;
@@ -32,11 +35,36 @@ import com.google.common.annotations.Beta;
 public class RunnerBuilder extends org.junit.runners.model.RunnerBuilder {
 	
 	private final Delegate delegate;
+	private final PerformanceBaseline performanceBaseline;
 
 	public RunnerBuilder(Class<?> klass) throws InitializationError {
 		ProcessedBy processor = getProcessor(klass);
 		Scenario[] scenarios = getScenarios(klass, processor.processCompleteInput());
-		this.delegate = new Delegate(processor, scenarios);
+		this.performanceBaseline = getPerformanceBaseline(klass);
+		this.delegate = new Delegate(processor, scenarios, performanceBaseline);
+	}
+	
+	private static PerformanceBaseline getPerformanceBaseline(Class<?> klass) throws InitializationError {
+		PerformanceBudget budget = klass.getAnnotation(PerformanceBudget.class);
+		if (budget == null) {
+			return null;
+		}
+		try {
+			return new PerformanceBaseline(budget);
+		} catch (IOException e) {
+			throw new InitializationError(e);
+		}
+	}
+	
+	/**
+	 * Writes the performance baseline if the suite has a {@link PerformanceBudget} and the baseline has to be written.
+	 * 
+	 * @since 2.11
+	 */
+	public void finished() throws IOException {
+		if (performanceBaseline != null) {
+			performanceBaseline.saveIfNecessary();
+		}
 	}
 	
 	private static ProcessedBy getProcessor(Class<?> klass) throws InitializationError {
@@ -70,11 +98,13 @@ public class RunnerBuilder extends org.junit.runners.model.RunnerBuilder {
 
 		private final ProcessedBy processor;
 		private final Scenario[] scenarios;
+		private final PerformanceBaseline performanceBaseline;
 		
-		public Delegate(ProcessedBy processor, Scenario[] scenarios) {
+		public Delegate(ProcessedBy processor, Scenario[] scenarios, PerformanceBaseline performanceBaseline) {
 			super(true);
 			this.processor = processor;
 			this.scenarios = scenarios;
+			this.performanceBaseline = performanceBaseline;
 		}
 		
 		@Override
@@ -84,7 +114,7 @@ public class RunnerBuilder extends org.junit.runners.model.RunnerBuilder {
 				public Runner buildRunner(Class<? extends Runner> runnerClass,
 						Class<?> testClass) throws Exception {
 					if (XtextRunner.class.equals(runnerClass)) {
-						return new AllScenariosRunner(testClass, processor, scenarios);
+						return new AllScenariosRunner(testClass, processor, scenarios, performanceBaseline);
 					}
 					return super.buildRunner(runnerClass, testClass);
 				}
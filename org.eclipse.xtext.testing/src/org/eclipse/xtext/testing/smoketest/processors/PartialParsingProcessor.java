@@ -9,6 +9,7 @@ package org.eclipse.xtext.testing.smoketest.processors;
 
 import java.io.StringReader;
 import java.util.Iterator;
+import java.util.concurrent.Callable;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
@@ -18,6 +19,7 @@ import org.eclipse.xtext.nodemodel.impl.InvariantChecker;
 import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.parser.IParser;
 import org.eclipse.xtext.testing.smoketest.DeltaScenarioProcessor;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
 import org.eclipse.xtext.util.EmfFormatter;
 import org.eclipse.xtext.util.ReplaceRegion;
 import org.junit.Assert;
@@ -36,13 +38,23 @@ public class PartialParsingProcessor extends DeltaScenarioProcessor {
 	
 	@Override
 	public String processFile(String completeData, String data, int offset, int len, String change) throws Exception {
-		IParseResult initialParseResult = parser.parse(new StringReader(data));
-		String newData = applyDelta(data, offset, len, change);
-		ReplaceRegion replaceRegion = new ReplaceRegion(offset, len, change);
+		final IParseResult initialParseResult = parser.parse(new StringReader(data));
+		final String newData = applyDelta(data, offset, len, change);
+		final ReplaceRegion replaceRegion = new ReplaceRegion(offset, len, change);
 		try {
-			IParseResult reparsed = parser.reparse(initialParseResult, replaceRegion);
+			IParseResult reparsed = measure(ScenarioMeasurements.REPARSE, new Callable<IParseResult>() {
+				@Override
+				public IParseResult call() throws Exception {
+					return parser.reparse(initialParseResult, replaceRegion);
+				}
+			});
 		
-			IParseResult parsedFromScratch = parser.parse(new StringReader(newData));
+			IParseResult parsedFromScratch = measure(ScenarioMeasurements.PARSE, new Callable<IParseResult>() {
+				@Override
+				public IParseResult call() throws Exception {
+					return parser.parse(new StringReader(newData));
+				}
+			});
 			assertEqual(data, newData, parsedFromScratch, reparsed);
 			return newData;
 		} catch(Throwable e) {
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.testing.smoketest.processors;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
+import org.eclipse.xtext.testing.smoketest.ScenarioProcessor;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+
+/**
+ * Parses, links and validates each variant of the input. Fails if any of these phases throws an exception.
+ * 
+ * Together with a {@link org.eclipse.xtext.testing.smoketest.PerformanceBudget} the three phases are measured
+ * separately.
+ * 
+ * @since 2.11
+ */
+public class ValidatingProcessor extends ScenarioProcessor {
+
+	@Override
+	public void processFile(String data) throws Exception {
+		final XtextResource resource = get(XtextResource.class);
+		resource.setURI(URI.createURI("dummy.uri"));
+		get(XtextResourceSet.class).getResources().add(resource);
+		final StringInputStream input = new StringInputStream(data, "UTF-8");
+		measure(ScenarioMeasurements.PARSE, new Callable<XtextResource>() {
+			@Override
+			public XtextResource call() throws Exception {
+				resource.load(input, Collections.singletonMap(XtextResource.OPTION_ENCODING, "UTF-8"));
+				return resource;
+			}
+		});
+		measure(ScenarioMeasurements.LINK, new Callable<XtextResource>() {
+			@Override
+			public XtextResource call() throws Exception {
+				EcoreUtil2.resolveAll(resource);
+				return resource;
+			}
+		});
+		measure(ScenarioMeasurements.VALIDATE, new Callable<List<Issue>>() {
+			@Override
+			public List<Issue> call() throws Exception {
+				return resource.getResourceServiceProvider().getResourceValidator().validate(resource, CheckMode.ALL,
+						CancelIndicator.NullImpl);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.testing.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.xtext.testing.smoketest.ScenarioMeasurements;
+import org.eclipse.xtext.testing.smoketest.internal.PerformanceBaseline;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PerformanceBaselineTest {
+
+	@Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test public void testWritesMissingBaseline() throws Exception {
+		File file = new File(temporaryFolder.getRoot(), "baseline.txt");
+		PerformanceBaseline baseline = new PerformanceBaseline(file, 0.5, 0, true);
+		baseline.check("test", measurements(ScenarioMeasurements.REPARSE, 20000000L, 2048L));
+		baseline.saveIfNecessary();
+		Assert.assertEquals(Arrays.asList("test\treparse\t20000000\t2048"),
+				Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+	}
+
+	@Test public void testWithinTolerance() throws Exception {
+		PerformanceBaseline baseline = new PerformanceBaseline(baseline("test\treparse\t20000000\t-1"), 0.5, 0, true);
+		baseline.check("test", measurements(ScenarioMeasurements.REPARSE, 29000000L, -1L));
+		baseline.check("other", measurements(ScenarioMeasurements.REPARSE, 90000000L, -1L));
+	}
+
+	@Test public void testSlowerThanBaseline() throws Exception {
+		PerformanceBaseline baseline = new PerformanceBaseline(baseline("test\treparse\t20000000\t-1"), 0.5, 0, true);
+		try {
+			baseline.check("test", measurements(ScenarioMeasurements.REPARSE, 31000000L, -1L));
+			Assert.fail();
+		} catch (AssertionError e) {
+			Assert.assertEquals("Performance regression in test: reparse took 31ms instead of 20ms", e.getMessage());
+		}
+	}
+
+	@Test public void testMoreAllocationsThanBaseline() throws Exception {
+		PerformanceBaseline baseline = new PerformanceBaseline(baseline("test\tparse\t20000000\t4194304"), 0.5, 0, true);
+		try {
+			baseline.check("test", measurements(ScenarioMeasurements.PARSE, 20000000L, 8388608L));
+			Assert.fail();
+		} catch (AssertionError e) {
+			Assert.assertEquals("Performance regression in test: parse allocated 8192KB instead of 4096KB", e.getMessage());
+		}
+	}
+
+	@Test public void testBelowMinimum() throws Exception {
+		PerformanceBaseline baseline = new PerformanceBaseline(baseline("test\treparse\t1000\t-1"), 0.5, 10000000L, true);
+		baseline.check("test", measurements(ScenarioMeasurements.REPARSE, 9000000L, -1L));
+	}
+
+	@Test public void testReportOnly() throws Exception {
+		PerformanceBaseline baseline = new PerformanceBaseline(baseline("test\treparse\t20000000\t-1"), 0.5, 0, false);
+		baseline.check("test", measurements(ScenarioMeasurements.REPARSE, 90000000L, -1L));
+	}
+
+	private File baseline(String... lines) throws Exception {
+		File file = temporaryFolder.newFile("baseline.txt");
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return file;
+	}
+
+	private ScenarioMeasurements measurements(String phase, long nanos, long allocatedBytes) {
+		ScenarioMeasurements result = new ScenarioMeasurements();
+		result.add(phase, nanos, allocatedBytes);
+		return result;
+	}
+
+}
@@ -8,9 +8,11 @@
 package org.eclipse.xtext.build
 
 import com.google.inject.Inject
+import java.util.concurrent.Executors
 import java.util.concurrent.atomic.AtomicBoolean
 import org.eclipse.core.runtime.OperationCanceledException
 import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.common.util.WrappedException
 import org.eclipse.xtext.build.BuildRequest.IPostValidationCallback
 import org.eclipse.xtext.index.IndexTestLanguageInjectorProvider
 import org.eclipse.xtext.resource.IResourceServiceProvider
@@ -131,6 +133,75 @@ class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
 		assertTrue(generated.values.containsSuffix('src-gen/A.txt'))
 	}
 	
+	@Test def void testParallelLoading() {
+		val executor = Executors.newFixedThreadPool(2)
+		try {
+			build(newBuildRequest [
+				loadingExecutor = executor
+				dirtyFiles = #[
+					'src/A.indextestlanguage' - '''
+						foo {
+							entity A {foo.B reference}
+						}
+					''',
+					'src/B.indextestlanguage' - '''
+						foo {
+							entity B {foo.A reference}
+						}
+					''',
+					'src/C.indextestlanguage' - '''
+						foo {
+							entity C {foo.A reference}
+						}
+					'''
+				]
+			])
+		} finally {
+			executor.shutdown
+		}
+		assertTrue(issues.toString, issues.isEmpty)
+		assertEquals(3, generated.size)
+		assertTrue(generated.values.containsSuffix('src-gen/A.txt'))
+		assertTrue(generated.values.containsSuffix('src-gen/B.txt'))
+		assertTrue(generated.values.containsSuffix('src-gen/C.txt'))
+	}
+	
+	@Test def void testParallelLoadingWithUnreadableFile() {
+		val executor = Executors.newFixedThreadPool(2)
+		try {
+			build(newBuildRequest [
+				loadingExecutor = executor
+				dirtyFiles = #[
+					'src/A.indextestlanguage' - '''
+						foo {
+							entity A {}
+						}
+					''',
+					'src/Missing.indextestlanguage'.uri
+				]
+			])
+		} finally {
+			executor.shutdown
+		}
+		assertEquals(issues.toString, 1, issues.size)
+		assertEquals(1, generated.size)
+		assertTrue(generated.values.containsSuffix('src-gen/A.txt'))
+	}
+	
+	@Test(expected = WrappedException)
+	def void testSequentialLoadingWithUnreadableFile() {
+		build(newBuildRequest [
+			dirtyFiles = #[
+				'src/A.indextestlanguage' - '''
+					foo {
+						entity A {}
+					}
+				''',
+				'src/Missing.indextestlanguage'.uri
+			]
+		])
+	}
+	
 	@Test(expected = OperationCanceledException)
 	def void testCancellation() {
 		val cancelOnFirstModel = new CancelOnFirstModel
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.tests.TemporaryFolder;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+public class Source2GeneratedMappingStoreTest extends Assert {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private URI uri(String path) {
+		return URI.createURI("file:/" + path);
+	}
+
+	private Source2GeneratedMappingStore createStore() throws IOException {
+		return new Source2GeneratedMappingStore(new File(temporaryFolder.newFolder(), "mappings.bin"));
+	}
+
+	@Test public void testSaveAndLoad() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = new Source2GeneratedMapping();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"), "out");
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A2.java"));
+		mapping.addSource2Generated(uri("b.mydsl"), uri("B.java"));
+		store.save(mapping);
+		assertTrue(mapping.getChangedSources().isEmpty());
+
+		Source2GeneratedMapping loaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertEquals(ImmutableSet.of(uri("A.java"), uri("A2.java")), ImmutableSet.copyOf(loaded.getGenerated(uri("a.mydsl"))));
+		assertEquals(Collections.singletonList(uri("a.mydsl")), loaded.getSource(uri("A.java")));
+		assertEquals("out", loaded.getOutputConfigName(uri("A.java")));
+		assertEquals(3, loaded.getAllGenerated().size());
+		assertTrue(loaded.getChangedSources().isEmpty());
+	}
+
+	@Test public void testAppendChangedSources() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = new Source2GeneratedMapping();
+		for (int i = 0; i < 100; i++) {
+			mapping.addSource2Generated(uri(i + ".mydsl"), uri(i + ".java"));
+		}
+		store.save(mapping);
+		long initialLength = store.getFile().length();
+
+		store = new Source2GeneratedMappingStore(store.getFile());
+		Source2GeneratedMapping next = store.load().copy();
+		next.addSource2Generated(uri("1.mydsl"), uri("1b.java"));
+		next.deleteSource(uri("2.mydsl"));
+		assertEquals(ImmutableSet.of(uri("1.mydsl"), uri("2.mydsl")), next.getChangedSources());
+		store.save(next);
+		long appended = store.getFile().length() - initialLength;
+		assertTrue(appended > 0);
+		assertTrue(appended < initialLength / 10);
+
+		Source2GeneratedMapping loaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertEquals(2, loaded.getGenerated(uri("1.mydsl")).size());
+		assertTrue(loaded.getGenerated(uri("2.mydsl")).isEmpty());
+		assertEquals(99, loaded.getAllSources().size());
+	}
+
+	@Test public void testDeleteGenerated() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = store.load();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		mapping.addSource2Generated(uri("b.mydsl"), uri("A.java"));
+		store.save(mapping);
+		mapping.deleteGenerated(uri("A.java"));
+		assertEquals(ImmutableSet.of(uri("a.mydsl"), uri("b.mydsl")), mapping.getChangedSources());
+		store.save(mapping);
+
+		Source2GeneratedMapping loaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertTrue(loaded.getAllGenerated().isEmpty());
+	}
+
+	@Test public void testCompaction() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = store.load();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		store.save(mapping);
+		long initialLength = store.getFile().length();
+		int saves = Source2GeneratedMappingStore.COMPACTION_FACTOR * Source2GeneratedMappingStore.MIN_COMPACTION_RECORDS;
+		for (int i = 0; i < saves; i++) {
+			mapping.removeSource2Generated(uri("a.mydsl"), uri("A.java"));
+			mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+			store.save(mapping);
+		}
+		assertTrue(store.getFile().length() < initialLength * 2);
+
+		Source2GeneratedMapping loaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertEquals(Collections.singletonList(uri("A.java")), loaded.getGenerated(uri("a.mydsl")));
+	}
+
+	@Test public void testIncompleteRecord() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = store.load();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		store.save(mapping);
+		mapping.addSource2Generated(uri("b.mydsl"), uri("B.java"));
+		store.save(mapping);
+		RandomAccessFile file = new RandomAccessFile(store.getFile(), "rw");
+		try {
+			file.setLength(file.length() - 3);
+		} finally {
+			file.close();
+		}
+
+		store = new Source2GeneratedMappingStore(store.getFile());
+		Source2GeneratedMapping loaded = store.load();
+		assertEquals(Collections.singletonList(uri("A.java")), loaded.getGenerated(uri("a.mydsl")));
+		assertTrue(loaded.getGenerated(uri("b.mydsl")).isEmpty());
+		loaded.addSource2Generated(uri("c.mydsl"), uri("C.java"));
+		store.save(loaded);
+
+		Source2GeneratedMapping reloaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertEquals(ImmutableSet.of(uri("a.mydsl"), uri("c.mydsl")), ImmutableSet.copyOf(reloaded.getAllSources()));
+	}
+
+	@Test public void testInvalidNumberOfGeneratedFiles() throws IOException {
+		for (int size : new int[] { -1, Integer.MAX_VALUE }) {
+			Source2GeneratedMappingStore store = createStore();
+			Source2GeneratedMapping mapping = store.load();
+			mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+			store.save(mapping);
+			RandomAccessFile file = new RandomAccessFile(store.getFile(), "rw");
+			try {
+				file.seek(file.length());
+				file.writeUTF(uri("b.mydsl").toString());
+				file.writeInt(size);
+				file.writeUTF(uri("B.java").toString());
+				file.writeUTF("out");
+			} finally {
+				file.close();
+			}
+
+			store = new Source2GeneratedMappingStore(store.getFile());
+			Source2GeneratedMapping loaded = store.load();
+			assertEquals(Collections.singletonList(uri("A.java")), loaded.getGenerated(uri("a.mydsl")));
+			assertTrue(loaded.getGenerated(uri("b.mydsl")).isEmpty());
+			loaded.addSource2Generated(uri("c.mydsl"), uri("C.java"));
+			store.save(loaded);
+
+			Source2GeneratedMapping reloaded = new Source2GeneratedMappingStore(store.getFile()).load();
+			assertEquals(ImmutableSet.of(uri("a.mydsl"), uri("c.mydsl")), ImmutableSet.copyOf(reloaded.getAllSources()));
+		}
+	}
+
+	@Test public void testFailedAppendIsRepaired() throws IOException {
+		final boolean[] failing = new boolean[1];
+		Source2GeneratedMappingStore store = new Source2GeneratedMappingStore(createStore().getFile()) {
+			@Override
+			protected void writeRecord(DataOutputStream out, Source2GeneratedMapping mapping, URI source)
+					throws IOException {
+				if (failing[0]) {
+					out.writeUTF(source.toString());
+					throw new IOException("Disk full");
+				}
+				super.writeRecord(out, mapping, source);
+			}
+		};
+		Source2GeneratedMapping mapping = store.load();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		store.save(mapping);
+		mapping.addSource2Generated(uri("b.mydsl"), uri("B.java"));
+		failing[0] = true;
+		try {
+			store.save(mapping);
+			fail("IOException expected");
+		} catch (IOException e) {
+			assertEquals("Disk full", e.getMessage());
+		}
+		failing[0] = false;
+		store.save(mapping);
+
+		Source2GeneratedMapping loaded = new Source2GeneratedMappingStore(store.getFile()).load();
+		assertEquals(ImmutableSet.of(uri("a.mydsl"), uri("b.mydsl")), ImmutableSet.copyOf(loaded.getAllSources()));
+		assertEquals(Collections.singletonList(uri("B.java")), loaded.getGenerated(uri("b.mydsl")));
+	}
+
+	@Test public void testChangesAreTrackedOnlyForStores() throws IOException {
+		Source2GeneratedMapping mapping = new Source2GeneratedMapping();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		Source2GeneratedMapping copy = mapping.copy();
+		copy.deleteSource(uri("a.mydsl"));
+		assertFalse(copy.isTrackingChanges());
+		assertTrue(copy.getChangedSources().isEmpty());
+
+		Source2GeneratedMappingStore store = createStore();
+		store.save(mapping);
+		assertTrue(mapping.isTrackingChanges());
+		mapping.addSource2Generated(uri("b.mydsl"), uri("B.java"));
+		assertEquals(ImmutableSet.of(uri("b.mydsl")), mapping.copy().getChangedSources());
+	}
+
+	@Test public void testReadExternalDoesNotChangeSources() throws Exception {
+		Source2GeneratedMapping mapping = new Source2GeneratedMapping();
+		mapping.addSource2Generated(uri("a.mydsl"), uri("A.java"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		mapping.writeExternal(out);
+		out.close();
+
+		Source2GeneratedMapping read = new Source2GeneratedMapping();
+		read.trackChanges();
+		read.readExternal(new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertEquals(Collections.singletonList(uri("A.java")), read.getGenerated(uri("a.mydsl")));
+		assertTrue(read.getChangedSources().isEmpty());
+	}
+
+	@Test public void testUntouchedMappingIsNotRead() throws IOException {
+		Source2GeneratedMappingStore store = createStore();
+		Source2GeneratedMapping mapping = store.load();
+		store.save(mapping);
+		assertFalse(store.getFile().exists());
+		assertTrue(mapping.getAllSources().isEmpty());
+	}
+
+}
@@ -47,6 +47,19 @@ public class TraceRegionSerializerTest {
 		Assert.assertEquals(7, traceRegion.getNestedRegions().get(0).getNestedRegions().size());
 	}
 	
+	@Test
+	public void testReadTraceVersion5() throws IOException {
+		TraceRegionSerializer serializer = new TraceRegionSerializer();
+		InputStream in = getClass().getResourceAsStream("version5.trace");
+		AbstractTraceRegion traceRegion = serializer.readTraceRegionFrom(in);
+		in.close();
+		Assert.assertEquals("org/eclipse/xtext/java/JavaSourceLanguageSetup.xtend", traceRegion.getMergedAssociatedLocation().getSrcRelativePath().toString());
+		Assert.assertEquals(1835, traceRegion.getMyLength());
+		Assert.assertTrue(traceRegion.isUseForDebugging());
+		Assert.assertEquals(1, traceRegion.getNestedRegions().size());
+		Assert.assertEquals(7, traceRegion.getNestedRegions().get(0).getNestedRegions().size());
+	}
+	
 	@Test
 	public void testRewriteV3TracesWithCompressedInt() throws IOException {
 		TraceRegionSerializer serializer = new TraceRegionSerializer();
@@ -59,7 +72,7 @@ public class TraceRegionSerializerTest {
 		byte[] currentBytes = outputStream.toByteArray();
 		Assert.assertTrue(v3bytes.length > currentBytes.length);
 		Assert.assertEquals(1213 /* magic number */, v3bytes.length); 
-		Assert.assertEquals(385 /* magic number */, currentBytes.length);
+		Assert.assertEquals(347 /* magic number */, currentBytes.length);
 		Assert.assertEquals(traceRegion, serializer.readTraceRegionFrom(new ByteArrayInputStream(currentBytes)));
 	}
 	
@@ -75,7 +88,22 @@ public class TraceRegionSerializerTest {
 		byte[] currentBytes = outputStream.toByteArray();
 		Assert.assertTrue(v4bytes.length > currentBytes.length);
 		Assert.assertEquals(4610 /* magic number */, v4bytes.length); 
-		Assert.assertEquals(1655 /* magic number */, currentBytes.length);
+		Assert.assertEquals(1452 /* magic number */, currentBytes.length);
+		Assert.assertEquals(traceRegion, serializer.readTraceRegionFrom(new ByteArrayInputStream(currentBytes)));
+	}
+	
+	@Test
+	public void testRewriteV5TracesWithDeltas() throws IOException {
+		TraceRegionSerializer serializer = new TraceRegionSerializer();
+		InputStream in = getClass().getResourceAsStream("version5.trace");
+		byte[] v5bytes = ByteStreams.toByteArray(in);
+		in.close();
+		AbstractTraceRegion traceRegion = serializer.readTraceRegionFrom(new ByteArrayInputStream(v5bytes));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		serializer.writeTraceRegionTo(traceRegion, outputStream);
+		byte[] currentBytes = outputStream.toByteArray();
+		Assert.assertEquals(1655 /* magic number */, v5bytes.length); 
+		Assert.assertEquals(1452 /* magic number */, currentBytes.length);
 		Assert.assertEquals(traceRegion, serializer.readTraceRegionFrom(new ByteArrayInputStream(currentBytes)));
 	}
 
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.generator.trace.internal;
+
+import java.util.Iterator;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
+import org.eclipse.xtext.generator.trace.SourceRelativeURI;
+import org.eclipse.xtext.generator.trace.TraceRegion;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TraceRegionIndexTest extends Assert {
+
+	@Test public void testLeafsIncludeGaps() {
+		TraceRegionIndex index = new TraceRegionIndex(createTrace());
+		assertEquals(5, index.size());
+		int[] expectedOffsets = { 0, 2, 3, 5, 8 };
+		for (int i = 0; i < expectedOffsets.length; i++) {
+			assertEquals(expectedOffsets[i], index.getOffset(i));
+			assertEquals(expectedOffsets[i], index.get(i).getMyOffset());
+		}
+	}
+
+	@Test public void testIndexOf() {
+		TraceRegionIndex index = new TraceRegionIndex(createTrace());
+		assertEquals(0, index.indexOf(0));
+		assertEquals(2, index.indexOf(3));
+		assertEquals(3, index.indexOf(4));
+		assertEquals(4, index.indexOf(8));
+		assertEquals(5, index.indexOf(11));
+	}
+
+	@Test public void testIterator() {
+		TraceRegionIndex index = new TraceRegionIndex(createTrace());
+		Iterator<AbstractTraceRegion> iterator = index.iterator(3);
+		assertEquals(5, iterator.next().getMyOffset());
+		assertEquals(8, iterator.next().getMyOffset());
+		assertFalse(iterator.hasNext());
+	}
+
+	private AbstractTraceRegion createTrace() {
+		SourceRelativeURI uri = new SourceRelativeURI(URI.createURI("uri"));
+		TraceRegion root = new TraceRegion(0, 10, 0, 0, true, 0, 10, 0, 0, null, uri);
+		new TraceRegion(2, 1, 0, 0, true, 2, 1, 0, 0, root, uri);
+		new TraceRegion(5, 3, 0, 0, true, 5, 3, 0, 0, root, uri);
+		return root;
+	}
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.naming;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.xtext.util.DependencyTrackingCache;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.Tuples;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+public class DefaultDeclarativeQualifiedNameProviderTest extends Assert {
+
+	public static class ReferenceBasedNameProvider extends DefaultDeclarativeQualifiedNameProvider {
+		@Override
+		protected boolean isDependingOnContainersOnly() {
+			return false;
+		}
+	}
+
+	private Injector injector;
+	private DependencyTrackingCache cache;
+	private Resource resource;
+	private EClass first;
+	private EClass second;
+
+	@Before
+	public void setUp() {
+		cache = new DependencyTrackingCache();
+		injector = Guice.createInjector(new AbstractModule() {
+			@Override
+			protected void configure() {
+				bind(IResourceScopeCache.class).toInstance(cache);
+			}
+		});
+		first = EcoreFactory.eINSTANCE.createEClass();
+		first.setName("First");
+		second = EcoreFactory.eINSTANCE.createEClass();
+		second.setName("Second");
+		resource = new ResourceImpl();
+		resource.getContents().add(first);
+		resource.getContents().add(second);
+	}
+
+	@Test public void testNamesSurviveUnrelatedChanges() {
+		DefaultDeclarativeQualifiedNameProvider provider = injector.getInstance(DefaultDeclarativeQualifiedNameProvider.class);
+		assertEquals(QualifiedName.create("First"), provider.getFullyQualifiedName(first));
+		second.setName("Changed");
+		assertNotNull(cache.getOrCreate(resource).get(Tuples.pair(first, "fqn")));
+		first.setName("Renamed");
+		assertEquals(QualifiedName.create("Renamed"), provider.getFullyQualifiedName(first));
+	}
+
+	@Test public void testSubclassMayOptOut() {
+		DefaultDeclarativeQualifiedNameProvider provider = injector.getInstance(ReferenceBasedNameProvider.class);
+		assertEquals(QualifiedName.create("First"), provider.getFullyQualifiedName(first));
+		second.setName("Changed");
+		assertNull(cache.getOrCreate(resource).get(Tuples.pair(first, "fqn")));
+	}
+
+}
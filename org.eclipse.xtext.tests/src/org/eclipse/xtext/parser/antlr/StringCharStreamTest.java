@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.parser.antlr;
+
+import java.io.ByteArrayInputStream;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+import org.eclipse.xtext.util.SourceTextReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringCharStreamTest extends Assert {
+
+	@Test public void testSameBehaviorAsANTLRStringStream() {
+		String text = "ab\ncd\n\nef";
+		CharStream expected = new ANTLRStringStream(text);
+		CharStream actual = new StringCharStream(text);
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.LA(-1), actual.LA(-1));
+		while (expected.LA(1) != CharStream.EOF) {
+			assertEquals(expected.LA(1), actual.LA(1));
+			assertEquals(expected.LA(2), actual.LA(2));
+			assertEquals(expected.LA(-1), actual.LA(-1));
+			assertEquals(expected.getLine(), actual.getLine());
+			assertEquals(expected.getCharPositionInLine(), actual.getCharPositionInLine());
+			expected.consume();
+			actual.consume();
+		}
+		assertEquals(CharStream.EOF, actual.LA(1));
+		assertEquals(expected.substring(1, 4), actual.substring(1, 4));
+	}
+
+	@Test public void testMarkAndRewind() {
+		CharStream stream = new StringCharStream("a\nbc");
+		stream.consume();
+		int marker = stream.mark();
+		stream.consume();
+		stream.consume();
+		assertEquals(2, stream.getLine());
+		assertEquals('c', stream.LA(1));
+		stream.rewind(marker);
+		assertEquals(1, stream.getLine());
+		assertEquals('\n', stream.LA(1));
+	}
+
+	@Test public void testTextIsShared() throws Exception {
+		String text = "foo";
+		assertSame(text, new StringCharStream(text).toString());
+		assertSame(text, new SourceTextReader(text).getText());
+	}
+
+	@Test public void testReadText() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			builder.append("\u00e4\u00f6\u20ac");
+		}
+		String text = builder.toString();
+		assertEquals(text, SourceTextReader.readText(new ByteArrayInputStream(text.getBytes("UTF-8")), "UTF-8"));
+		assertEquals("", SourceTextReader.readText(new ByteArrayInputStream(new byte[0]), "UTF-8"));
+	}
+
+}
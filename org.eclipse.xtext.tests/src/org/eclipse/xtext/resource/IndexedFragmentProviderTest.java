@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.resource;
+
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.xtext.util.OnChangeEvictingCache;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedFragmentProviderTest extends Assert {
+
+	private XtextResource resource;
+	private EPackage ePackage;
+
+	@Before
+	public void setUp() {
+		resource = new XtextResource(URI.createURI("test.ecore"));
+		resource.setCache(new OnChangeEvictingCache());
+		resource.setFragmentProvider(new IndexedFragmentProvider());
+		ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		for (int i = 0; i < 10; i++) {
+			EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+			eClass.setName("C" + i);
+			ePackage.getEClassifiers().add(eClass);
+		}
+		resource.getContents().add(ePackage);
+	}
+
+	@Test public void testLookup() {
+		for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+			String fragment = resource.getURIFragment(eClassifier);
+			assertSame(eClassifier, resource.getEObject(fragment));
+		}
+		assertSame(ePackage, resource.getEObject(resource.getURIFragment(ePackage)));
+		// non-canonical fragments are resolved by the fallback
+		assertSame(ePackage, resource.getEObject("/0"));
+		assertNull(resource.getEObject("/0/@eClassifiers.42"));
+	}
+
+	@Test public void testIndexContainsPaths() {
+		Map<String, EObject> index = new IndexedFragmentProvider().createIndex(resource, null);
+		assertEquals(11, index.size());
+		assertSame(ePackage, index.get("/"));
+		for (int i = 0; i < 10; i++) {
+			String fragment = "//@eClassifiers." + i;
+			assertSame(ePackage.getEClassifiers().get(i), index.get(fragment));
+			assertSame(ePackage.getEClassifiers().get(i), resource.getEObject(fragment));
+		}
+	}
+
+	@Test public void testIndexIsUpdatedOnChange() {
+		EClass first = (EClass) ePackage.getEClassifiers().get(0);
+		String fragment = resource.getURIFragment(first);
+		assertSame(first, resource.getEObject(fragment));
+		ePackage.getEClassifiers().remove(first);
+		assertNotSame(first, resource.getEObject(fragment));
+		EClass added = EcoreFactory.eINSTANCE.createEClass();
+		ePackage.getEClassifiers().add(added);
+		assertSame(added, resource.getEObject(resource.getURIFragment(added)));
+	}
+
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDeltaTest.TestResDesc;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class QualifiedNameHashesTest extends Assert {
+
+	private static QualifiedName name(String... segments) {
+		return QualifiedName.create(segments);
+	}
+
+	@Test public void testEmpty() {
+		QualifiedNameHashes hashes = QualifiedNameHashes.of(Collections.<QualifiedName>emptyList());
+		assertSame(QualifiedNameHashes.EMPTY, hashes);
+		assertFalse(hashes.mightIntersect(hashes));
+		assertFalse(hashes.mightIntersect(QualifiedNameHashes.of(Lists.newArrayList(name("a")))));
+	}
+
+	@Test public void testDuplicates() {
+		QualifiedNameHashes hashes = QualifiedNameHashes.of(Lists.newArrayList(name("a", "b"), name("c"), name("a", "b")));
+		assertEquals(2, hashes.size());
+		assertTrue(hashes.mightContain(name("a", "b")));
+		assertTrue(hashes.mightContain(name("c")));
+		assertFalse(hashes.mightContain(name("a")));
+	}
+
+	@Test public void testIntersection() {
+		List<QualifiedName> names = Lists.newArrayList();
+		for (int i = 0; i < 100; i++) {
+			names.add(name("a", "b" + i));
+		}
+		QualifiedNameHashes many = QualifiedNameHashes.of(names);
+		assertTrue(many.mightIntersect(QualifiedNameHashes.of(Lists.newArrayList(name("a", "b42")))));
+		assertTrue(QualifiedNameHashes.of(Lists.newArrayList(name("a", "b42"))).mightIntersect(many));
+		assertFalse(many.mightIntersect(QualifiedNameHashes.of(Lists.newArrayList(name("a", "b100")))));
+		List<QualifiedName> others = Lists.newArrayList();
+		for (int i = 100; i < 150; i++) {
+			others.add(name("a", "b" + i));
+		}
+		assertFalse(many.mightIntersect(QualifiedNameHashes.of(others)));
+		others.add(name("a", "b99"));
+		assertTrue(many.mightIntersect(QualifiedNameHashes.of(others)));
+	}
+
+	@Test public void testExportedNamesAreLowerCased() {
+		TestResDesc description = new TestResDesc();
+		description.exported.add(EObjectDescription.create(name("Foo", "Bar"), EcorePackage.Literals.EANNOTATION));
+		QualifiedNameHashes hashes = QualifiedNameHashes.ofExportedNames(description, null);
+		assertTrue(hashes.mightContain(name("foo", "bar")));
+		assertFalse(hashes.mightContain(name("Foo", "Bar")));
+	}
+
+	@Test public void testManagerRejectsByHashes() {
+		TestResDesc oldDesc = new TestResDesc();
+		oldDesc.exported.add(EObjectDescription.create(name("Foo"), EcorePackage.Literals.EANNOTATION));
+		TestResDesc newDesc = new TestResDesc();
+		newDesc.exported.add(EObjectDescription.create(name("Bar"), EcorePackage.Literals.EANNOTATION));
+		DefaultResourceDescriptionDelta delta = new DefaultResourceDescriptionDelta(oldDesc, newDesc);
+		TestResDesc candidate = new TestResDesc();
+		candidate.imported.add(name("baz"));
+		DefaultResourceDescriptionManager manager = new DefaultResourceDescriptionManager();
+		assertTrue(manager.canUseNameHashes());
+		assertFalse(manager.mightBeAffected(delta, candidate));
+		candidate.imported.add(name("foo"));
+		assertTrue(manager.mightBeAffected(delta, candidate));
+		assertTrue(manager.isAffected(delta, candidate));
+	}
+
+	@Test public void testCustomizedImportedNamesDoNotUseHashes() {
+		TestResDesc oldDesc = new TestResDesc();
+		oldDesc.exported.add(EObjectDescription.create(name("Foo"), EcorePackage.Literals.EANNOTATION));
+		DefaultResourceDescriptionDelta delta = new DefaultResourceDescriptionDelta(oldDesc, new TestResDesc());
+		TestResDesc candidate = new TestResDesc();
+		candidate.imported.add(name("baz"));
+		DefaultResourceDescriptionManager manager = new DefaultResourceDescriptionManager() {
+			@Override
+			protected Collection<QualifiedName> getImportedNames(IResourceDescription candidate) {
+				return Collections.singletonList(QualifiedName.create("foo"));
+			}
+		};
+		assertFalse(manager.canUseNameHashes());
+		assertTrue(manager.mightBeAffected(delta, candidate));
+		assertTrue(manager.isAffected(delta, candidate));
+	}
+
+	@Test public void testCustomizedExportedNamesDoNotUseHashes() {
+		TestResDesc oldDesc = new TestResDesc();
+		oldDesc.exported.add(EObjectDescription.create(name("Foo"), EcorePackage.Literals.EANNOTATION));
+		DefaultResourceDescriptionDelta delta = new DefaultResourceDescriptionDelta(oldDesc, new TestResDesc());
+		TestResDesc candidate = new TestResDesc();
+		candidate.imported.add(name("Foo"));
+		DefaultResourceDescriptionManager manager = new DefaultResourceDescriptionManager() {
+			@Override
+			protected void addExportedNames(Set<QualifiedName> names, IResourceDescription resourceDescriptor) {
+				if (resourceDescriptor != null) {
+					for (IEObjectDescription description : resourceDescriptor.getExportedObjects()) {
+						names.add(description.getName());
+					}
+				}
+			}
+		};
+		assertFalse(manager.canUseNameHashes());
+		assertTrue(manager.mightBeAffected(delta, candidate));
+		assertTrue(manager.isAffected(delta, candidate));
+	}
+
+	@Test public void testCustomizedIsAffectedDoesNotUseHashes() {
+		DefaultResourceDescriptionManager manager = new DefaultResourceDescriptionManager() {
+			@Override
+			protected boolean isAffected(Collection<QualifiedName> importedNames, IResourceDescription description) {
+				return super.isAffected(importedNames, description);
+			}
+		};
+		assertFalse(manager.canUseNameHashes());
+	}
+
+}
@@ -7,17 +7,77 @@
  *******************************************************************************/
 package org.eclipse.xtext.serializer;
 
+import java.util.Comparator;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.AbstractElement;
+import org.eclipse.xtext.serializer.analysis.ISemanticSequencerNfaProvider.ISemState;
+import org.eclipse.xtext.serializer.diagnostic.ISerializationDiagnostic;
 import org.eclipse.xtext.serializer.sequencer.BacktrackingSemanticSequencer;
+import org.eclipse.xtext.serializer.sequencer.BacktrackingSemanticSequencer.ShapeCache;
 import org.eclipse.xtext.serializer.sequencer.ISemanticSequencer;
+import org.eclipse.xtext.serializer.sequencer.NodeModelSemanticSequencer;
+import org.eclipse.xtext.testing.serializer.DebugSequenceAcceptor;
+import org.junit.Test;
 
 /**
  * @author Moritz Eysholdt - Initial contribution and API
  */
 public class BacktrackingSemanticSequencerTest extends AbstractSemanticSequencerTest {
 
+	public static class CustomSortingSemanticSequencer extends BacktrackingSemanticSequencer {
+		@Override
+		protected Comparator<ISemState> createFollowerSorter(SerializableObject obj, AbstractElement nodeModelEle) {
+			return super.createFollowerSorter(obj, nodeModelEle);
+		}
+	}
+
 	@Override
 	protected ISemanticSequencer getGenericSemanticSequencer() {
 		return get(BacktrackingSemanticSequencer.class);
 	}
 
+	@Test
+	public void testPathIsReusedForObjectsOfSameShape() throws Exception {
+		EObject model = getModel("#3 a kw1 b kw2 c d kw3 e f").eContents().get(0);
+		NodeModelSemanticSequencer nmSequencer = get(NodeModelSemanticSequencer.class);
+		ISerializationContext context = nmSequencer.findContexts(model, true, null).iterator().next();
+
+		ShapeCache cache = get(ShapeCache.class);
+		cache.clear();
+		String backtracked = sequenceWithoutNodeModel(context, model);
+		assertEquals(1, cache.size());
+		String replayed = sequenceWithoutNodeModel(context, model);
+		assertEquals(1, cache.size());
+		assertEquals(backtracked, replayed);
+	}
+
+	@Test
+	public void testPathIsNotReusedWithCustomFollowerSorter() throws Exception {
+		EObject model = getModel("#3 a kw1 b kw2 c d kw3 e f").eContents().get(0);
+		NodeModelSemanticSequencer nmSequencer = get(NodeModelSemanticSequencer.class);
+		ISerializationContext context = nmSequencer.findContexts(model, true, null).iterator().next();
+
+		ShapeCache cache = get(ShapeCache.class);
+		cache.clear();
+		String expected = sequenceWithoutNodeModel(context, model, getGenericSemanticSequencer());
+		cache.clear();
+		String actual = sequenceWithoutNodeModel(context, model, get(CustomSortingSemanticSequencer.class));
+		assertEquals(0, cache.size());
+		assertEquals(expected, actual);
+	}
+
+	private String sequenceWithoutNodeModel(ISerializationContext context, EObject model) {
+		return sequenceWithoutNodeModel(context, model, getGenericSemanticSequencer());
+	}
+
+	private String sequenceWithoutNodeModel(ISerializationContext context, EObject model, ISemanticSequencer sequencer) {
+		EObject copy = EcoreUtil.copy(model);
+		DebugSequenceAcceptor actual = new DebugSequenceAcceptor();
+		sequencer.init(actual, ISerializationDiagnostic.STDERR_ACCEPTOR);
+		sequencer.createSequence(context, copy);
+		return actual.toString();
+	}
+
 }
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.serializer;
+
+import java.util.Map;
+
+import org.eclipse.xtext.Grammar;
+import org.eclipse.xtext.RuleCall;
+import org.eclipse.xtext.XtextStandaloneSetup;
+import org.eclipse.xtext.serializer.analysis.IContextPDAProvider;
+import org.eclipse.xtext.serializer.analysis.IContextTypePDAProvider;
+import org.eclipse.xtext.serializer.analysis.ISerState;
+import org.eclipse.xtext.serializer.analysis.ISyntacticSequencerPDAProvider;
+import org.eclipse.xtext.serializer.analysis.ISyntacticSequencerPDAProvider.ISynAbsorberState;
+import org.eclipse.xtext.serializer.analysis.ISyntacticSequencerPDAProvider.SynAbsorberNfaAdapter;
+import org.eclipse.xtext.serializer.analysis.SerializationContextMap;
+import org.eclipse.xtext.tests.AbstractXtextTests;
+import org.eclipse.xtext.util.formallang.Nfa;
+import org.eclipse.xtext.util.formallang.NfaUtil;
+import org.eclipse.xtext.util.formallang.Pda;
+import org.eclipse.xtext.util.formallang.PdaUtil;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Compares the analyses of the serializer on {@link NfaUtil#index(Nfa) indexed} automata with the analyses on the
+ * automata themselves.
+ */
+public class IndexedNfaAnalysisTest extends AbstractXtextTests {
+
+	private NfaUtil util = new NfaUtil();
+
+	private PdaUtil pdaUtil = new PdaUtil();
+
+	private PdaUtil indexingPdaUtil = new PdaUtil() {
+		{
+			nfaUtil = new NfaUtil() {
+				@Override
+				public boolean isIndexingEnabled() {
+					return true;
+				}
+			};
+		}
+	};
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(XtextStandaloneSetup.class);
+	}
+
+	@Test public void testXtextGrammar() throws Exception {
+		assertSameAnalysis(getGrammarAccess().getGrammar());
+	}
+
+	@Test public void testGrammarWithActionsAndLoops() throws Exception {
+		Grammar grammar = (Grammar) getModel("grammar org.eclipse.xtext.serializer.IndexedNfaAnalysisTestLanguage"
+				+ " with org.eclipse.xtext.common.Terminals"
+				+ " generate indexedNfaAnalysisTest \"http://www.eclipse.org/2016/tmf/xtext/IndexedNfaAnalysisTest\""
+				+ " Model: (elements+=Element | 'group' '{' elements+=Element* '}')*;"
+				+ " Element: Primary ({Binary.left=current} op=('+' | '-') right=Primary)*;"
+				+ " Primary returns Element: {Ref} ref=[Element] | '(' Element ')' | {Lit} value=INT? name=ID;");
+		assertSameAnalysis(grammar);
+	}
+
+	private void assertSameAnalysis(Grammar grammar) {
+		SerializationContextMap<Pda<ISerState, RuleCall>> contextPDAs = get(IContextPDAProvider.class)
+				.getContextPDAs(grammar);
+		for (SerializationContextMap.Entry<Pda<ISerState, RuleCall>> e : contextPDAs.values()) {
+			Pda<ISerState, RuleCall> pda = e.getValue();
+			assertEquals(e.getContexts().toString(), util.distanceToFinalStateMap(pda),
+					util.distanceToFinalStateMap(util.index(pda)));
+			assertSameFollowers(pdaUtil.filterUnambiguousPaths(pda), indexingPdaUtil.filterUnambiguousPaths(pda));
+		}
+		SerializationContextMap<Pda<ISerState, RuleCall>> typePDAs = get(IContextTypePDAProvider.class)
+				.getContextTypePDAs(grammar);
+		for (SerializationContextMap.Entry<Pda<ISerState, RuleCall>> e : typePDAs.values()) {
+			Pda<ISerState, RuleCall> pda = e.getValue();
+			assertEquals(e.getContexts().toString(), util.distanceToFinalStateMap(pda),
+					util.distanceToFinalStateMap(util.index(pda)));
+		}
+		SerializationContextMap<ISynAbsorberState> synPDAs = get(ISyntacticSequencerPDAProvider.class)
+				.getSyntacticSequencerPDAs(grammar);
+		for (SerializationContextMap.Entry<ISynAbsorberState> e : synPDAs.values()) {
+			Nfa<ISynAbsorberState> nfa = new SynAbsorberNfaAdapter(e.getValue());
+			Map<ISynAbsorberState, Integer> distances = util.distanceToFinalStateMap(nfa);
+			Nfa<ISynAbsorberState> indexed = util.index(nfa);
+			Map<ISynAbsorberState, Integer> indexedDistances = util.distanceToFinalStateMap(indexed);
+			assertEquals(e.getContexts().toString(), distances, indexedDistances);
+			assertSameFollowers(util.sort(nfa, distances), util.sort(indexed, indexedDistances));
+		}
+	}
+
+	private <S> void assertSameFollowers(Nfa<S> expected, Nfa<S> actual) {
+		assertEquals(ImmutableList.copyOf(util.collect(expected)), ImmutableList.copyOf(util.collect(actual)));
+		for (S state : util.collect(expected))
+			assertEquals(String.valueOf(state), ImmutableList.copyOf(expected.getFollowers(state)),
+					ImmutableList.copyOf(actual.getFollowers(state)));
+	}
+
+}
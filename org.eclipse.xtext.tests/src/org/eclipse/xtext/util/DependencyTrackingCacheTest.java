@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.xtext.util.OnChangeEvictingCache.CacheAdapter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Provider;
+
+public class DependencyTrackingCacheTest extends Assert {
+
+	private DependencyTrackingCache cache;
+	private Resource resource;
+	private EPackage ePackage;
+	private EClass first;
+	private EClass second;
+
+	@Before
+	public void setUp() {
+		cache = new DependencyTrackingCache();
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		ePackage = factory.createEPackage();
+		ePackage.setName("pack");
+		first = factory.createEClass();
+		first.setName("First");
+		second = factory.createEClass();
+		second.setName("Second");
+		ePackage.getEClassifiers().add(first);
+		ePackage.getEClassifiers().add(second);
+		resource = new ResourceImpl();
+		resource.getContents().add(ePackage);
+	}
+
+	@Test public void testValueWithoutDependenciesIsEvicted() {
+		cache.get("key", resource, provider("value", null));
+		second.setName("Changed");
+		assertNull(cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testUnrelatedChangeKeepsValue() {
+		cache.get("key", resource, provider("value", first));
+		second.setName("Changed");
+		assertEquals("value", cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testChangeOfDependencyEvictsValue() {
+		cache.get("key", resource, provider("value", first));
+		first.setName("Changed");
+		assertNull(cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testChangeOfContainerEvictsValue() {
+		cache.get("key", resource, provider("value", first));
+		ePackage.setName("changed");
+		assertNull(cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testChangeOfContentEvictsValue() {
+		cache.get("key", resource, provider("value", first));
+		first.getESuperTypes().add(second);
+		assertNull(cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testRemovalEvictsValue() {
+		cache.get("key", resource, provider("value", first));
+		ePackage.getEClassifiers().remove(first);
+		assertNull(cache.getOrCreate(resource).get("key"));
+	}
+
+	@Test public void testNestedDependenciesArePropagated() {
+		cache.get("outer", resource, new Provider<String>() {
+			@Override
+			public String get() {
+				cache.dependsOn(first);
+				return cache.get("inner", resource, provider("inner", second)) + "outer";
+			}
+		});
+		ePackage.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+		CacheAdapter adapter = cache.getOrCreate(resource);
+		assertNull(adapter.get("outer"));
+		assertNull(adapter.get("inner"));
+	}
+
+	@Test public void testNestedResourceWideValueIsPropagated() {
+		cache.get("outer", resource, new Provider<String>() {
+			@Override
+			public String get() {
+				cache.dependsOn(first);
+				return cache.get("inner", resource, provider("inner", null)) + "outer";
+			}
+		});
+		CacheAdapter adapter = cache.getOrCreate(resource);
+		assertNull(adapter.getDependencies("outer"));
+		second.setName("Changed");
+		assertNull(adapter.get("outer"));
+	}
+
+	@Test public void testStatistics() {
+		cache.get("key", resource, provider("value", first));
+		cache.get("key", resource, provider("value", first));
+		cache.get("other", resource, provider("value", null));
+		second.setName("Changed");
+		CacheAdapter adapter = cache.getOrCreate(resource);
+		assertEquals(1, adapter.getHits());
+		assertEquals(2, adapter.getMisses());
+		assertEquals(1, adapter.getEvictions());
+		cache.clear(resource);
+		assertEquals(0, adapter.getHits());
+		assertEquals(0, adapter.getMisses());
+		assertEquals(2, adapter.getEvictions());
+	}
+
+	private Provider<String> provider(final String value, final EClass dependency) {
+		return new Provider<String>() {
+			@Override
+			public String get() {
+				if (dependency != null)
+					cache.dependsOn(dependency);
+				return value;
+			}
+		};
+	}
+
+}
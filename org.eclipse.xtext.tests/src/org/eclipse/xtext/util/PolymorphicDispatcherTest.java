@@ -265,4 +265,64 @@ public class PolymorphicDispatcherTest extends Assert {
 		assertEquals("Number_42", dispatcher.invoke(BigInteger.valueOf(42)));
 	}
 
+	static int length(String s) {
+		return s.length();
+	}
+
+	@Test public void testStaticMethodWithPrimitiveResult() {
+		PolymorphicDispatcher<Integer> dispatcher = PolymorphicDispatcher.createForSingleTarget("length", this);
+		assertEquals(Integer.valueOf(3), dispatcher.invoke("foo"));
+	}
+
+	@Test public void testExceptionIsPassedToHandler() {
+		final IllegalStateException exception = new IllegalStateException();
+		Object o1 = new Object() {
+			private String label(Integer i) {
+				throw exception;
+			}
+		};
+		final Throwable[] handled = new Throwable[1];
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>(Lists.newArrayList(o1),
+				new PolymorphicDispatcher.MethodNameFilter("label", 1, 1), new PolymorphicDispatcher.ErrorHandler<String>() {
+					@Override
+					public String handle(Object[] params, Throwable throwable) {
+						handled[0] = throwable;
+						return "handled";
+					}
+				});
+		assertEquals("handled", dispatcher.invoke(new Integer(17)));
+		assertSame(exception, handled[0]);
+	}
+
+	@Test public void testNullForPrimitiveParameterIsPassedToHandler() {
+		Object o1 = new Object() {
+			private String label(int i) {
+				return "int";
+			}
+		};
+		final Throwable[] handled = new Throwable[1];
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>(Lists.newArrayList(o1),
+				new PolymorphicDispatcher.MethodNameFilter("label", 1, 1), new PolymorphicDispatcher.ErrorHandler<String>() {
+					@Override
+					public String handle(Object[] params, Throwable throwable) {
+						handled[0] = throwable;
+						return "handled";
+					}
+				});
+		assertEquals("handled", dispatcher.invoke((Object) null));
+		assertTrue(String.valueOf(handled[0]), handled[0] instanceof IllegalArgumentException);
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testErrorIsRethrown() {
+		Object o1 = new Object() {
+			private String label(Integer i) {
+				throw new AssertionError();
+			}
+		};
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>(Lists.newArrayList(o1),
+				new PolymorphicDispatcher.MethodNameFilter("label", 1, 1), PolymorphicDispatcher.NullErrorHandler.<String>get());
+		dispatcher.invoke(new Integer(17));
+	}
+
 }
@@ -7,6 +7,8 @@
  *******************************************************************************/
 package org.eclipse.xtext.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -74,4 +76,59 @@ public class SimpleCacheTest extends Assert implements Function<String, String>{
 		assertEquals(0, cache.getSize());
 	}
 
+	@Test public void testNullKey() {
+		expectedParam = null;
+		assertEquals("nullnull", cache.get(null));
+		assertEquals("nullnull", cache.get(null));
+		assertEquals(1, callCount);
+		assertTrue(cache.hasCachedValue(null));
+		cache.discard(null);
+		assertFalse(cache.hasCachedValue(null));
+	}
+
+	@Test public void testNullValue() {
+		final int[] calls = new int[1];
+		SimpleCache<String, String> nullCache = new SimpleCache<String, String>(new Function<String, String>() {
+			@Override
+			public String apply(String input) {
+				calls[0]++;
+				return null;
+			}
+		});
+		assertNull(nullCache.get("param"));
+		assertNull(nullCache.get("param"));
+		assertEquals(1, calls[0]);
+		assertTrue(nullCache.hasCachedValue("param"));
+	}
+
+	@Test public void testConcurrentAccess() throws Exception {
+		final SimpleCache<Integer, String> concurrentCache = new SimpleCache<Integer, String>(new Function<Integer, String>() {
+			@Override
+			public String apply(Integer input) {
+				return input.toString();
+			}
+		});
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						Integer key = j % 100;
+						if (!key.toString().equals(concurrentCache.get(key))) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, failures.get());
+		assertEquals(100, concurrentCache.getSize());
+	}
+
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.formallang;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+public class IndexedNfaTest extends Assert {
+
+	private NfaUtil util = new NfaUtil();
+
+	private StringNfa createNfa() {
+		StringNfa nfa = new StringNfa("start", "stop");
+		nfa.start().followedBy("a", "b");
+		nfa.state("a").followedBy("c", "a");
+		nfa.state("b").followedBy("d");
+		nfa.state("c").followedBy("stop", "e");
+		nfa.state("d").followedBy("b");
+		nfa.state("e").followedBy("c");
+		return nfa;
+	}
+
+	@Test public void testFollowers() {
+		StringNfa nfa = createNfa();
+		IndexedNfa<String> indexed = util.index(nfa);
+		assertEquals("start", indexed.getStart());
+		assertEquals("stop", indexed.getStop());
+		for (String state : util.collect(nfa))
+			assertEquals(Lists.newArrayList(nfa.getFollowers(state)), indexed.getFollowers(state));
+		assertEquals(Collections.emptyList(), indexed.getFollowers("unknown"));
+		assertEquals(-1, indexed.indexOf("unknown"));
+	}
+
+	@Test public void testCollect() {
+		StringNfa nfa = createNfa();
+		IndexedNfa<String> indexed = util.index(nfa);
+		assertEquals(ImmutableList.copyOf(util.collect(nfa)), ImmutableList.copyOf(util.collect(indexed)));
+		for (int i = 0; i < indexed.size(); i++)
+			assertEquals(i, indexed.indexOf(indexed.getState(i)));
+	}
+
+	@Test public void testDistanceToFinalState() {
+		StringNfa nfa = createNfa();
+		assertEquals(util.distanceToFinalStateMap(nfa), util.distanceToFinalStateMap(util.index(nfa)));
+		assertEquals(Integer.valueOf(2), util.distanceToFinalStateMap(util.index(nfa)).get("a"));
+		assertFalse(util.distanceToFinalStateMap(util.index(nfa)).containsKey("b"));
+	}
+
+	@Test public void testDistanceToState() {
+		StringNfa nfa = createNfa();
+		Predicate<String> matches = Predicates.in(Arrays.asList("a", "e"));
+		assertEquals(util.distanceToStateMap(nfa, matches), util.distanceToStateMap(util.index(nfa), matches));
+	}
+
+	@Test public void testDistanceFromState() {
+		StringNfa nfa = createNfa();
+		Predicate<String> matches = Predicates.in(Arrays.asList("a", "d"));
+		assertEquals(util.distanceFromStateMap(nfa, matches), util.distanceFromStateMap(util.index(nfa), matches));
+		assertEquals(Integer.valueOf(Integer.MAX_VALUE), util.distanceFromStateMap(util.index(nfa), matches).get("start"));
+	}
+
+	@Test public void testUnreachableStop() {
+		StringNfa nfa = new StringNfa("start", "stop");
+		nfa.start().followedBy("a");
+		nfa.state("a").followedBy("a");
+		nfa.stop().followedBy("a", "stop");
+		IndexedNfa<String> indexed = util.index(nfa);
+		assertEquals(ImmutableList.copyOf(util.collect(nfa)), ImmutableList.copyOf(util.collect(indexed)));
+		assertEquals(util.distanceToFinalStateMap(nfa), util.distanceToFinalStateMap(indexed));
+		assertEquals(Lists.newArrayList("a", "stop"), indexed.getFollowers("stop"));
+	}
+
+	@Test public void testFindFirst() {
+		StringNfa nfa = createNfa();
+		IndexedNfa<String> indexed = util.index(nfa);
+		Predicate<String> matches = Predicates.in(Arrays.asList("c", "d", "stop"));
+		for (String state : util.collect(nfa)) {
+			Iterable<String> starts = Collections.singleton(state);
+			assertEquals(ImmutableList.copyOf(util.findFirst(nfa, starts, matches)),
+					ImmutableList.copyOf(util.findFirst(indexed, starts, matches)));
+		}
+		Iterable<String> starts = Collections.singleton("unknown");
+		assertEquals(util.findFirst(nfa, starts, matches), util.findFirst(indexed, starts, matches));
+	}
+
+	@Test public void testFind() {
+		StringNfa nfa = createNfa();
+		Predicate<String> matches = Predicates.in(Arrays.asList("b", "e"));
+		assertEquals(util.find(nfa, matches), util.find(util.index(nfa), matches));
+	}
+
+	@Test public void testFilterUnambiguousPaths() {
+		StringPda pda = new StringPda("start", "stop");
+		pda.start().followedBy("a", "b");
+		pda.state("a").followedBy("c");
+		pda.state("b").followedBy("d");
+		pda.state("c").followedBy("stop").pop("X");
+		pda.state("d").followedBy("e");
+		pda.state("e").followedBy("stop").pop("X");
+		PdaUtil pdaUtil = new PdaUtil();
+		IndexedPda<String, String> indexed = util.index(pda);
+		assertEquals("X", indexed.getPop("c"));
+		Nfa<String> filtered = pdaUtil.filterUnambiguousPaths(pda);
+		assertEquals(Lists.newArrayList("a"), Lists.newArrayList(filtered.getFollowers("start")));
+	}
+
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsTest extends Assert {
+
+	private boolean wasEnabled;
+
+	@Before
+	public void setUp() {
+		wasEnabled = Metrics.isEnabled();
+		Metrics.setEnabled(true);
+		Metrics.reset();
+	}
+
+	@After
+	public void tearDown() {
+		Metrics.reset();
+		Metrics.setEnabled(wasEnabled);
+	}
+
+	@Test public void testDisabledMetricsAreNotRegistered() {
+		Metrics.setEnabled(false);
+		Metrics.counter("test.disabled").increment();
+		Metrics.timer("test.disabled", "foo").start().stop();
+		assertNull(Metrics.getMetric("test.disabled"));
+		assertNull(Metrics.getMetric("test.disabled[foo]"));
+	}
+
+	@Test public void testKeys() {
+		Counter counter = Metrics.counter("test.counter", "foo");
+		assertEquals("test.counter[foo]", counter.getKey());
+		assertSame(counter, Metrics.getMetric("test.counter[foo]"));
+		assertSame(counter, Metrics.counter("test.counter", "foo"));
+		assertNotSame(counter, Metrics.counter("test.counter"));
+		assertEquals("test.counter", Metrics.counter("test.counter").getKey());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTypeMismatch() {
+		Metrics.counter("test.mismatch");
+		Metrics.timer("test.mismatch");
+	}
+
+	@Test public void testCounter() {
+		Counter counter = Metrics.counter("test.count");
+		counter.increment();
+		counter.add(41);
+		assertEquals(42, counter.getCount());
+		counter.reset();
+		assertEquals(0, counter.getCount());
+	}
+
+	@Test public void testHistogram() {
+		Histogram histogram = Metrics.histogram("test.histogram", null);
+		assertEquals(0, histogram.getPercentile(50));
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(5050, histogram.getSum());
+		assertEquals(1, histogram.getMin());
+		assertEquals(100, histogram.getMax());
+		assertEquals(50.5, histogram.getMean(), 0.0001);
+		assertEquals(63, histogram.getPercentile(50));
+		assertEquals(100, histogram.getPercentile(99));
+		histogram.record(0);
+		assertEquals(0, histogram.getMin());
+	}
+
+	@Test public void testTimerRecordsOnlyOnce() {
+		Timer timer = Metrics.timer("test.timer");
+		Timer.Context context = timer.start();
+		context.stop();
+		context.stop();
+		assertEquals(1, timer.getCount());
+		try (Timer.Context closeable = timer.start()) {
+		}
+		assertEquals(2, timer.getCount());
+	}
+
+	@Test public void testJson() {
+		Counter counter = new Counter("test.json", "a\"b");
+		counter.add(3);
+		assertEquals("[\n  {\"name\": \"test.json\", \"tag\": \"a\\\"b\", \"type\": \"counter\", \"count\": 3}\n]\n",
+				JsonMetricsSink.toJson(Collections.singletonList(counter)));
+	}
+
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.workspace;
+
+import org.eclipse.emf.common.util.URI;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class SourceFolderTrieTest extends Assert {
+
+	@Test public void testFindProjectContaining() {
+		FileProjectConfig foo = new FileProjectConfig(URI.createURI("file:/ws/foo/"), "foo");
+		foo.addSourceFolder("src");
+		foo.addSourceFolder("src-gen");
+		FileProjectConfig bar = new FileProjectConfig(URI.createURI("file:/ws/bar/"), "bar");
+		bar.addSourceFolder("src");
+		SourceFolderTrie trie = new SourceFolderTrie(Lists.newArrayList(foo, bar));
+		assertSame(foo, trie.findProjectContaining(URI.createURI("file:/ws/foo/src/a/b.txt")));
+		assertSame(foo, trie.findProjectContaining(URI.createURI("file:/ws/foo/src-gen/b.txt")));
+		assertSame(bar, trie.findProjectContaining(URI.createURI("file:/ws/bar/src/b.txt")));
+		assertNull(trie.findProjectContaining(URI.createURI("file:/ws/foo/other/b.txt")));
+		assertNull(trie.findProjectContaining(URI.createURI("file:/ws/baz/src/b.txt")));
+		assertNull(trie.findProjectContaining(URI.createURI("http:/ws/foo/src/b.txt")));
+	}
+
+	@Test public void testNestedProjects() {
+		FileProjectConfig outer = new FileProjectConfig(URI.createURI("file:/ws/"), "outer");
+		outer.addSourceFolder(".");
+		FileProjectConfig inner = new FileProjectConfig(URI.createURI("file:/ws/inner/"), "inner");
+		inner.addSourceFolder(".");
+		SourceFolderTrie trie = new SourceFolderTrie(Lists.newArrayList(inner, outer));
+		assertSame(inner, trie.findProjectContaining(URI.createURI("file:/ws/inner/a.txt")));
+		assertSame(outer, trie.findProjectContaining(URI.createURI("file:/ws/other/a.txt")));
+	}
+
+}
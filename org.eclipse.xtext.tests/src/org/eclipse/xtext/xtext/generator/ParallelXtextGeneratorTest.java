@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xtext.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.emf.mwe.core.WorkflowContextImpl;
+import org.eclipse.emf.mwe.core.issues.IssuesImpl;
+import org.eclipse.emf.mwe.core.monitor.NullProgressMonitor;
+import org.eclipse.xtext.tests.TemporaryFolder;
+import org.eclipse.xtext.xtext.generator.grammarAccess.GrammarAccessFragment2;
+import org.eclipse.xtext.xtext.generator.model.project.StandardProjectConfig;
+import org.eclipse.xtext.xtext.generator.resourceFactory.ResourceFactoryFragment2;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+
+public class ParallelXtextGeneratorTest extends Assert {
+
+	private static final String[] GRAMMARS = {
+			"classpath:/org/eclipse/xtext/parser/assignments/AssignmentsTestLanguage.xtext",
+			"classpath:/org/eclipse/xtext/parser/assignments/Bug287184TestLanguage.xtext",
+			"classpath:/org/eclipse/xtext/parser/assignments/Bug288432TestLanguage.xtext" };
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test public void testParallelOutputEqualsSequentialOutput() throws IOException {
+		File sequential = temporaryFolder.newFolder("sequential");
+		File parallel = temporaryFolder.newFolder("parallel");
+		generate(sequential, false);
+		generate(parallel, true);
+		Map<String, String> expected = readFiles(sequential);
+		assertTrue(expected.keySet().toString(), expected.keySet().contains("org.eclipse.xtext.generatortest.ui/plugin.xml"));
+		assertEquals(expected, readFiles(parallel));
+	}
+
+	private void generate(File root, boolean parallel) {
+		XtextGenerator generator = new XtextGenerator();
+		generator.setParallel(parallel);
+		generator.setMaxThreads(GRAMMARS.length);
+		generator.getCleaner().setEnabled(false);
+		generator.getStandaloneSetup().setScanClasspath(false);
+		StandardProjectConfig project = new StandardProjectConfig();
+		project.setBaseName("org.eclipse.xtext.generatortest");
+		project.setRootPath(root.getAbsolutePath());
+		project.getEclipsePlugin().setEnabled(true);
+		generator.getConfiguration().setProject(project);
+		generator.getConfiguration().getCode().setEncoding("ISO-8859-1");
+		generator.getConfiguration().getCode().setLineDelimiter("\n");
+		for (String grammar : GRAMMARS) {
+			XtextGeneratorLanguage language = new XtextGeneratorLanguage();
+			language.setGrammarUri(grammar);
+			language.addFragment(new GrammarAccessFragment2());
+			language.addFragment(new ResourceFactoryFragment2());
+			generator.addLanguage(language);
+		}
+		IssuesImpl issues = new IssuesImpl();
+		generator.invoke(new WorkflowContextImpl(), new NullProgressMonitor(), issues);
+		assertFalse(issues.toString(), issues.hasErrors());
+	}
+
+	private Map<String, String> readFiles(File root) throws IOException {
+		Map<String, String> result = new TreeMap<String, String>();
+		readFiles(root, "", result);
+		return result;
+	}
+
+	private void readFiles(File directory, String prefix, Map<String, String> result) throws IOException {
+		for (File file : directory.listFiles()) {
+			if (file.isDirectory()) {
+				readFiles(file, prefix + file.getName() + "/", result);
+			} else {
+				result.put(prefix + file.getName(), Files.toString(file, Charsets.ISO_8859_1));
+			}
+		}
+	}
+
+}
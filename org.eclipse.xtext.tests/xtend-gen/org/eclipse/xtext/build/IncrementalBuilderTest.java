@@ -11,9 +11,12 @@ import com.google.inject.Inject;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.xtend2.lib.StringConcatenation;
 import org.eclipse.xtext.build.BuildRequest;
 import org.eclipse.xtext.build.IndexState;
@@ -225,6 +228,119 @@ public class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
     Assert.assertTrue(_containsSuffix_1);
   }
   
+  @Test
+  public void testParallelLoading() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Procedure1<BuildRequest> _function = (BuildRequest it) -> {
+        it.setLoadingExecutor(executor);
+        StringConcatenation _builder = new StringConcatenation();
+        _builder.append("foo {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("entity A {foo.B reference}");
+        _builder.newLine();
+        _builder.append("}");
+        _builder.newLine();
+        URI _minus = this.operator_minus(
+          "src/A.indextestlanguage", _builder.toString());
+        StringConcatenation _builder_1 = new StringConcatenation();
+        _builder_1.append("foo {");
+        _builder_1.newLine();
+        _builder_1.append("\t");
+        _builder_1.append("entity B {foo.A reference}");
+        _builder_1.newLine();
+        _builder_1.append("}");
+        _builder_1.newLine();
+        URI _minus_1 = this.operator_minus(
+          "src/B.indextestlanguage", _builder_1.toString());
+        StringConcatenation _builder_2 = new StringConcatenation();
+        _builder_2.append("foo {");
+        _builder_2.newLine();
+        _builder_2.append("\t");
+        _builder_2.append("entity C {foo.A reference}");
+        _builder_2.newLine();
+        _builder_2.append("}");
+        _builder_2.newLine();
+        URI _minus_2 = this.operator_minus(
+          "src/C.indextestlanguage", _builder_2.toString());
+        it.setDirtyFiles(Collections.<URI>unmodifiableList(CollectionLiterals.<URI>newArrayList(_minus, _minus_1, _minus_2)));
+      };
+      BuildRequest _newBuildRequest = this.newBuildRequest(_function);
+      this.build(_newBuildRequest);
+    } finally {
+      executor.shutdown();
+    }
+    String _string = this.issues.toString();
+    boolean _isEmpty = this.issues.isEmpty();
+    Assert.assertTrue(_string, _isEmpty);
+    int _size = this.generated.size();
+    Assert.assertEquals(3, _size);
+    Collection<URI> _values = this.generated.values();
+    boolean _containsSuffix = this.containsSuffix(_values, "src-gen/A.txt");
+    Assert.assertTrue(_containsSuffix);
+    Collection<URI> _values_1 = this.generated.values();
+    boolean _containsSuffix_1 = this.containsSuffix(_values_1, "src-gen/B.txt");
+    Assert.assertTrue(_containsSuffix_1);
+    Collection<URI> _values_2 = this.generated.values();
+    boolean _containsSuffix_2 = this.containsSuffix(_values_2, "src-gen/C.txt");
+    Assert.assertTrue(_containsSuffix_2);
+  }
+  
+  @Test
+  public void testParallelLoadingWithUnreadableFile() {
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Procedure1<BuildRequest> _function = (BuildRequest it) -> {
+        it.setLoadingExecutor(executor);
+        StringConcatenation _builder = new StringConcatenation();
+        _builder.append("foo {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("entity A {}");
+        _builder.newLine();
+        _builder.append("}");
+        _builder.newLine();
+        URI _minus = this.operator_minus(
+          "src/A.indextestlanguage", _builder.toString());
+        URI _uri = this.uri("src/Missing.indextestlanguage");
+        it.setDirtyFiles(Collections.<URI>unmodifiableList(CollectionLiterals.<URI>newArrayList(_minus, _uri)));
+      };
+      BuildRequest _newBuildRequest = this.newBuildRequest(_function);
+      this.build(_newBuildRequest);
+    } finally {
+      executor.shutdown();
+    }
+    String _string = this.issues.toString();
+    int _size = this.issues.size();
+    Assert.assertEquals(_string, 1, _size);
+    int _size_1 = this.generated.size();
+    Assert.assertEquals(1, _size_1);
+    Collection<URI> _values = this.generated.values();
+    boolean _containsSuffix = this.containsSuffix(_values, "src-gen/A.txt");
+    Assert.assertTrue(_containsSuffix);
+  }
+  
+  @Test(expected = WrappedException.class)
+  public void testSequentialLoadingWithUnreadableFile() {
+    final Procedure1<BuildRequest> _function = (BuildRequest it) -> {
+      StringConcatenation _builder = new StringConcatenation();
+      _builder.append("foo {");
+      _builder.newLine();
+      _builder.append("\t");
+      _builder.append("entity A {}");
+      _builder.newLine();
+      _builder.append("}");
+      _builder.newLine();
+      URI _minus = this.operator_minus(
+        "src/A.indextestlanguage", _builder.toString());
+      URI _uri = this.uri("src/Missing.indextestlanguage");
+      it.setDirtyFiles(Collections.<URI>unmodifiableList(CollectionLiterals.<URI>newArrayList(_minus, _uri)));
+    };
+    BuildRequest _newBuildRequest = this.newBuildRequest(_function);
+    this.build(_newBuildRequest);
+  }
+  
   @Test(expected = OperationCanceledException.class)
   public void testCancellation() {
     final IncrementalBuilderTest.CancelOnFirstModel cancelOnFirstModel = new IncrementalBuilderTest.CancelOnFirstModel();
@@ -32,6 +32,7 @@ import org.eclipse.xtext.formatting2.internal.tests.FormatterTestLanguageInjecto
 import org.eclipse.xtext.formatting2.regionaccess.ISemanticRegion;
 import org.eclipse.xtext.formatting2.regionaccess.ISemanticRegionsFinder;
 import org.eclipse.xtext.resource.IResourceFactory;
+import org.eclipse.xtext.resource.SaveOptions;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.testing.InjectWith;
 import org.eclipse.xtext.testing.XtextRunner;
@@ -130,4 +131,59 @@ public class FormatterSerializerIntegrationTest {
       throw Exceptions.sneakyThrow(_e);
     }
   }
+  
+  @Test
+  public void testStreamingSerializationUsesTokenStreamFormatter() {
+    try {
+      URI _createURI = URI.createURI("dummy.ext");
+      final Resource resource = this.factory.createResource(_createURI);
+      ResourceSetImpl _resourceSetImpl = new ResourceSetImpl();
+      EList<Resource> _resources = _resourceSetImpl.getResources();
+      _resources.add(resource);
+      final IDList model = FormattertestlanguageFactory.eINSTANCE.createIDList();
+      EList<String> _ids = model.getIds();
+      _ids.add("foo");
+      EList<String> _ids_1 = model.getIds();
+      _ids_1.add("bar");
+      EList<EObject> _contents = resource.getContents();
+      _contents.add(model);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      SaveOptions.Builder _newBuilder = SaveOptions.newBuilder();
+      SaveOptions.Builder _stream = _newBuilder.stream();
+      SaveOptions _options = _stream.getOptions();
+      Map<Object, Object> _optionsMap = _options.toOptionsMap();
+      resource.save(out, _optionsMap);
+      String _string = out.toString();
+      Assert.assertEquals("idlist foo bar", _string);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  @Test
+  public void testStreamingFormattedSerializationUsesFormatter2() {
+    try {
+      URI _createURI = URI.createURI("dummy.ext");
+      final Resource resource = this.factory.createResource(_createURI);
+      ResourceSetImpl _resourceSetImpl = new ResourceSetImpl();
+      EList<Resource> _resources = _resourceSetImpl.getResources();
+      _resources.add(resource);
+      final IDList model = FormattertestlanguageFactory.eINSTANCE.createIDList();
+      EList<String> _ids = model.getIds();
+      _ids.add("foo");
+      EList<EObject> _contents = resource.getContents();
+      _contents.add(model);
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      SaveOptions.Builder _newBuilder = SaveOptions.newBuilder();
+      SaveOptions.Builder _format = _newBuilder.format();
+      SaveOptions.Builder _stream = _format.stream();
+      SaveOptions _options = _stream.getOptions();
+      Map<Object, Object> _optionsMap = _options.toOptionsMap();
+      resource.save(out, _optionsMap);
+      String _string = out.toString();
+      Assert.assertEquals("idlist  foo", _string);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
 }
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+import com.google.common.collect.Sets;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * A cache that evicts values more selectively than its super class. While a value is computed, the computation may
+ * declare by means of {@link #dependsOn(EObject)} that the value only depends on the state of certain objects, their
+ * containers and their contents. Such a value survives semantic changes in other parts of the resource.
+ *
+ * Values whose computation did not declare any dependency are considered to depend on the whole resource and are
+ * discarded on every semantic change, just like in the {@link OnChangeEvictingCache}. The dependencies of nested
+ * cache lookups are propagated to the enclosing computation, and a lookup of a value that depends on the whole
+ * resource makes the enclosing value depend on the whole resource, too.
+ *
+ * @since 2.11
+ */
+@Singleton
+public class DependencyTrackingCache extends OnChangeEvictingCache {
+
+	private static class Computation {
+		private final Resource resource;
+		private final Set<EObject> dependencies = Sets.newHashSet();
+		private boolean declared = false;
+		private boolean dependsOnEverything = false;
+
+		private Computation(Resource resource) {
+			this.resource = resource;
+		}
+
+		private Set<EObject> getDependencies() {
+			if (!declared || dependsOnEverything)
+				return null;
+			return dependencies;
+		}
+	}
+
+	private final ThreadLocal<Deque<Computation>> computations = new ThreadLocal<Deque<Computation>>() {
+		@Override
+		protected Deque<Computation> initialValue() {
+			return new ArrayDeque<Computation>();
+		}
+	};
+
+	@Override
+	public <T> T get(Object key, Resource resource, final Provider<T> provider) {
+		final Deque<Computation> stack = computations.get();
+		Computation outer = stack.peek();
+		if (resource == null) {
+			if (outer != null)
+				outer.dependsOnEverything = true;
+			return provider.get();
+		}
+		final Computation computation = new Computation(resource);
+		T result = super.get(key, resource, new Provider<T>() {
+			@Override
+			public T get() {
+				stack.push(computation);
+				try {
+					return provider.get();
+				} finally {
+					stack.pop();
+				}
+			}
+		});
+		CacheAdapter adapter = getOrCreate(resource);
+		Set<EObject> dependencies = computation.getDependencies();
+		if (dependencies != null) {
+			adapter.setDependencies(key, dependencies);
+		}
+		if (outer != null) {
+			Set<EObject> cachedDependencies = adapter.getDependencies(key);
+			if (cachedDependencies == null || outer.resource != resource) {
+				outer.dependsOnEverything = true;
+			} else {
+				outer.dependencies.addAll(cachedDependencies);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Declares that the value that is currently computed by this thread only depends on the state of the given
+	 * object, its containers and its contents. May be called multiple times to add further dependencies. Has no
+	 * effect if no value is currently computed.
+	 */
+	public void dependsOn(EObject object) {
+		Computation current = computations.get().peek();
+		if (current != null) {
+			current.declared = true;
+			current.dependencies.add(object);
+		}
+	}
+
+}
@@ -11,12 +11,16 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.Resource.Diagnostic;
 import org.eclipse.emf.ecore.util.EContentAdapter;
@@ -169,6 +173,7 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 				log.debug(String.format("Discarding %d temporary cache entries", keys.size()));
 			}
 			adapter.values.keySet().removeAll(keys);
+			adapter.dependencies.keySet().removeAll(keys);
 			adapter.ignoreValuesMemento = previous;
 		}
 
@@ -182,6 +187,11 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		private static final Object NULL = new Object();
 		
 		private final Map<Object, Object> values = new ConcurrentHashMap<Object, Object>(500);
+		
+		/**
+		 * The keys of the values that only depend on a part of the resource.
+		 */
+		private final Map<Object, Set<EObject>> dependencies = new ConcurrentHashMap<Object, Set<EObject>>();
 
 		private final Collection<Listener> listeners = Sets.newLinkedHashSet();
 		
@@ -196,8 +206,9 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		
 		private Resource resource;
 		
-		private int misses = 0;
-		private int hits = 0;
+		private final AtomicLong misses = new AtomicLong();
+		private final AtomicLong hits = new AtomicLong();
+		private final AtomicLong evictions = new AtomicLong();
 
 		public void set(Object name, Object value) {
 			empty = false;
@@ -231,14 +242,61 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		 * @since 2.1
 		 */
 		protected void cacheMiss() {
-			misses++;
+			misses.incrementAndGet();
 		}
 		
 		/**
 		 * @since 2.1
 		 */
 		protected void cacheHit() {
-			hits++;
+			hits.incrementAndGet();
+		}
+		
+		/**
+		 * @return the number of cache hits since the values of this adapter were cleared the last time.
+		 * @since 2.11
+		 */
+		public long getHits() {
+			return hits.get();
+		}
+		
+		/**
+		 * @return the number of cache misses since the values of this adapter were cleared the last time.
+		 * @since 2.11
+		 */
+		public long getMisses() {
+			return misses.get();
+		}
+		
+		/**
+		 * @return the number of values that were discarded because of semantic changes or explicit clearing since
+		 *         this adapter was created.
+		 * @since 2.11
+		 */
+		public long getEvictions() {
+			return evictions.get();
+		}
+		
+		/**
+		 * Declares that the value for the given key only depends on the state of the given objects, their
+		 * containers and their contents. It will survive semantic changes in other parts of the resource. Has no
+		 * effect if no value is cached for the key.
+		 * 
+		 * @since 2.11
+		 */
+		public void setDependencies(Object name, Set<EObject> dependencies) {
+			if (values.containsKey(name)) {
+				this.dependencies.put(name, dependencies);
+			}
+		}
+		
+		/**
+		 * @return the objects the value for the given key depends on or <code>null</code> if the value depends on
+		 *         the whole resource or is not cached.
+		 * @since 2.11
+		 */
+		public Set<EObject> getDependencies(Object name) {
+			return dependencies.get(name);
 		}
 		
 		@SuppressWarnings("unchecked")
@@ -268,7 +326,11 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		public void notifyChanged(Notification notification) {
 			super.notifyChanged(notification);
 			if (ignoreNotificationCounter.get() == 0 && !ignoreNotifications && isSemanticStateChange(notification)) {
-				clearValues();
+				if (dependencies.isEmpty() || !(notification.getNotifier() instanceof EObject)) {
+					clearValues();
+				} else {
+					evictValues(notification);
+				}
 				Iterator<Listener> iter = listeners.iterator();
 				while(iter.hasNext()) {
 					Listener next = iter.next();
@@ -282,15 +344,69 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 			if (!empty) {
 				if (log.isDebugEnabled()) {
 					String lastSegment = resource != null && resource.getURI() != null ? resource.getURI().lastSegment() : "null";
+					long hits = this.hits.get();
+					long misses = this.misses.get();
 					log.debug(String.format("Clear %d cache entries for resource %s after %d hits and %d misses (quota: %d%%)", 
 							values.size(), lastSegment, hits, misses, hits + misses != 0 ? hits * 100 / (hits + misses) : 0));
 				}
+				evictions.addAndGet(values.size());
 				values.clear();
+				dependencies.clear();
 				empty = true;
-				misses = 0;
-				hits = 0;
+				misses.set(0);
+				hits.set(0);
 			}
 		}
+		
+		/**
+		 * Discards all values that depend on the whole resource and all values whose dependencies are affected by
+		 * the given notification.
+		 */
+		private void evictValues(Notification notification) {
+			List<EObject> changed = getChangedObjects(notification);
+			Iterator<Object> keys = values.keySet().iterator();
+			while (keys.hasNext()) {
+				Object key = keys.next();
+				Set<EObject> dependsOn = dependencies.get(key);
+				if (dependsOn == null || isAffected(dependsOn, changed)) {
+					keys.remove();
+					dependencies.remove(key);
+					evictions.incrementAndGet();
+				}
+			}
+			empty = values.isEmpty();
+		}
+		
+		private List<EObject> getChangedObjects(Notification notification) {
+			List<EObject> result = Lists.newArrayList((EObject) notification.getNotifier());
+			Object feature = notification.getFeature();
+			if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+				addObjects(notification.getOldValue(), result);
+				addObjects(notification.getNewValue(), result);
+			}
+			return result;
+		}
+		
+		private void addObjects(Object value, List<EObject> result) {
+			if (value instanceof EObject) {
+				result.add((EObject) value);
+			} else if (value instanceof Collection<?>) {
+				for (Object element : (Collection<?>) value) {
+					if (element instanceof EObject)
+						result.add((EObject) element);
+				}
+			}
+		}
+		
+		private boolean isAffected(Set<EObject> dependsOn, List<EObject> changed) {
+			for (EObject dependency : dependsOn) {
+				for (EObject changedObject : changed) {
+					if (EcoreUtil.isAncestor(changedObject, dependency) || EcoreUtil.isAncestor(dependency, changedObject))
+						return true;
+				}
+			}
+			return false;
+		}
 
 		private boolean isSemanticStateChange(Notification notification) {
 			return !notification.isTouch() && !(notification.getNewValue() instanceof Diagnostic) && !(notification.getOldValue() instanceof Diagnostic);
@@ -10,8 +10,11 @@ package org.eclipse.xtext.util;
 
 import static org.eclipse.xtext.util.ReflectionUtil.*;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,8 +26,17 @@ import org.apache.log4j.Logger;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 /**
+ * Invokes the most specific method of the given targets that accepts the actual parameter types.
+ * 
+ * The methods that match a list of parameter types are computed once and cached. Dispatchers with a single parameter,
+ * which is by far the most common case, use a concurrent table that is indexed by the parameter class. The chosen
+ * method is invoked by means of a {@link MethodHandle} instead of reflection.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  */
 public class PolymorphicDispatcher<RT> {
@@ -170,11 +182,18 @@ public class PolymorphicDispatcher<RT> {
 	protected class MethodDesc {
 		private final Object target;
 		private final Method method;
+		private final boolean hasPrimitiveParameters;
+		private volatile MethodHandle methodHandle;
 
 		protected MethodDesc(Object target, Method method) {
 			super();
 			this.target = target;
 			this.method = method;
+			boolean primitive = false;
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				primitive |= parameterType.isPrimitive();
+			}
+			this.hasPrimitiveParameters = primitive;
 		}
 
 		public Class<?> getDeclaringClass() {
@@ -193,6 +212,43 @@ public class PolymorphicDispatcher<RT> {
 			return target;
 		}
 
+		/**
+		 * @return a method handle that is bound to the {@link #getTarget() target} and accepts the arguments as an
+		 *         array.
+		 * @since 2.11
+		 */
+		public MethodHandle getMethodHandle() throws IllegalAccessException {
+			MethodHandle result = methodHandle;
+			if (result == null) {
+				method.setAccessible(true);
+				result = MethodHandles.lookup().unreflect(method);
+				if (!Modifier.isStatic(method.getModifiers())) {
+					result = result.bindTo(target);
+				}
+				result = result.asSpreader(Object[].class, method.getParameterTypes().length)
+						.asType(MethodType.methodType(Object.class, Object[].class));
+				methodHandle = result;
+			}
+			return result;
+		}
+
+		/**
+		 * Invokes the method with the given arguments. Like {@link Method#invoke(Object, Object...) reflection}, an
+		 * {@link IllegalArgumentException} is thrown if {@code null} is passed for a primitive parameter.
+		 * 
+		 * @since 2.11
+		 */
+		protected Object invoke(Object[] params) throws Throwable {
+			if (hasPrimitiveParameters) {
+				Class<?>[] parameterTypes = getParameterTypes();
+				for (int i = 0; i < parameterTypes.length; i++) {
+					if (params[i] == null && parameterTypes[i].isPrimitive())
+						throw new IllegalArgumentException("Cannot pass null for parameter " + i + " of " + method);
+				}
+			}
+			return getMethodHandle().invokeExact(params);
+		}
+
 		public boolean isInvokeable(final List<Class<?>> paramTypes) {
 			if (getParameterTypes().length != paramTypes.size())
 				return false;
@@ -251,29 +307,44 @@ public class PolymorphicDispatcher<RT> {
 			new Function<List<Class<?>>, List<MethodDesc>>() {
 				@Override
 				public List<MethodDesc> apply(List<Class<?>> paramTypes) {
-					List<MethodDesc> result = new ArrayList<MethodDesc>();
-					Iterator<MethodDesc> iterator = declaredMethodsOrderedBySpecificParameterType.iterator();
-					while (iterator.hasNext()) {
-						MethodDesc methodDesc = iterator.next();
-						if (methodDesc.isInvokeable(paramTypes)) {
-							if (result.isEmpty()) {
-								result.add(methodDesc);
-							} else {
-								int compare = compare(result.get(0), methodDesc);
-								if (compare < 0) {
-									result.clear();
-									result.add(methodDesc);
-								} else if (compare == 0) {
-									result.add(methodDesc);
-								}
-							}
-						}
-					}
-					return result;
+					return findMethods(paramTypes);
 				}
 			}
 		);
 
+	/**
+	 * The dispatch table for a single parameter. Classes are compared by identity, so the keys can be weak.
+	 */
+	private final LoadingCache<Class<?>, List<MethodDesc>> singleParameterCache = CacheBuilder.newBuilder().weakKeys()
+			.build(new CacheLoader<Class<?>, List<MethodDesc>>() {
+				@Override
+				public List<MethodDesc> load(Class<?> paramType) {
+					return findMethods(Collections.<Class<?>>singletonList(paramType));
+				}
+			});
+
+	private List<MethodDesc> findMethods(List<Class<?>> paramTypes) {
+		List<MethodDesc> result = new ArrayList<MethodDesc>();
+		Iterator<MethodDesc> iterator = declaredMethodsOrderedBySpecificParameterType.iterator();
+		while (iterator.hasNext()) {
+			MethodDesc methodDesc = iterator.next();
+			if (methodDesc.isInvokeable(paramTypes)) {
+				if (result.isEmpty()) {
+					result.add(methodDesc);
+				} else {
+					int compare = compare(result.get(0), methodDesc);
+					if (compare < 0) {
+						result.clear();
+						result.add(methodDesc);
+					} else if (compare == 0) {
+						result.add(methodDesc);
+					}
+				}
+			}
+		}
+		return result;
+	}
+
 	@SuppressWarnings("unchecked")
 	public RT invoke(Object... params) {
 		if (methodFilter instanceof MethodNameFilter) {
@@ -282,7 +353,12 @@ public class PolymorphicDispatcher<RT> {
 				throw new IllegalArgumentException("Wrong number of arguments. Expected "+filter.getMinParams()+" to "+filter.getMaxParams()+".");
 			}
 		}
-		List<MethodDesc> result = cache.get(getTypes(params));
+		List<MethodDesc> result;
+		if (params.length == 1) {
+			result = singleParameterCache.getUnchecked(getType(params, 0));
+		} else {
+			result = cache.get(getTypes(params));
+		}
 		// check if ambiguous
 		if (result.size()>1)
 			return handleAmbigousMethods(result, params);
@@ -291,16 +367,10 @@ public class PolymorphicDispatcher<RT> {
 			return handleNoSuchMethod(params);
 
 		try {
-			MethodDesc current = result.get(0);
-			current.method.setAccessible(true);
-			return (RT) current.method.invoke(current.target, params);
-		} catch (InvocationTargetException e) {
-			if (e.getTargetException() instanceof Error)
-				throw (Error) e.getTargetException();
-			return handler.handle(params, e.getTargetException());
-		} catch (IllegalArgumentException e) {
-			return handler.handle(params, e);
-		} catch (IllegalAccessException e) {
+			return (RT) result.get(0).invoke(params);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			return handler.handle(params, e);
 		}
 	}
@@ -320,15 +390,18 @@ public class PolymorphicDispatcher<RT> {
 	private List<Class<?>> getTypes(Object[] params) {
 		List<Class<?>> result = new ArrayList<Class<?>>(params.length);
 		for (int i = 0; i < params.length; i++) {
-			if (params[i]!=null) {
-				result.add(params[i].getClass());
-			} else {
-				result.add(getDefaultClass(i));
-			}
+			result.add(getType(params, i));
 		}
 		return result;
 	}
 
+	private Class<?> getType(Object[] params, int index) {
+		if (params[index] != null) {
+			return params[index].getClass();
+		}
+		return getDefaultClass(index);
+	}
+
 	/**
 	 * @return {@code Void.class}
 	 */
@@ -7,11 +7,10 @@
  *******************************************************************************/
 package org.eclipse.xtext.util;
 
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.base.Function;
 
@@ -39,98 +38,143 @@ import com.google.common.base.Function;
  * will be reclaimend automatically. In such cases, clients have to discard the values for a key explicitly.
  * 
  * Please note that {@link Function#apply(Object)} may be invoked concurrently while the cache
- * itself is threadsafe.
+ * itself is threadsafe. Reads do not lock, and writes only contend with writes to the same 
+ * bin of the underlying {@link ConcurrentHashMap}. Keys are compared by {@link Object#equals(Object)},
+ * just like in a {@link java.util.WeakHashMap}.
  * 
  * @author Sebastian Zarnekow - Initial contribution and API
  */
 public class SimpleCache<Key, Value> {
 
-	private final Map<Key, Value> content;
-	private final ReentrantReadWriteLock readWriteLock;
-	private final ReadLock readLock;
-	private final WriteLock writeLock;
+	/**
+	 * Stands in for <code>null</code> keys and values, which are not supported by the {@link ConcurrentHashMap}.
+	 */
+	private static final Object NULL = new Object();
+
+	/**
+	 * The key of an entry. Equal to the lookup keys and entry keys whose referent is equal to its referent.
+	 * Once it has been cleared, it is only equal to itself.
+	 */
+	private static class WeakKey extends WeakReference<Object> {
+		private final int hashCode;
+
+		WeakKey(Object key, ReferenceQueue<Object> queue) {
+			super(key, queue);
+			this.hashCode = key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this)
+				return true;
+			Object key = get();
+			if (key == null)
+				return false;
+			if (obj instanceof LookupKey)
+				return key.equals(((LookupKey) obj).key);
+			if (obj instanceof WeakKey)
+				return key.equals(((WeakKey) obj).get());
+			return false;
+		}
+	}
+
+	/**
+	 * A strongly referenced key that is only used to look up entries.
+	 */
+	private static class LookupKey {
+		private final Object key;
+
+		LookupKey(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof WeakKey)
+				return key.equals(((WeakKey) obj).get());
+			if (obj instanceof LookupKey)
+				return key.equals(((LookupKey) obj).key);
+			return false;
+		}
+	}
+
+	private final ConcurrentHashMap<Object, Object> content;
+	private final ReferenceQueue<Object> queue;
 	private final Function<Key, Value> f;
 
 	public SimpleCache(Function<Key, Value> f) {
 		if (f == null) {
 			throw new IllegalArgumentException("function may not be null");
 		}
-		this.readWriteLock = new ReentrantReadWriteLock();
-		this.readLock = readWriteLock.readLock();
-		this.writeLock = readWriteLock.writeLock();
 		this.f = f;
-		this.content = new WeakHashMap<Key, Value>();
+		this.content = new ConcurrentHashMap<Object, Object>();
+		this.queue = new ReferenceQueue<Object>();
 	}
 
 	public Value get(Key k) {
-		Value result = null;
-		try {
-			readLock.lock();
-			result = content.get(k);
-			if (result != null || content.containsKey(k))
-				return result;
-		} finally {
-			readLock.unlock();
-		}
-		result = f.apply(k);
-		try {
-			writeLock.lock();
-			// f.apply(k) should produce equal results for equal keys
-			// it is save to put the new result without checking for a
-			// value that has been set meanwhile
-			content.put(k, result);
-		} finally {
-			writeLock.unlock();
-		}
-		return result;
+		Object result = content.get(new LookupKey(maskNull(k)));
+		if (result != null)
+			return unmaskNull(result);
+		Value value = f.apply(k);
+		expungeStaleEntries();
+		// f.apply(k) should produce equal results for equal keys
+		// it is save to put the new result without checking for a
+		// value that has been set meanwhile
+		content.put(new WeakKey(maskNull(k), queue), maskNull(value));
+		return value;
 	}
 
 	public void clear() {
-		try {
-			writeLock.lock();
-			if (!content.isEmpty())
-				content.clear();
-		} finally {
-			writeLock.unlock();
-		}
+		content.clear();
+		expungeStaleEntries();
 	}
 
 	public void discard(Key k) {
-		try {
-			writeLock.lock();
-			content.remove(k);
-		} finally {
-			writeLock.unlock();
-		}
+		content.remove(new LookupKey(maskNull(k)));
+		expungeStaleEntries();
 	}
 	
 	// for testing purpose
 	
 	public boolean hasCachedValue(Key key) {
-		try {
-			readLock.lock();
-			return content.containsKey(key);
-		} finally {
-			readLock.unlock();
-		}
+		expungeStaleEntries();
+		return content.containsKey(new LookupKey(maskNull(key)));
 	}
 	
 	public int getSize() {
-		try {
-			readLock.lock();
-			return content.size();
-		} finally {
-			readLock.unlock();
-		}
+		expungeStaleEntries();
+		return content.size();
 	}
 
 	public boolean isEmpty() {
-		try {
-			readLock.lock();
-			return content.isEmpty();
-		} finally {
-			readLock.unlock();
+		expungeStaleEntries();
+		return content.isEmpty();
+	}
+
+	private void expungeStaleEntries() {
+		Reference<? extends Object> reference;
+		while ((reference = queue.poll()) != null) {
+			content.remove(reference);
 		}
 	}
 
+	private static Object maskNull(Object object) {
+		return object == null ? NULL : object;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Value unmaskNull(Object object) {
+		return object == NULL ? null : (Value) object;
+	}
+
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A reader over a completely decoded source text that exposes the text itself. Consumers that need the whole document
+ * anyway, e.g. the parser and the node model, can use the {@link #getText() text} directly instead of copying it
+ * character by character.
+ * 
+ * @since 2.11
+ */
+public class SourceTextReader extends StringReader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final String text;
+
+	public SourceTextReader(String text) {
+		super(text);
+		this.text = text;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Reads the given stream up to its end and decodes its bytes in a single pass. The stream is not closed.
+	 */
+	public static SourceTextReader read(InputStream in, String encoding) throws IOException {
+		return new SourceTextReader(readText(in, encoding));
+	}
+
+	/**
+	 * Reads the given stream up to its end and decodes its bytes in a single pass. The internal buffer is sized
+	 * according to the {@link InputStream#available() available} bytes, which is the exact file size for most file
+	 * based streams. The stream is not closed.
+	 */
+	public static String readText(InputStream in, String encoding) throws IOException {
+		byte[] buffer = new byte[Math.max(in.available() + 1, DEFAULT_BUFFER_SIZE)];
+		int length = 0;
+		int read;
+		while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+			length += read;
+			if (length == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+		}
+		return new String(buffer, 0, length, Charset.forName(encoding));
+	}
+
+}
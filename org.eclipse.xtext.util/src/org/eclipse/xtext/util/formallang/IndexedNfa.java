@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.formallang;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+/**
+ * An immutable snapshot of an {@link Nfa} that numbers its states and stores the followers in primitive arrays, in
+ * compressed sparse row layout. The states that are reachable from the start state are numbered in the order of
+ * {@link NfaUtil#collect(Nfa)}, followed by the stop state and its followers if the stop state is not reachable.
+ *
+ * Besides implementing {@link Nfa}, the index provides graph algorithms that work on state numbers and {@link BitSet
+ * bit sets}, so they don't hash or allocate per visited state. {@link NfaUtil} uses them automatically when it is
+ * passed an index, see {@link NfaUtil#index(Nfa)}.
+ *
+ * @since 2.11
+ */
+public class IndexedNfa<S> implements Nfa<S> {
+
+	protected final List<S> states;
+
+	protected final Map<S, Integer> indices;
+
+	/**
+	 * The followers of the state {@code i} are {@code followers[followerOffsets[i]]} to
+	 * {@code followers[followerOffsets[i + 1] - 1]}.
+	 */
+	protected final int[] followerOffsets;
+
+	protected final int[] followers;
+
+	protected final int start;
+
+	protected final int stop;
+
+	protected final BitSet reachable;
+
+	/**
+	 * The offsets and the predecessors of the inverse edges, computed lazily.
+	 */
+	private volatile int[][] inverse;
+
+	public IndexedNfa(Nfa<S> nfa) {
+		ImmutableList.Builder<S> builder = ImmutableList.builder();
+		Map<S, Integer> indices = Maps.newHashMap();
+		collect(nfa, nfa.getStart(), builder, indices);
+		int reachableCount = indices.size();
+		collect(nfa, nfa.getStop(), builder, indices);
+		this.states = builder.build();
+		this.indices = indices;
+		this.start = indices.get(nfa.getStart());
+		this.stop = indices.get(nfa.getStop());
+		this.reachable = new BitSet(states.size());
+		this.reachable.set(0, reachableCount);
+		this.followerOffsets = new int[states.size() + 1];
+		int[] followers = new int[states.size()];
+		int count = 0;
+		for (int i = 0; i < states.size(); i++) {
+			followerOffsets[i] = count;
+			for (S follower : nfa.getFollowers(states.get(i))) {
+				if (count == followers.length)
+					followers = copyOf(followers, followers.length * 2);
+				followers[count++] = indices.get(follower);
+			}
+		}
+		followerOffsets[states.size()] = count;
+		this.followers = copyOf(followers, count);
+	}
+
+	/**
+	 * Numbers the states in the pre-order of a depth first traversal. The traversal uses an explicit stack, so large
+	 * automata don't exhaust the call stack.
+	 */
+	private void collect(Nfa<S> nfa, S root, ImmutableList.Builder<S> builder, Map<S, Integer> indices) {
+		if (indices.containsKey(root))
+			return;
+		List<Iterator<S>> stack = new ArrayList<Iterator<S>>();
+		indices.put(root, indices.size());
+		builder.add(root);
+		stack.add(nfa.getFollowers(root).iterator());
+		while (!stack.isEmpty()) {
+			Iterator<S> iterator = stack.get(stack.size() - 1);
+			if (!iterator.hasNext()) {
+				stack.remove(stack.size() - 1);
+				continue;
+			}
+			S next = iterator.next();
+			if (!indices.containsKey(next)) {
+				indices.put(next, indices.size());
+				builder.add(next);
+				stack.add(nfa.getFollowers(next).iterator());
+			}
+		}
+	}
+
+	private static int[] copyOf(int[] array, int length) {
+		int[] result = new int[length];
+		System.arraycopy(array, 0, result, 0, Math.min(array.length, length));
+		return result;
+	}
+
+	@Override
+	public S getStart() {
+		return states.get(start);
+	}
+
+	@Override
+	public S getStop() {
+		return states.get(stop);
+	}
+
+	@Override
+	public List<S> getFollowers(S state) {
+		final int index = indexOf(state);
+		if (index < 0)
+			return Collections.emptyList();
+		return new AbstractList<S>() {
+			@Override
+			public S get(int i) {
+				return states.get(followers[followerOffsets[index] + i]);
+			}
+
+			@Override
+			public int size() {
+				return followerOffsets[index + 1] - followerOffsets[index];
+			}
+		};
+	}
+
+	public int size() {
+		return states.size();
+	}
+
+	/**
+	 * @return the number of the given state, or -1 if it is not part of this automaton.
+	 */
+	public int indexOf(S state) {
+		Integer result = indices.get(state);
+		return result == null ? -1 : result;
+	}
+
+	public S getState(int index) {
+		return states.get(index);
+	}
+
+	public int getStartIndex() {
+		return start;
+	}
+
+	public int getStopIndex() {
+		return stop;
+	}
+
+	/**
+	 * @return the states that are reachable from the start state. Contains all states except for an unreachable stop
+	 *         state and its followers.
+	 */
+	public BitSet getReachable() {
+		return (BitSet) reachable.clone();
+	}
+
+	/**
+	 * @return the states that match the given predicate.
+	 */
+	public BitSet matching(Predicate<? super S> predicate) {
+		BitSet result = new BitSet(states.size());
+		for (int i = 0; i < states.size(); i++)
+			if (predicate.apply(states.get(i)))
+				result.set(i);
+		return result;
+	}
+
+	/**
+	 * @return the states from which one of the given target states can be reached by following the edges that start
+	 *         at reachable states, including the targets themselves.
+	 */
+	public BitSet canReach(BitSet targets) {
+		BitSet result = (BitSet) targets.clone();
+		int[] queue = new int[states.size()];
+		int tail = 0;
+		for (int i = targets.nextSetBit(0); i >= 0; i = targets.nextSetBit(i + 1))
+			queue[tail++] = i;
+		int[][] inverse = getInverse();
+		int[] offsets = inverse[0];
+		int[] predecessors = inverse[1];
+		for (int head = 0; head < tail; head++) {
+			int state = queue[head];
+			for (int j = offsets[state]; j < offsets[state + 1]; j++) {
+				int predecessor = predecessors[j];
+				if (!result.get(predecessor)) {
+					result.set(predecessor);
+					queue[tail++] = predecessor;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the length of the shortest path from one of the source states to each state of the domain, following
+	 * edges in their direction. Paths only pass through states of the domain.
+	 *
+	 * @return the distances indexed by state number. Unreached states have the distance {@link Integer#MAX_VALUE}.
+	 */
+	public int[] distancesFrom(BitSet sources, BitSet domain) {
+		return distances(sources, domain, followerOffsets, followers);
+	}
+
+	/**
+	 * Computes the length of the shortest path from each state of the domain to one of the target states. Paths only
+	 * pass through states of the domain and use edges that start at reachable states.
+	 *
+	 * @return the distances indexed by state number. States that can't reach a target have the distance
+	 *         {@link Integer#MAX_VALUE}.
+	 */
+	public int[] distancesTo(BitSet targets, BitSet domain) {
+		int[][] inverse = getInverse();
+		return distances(targets, domain, inverse[0], inverse[1]);
+	}
+
+	protected int[] distances(BitSet sources, BitSet domain, int[] offsets, int[] edges) {
+		int[] result = new int[states.size()];
+		Arrays.fill(result, Integer.MAX_VALUE);
+		int[] queue = new int[states.size()];
+		int tail = 0;
+		for (int i = sources.nextSetBit(0); i >= 0; i = sources.nextSetBit(i + 1)) {
+			if (domain.get(i)) {
+				result[i] = 0;
+				queue[tail++] = i;
+			}
+		}
+		for (int head = 0; head < tail; head++) {
+			int state = queue[head];
+			int distance = result[state] + 1;
+			for (int j = offsets[state]; j < offsets[state + 1]; j++) {
+				int next = edges[j];
+				if (result[next] == Integer.MAX_VALUE && domain.get(next)) {
+					result[next] = distance;
+					queue[tail++] = next;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return a map from the states of the domain to their distance, in the order of the state numbers.
+	 */
+	public Map<S, Integer> toMap(int[] distances, BitSet domain) {
+		Map<S, Integer> result = Maps.newLinkedHashMap();
+		for (int i = domain.nextSetBit(0); i >= 0; i = domain.nextSetBit(i + 1))
+			result.put(states.get(i), distances[i]);
+		return result;
+	}
+
+	/**
+	 * Visits the states level by level, starting with the given states, and returns the states of the first level
+	 * that contains a match. Within a level, states are ordered by the time they were discovered.
+	 *
+	 * @return the numbers of the matching states, or an empty array if no state matches.
+	 */
+	public int[] findFirst(int[] starts, Predicate<? super S> match) {
+		BitSet visited = new BitSet(states.size());
+		int[] current = new int[states.size()];
+		int currentSize = 0;
+		for (int s : starts) {
+			if (!visited.get(s)) {
+				visited.set(s);
+				current[currentSize++] = s;
+			}
+		}
+		int[] next = new int[states.size()];
+		while (currentSize > 0) {
+			int[] result = null;
+			int resultSize = 0;
+			for (int i = 0; i < currentSize; i++) {
+				if (match.apply(states.get(current[i]))) {
+					if (result == null)
+						result = new int[currentSize - i];
+					result[resultSize++] = current[i];
+				}
+			}
+			if (result != null)
+				return copyOf(result, resultSize);
+			int nextSize = 0;
+			for (int i = 0; i < currentSize; i++) {
+				int state = current[i];
+				for (int j = followerOffsets[state]; j < followerOffsets[state + 1]; j++) {
+					int follower = followers[j];
+					if (!visited.get(follower)) {
+						visited.set(follower);
+						next[nextSize++] = follower;
+					}
+				}
+			}
+			int[] tmp = current;
+			current = next;
+			next = tmp;
+			currentSize = nextSize;
+		}
+		return new int[0];
+	}
+
+	/**
+	 * The inverse edges are only computed when they are needed the first time. Like {@link NfaUtil#inverse(Nfa)}, they
+	 * only cover edges that start at reachable states.
+	 *
+	 * @return the offsets and the predecessors of the inverse edges, in the same layout as the followers.
+	 */
+	protected int[][] getInverse() {
+		int[][] result = inverse;
+		if (result == null) {
+			int[] offsets = new int[states.size() + 1];
+			for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1))
+				for (int j = followerOffsets[i]; j < followerOffsets[i + 1]; j++)
+					offsets[followers[j] + 1]++;
+			for (int i = 0; i < states.size(); i++)
+				offsets[i + 1] += offsets[i];
+			int[] fill = copyOf(offsets, states.size());
+			int[] predecessors = new int[offsets[states.size()]];
+			for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1))
+				for (int j = followerOffsets[i]; j < followerOffsets[i + 1]; j++)
+					predecessors[fill[followers[j]]++] = i;
+			inverse = result = new int[][] { offsets, predecessors };
+		}
+		return result;
+	}
+
+}
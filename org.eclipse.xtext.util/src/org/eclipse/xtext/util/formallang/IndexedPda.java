@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.formallang;
+
+/**
+ * An {@link IndexedNfa} of a {@link Pda}. The stack operations of the states are taken from the original automaton.
+ *
+ * @since 2.11
+ */
+public class IndexedPda<S, P> extends IndexedNfa<S> implements Pda<S, P> {
+
+	protected final Pda<S, P> pda;
+
+	public IndexedPda(Pda<S, P> pda) {
+		super(pda);
+		this.pda = pda;
+	}
+
+	@Override
+	public P getPop(S state) {
+		return pda.getPop(state);
+	}
+
+	@Override
+	public P getPush(S state) {
+		return pda.getPush(state);
+	}
+
+}
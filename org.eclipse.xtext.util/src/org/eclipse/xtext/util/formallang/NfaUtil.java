@@ -8,6 +8,7 @@
 package org.eclipse.xtext.util.formallang;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -182,6 +183,13 @@ public class NfaUtil {
 
 	public <S> Set<S> collect(Nfa<S> nfa) {
 		Set<S> result = Sets.newLinkedHashSet();
+		if (nfa instanceof IndexedNfa<?>) {
+			IndexedNfa<S> indexed = (IndexedNfa<S>) nfa;
+			BitSet reachable = indexed.getReachable();
+			for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1))
+				result.add(indexed.getState(i));
+			return result;
+		}
 		collect(nfa, nfa.getStart(), result);
 		return result;
 	}
@@ -293,6 +301,11 @@ public class NfaUtil {
 	}
 
 	public <S> Map<S, Integer> distanceFromStateMap(Nfa<S> nfa, Predicate<S> matches) {
+		if (nfa instanceof IndexedNfa<?>) {
+			IndexedNfa<S> indexed = (IndexedNfa<S>) nfa;
+			BitSet domain = indexed.getReachable();
+			return indexed.toMap(indexed.distancesFrom(indexed.matching(matches), domain), domain);
+		}
 		Map<S, Integer> distances = Maps.newLinkedHashMap();
 		collectDistancesForm(nfa, nfa.getStart(), Integer.MAX_VALUE, distances, matches);
 		return distances;
@@ -309,6 +322,15 @@ public class NfaUtil {
 	}
 
 	public <S> Map<S, Integer> distanceToStateMap(Nfa<S> nfa, Predicate<S> matches) {
+		if (nfa instanceof IndexedNfa<?>) {
+			IndexedNfa<S> indexed = (IndexedNfa<S>) nfa;
+			BitSet stop = new BitSet();
+			stop.set(indexed.getStopIndex());
+			BitSet domain = indexed.canReach(stop);
+			domain.and(indexed.getReachable());
+			domain.or(stop);
+			return indexed.toMap(indexed.distancesTo(indexed.matching(matches), domain), domain);
+		}
 		return distanceFromStateMap(inverse(nfa), matches);
 	}
 
@@ -481,6 +503,15 @@ public class NfaUtil {
 	}
 
 	public <S> S find(Nfa<S> nfa, Predicate<S> matcher) {
+		if (nfa instanceof IndexedNfa<?>) {
+			// the states are numbered in the order of a depth first traversal from the start state
+			IndexedNfa<S> indexed = (IndexedNfa<S>) nfa;
+			BitSet reachable = indexed.getReachable();
+			for (int i = reachable.nextSetBit(0); i >= 0; i = reachable.nextSetBit(i + 1))
+				if (matcher.apply(indexed.getState(i)))
+					return indexed.getState(i);
+			return null;
+		}
 		Set<S> visited = Sets.newHashSet();
 		return find(nfa, nfa.getStart(), matcher, visited);
 	}
@@ -532,6 +563,11 @@ public class NfaUtil {
 	}
 
 	public <S> Set<S> findFirst(Nfa<S> nfa, Iterable<S> starts, Predicate<S> match) {
+		if (nfa instanceof IndexedNfa<?>) {
+			Set<S> result = findFirstInIndex((IndexedNfa<S>) nfa, starts, match);
+			if (result != null)
+				return result;
+		}
 		Set<S> current = Sets.newLinkedHashSet(starts);
 		Set<S> visited = Sets.newLinkedHashSet();
 		while (!current.isEmpty()) {
@@ -552,6 +588,69 @@ public class NfaUtil {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * @return <code>null</code> if one of the start states is not part of the index.
+	 */
+	protected <S> Set<S> findFirstInIndex(IndexedNfa<S> nfa, Iterable<S> starts, Predicate<S> match) {
+		List<S> startList = Lists.newArrayList(starts);
+		int[] startIndices = new int[startList.size()];
+		for (int i = 0; i < startIndices.length; i++) {
+			startIndices[i] = nfa.indexOf(startList.get(i));
+			if (startIndices[i] < 0)
+				return null;
+		}
+		int[] found = nfa.findFirst(startIndices, match);
+		if (found.length == 0)
+			return Collections.emptySet();
+		Set<S> result = Sets.newLinkedHashSet();
+		for (int i : found)
+			result.add(nfa.getState(i));
+		return result;
+	}
+
+	/**
+	 * The system property that enables {@link #isIndexingEnabled() indexing}.
+	 * 
+	 * @since 2.11
+	 */
+	public static final String INDEXING_PROPERTY = "org.eclipse.xtext.nfa.indexing";
+
+	private static final boolean INDEXING_ENABLED = Boolean.getBoolean(INDEXING_PROPERTY);
+
+	/**
+	 * Whether the analyses of the serializer query an {@link #index(Nfa) index} of their automata instead of the
+	 * automata themselves. Disabled by default, enabled by the system property {@value #INDEXING_PROPERTY}.
+	 * 
+	 * @since 2.11
+	 */
+	public boolean isIndexingEnabled() {
+		return INDEXING_ENABLED;
+	}
+
+	/**
+	 * Creates an {@link IndexedNfa} of the given automaton, so repeated queries like
+	 * {@link #distanceToFinalStateMap(Nfa)} or {@link #findFirst(Nfa, Iterable, Predicate)} run on primitive arrays. The
+	 * index is a snapshot: later changes of the given automaton are not reflected, and states that can't be reached
+	 * from the start or the stop state are not part of it.
+	 * 
+	 * @since 2.11
+	 */
+	public <S> IndexedNfa<S> index(Nfa<S> nfa) {
+		if (nfa instanceof IndexedNfa<?>)
+			return (IndexedNfa<S>) nfa;
+		return new IndexedNfa<S>(nfa);
+	}
+
+	/**
+	 * @see #index(Nfa)
+	 * @since 2.11
+	 */
+	public <S, P> IndexedPda<S, P> index(Pda<S, P> pda) {
+		if (pda instanceof IndexedPda<?, ?>)
+			return (IndexedPda<S, P>) pda;
+		return new IndexedPda<S, P>(pda);
+	}
+
 	public <S> Nfa<S> inverse(Nfa<S> nfa) {
 		Map<S, List<S>> inverseMap = Maps.newLinkedHashMap();
 		collectedInverseMap(nfa, nfa.getStart(), inverseMap, Sets.<S> newHashSet());
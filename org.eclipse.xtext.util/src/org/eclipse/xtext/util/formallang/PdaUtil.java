@@ -416,7 +416,7 @@ public class PdaUtil {
 
 	public <S, P, R, D extends Pda<S, P>> D filterEdges(Pda<S, P> pda, Traverser<? super Pda<S, P>, S, R> traverser,
 			PdaFactory<D, S, P, S> factory) {
-		Map<S, Integer> distances = new NfaUtil().distanceToFinalStateMap(pda);
+		Map<S, Integer> distances = nfaUtil.distanceToFinalStateMap(nfaUtil.isIndexingEnabled() ? nfaUtil.index(pda) : pda);
 		return filterEdges(pda, traverser, distances, factory);
 	}
 
@@ -485,8 +485,10 @@ public class PdaUtil {
 
 	public <S, P> Nfa<S> filterUnambiguousPaths(Pda<S, P> pda) {
 		Map<S, List<S>> followers = Maps.newLinkedHashMap();
-		Map<S, Integer> distanceMap = nfaUtil.distanceToFinalStateMap(pda);
-		filterUnambiguousPaths(pda, pda.getStart(), distanceMap, followers);
+		// an index is queried for the distances and once per ambiguous follower by findFirst
+		Pda<S, P> analyzed = nfaUtil.isIndexingEnabled() ? nfaUtil.index(pda) : pda;
+		Map<S, Integer> distanceMap = nfaUtil.distanceToFinalStateMap(analyzed);
+		filterUnambiguousPaths(analyzed, pda.getStart(), distanceMap, followers);
 		return new NfaUtil.NFAImpl<S>(pda.getStart(), pda.getStop(), followers);
 	}
 
@@ -15,7 +15,9 @@ import java.util.Map.Entry;
 
 /**
  * @author Sven Efftinge - Initial contribution and API
+ * @deprecated use {@link org.eclipse.xtext.util.metrics.Metrics} instead.
  */
+@Deprecated
 public class Stopwatches {
 	
 	public interface StoppedTask {
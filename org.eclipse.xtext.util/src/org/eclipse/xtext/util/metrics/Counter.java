@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that counts occurrences.
+ *
+ * @since 2.11
+ */
+public class Counter extends Metric {
+
+	private final LongAdder count = new LongAdder();
+
+	public Counter(String name, String tag) {
+		super(name, tag);
+	}
+
+	public void increment() {
+		count.increment();
+	}
+
+	public void add(long delta) {
+		count.add(delta);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public String getType() {
+		return "counter";
+	}
+
+	@Override
+	public void reset() {
+		count.reset();
+	}
+
+	@Override
+	protected void appendValues(StringBuilder json) {
+		json.append(", \"count\": ").append(getCount());
+	}
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metric that records the distribution of non-negative values. The values are counted in buckets whose bounds are
+ * powers of two, so percentiles are estimates with a relative error of at most a factor of two.
+ *
+ * @since 2.11
+ */
+public class Histogram extends Metric {
+
+	private static final int BUCKETS = 64;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder sum = new LongAdder();
+
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+	private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	public Histogram(String name, String tag) {
+		super(name, tag);
+	}
+
+	public void record(long value) {
+		if (value < 0)
+			value = 0;
+		count.increment();
+		sum.add(value);
+		// bucket i holds the values in [2^(i-1), 2^i - 1], bucket 0 holds zero
+		buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+		long currentMin;
+		while (value < (currentMin = min.get()) && !min.compareAndSet(currentMin, value)) {
+		}
+		long currentMax;
+		while (value > (currentMax = max.get()) && !max.compareAndSet(currentMax, value)) {
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * @return the smallest recorded value or <code>0</code> if nothing was recorded.
+	 */
+	public long getMin() {
+		long result = min.get();
+		return result == Long.MAX_VALUE ? 0 : result;
+	}
+
+	/**
+	 * @return the largest recorded value or <code>0</code> if nothing was recorded.
+	 */
+	public long getMax() {
+		long result = max.get();
+		return result == Long.MIN_VALUE ? 0 : result;
+	}
+
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	/**
+	 * @param percentile
+	 *            a value between 0 and 100.
+	 * @return an upper bound of the value below which the given percentage of the recorded values fall.
+	 */
+	public long getPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += buckets.get(i);
+		}
+		if (total == 0)
+			return 0;
+		long threshold = (long) Math.ceil(total * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets.get(i);
+			if (seen >= threshold && seen > 0) {
+				long upperBound = i == 0 ? 0 : (1L << i) - 1;
+				return Math.min(upperBound, getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * @return the unit of the recorded values, e.g. <code>ns</code>, or <code>null</code>.
+	 */
+	public String getUnit() {
+		return null;
+	}
+
+	@Override
+	public String getType() {
+		return "histogram";
+	}
+
+	@Override
+	public void reset() {
+		count.reset();
+		sum.reset();
+		min.set(Long.MAX_VALUE);
+		max.set(Long.MIN_VALUE);
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets.set(i, 0);
+		}
+	}
+
+	@Override
+	protected void appendValues(StringBuilder json) {
+		if (getUnit() != null)
+			json.append(", \"unit\": \"").append(getUnit()).append('"');
+		json.append(", \"count\": ").append(getCount());
+		json.append(", \"sum\": ").append(getSum());
+		json.append(", \"min\": ").append(getMin());
+		json.append(", \"max\": ").append(getMax());
+		json.append(", \"p50\": ").append(getPercentile(50));
+		json.append(", \"p90\": ").append(getPercentile(90));
+		json.append(", \"p99\": ").append(getPercentile(99));
+	}
+
+}
@@ -0,0 +1,21 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.util.Collection;
+
+/**
+ * Receives the current state of all metrics when they are {@link Metrics#publish() published}.
+ *
+ * @since 2.11
+ */
+public interface IMetricsSink {
+
+	void publish(Collection<? extends Metric> metrics);
+
+}
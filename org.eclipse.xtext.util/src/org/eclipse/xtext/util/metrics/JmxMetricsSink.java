@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.log4j.Logger;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Exposes the metrics as an MXBean of the platform MBean server. The bean reads the live metrics, so it does not
+ * depend on {@link Metrics#publish() publication}.
+ *
+ * @since 2.11
+ */
+public class JmxMetricsSink implements IMetricsSink, MetricsMXBean {
+
+	private static final Logger LOG = Logger.getLogger(JmxMetricsSink.class);
+
+	public static final String OBJECT_NAME = "org.eclipse.xtext:type=Metrics";
+
+	/**
+	 * Registers a new instance with the platform MBean server unless one is registered already.
+	 */
+	public static void register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new JmxMetricsSink(), name);
+			}
+		} catch (JMException e) {
+			LOG.error("Cannot register the metrics MBean", e);
+		}
+	}
+
+	@Override
+	public void publish(Collection<? extends Metric> metrics) {
+		// metrics are read on demand
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return Metrics.isEnabled();
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		Metrics.setEnabled(enabled);
+	}
+
+	@Override
+	public String[] getMetricKeys() {
+		List<String> result = Lists.newArrayList();
+		for (Metric metric : Metrics.getMetrics()) {
+			result.add(metric.getKey());
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
+	@Override
+	public long getCount(String key) {
+		Metric metric = Metrics.getMetric(key);
+		if (metric instanceof Counter)
+			return ((Counter) metric).getCount();
+		if (metric instanceof Histogram)
+			return ((Histogram) metric).getCount();
+		return -1;
+	}
+
+	@Override
+	public long getSum(String key) {
+		Metric metric = Metrics.getMetric(key);
+		if (metric instanceof Histogram)
+			return ((Histogram) metric).getSum();
+		return -1;
+	}
+
+	@Override
+	public String getJson() {
+		return JsonMetricsSink.toJson(Metrics.getMetrics());
+	}
+
+	@Override
+	public void reset() {
+		Metrics.reset();
+	}
+
+}
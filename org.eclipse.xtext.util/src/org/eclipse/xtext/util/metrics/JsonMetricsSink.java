@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.eclipse.xtext.util.RuntimeIOException;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+
+/**
+ * Writes the published metrics as a JSON array to a file. The file is overwritten on each publication.
+ *
+ * @since 2.11
+ */
+public class JsonMetricsSink implements IMetricsSink {
+
+	private final File file;
+
+	public JsonMetricsSink(File file) {
+		this.file = file;
+	}
+
+	@Override
+	public void publish(Collection<? extends Metric> metrics) {
+		try {
+			Files.write(toJson(metrics), file, Charsets.UTF_8);
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		}
+	}
+
+	public static String toJson(Collection<? extends Metric> metrics) {
+		StringBuilder json = new StringBuilder("[");
+		boolean first = true;
+		for (Metric metric : metrics) {
+			json.append(first ? "\n" : ",\n");
+			first = false;
+			json.append("  {\"name\": ");
+			appendString(metric.getName(), json);
+			if (metric.getTag() != null) {
+				json.append(", \"tag\": ");
+				appendString(metric.getTag(), json);
+			}
+			json.append(", \"type\": \"").append(metric.getType()).append('"');
+			metric.appendValues(json);
+			json.append('}');
+		}
+		return json.append("\n]\n").toString();
+	}
+
+	private static void appendString(String value, StringBuilder json) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					json.append("\\\"");
+					break;
+				case '\\':
+					json.append("\\\\");
+					break;
+				default:
+					if (c < 0x20)
+						json.append(String.format("\\u%04x", (int) c));
+					else
+						json.append(c);
+			}
+		}
+		json.append('"');
+	}
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+/**
+ * A named measurement. The optional tag distinguishes measurements of the same kind, e.g. for different languages.
+ *
+ * @since 2.11
+ */
+public abstract class Metric {
+
+	private final String name;
+
+	private final String tag;
+
+	protected Metric(String name, String tag) {
+		this.name = name;
+		this.tag = tag;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the tag or <code>null</code> if the metric is not tagged.
+	 */
+	public String getTag() {
+		return tag;
+	}
+
+	/**
+	 * @return the unique key of this metric, i.e. the name optionally followed by the tag in square brackets.
+	 */
+	public String getKey() {
+		return toKey(name, tag);
+	}
+
+	/**
+	 * @return a short description of the kind of this metric such as <code>counter</code>.
+	 */
+	public abstract String getType();
+
+	public abstract void reset();
+
+	/**
+	 * Appends the values of this metric as JSON properties, each preceded by a comma.
+	 */
+	protected abstract void appendValues(StringBuilder json);
+
+	static String toKey(String name, String tag) {
+		if (tag == null)
+			return name;
+		return name + "[" + tag + "]";
+	}
+
+	@Override
+	public String toString() {
+		return getType() + " " + getKey();
+	}
+
+}
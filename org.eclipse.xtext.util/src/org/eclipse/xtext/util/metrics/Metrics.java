@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The global registry of all metrics. Measuring is disabled by default and can be enabled with the system property
+ * <code>org.eclipse.xtext.metrics</code> or with {@link #setEnabled(boolean)}. While it is disabled, the returned
+ * metrics ignore all measurements and no metrics are registered.
+ *
+ * @since 2.11
+ */
+public final class Metrics {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.xtext.metrics";
+
+	private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	private static final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<String, Metric>();
+
+	private static final List<IMetricsSink> sinks = new CopyOnWriteArrayList<IMetricsSink>();
+
+	private static final Timer DISABLED_TIMER = new Timer("disabled", null) {
+		@Override
+		public Context start() {
+			return NO_OP;
+		}
+
+		@Override
+		public void record(long value) {
+		}
+	};
+
+	private static final Histogram DISABLED_HISTOGRAM = new Histogram("disabled", null) {
+		@Override
+		public void record(long value) {
+		}
+	};
+
+	private static final Counter DISABLED_COUNTER = new Counter("disabled", null) {
+		@Override
+		public void add(long delta) {
+		}
+
+		@Override
+		public void increment() {
+		}
+	};
+
+	private Metrics() {
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean isEnabled) {
+		enabled = isEnabled;
+	}
+
+	public static Timer timer(String name) {
+		return timer(name, null);
+	}
+
+	public static Timer timer(String name, String tag) {
+		if (!enabled)
+			return DISABLED_TIMER;
+		Metric result = metrics.get(Metric.toKey(name, tag));
+		if (result == null)
+			result = register(new Timer(name, tag));
+		return cast(result, Timer.class);
+	}
+
+	public static Histogram histogram(String name, String tag) {
+		if (!enabled)
+			return DISABLED_HISTOGRAM;
+		Metric result = metrics.get(Metric.toKey(name, tag));
+		if (result == null)
+			result = register(new Histogram(name, tag));
+		return cast(result, Histogram.class);
+	}
+
+	public static Counter counter(String name) {
+		return counter(name, null);
+	}
+
+	public static Counter counter(String name, String tag) {
+		if (!enabled)
+			return DISABLED_COUNTER;
+		Metric result = metrics.get(Metric.toKey(name, tag));
+		if (result == null)
+			result = register(new Counter(name, tag));
+		return cast(result, Counter.class);
+	}
+
+	private static Metric register(Metric metric) {
+		Metric existing = metrics.putIfAbsent(metric.getKey(), metric);
+		return existing != null ? existing : metric;
+	}
+
+	private static <T extends Metric> T cast(Metric metric, Class<T> type) {
+		if (metric.getClass() != type)
+			throw new IllegalArgumentException("The metric '" + metric.getKey() + "' is a " + metric.getType() + ".");
+		return type.cast(metric);
+	}
+
+	/**
+	 * @return the metric with the given key or <code>null</code>.
+	 * @see Metric#getKey()
+	 */
+	public static Metric getMetric(String key) {
+		return metrics.get(key);
+	}
+
+	/**
+	 * @return all registered metrics sorted by their keys.
+	 */
+	public static List<Metric> getMetrics() {
+		List<Metric> result = Lists.newArrayList(metrics.values());
+		Collections.sort(result, new Comparator<Metric>() {
+			@Override
+			public int compare(Metric o1, Metric o2) {
+				return o1.getKey().compareTo(o2.getKey());
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Resets the values of all registered metrics.
+	 */
+	public static void reset() {
+		for (Metric metric : metrics.values()) {
+			metric.reset();
+		}
+	}
+
+	public static void addSink(IMetricsSink sink) {
+		sinks.add(sink);
+	}
+
+	public static void removeSink(IMetricsSink sink) {
+		sinks.remove(sink);
+	}
+
+	/**
+	 * Passes the current state of all metrics to the registered sinks.
+	 */
+	public static void publish() {
+		List<Metric> current = getMetrics();
+		for (IMetricsSink sink : sinks) {
+			sink.publish(current);
+		}
+	}
+
+}
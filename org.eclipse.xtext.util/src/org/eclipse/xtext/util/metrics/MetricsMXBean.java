@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+/**
+ * The management interface of the {@link JmxMetricsSink}.
+ *
+ * @since 2.11
+ */
+public interface MetricsMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return the keys of all metrics.
+	 */
+	String[] getMetricKeys();
+
+	/**
+	 * @return the number of measurements of the metric with the given key or <code>-1</code> if there is no such
+	 *         metric.
+	 */
+	long getCount(String key);
+
+	/**
+	 * @return the sum of the values of the histogram or timer with the given key or <code>-1</code> if there is no
+	 *         such metric.
+	 */
+	long getSum(String key);
+
+	/**
+	 * @return all metrics in JSON format.
+	 */
+	String getJson();
+
+	void reset();
+
+}
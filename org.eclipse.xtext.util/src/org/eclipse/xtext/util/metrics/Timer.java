@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.util.metrics;
+
+/**
+ * A histogram of durations in nanoseconds.
+ * 
+ * <pre>
+ * Timer.Context context = Metrics.timer("parse", languageName).start();
+ * try {
+ * 	...
+ * } finally {
+ * 	context.stop();
+ * }
+ * </pre>
+ *
+ * @since 2.11
+ */
+public class Timer extends Histogram {
+
+	/**
+	 * A running measurement. Only the first call to {@link #stop()} is recorded.
+	 */
+	public interface Context extends AutoCloseable {
+		void stop();
+
+		@Override
+		default void close() {
+			stop();
+		}
+	}
+
+	static final Context NO_OP = new Context() {
+		@Override
+		public void stop() {
+		}
+	};
+
+	public Timer(String name, String tag) {
+		super(name, tag);
+	}
+
+	public Context start() {
+		final long start = System.nanoTime();
+		return new Context() {
+			private boolean stopped = false;
+
+			@Override
+			public void stop() {
+				if (!stopped) {
+					stopped = true;
+					record(System.nanoTime() - start);
+				}
+			}
+		};
+	}
+
+	@Override
+	public String getUnit() {
+		return "ns";
+	}
+
+	@Override
+	public String getType() {
+		return "timer";
+	}
+
+}
@@ -10,10 +10,12 @@ package org.eclipse.xtext.xtext.generator
 import com.google.inject.Injector
 import java.util.List
 import org.eclipse.xtend.lib.annotations.Accessors
+import org.eclipse.xtext.util.internal.Log
 
 /**
  * @noreference
  */
+@Log
 class CompositeGeneratorFragment2 implements IXtextGeneratorFragment {
 
 	@Accessors(PROTECTED_GETTER)
@@ -34,10 +36,14 @@ class CompositeGeneratorFragment2 implements IXtextGeneratorFragment {
 	override generate() {
 		val composite = new CompositeGeneratorException
 		for (fragment : fragments) {
+			val startTime = System.nanoTime
 			try {
 				fragment.generate
 			} catch (Exception e) {
 				composite.addException(e)
+			} finally {
+				if (LOG.isDebugEnabled)
+					LOG.debug(fragment.class.simpleName + ' took ' + (System.nanoTime - startTime) / 1000000 + 'ms')
 			}
 		}
 		if (composite.hasExceptions) {
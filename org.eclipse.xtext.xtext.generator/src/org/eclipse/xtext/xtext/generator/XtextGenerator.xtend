@@ -17,6 +17,11 @@ import java.io.IOException
 import java.io.InputStream
 import java.util.HashMap
 import java.util.List
+import java.util.Map
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 import org.eclipse.emf.common.util.URI
 import org.eclipse.emf.mwe.core.WorkflowContext
 import org.eclipse.emf.mwe.core.issues.Issues
@@ -63,6 +68,29 @@ class XtextGenerator extends AbstractWorkflowComponent2 {
 	@Accessors
 	String grammarEncoding
 	
+	/**
+	 * Whether the configured languages should be generated concurrently. The fragments of each
+	 * language are still executed in their declared order, and the shared plugin.xml entries are
+	 * added in the order of the language configurations, so the generated output is the same as
+	 * in sequential mode. Disabled by default.
+	 */
+	@Accessors
+	boolean parallel = false
+	
+	/**
+	 * The maximum number of threads used to generate languages if {@link #isParallel() parallel}
+	 * generation is enabled.
+	 */
+	@Accessors
+	int maxThreads = Runtime.runtime.availableProcessors
+	
+	/**
+	 * Guards state that is shared by all languages, e.g. the global EMF registries and the ANTLR tool.
+	 * Fragments that access such state must synchronize on this lock, so they can be used with
+	 * {@link #isParallel() parallel} generation.
+	 */
+	public static val Object GLOBAL_STATE_LOCK = new Object
+	
 	Injector injector
 	
 	@Inject IXtextProjectConfig projectConfig
@@ -144,15 +172,15 @@ class XtextGenerator extends AbstractWorkflowComponent2 {
 		initialize
 		try {
 			cleaner.clean
-			for (language : languageConfigs) {
-				try {
-					LOG.info('Generating ' + language.grammar.name)
-					language.generate
-					language.generateSetups
-					language.generateModules
-					language.generateExecutableExtensionFactory
-				} catch(Exception e) {
-					handleException(e, issues)
+			if (parallel && languageConfigs.size > 1) {
+				generateLanguagesInParallel(issues)
+			} else {
+				for (language : languageConfigs) {
+					try {
+						generateLanguage(language)
+					} catch(Exception e) {
+						handleException(e, issues)
+					}
 				}
 			}
 			LOG.info('Generating common infrastructure')
@@ -165,6 +193,61 @@ class XtextGenerator extends AbstractWorkflowComponent2 {
 		}
 	}
 	
+	protected def void generateLanguage(XtextGeneratorLanguage language) {
+		LOG.info('Generating ' + language.grammar.name)
+		val startTime = System.nanoTime
+		language.generate
+		language.generateSetups
+		language.generateModules
+		language.generateExecutableExtensionFactory
+		if (LOG.isDebugEnabled)
+			LOG.debug('Generating ' + language.grammar.name + ' took ' + (System.nanoTime - startTime) / 1000000 + 'ms')
+	}
+	
+	/**
+	 * Generate all languages on a worker pool. The plugin.xml entries contributed by each language
+	 * are collected per thread and added in the order of the language configurations afterwards.
+	 * Like in sequential mode, the entries of a language that failed are kept.
+	 */
+	protected def void generateLanguagesInParallel(Issues issues) {
+		val executor = Executors.newFixedThreadPool(Math.max(1, Math.min(maxThreads, languageConfigs.size)))
+		try {
+			val futures = <Future<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>>>newArrayList
+			for (language : languageConfigs) {
+				val Callable<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>> task = [|
+					var Map<PluginXmlAccess, List<CharSequence>> entries = null
+					var Exception failure = null
+					PluginXmlAccess.deferEntries
+					try {
+						generateLanguage(language)
+					} catch (Exception e) {
+						failure = e
+					} finally {
+						entries = PluginXmlAccess.collectDeferredEntries
+					}
+					return entries -> failure
+				]
+				futures += executor.submit(task)
+			}
+			for (future : futures) {
+				try {
+					val result = future.get
+					result.key.forEach[pluginXml, entries | pluginXml.entries += entries]
+					if (result.value !== null)
+						handleException(result.value, issues)
+				} catch (ExecutionException e) {
+					val cause = e.cause
+					if (cause instanceof Exception)
+						handleException(cause, issues)
+					else
+						throw cause
+				}
+			}
+		} finally {
+			executor.shutdown
+		}
+	}
+	
 	private def void handleException(Exception ex, Issues issues) {
 		if (ex instanceof CompositeGeneratorException) {
 			ex.exceptions.forEach[handleException(issues)]
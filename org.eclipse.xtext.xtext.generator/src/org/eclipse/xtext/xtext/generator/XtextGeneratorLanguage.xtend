@@ -116,6 +116,19 @@ class XtextGeneratorLanguage extends CompositeGeneratorFragment2 implements IXte
 		this.referencedResources += referencedResource
 	}
 	
+	/**
+	 * Lets the generated standalone setup implement {@link org.eclipse.xtext.ISetupExtension ISetupExtension}, so
+	 * the language is initialized on first use when it is registered through the {@link java.util.ServiceLoader}.
+	 * A language that contributes an {@code ILanguageServerExtension} should also implement
+	 * {@code ILanguageServerSetupExtension} in its IDE setup, otherwise it is initialized when the language server
+	 * collects its extensions. Off by default.
+	 * 
+	 * @since 2.11
+	 */
+	def void setLazyLoading(boolean lazyLoading) {
+		runtimeGenSetup.lazyLoading = lazyLoading
+	}
+	
 	override getFileExtensions() {
 		if (fileExtensions === null || fileExtensions.empty) {
 			fileExtensions = GrammarUtil.getSimpleName(grammar).toLowerCase
@@ -16,6 +16,7 @@ import com.google.inject.Module
 import com.google.inject.Provider
 import com.google.inject.Singleton
 import com.google.inject.name.Names
+import java.util.Arrays
 import java.util.Collections
 import java.util.List
 import java.util.Map
@@ -25,6 +26,7 @@ import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor
 import org.eclipse.xtend2.lib.StringConcatenationClient
 import org.eclipse.xtext.Constants
 import org.eclipse.xtext.ISetup
+import org.eclipse.xtext.ISetupExtension
 import org.eclipse.xtext.XtextPackage
 import org.eclipse.xtext.resource.impl.BinaryGrammarResourceFactoryImpl
 import org.eclipse.xtext.service.SingletonBinding
@@ -86,7 +88,7 @@ class XtextGeneratorTemplates {
 		
 		file.annotations += new SuppressWarningsAnnotation
 		file.content = '''
-			public class runtimeGenSetup.simpleName implements ISetup {
+			public class runtimeGenSetup.simpleName implements ISetupIF langConfig.runtimeGenSetup.lazyLoading, ISetupExtensionENDIF {
 			
 				@Override
 				public Injector createInjectorAndDoEMFRegistration() {
@@ -122,6 +124,13 @@ class XtextGeneratorTemplates {
 						reg
 					ENDFOR
 				}
+				IF langConfig.runtimeGenSetup.lazyLoading
+				
+				@Override
+				public List<String> getFileExtensions() {
+					return Arrays.asList(FOR ext : langConfig.fileExtensions SEPARATOR ', '"ext"ENDFOR);
+				}
+				ENDIF
 			}
 		 '''
 		 return file
@@ -67,6 +67,7 @@ import org.eclipse.xtext.util.Strings
 import org.eclipse.xtext.util.internal.Log
 import org.eclipse.xtext.xtext.generator.AbstractXtextGeneratorFragment
 import org.eclipse.xtext.xtext.generator.CodeConfig
+import org.eclipse.xtext.xtext.generator.XtextGenerator
 import org.eclipse.xtext.xtext.generator.model.GuiceModuleAccess
 import org.eclipse.xtext.xtext.generator.model.TypeReference
 
@@ -286,7 +287,17 @@ class EMFGeneratorFragment2 extends AbstractXtextGeneratorFragment {
 		GenModelPackage.eINSTANCE.getGenAnnotation()
 	}
 	
+	/**
+	 * The EMF generator uses the global package and genmodel registries, so languages are not generated
+	 * concurrently by this fragment.
+	 */
 	override generate() {
+		synchronized (XtextGenerator.GLOBAL_STATE_LOCK) {
+			generateModel
+		}
+	}
+	
+	protected def void generateModel() {
 		if (grammar.metamodelDeclarations.filter(GeneratedMetamodel).empty) {
 			return
 		}
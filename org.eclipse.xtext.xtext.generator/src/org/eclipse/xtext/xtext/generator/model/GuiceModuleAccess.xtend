@@ -72,7 +72,7 @@ class GuiceModuleAccess {
 	@Accessors
 	TypeReference superClass
 	
-	def void add(Binding newBinding) {
+	def synchronized void add(Binding newBinding) {
 		if (bindings.contains(newBinding)) {
 			val iterator = bindings.iterator()
 			var found = false
@@ -99,7 +99,7 @@ class GuiceModuleAccess {
 		bindings.add(newBinding)
 	}
 	
-	def void addAll(Iterable<Binding> bindings) {
+	def synchronized void addAll(Iterable<Binding> bindings) {
 		for (binding : bindings) {
 			add(binding)
 		}
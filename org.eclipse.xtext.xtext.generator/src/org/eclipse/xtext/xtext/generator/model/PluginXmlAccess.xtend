@@ -8,6 +8,7 @@
 package org.eclipse.xtext.xtext.generator.model
 
 import java.util.List
+import java.util.Map
 import org.eclipse.xtend.lib.annotations.Accessors
 import org.eclipse.xtend2.lib.StringConcatenationClient
 import org.eclipse.xtext.generator.IFileSystemAccess2
@@ -29,6 +30,43 @@ class PluginXmlAccess extends TextFileAccess implements IGuiceAwareGeneratorComp
 	
 	val List<CharSequence> entries = newArrayList
 	
+	static val ThreadLocal<Map<PluginXmlAccess, List<CharSequence>>> deferredEntries = new ThreadLocal
+	
+	/**
+	 * Returns the entries of this plugin.xml. If entries are being deferred on the current thread,
+	 * the returned list only collects the contributions of that thread.
+	 * 
+	 * @see #deferEntries()
+	 */
+	def List<CharSequence> getEntries() {
+		val deferred = deferredEntries.get
+		if (deferred !== null) {
+			return deferred.computeIfAbsent(this)[newArrayList]
+		}
+		return entries
+	}
+	
+	/**
+	 * Start collecting all entries that are contributed to any plugin.xml on the current thread
+	 * in a thread-local buffer. This allows to generate languages concurrently and still add their
+	 * entries in a deterministic order.
+	 * 
+	 * @see #collectDeferredEntries()
+	 */
+	static def void deferEntries() {
+		deferredEntries.set(newLinkedHashMap)
+	}
+	
+	/**
+	 * Stop collecting entries on the current thread and return the entries that have been
+	 * contributed since {@link #deferEntries()} was invoked.
+	 */
+	static def Map<PluginXmlAccess, List<CharSequence>> collectDeferredEntries() {
+		val result = deferredEntries.get
+		deferredEntries.remove
+		return result ?: emptyMap
+	}
+	
 	override setContent(StringConcatenationClient content) {
 		throw new UnsupportedOperationException("cannot directly set contents on a plugin.xml. Use entries property instead");
 	}
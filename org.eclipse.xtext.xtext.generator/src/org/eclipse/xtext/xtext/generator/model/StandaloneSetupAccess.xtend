@@ -20,6 +20,14 @@ class StandaloneSetupAccess {
 	@Deprecated
 	val Set<TypeReference> imports = newHashSet
 	
+	/**
+	 * Whether the generated setup implements {@link org.eclipse.xtext.ISetupExtension ISetupExtension}, so that the
+	 * language is registered without running its setup until it is used. Off by default.
+	 * 
+	 * @since 2.11
+	 */
+	boolean lazyLoading
+	
 	/**
 	 * @deprecated this set is required for backwards-compatibility to Xpand templates included with
 	 * 		{@code org.eclipse.xtext.generator.adapter.FragmentAdapter}.
@@ -18,6 +18,7 @@ import java.net.URLClassLoader;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.xtext.xtext.generator.XtextGenerator;
 
 public class AntlrToolFacade {
 
@@ -152,7 +153,10 @@ public class AntlrToolFacade {
 			if (class1 == null)
 				throw getNoClassFoundException();
 			Method method = class1.getMethod("runWithEncodingAndParams", new Class[] { String.class, String.class, String[].class });
-			method.invoke(null, grammarFullPath, explicitEncoding, furtherArgs);
+			// the ANTLR tool keeps its error state in static fields
+			synchronized (XtextGenerator.GLOBAL_STATE_LOCK) {
+				method.invoke(null, grammarFullPath, explicitEncoding, furtherArgs);
+			}
 		} catch (Exception e) {
 			throw new WrappedException(e);
 		} finally {
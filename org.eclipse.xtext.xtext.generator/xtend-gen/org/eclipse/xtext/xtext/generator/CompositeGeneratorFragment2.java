@@ -9,8 +9,10 @@ package org.eclipse.xtext.xtext.generator;
 
 import com.google.inject.Injector;
 import java.util.List;
+import org.apache.log4j.Logger;
 import org.eclipse.xtend.lib.annotations.AccessorType;
 import org.eclipse.xtend.lib.annotations.Accessors;
+import org.eclipse.xtext.util.internal.Log;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -21,6 +23,7 @@ import org.eclipse.xtext.xtext.generator.Issues;
 /**
  * @noreference
  */
+@Log
 @SuppressWarnings("all")
 public class CompositeGeneratorFragment2 implements IXtextGeneratorFragment {
   @Accessors(AccessorType.PROTECTED_GETTER)
@@ -44,14 +47,30 @@ public class CompositeGeneratorFragment2 implements IXtextGeneratorFragment {
   public void generate() {
     final CompositeGeneratorException composite = new CompositeGeneratorException();
     for (final IXtextGeneratorFragment fragment : this.fragments) {
-      try {
-        fragment.generate();
-      } catch (final Throwable _t) {
-        if (_t instanceof Exception) {
-          final Exception e = (Exception)_t;
-          composite.addException(e);
-        } else {
-          throw Exceptions.sneakyThrow(_t);
+      {
+        final long startTime = System.nanoTime();
+        try {
+          fragment.generate();
+        } catch (final Throwable _t) {
+          if (_t instanceof Exception) {
+            final Exception e = (Exception)_t;
+            composite.addException(e);
+          } else {
+            throw Exceptions.sneakyThrow(_t);
+          }
+        } finally {
+          boolean _isDebugEnabled = CompositeGeneratorFragment2.LOG.isDebugEnabled();
+          if (_isDebugEnabled) {
+            Class<? extends IXtextGeneratorFragment> _class = fragment.getClass();
+            String _simpleName = _class.getSimpleName();
+            String _plus = (_simpleName + " took ");
+            long _nanoTime = System.nanoTime();
+            long _minus = (_nanoTime - startTime);
+            long _divide = (_minus / 1000000);
+            String _plus_1 = (_plus + Long.valueOf(_divide));
+            String _plus_2 = (_plus_1 + "ms");
+            CompositeGeneratorFragment2.LOG.debug(_plus_2);
+          }
         }
       }
     }
@@ -68,6 +87,8 @@ public class CompositeGeneratorFragment2 implements IXtextGeneratorFragment {
     }
   }
   
+  private final static Logger LOG = Logger.getLogger(CompositeGeneratorFragment2.class);
+  
   @Pure
   protected List<IXtextGeneratorFragment> getFragments() {
     return this.fragments;
@@ -22,6 +22,12 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
@@ -101,6 +107,29 @@ public class XtextGenerator extends AbstractWorkflowComponent2 {
   @Accessors
   private String grammarEncoding;
   
+  /**
+   * Whether the configured languages should be generated concurrently. The fragments of each
+   * language are still executed in their declared order, and the shared plugin.xml entries are
+   * added in the order of the language configurations, so the generated output is the same as
+   * in sequential mode. Disabled by default.
+   */
+  @Accessors
+  private boolean parallel = false;
+  
+  /**
+   * The maximum number of threads used to generate languages if {@link #isParallel() parallel}
+   * generation is enabled.
+   */
+  @Accessors
+  private int maxThreads = Runtime.getRuntime().availableProcessors();
+  
+  /**
+   * Guards state that is shared by all languages, e.g. the global EMF registries and the ANTLR tool.
+   * Fragments that access such state must synchronize on this lock, so they can be used with
+   * {@link #isParallel() parallel} generation.
+   */
+  public final static Object GLOBAL_STATE_LOCK = new Object();
+  
   private Injector injector;
   
   @Inject
@@ -224,22 +253,19 @@ public class XtextGenerator extends AbstractWorkflowComponent2 {
     this.initialize();
     try {
       this.cleaner.clean();
-      for (final XtextGeneratorLanguage language : this.languageConfigs) {
-        try {
-          Grammar _grammar = language.getGrammar();
-          String _name = _grammar.getName();
-          String _plus = ("Generating " + _name);
-          XtextGenerator.LOG.info(_plus);
-          language.generate();
-          this.generateSetups(language);
-          this.generateModules(language);
-          this.generateExecutableExtensionFactory(language);
-        } catch (final Throwable _t) {
-          if (_t instanceof Exception) {
-            final Exception e = (Exception)_t;
-            this.handleException(e, issues);
-          } else {
-            throw Exceptions.sneakyThrow(_t);
+      if ((this.parallel && (this.languageConfigs.size() > 1))) {
+        this.generateLanguagesInParallel(issues);
+      } else {
+        for (final XtextGeneratorLanguage language : this.languageConfigs) {
+          try {
+            this.generateLanguage(language);
+          } catch (final Throwable _t) {
+            if (_t instanceof Exception) {
+              final Exception e = (Exception)_t;
+              this.handleException(e, issues);
+            } else {
+              throw Exceptions.sneakyThrow(_t);
+            }
           }
         }
       }
@@ -258,6 +284,107 @@ public class XtextGenerator extends AbstractWorkflowComponent2 {
     }
   }
   
+  protected void generateLanguage(final XtextGeneratorLanguage language) {
+    Grammar _grammar = language.getGrammar();
+    String _name = _grammar.getName();
+    String _plus = ("Generating " + _name);
+    XtextGenerator.LOG.info(_plus);
+    final long startTime = System.nanoTime();
+    language.generate();
+    this.generateSetups(language);
+    this.generateModules(language);
+    this.generateExecutableExtensionFactory(language);
+    boolean _isDebugEnabled = XtextGenerator.LOG.isDebugEnabled();
+    if (_isDebugEnabled) {
+      Grammar _grammar_1 = language.getGrammar();
+      String _name_1 = _grammar_1.getName();
+      String _plus_1 = ("Generating " + _name_1);
+      String _plus_2 = (_plus_1 + " took ");
+      long _nanoTime = System.nanoTime();
+      long _minus = (_nanoTime - startTime);
+      long _divide = (_minus / 1000000);
+      String _plus_3 = (_plus_2 + Long.valueOf(_divide));
+      String _plus_4 = (_plus_3 + "ms");
+      XtextGenerator.LOG.debug(_plus_4);
+    }
+  }
+  
+  /**
+   * Generate all languages on a worker pool. The plugin.xml entries contributed by each language
+   * are collected per thread and added in the order of the language configurations afterwards.
+   * Like in sequential mode, the entries of a language that failed are kept.
+   */
+  protected void generateLanguagesInParallel(final Issues issues) {
+    try {
+      int _size = this.languageConfigs.size();
+      int _min = Math.min(this.maxThreads, _size);
+      int _max = Math.max(1, _min);
+      final ExecutorService executor = Executors.newFixedThreadPool(_max);
+      try {
+        final List<Future<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>>> futures = CollectionLiterals.<Future<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>>>newArrayList();
+        for (final XtextGeneratorLanguage language : this.languageConfigs) {
+          {
+            final Callable<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>> _function = () -> {
+              Map<PluginXmlAccess, List<CharSequence>> entries = null;
+              Exception failure = null;
+              PluginXmlAccess.deferEntries();
+              try {
+                this.generateLanguage(language);
+              } catch (final Throwable _t) {
+                if (_t instanceof Exception) {
+                  final Exception e = (Exception)_t;
+                  failure = e;
+                } else {
+                  throw Exceptions.sneakyThrow(_t);
+                }
+              } finally {
+                Map<PluginXmlAccess, List<CharSequence>> _collectDeferredEntries = PluginXmlAccess.collectDeferredEntries();
+                entries = _collectDeferredEntries;
+              }
+              return Pair.<Map<PluginXmlAccess, List<CharSequence>>, Exception>of(entries, failure);
+            };
+            final Callable<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>> task = _function;
+            Future<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>> _submit = executor.<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>>submit(task);
+            futures.add(_submit);
+          }
+        }
+        for (final Future<Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception>> future : futures) {
+          try {
+            final Pair<Map<PluginXmlAccess, List<CharSequence>>, Exception> result = future.get();
+            Map<PluginXmlAccess, List<CharSequence>> _key = result.getKey();
+            final BiConsumer<PluginXmlAccess, List<CharSequence>> _function_1 = (PluginXmlAccess pluginXml, List<CharSequence> entries) -> {
+              List<CharSequence> _entries = pluginXml.getEntries();
+              Iterables.<CharSequence>addAll(_entries, entries);
+            };
+            _key.forEach(_function_1);
+            Exception _value = result.getValue();
+            boolean _tripleNotEquals = (_value != null);
+            if (_tripleNotEquals) {
+              Exception _value_1 = result.getValue();
+              this.handleException(_value_1, issues);
+            }
+          } catch (final Throwable _t) {
+            if (_t instanceof ExecutionException) {
+              final ExecutionException e = (ExecutionException)_t;
+              final Throwable cause = e.getCause();
+              if ((cause instanceof Exception)) {
+                this.handleException(((Exception)cause), issues);
+              } else {
+                throw cause;
+              }
+            } else {
+              throw Exceptions.sneakyThrow(_t);
+            }
+          }
+        }
+      } finally {
+        executor.shutdown();
+      }
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
   private void handleException(final Exception ex, final Issues issues) {
     if ((ex instanceof CompositeGeneratorException)) {
       List<Exception> _exceptions = ((CompositeGeneratorException)ex).getExceptions();
@@ -581,4 +708,22 @@ public class XtextGenerator extends AbstractWorkflowComponent2 {
   public void setGrammarEncoding(final String grammarEncoding) {
     this.grammarEncoding = grammarEncoding;
   }
+  
+  @Pure
+  public boolean isParallel() {
+    return this.parallel;
+  }
+  
+  public void setParallel(final boolean parallel) {
+    this.parallel = parallel;
+  }
+  
+  @Pure
+  public int getMaxThreads() {
+    return this.maxThreads;
+  }
+  
+  public void setMaxThreads(final int maxThreads) {
+    this.maxThreads = maxThreads;
+  }
 }
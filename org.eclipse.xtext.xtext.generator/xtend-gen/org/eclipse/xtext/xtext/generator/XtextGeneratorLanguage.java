@@ -158,6 +158,19 @@ public class XtextGeneratorLanguage extends CompositeGeneratorFragment2 implemen
     this.referencedResources.add(referencedResource);
   }
   
+  /**
+   * Lets the generated standalone setup implement {@link org.eclipse.xtext.ISetupExtension ISetupExtension}, so
+   * the language is initialized on first use when it is registered through the {@link java.util.ServiceLoader}.
+   * A language that contributes an {@code ILanguageServerExtension} should also implement
+   * {@code ILanguageServerSetupExtension} in its IDE setup, otherwise it is initialized when the language server
+   * collects its extensions. Off by default.
+   * 
+   * @since 2.11
+   */
+  public void setLazyLoading(final boolean lazyLoading) {
+    this.runtimeGenSetup.setLazyLoading(lazyLoading);
+  }
+  
   @Override
   public List<String> getFileExtensions() {
     if (((this.fileExtensions == null) || this.fileExtensions.isEmpty())) {
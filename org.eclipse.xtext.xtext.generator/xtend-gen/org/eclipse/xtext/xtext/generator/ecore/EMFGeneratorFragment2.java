@@ -91,6 +91,7 @@ import org.eclipse.xtext.xbase.lib.StringExtensions;
 import org.eclipse.xtext.xtext.generator.AbstractXtextGeneratorFragment;
 import org.eclipse.xtext.xtext.generator.CodeConfig;
 import org.eclipse.xtext.xtext.generator.IXtextGeneratorLanguage;
+import org.eclipse.xtext.xtext.generator.XtextGenerator;
 import org.eclipse.xtext.xtext.generator.model.GuiceModuleAccess;
 import org.eclipse.xtext.xtext.generator.model.IXtextGeneratorFileSystemAccess;
 import org.eclipse.xtext.xtext.generator.model.ManifestAccess;
@@ -433,8 +434,18 @@ public class EMFGeneratorFragment2 extends AbstractXtextGeneratorFragment {
     GenModelPackage.eINSTANCE.getGenAnnotation();
   }
   
+  /**
+   * The EMF generator uses the global package and genmodel registries, so languages are not generated
+   * concurrently by this fragment.
+   */
   @Override
   public void generate() {
+    synchronized (XtextGenerator.GLOBAL_STATE_LOCK) {
+      this.generateModel();
+    }
+  }
+  
+  protected void generateModel() {
     Grammar _grammar = this.getGrammar();
     EList<AbstractMetamodelDeclaration> _metamodelDeclarations = _grammar.getMetamodelDeclarations();
     Iterable<GeneratedMetamodel> _filter = Iterables.<GeneratedMetamodel>filter(_metamodelDeclarations, GeneratedMetamodel.class);
@@ -422,7 +422,7 @@ public class GuiceModuleAccess {
   @Accessors
   private TypeReference superClass;
   
-  public void add(final GuiceModuleAccess.Binding newBinding) {
+  public synchronized void add(final GuiceModuleAccess.Binding newBinding) {
     boolean _contains = this.bindings.contains(newBinding);
     if (_contains) {
       final Iterator<GuiceModuleAccess.Binding> iterator = this.bindings.iterator();
@@ -451,7 +451,7 @@ public class GuiceModuleAccess {
     this.bindings.add(newBinding);
   }
   
-  public void addAll(final Iterable<GuiceModuleAccess.Binding> bindings) {
+  public synchronized void addAll(final Iterable<GuiceModuleAccess.Binding> bindings) {
     for (final GuiceModuleAccess.Binding binding : bindings) {
       this.add(binding);
     }
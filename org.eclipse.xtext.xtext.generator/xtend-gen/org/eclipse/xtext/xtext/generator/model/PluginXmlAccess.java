@@ -11,6 +11,8 @@ import com.google.common.base.Objects;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import org.apache.log4j.Logger;
 import org.eclipse.xtend.lib.annotations.Accessors;
 import org.eclipse.xtend2.lib.StringConcatenation;
@@ -36,6 +38,53 @@ public class PluginXmlAccess extends TextFileAccess implements IGuiceAwareGenera
   
   private final List<CharSequence> entries = CollectionLiterals.<CharSequence>newArrayList();
   
+  private final static ThreadLocal<Map<PluginXmlAccess, List<CharSequence>>> deferredEntries = new ThreadLocal<Map<PluginXmlAccess, List<CharSequence>>>();
+  
+  /**
+   * Returns the entries of this plugin.xml. If entries are being deferred on the current thread,
+   * the returned list only collects the contributions of that thread.
+   * 
+   * @see #deferEntries()
+   */
+  public List<CharSequence> getEntries() {
+    final Map<PluginXmlAccess, List<CharSequence>> deferred = PluginXmlAccess.deferredEntries.get();
+    if ((deferred != null)) {
+      final Function<PluginXmlAccess, List<CharSequence>> _function = (PluginXmlAccess it) -> {
+        return CollectionLiterals.<CharSequence>newArrayList();
+      };
+      return deferred.computeIfAbsent(this, _function);
+    }
+    return this.entries;
+  }
+  
+  /**
+   * Start collecting all entries that are contributed to any plugin.xml on the current thread
+   * in a thread-local buffer. This allows to generate languages concurrently and still add their
+   * entries in a deterministic order.
+   * 
+   * @see #collectDeferredEntries()
+   */
+  public static void deferEntries() {
+    PluginXmlAccess.deferredEntries.set(CollectionLiterals.<PluginXmlAccess, List<CharSequence>>newLinkedHashMap());
+  }
+  
+  /**
+   * Stop collecting entries on the current thread and return the entries that have been
+   * contributed since {@link #deferEntries()} was invoked.
+   */
+  public static Map<PluginXmlAccess, List<CharSequence>> collectDeferredEntries() {
+    final Map<PluginXmlAccess, List<CharSequence>> result = PluginXmlAccess.deferredEntries.get();
+    PluginXmlAccess.deferredEntries.remove();
+    Map<PluginXmlAccess, List<CharSequence>> _elvis = null;
+    if (result != null) {
+      _elvis = result;
+    } else {
+      Map<PluginXmlAccess, List<CharSequence>> _emptyMap = CollectionLiterals.<PluginXmlAccess, List<CharSequence>>emptyMap();
+      _elvis = _emptyMap;
+    }
+    return _elvis;
+  }
+  
   @Override
   public void setContent(final StringConcatenationClient content) {
     throw new UnsupportedOperationException("cannot directly set contents on a plugin.xml. Use entries property instead");
@@ -117,9 +166,4 @@ public class PluginXmlAccess extends TextFileAccess implements IGuiceAwareGenera
   public void setCodeConfig(final CodeConfig codeConfig) {
     this.codeConfig = codeConfig;
   }
-  
-  @Pure
-  public List<CharSequence> getEntries() {
-    return this.entries;
-  }
 }
@@ -23,6 +23,14 @@ public class StandaloneSetupAccess {
   @Deprecated
   private final Set<TypeReference> imports = CollectionLiterals.<TypeReference>newHashSet();
   
+  /**
+   * Whether the generated setup implements {@link org.eclipse.xtext.ISetupExtension ISetupExtension}, so that the
+   * language is registered without running its setup until it is used. Off by default.
+   * 
+   * @since 2.11
+   */
+  private boolean lazyLoading;
+  
   /**
    * @deprecated this set is required for backwards-compatibility to Xpand templates included with
    * 		{@code org.eclipse.xtext.generator.adapter.FragmentAdapter}.
@@ -36,4 +44,13 @@ public class StandaloneSetupAccess {
   public List<StringConcatenationClient> getRegistrations() {
     return this.registrations;
   }
+  
+  @Pure
+  public boolean isLazyLoading() {
+    return this.lazyLoading;
+  }
+  
+  public void setLazyLoading(final boolean lazyLoading) {
+    this.lazyLoading = lazyLoading;
+  }
 }
@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext;
+
+import java.util.List;
+
+/**
+ * Provides metadata about the language of an {@link ISetup} without creating its injector. Setups that implement this
+ * interface can be registered lazily, e.g. by the
+ * {@link org.eclipse.xtext.resource.ResourceServiceProviderServiceLoader ResourceServiceProviderServiceLoader}.
+ *
+ * @since 2.11
+ */
+public interface ISetupExtension {
+
+	/**
+	 * @return the file extensions of the language, starting with the primary one.
+	 */
+	List<String> getFileExtensions();
+
+}
@@ -7,6 +7,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.build
 
+import java.util.concurrent.ExecutorService
 import org.eclipse.emf.common.util.URI
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtend.lib.annotations.Accessors
@@ -28,6 +29,13 @@ class BuildContext {
 	@Accessors val IResourceClusteringPolicy clusteringPolicy
 	@Accessors val CancelIndicator cancelIndicator
 	
+	/**
+	 * If set, source level resources are parsed concurrently by this executor.
+	 * 
+	 * @since 2.11
+	 */
+	@Accessors ExecutorService loadingExecutor
+	
 	ClusteringStorageAwareResourceLoader loader
 	
 	def <T> Iterable<T> executeClustered(Iterable<URI> uri, (Resource)=>T operation) {
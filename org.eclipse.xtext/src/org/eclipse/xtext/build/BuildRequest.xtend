@@ -9,6 +9,7 @@ package org.eclipse.xtext.build
 
 import java.io.File
 import java.util.List
+import java.util.concurrent.ExecutorService
 import org.eclipse.emf.common.util.URI
 import org.eclipse.xtend.lib.annotations.Accessors
 import org.eclipse.xtext.resource.IResourceDescription
@@ -53,6 +54,13 @@ class BuildRequest {
 	XtextResourceSet resourceSet
 	CancelIndicator cancelIndicator = CancelIndicator.NullImpl
 	
+	/**
+	 * If set, source files are parsed concurrently by this executor. The executor is not shut down by the builder.
+	 * 
+	 * @since 2.11
+	 */
+	ExecutorService loadingExecutor
+	
 	interface IPostValidationCallback {
 		
 		/**
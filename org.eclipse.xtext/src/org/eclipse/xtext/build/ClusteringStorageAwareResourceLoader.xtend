@@ -7,16 +7,37 @@
  *******************************************************************************/
 package org.eclipse.xtext.build
 
+import com.google.common.util.concurrent.Futures
+import java.io.IOException
+import java.util.List
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Future
 import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.common.util.WrappedException
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor
+import org.eclipse.xtext.diagnostics.ExceptionDiagnostic
 import org.eclipse.xtext.resource.IResourceServiceProviderExtension
 import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter
 import org.eclipse.xtext.resource.persistence.StorageAwareResource
+import org.eclipse.xtext.util.internal.Log
 
 /**
+ * Loads resources in clusters whose size is limited by the {@link IResourceClusteringPolicy}.
+ * 
+ * If the {@link BuildContext#getLoadingExecutor() loading executor} of the build context is set, source level
+ * resources that are not yet in the resource set are parsed concurrently into detached resources. They are attached
+ * to the resource set on the calling thread before the operation is applied to the cluster. At most
+ * {@link #getMaxPendingLoads()} loads are pending while the clustering policy is consulted.
+ * 
+ * A resource that cannot be read by the loading executor is kept in the resource set with the failure among its
+ * errors, so the other resources of the cluster are still processed. Without a loading executor, the failure is
+ * propagated as a {@link WrappedException}.
+ * 
  * @author Jan Koehnlein - Initial contribution and API
  */
+@Log
 @FinalFieldsConstructor
 class ClusteringStorageAwareResourceLoader {
 
@@ -25,19 +46,27 @@ class ClusteringStorageAwareResourceLoader {
 	def <T> Iterable<T> executeClustered(Iterable<URI> uris, (Resource)=>T operation) {
 		val loadedURIs = <URI>newArrayList
 		val sourceLevelURIs = <URI>newArrayList
-		val resources = newArrayList
+		val resources = <Future<Resource>>newArrayList
 		val result = newArrayList
 		val iter = uris.iterator
+		var awaitedLoads = 0
 		while (iter.hasNext) {
 			val uri = iter.next
+			// the clustering policy doesn't see the memory of pending loads
+			while (resources.size - awaitedLoads >= maxPendingLoads) {
+				resources.get(awaitedLoads).await
+				awaitedLoads = awaitedLoads + 1
+			}
 			if (!clusteringPolicy.continueProcessing(resourceSet, uri, loadedURIs.size)) {
-				result += resources.map[operation.apply(it)]
+				result += resources.attach.map[operation.apply(it)]
 				resources.clear
+				awaitedLoads = 0
 				clearResourceSet
 				loadedURIs.clear
 			}
 			loadedURIs += uri
-			if (uri.isSource) {
+			val isSource = uri.isSource
+			if (isSource) {
 				sourceLevelURIs.add(uri) 
 				val existingResource = resourceSet.getResource(uri, false)
 				if(existingResource instanceof StorageAwareResource) {
@@ -46,12 +75,102 @@ class ClusteringStorageAwareResourceLoader {
 				}
 				SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, sourceLevelURIs)
 			}
-			resources += resourceSet.getResource(uri, true)
+			resources += load(uri, isSource)
 		}
-		result += resources.map[operation.apply(it)]
+		result += resources.attach.map[operation.apply(it)]
 		result
 	}
 	
+	/**
+	 * Loads the resource with the given URI. Source level resources that are not yet in the resource set are parsed by
+	 * the loading executor, if any. Their input stream is opened by the loading task through the URI converter of the
+	 * resource set, so e.g. the content of open editors is used, and only the resources that are being parsed have an
+	 * open stream.
+	 * 
+	 * @since 2.11
+	 */
+	protected def Future<Resource> load(URI uri, boolean isSource) {
+		val executor = loadingExecutor
+		if (executor !== null && isSource && resourceSet.getResource(uri, false) === null) {
+			val factory = resourceSet.resourceFactoryRegistry.getFactory(uri)
+			if (factory !== null) {
+				val resource = factory.createResource(uri)
+				val options = resourceSet.loadOptions
+				val uriConverter = resourceSet.URIConverter
+				val Callable<Resource> task = [
+					try {
+						val in = uriConverter.createInputStream(uri, options)
+						try {
+							resource.load(in, options)
+						} finally {
+							in.close
+						}
+					} catch (IOException e) {
+						handleLoadException(resource, e)
+					}
+					return resource
+				]
+				return executor.submit(task)
+			}
+		}
+		return Futures.immediateFuture(resourceSet.getResource(uri, true))
+	}
+	
+	/**
+	 * Records the failure to read a resource that is loaded by the loading executor.
+	 * 
+	 * @since 2.11
+	 */
+	protected def void handleLoadException(Resource resource, IOException exception) {
+		LOG.error("Failed to load " + resource.URI, exception)
+		if (resource.errors.empty)
+			resource.errors += new ExceptionDiagnostic(exception)
+	}
+	
+	/**
+	 * The maximum number of loads that may be pending when the clustering policy is consulted. It doesn't see the
+	 * memory that pending loads will occupy, so this bounds its error.
+	 * 
+	 * @since 2.11
+	 */
+	protected def int getMaxPendingLoads() {
+		return Runtime.runtime.availableProcessors * 2
+	}
+	
+	/**
+	 * Waits until the given resource is loaded. Failures are reported when the resource is attached.
+	 */
+	private def void await(Future<Resource> future) {
+		try {
+			future.get
+		} catch (ExecutionException e) {
+			// rethrown by attach
+		}
+	}
+	
+	/**
+	 * Waits until the given resources are loaded and adds the detached ones to the resource set.
+	 * 
+	 * @since 2.11
+	 */
+	protected def List<Resource> attach(List<Future<Resource>> futures) {
+		val result = <Resource>newArrayList
+		for (future : futures) {
+			val resource = try {
+				future.get
+			} catch (ExecutionException e) {
+				val cause = e.cause
+				if (cause instanceof IOException)
+					throw new WrappedException(cause)
+				throw cause
+			}
+			if (resource.resourceSet === null)
+				resourceSet.resources += resource
+			result += resource
+		}
+		return result
+	}
+	
 	protected def isSource(URI uri) {
 		val provider = context.getResourceServiceProvider(uri)
 		return provider instanceof IResourceServiceProviderExtension &&
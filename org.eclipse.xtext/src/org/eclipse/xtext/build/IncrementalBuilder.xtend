@@ -26,12 +26,14 @@ import org.eclipse.xtext.generator.trace.TraceRegionSerializer
 import org.eclipse.xtext.parser.IEncodingProvider
 import org.eclipse.xtext.resource.IResourceDescription
 import org.eclipse.xtext.resource.IResourceServiceProvider
+import org.eclipse.xtext.resource.XtextResource
 import org.eclipse.xtext.resource.clustering.DisabledClusteringPolicy
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy
 import org.eclipse.xtext.resource.persistence.SerializableResourceDescription
 import org.eclipse.xtext.resource.persistence.StorageAwareResource
 import org.eclipse.xtext.service.OperationCanceledManager
 import org.eclipse.xtext.util.CancelIndicator
+import org.eclipse.xtext.util.metrics.Metrics
 import org.eclipse.xtext.util.internal.Log
 import org.eclipse.xtext.validation.CheckMode
 import org.eclipse.xtext.workspace.IProjectConfigProvider
@@ -144,7 +146,12 @@ import org.eclipse.xtext.generator.GeneratorContext
 			}
 			val generatorContext = new GeneratorContext
 			generatorContext.cancelIndicator = request.cancelIndicator
-			generator.generate(resource, fileSystemAccess, generatorContext)
+			val timer = Metrics.timer("generation", if (resource instanceof XtextResource) resource.languageName).start
+			try {
+				generator.generate(resource, fileSystemAccess, generatorContext)
+			} finally {
+				timer.stop
+			}
 			// delete everything that was previously generated, but not this time
 			previous.forEach[
 				LOG.info('Deleting stale generated file ' + it)
@@ -192,6 +199,7 @@ import org.eclipse.xtext.generator.GeneratorContext
 									, oldState
 									, clusteringPolicy,
 									request.cancelIndicator)
+		context.loadingExecutor = request.loadingExecutor
 		val builder = provider.get
 		builder.context = context
 		builder.request = request
@@ -28,10 +28,12 @@ import org.eclipse.xtext.resource.IReferenceDescription
 import org.eclipse.xtext.resource.IResourceDescription
 import org.eclipse.xtext.resource.IResourceDescription.Delta
 import org.eclipse.xtext.resource.IResourceDescriptions
+import org.eclipse.xtext.resource.XtextResource
 import org.eclipse.xtext.resource.impl.AbstractResourceDescription
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData
 import org.eclipse.xtext.util.internal.Log
+import org.eclipse.xtext.util.metrics.Metrics
 import org.eclipse.xtext.service.OperationCanceledManager
 import org.eclipse.xtext.resource.persistence.SerializableEObjectDescriptionProvider
 
@@ -118,7 +120,12 @@ import org.eclipse.xtext.resource.persistence.SerializableEObjectDescriptionProv
 		val uri = resource.getURI
 		val serviceProvider = context.getResourceServiceProvider(uri)
 		val manager = serviceProvider.resourceDescriptionManager
-		val newDescription = manager.getResourceDescription(resource)
+		val timer = Metrics.timer("indexing", if (resource instanceof XtextResource) resource.languageName).start
+		val newDescription = try {
+			manager.getResourceDescription(resource)
+		} finally {
+			timer.stop
+		}
 		val IResourceDescription toBeAdded = new ResolvedResourceDescription(newDescription)
 		val delta = manager.createDelta(oldIndex?.getResourceDescription(uri), toBeAdded)
 		return delta
@@ -8,6 +8,7 @@
 package org.eclipse.xtext.build
 
 import com.google.common.collect.HashMultimap
+import com.google.common.collect.ImmutableSet
 import com.google.common.collect.Lists
 import com.google.common.collect.Multimap
 import java.io.Externalizable
@@ -31,13 +32,20 @@ import org.eclipse.xtext.generator.IFileSystemAccess
 	val Multimap<URI, URI> source2generated
 	val Multimap<URI, URI> generated2source
 	val Map<URI,String> generated2OutputConfigName
+	/**
+	 * The sources whose entries changed, or <code>null</code> if changes are not tracked.
+	 */
+	var Set<URI> changedSources
 	
 	new() {
 		this(HashMultimap.create, HashMultimap.create, newHashMap)
 	}
 	  
 	def copy() {
-		new Source2GeneratedMapping(HashMultimap.create(source2generated), HashMultimap.create(generated2source), new HashMap(generated2OutputConfigName))
+		val result = new Source2GeneratedMapping(HashMultimap.create(source2generated), HashMultimap.create(generated2source), new HashMap(generated2OutputConfigName))
+		if (changedSources !== null)
+			result.changedSources = new HashSet(changedSources)
+		return result
 	}
 	
 	def void addSource2Generated(URI source, URI generated) {
@@ -48,11 +56,13 @@ import org.eclipse.xtext.generator.IFileSystemAccess
 		source2generated.put(source, generated)
 		generated2source.put(generated, source)
 		generated2OutputConfigName.put(generated, outputCfgName)
+		changedSources?.add(source)
 	}
 	
 	def void removeSource2Generated(URI source, URI generated) {
 		source2generated.remove(source, generated)
 		generated2source.remove(generated, source)
+		changedSources?.add(source)
 	}
 	
 	def Set<URI> deleteSource(URI source) {
@@ -60,12 +70,14 @@ import org.eclipse.xtext.generator.IFileSystemAccess
 		generated.forEach[
 			generated2source.remove(it, source)
 		]
+		changedSources?.add(source)
 		return generated
 	}
 
 	def void deleteGenerated(URI generated) {
 		generated2source.removeAll(generated).forEach[
 			source2generated.remove(it, generated)
+			changedSources?.add(it)
 		]
 		generated2OutputConfigName.remove(generated)
 	}
@@ -86,6 +98,50 @@ import org.eclipse.xtext.generator.IFileSystemAccess
 		return Lists.newArrayList(generated2source.keySet)
 	}
 	
+	/**
+	 * @since 2.11
+	 */
+	def List<URI> getAllSources() {
+		return Lists.newArrayList(source2generated.keySet)
+	}
+	
+	/**
+	 * Starts to track the sources whose generated files change, so an {@link Source2GeneratedMappingStore} can persist
+	 * only the entries of these sources. Copies of this mapping inherit the changed sources and keep tracking.
+	 * 
+	 * @since 2.11
+	 */
+	def void trackChanges() {
+		if (changedSources === null)
+			changedSources = newHashSet
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	def boolean isTrackingChanges() {
+		return changedSources !== null
+	}
+	
+	/**
+	 * Returns the sources whose generated files changed since {@link #trackChanges()} or
+	 * {@link #clearChangedSources()} was called, or an empty set if changes are not tracked.
+	 * 
+	 * @since 2.11
+	 */
+	def Set<URI> getChangedSources() {
+		if (changedSources === null)
+			return emptySet
+		return ImmutableSet.copyOf(changedSources)
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	def void clearChangedSources() {
+		changedSources?.clear
+	}
+	
 	override readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 		val numEntries = in.readInt
 		for(i: 0..<numEntries) {
@@ -94,7 +150,10 @@ import org.eclipse.xtext.generator.IFileSystemAccess
 			for(j: 0..<numGenerated) {
 				val generated = URI.createURI(in.readUTF)
 				val outputConfig = in.readUTF
-				addSource2Generated(source, generated, outputConfig)
+				// entries that are read are not changes
+				source2generated.put(source, generated)
+				generated2source.put(generated, source)
+				generated2OutputConfigName.put(generated, outputConfig)
 			}
 		}
 	}
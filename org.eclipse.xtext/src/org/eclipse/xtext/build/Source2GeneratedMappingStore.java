@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.PushbackInputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+
+/**
+ * Persists a {@link Source2GeneratedMapping} in an append-only log. Each record contains the generated files of one
+ * source together with their output configurations, and replaces the previous record of that source. A
+ * {@link #save(Source2GeneratedMapping) save} appends records only for the
+ * {@link Source2GeneratedMapping#getChangedSources() changed sources}, so its cost depends on the size of the build
+ * rather than on the size of the workspace. Once the log contains {@link #COMPACTION_FACTOR} times as many records
+ * as there were sources at the last compaction, it is compacted, i.e. rewritten with one record per source.
+ *
+ * The mapping returned by {@link #load()} reads the log when it is accessed for the first time. Saving is not
+ * thread-safe; callers are expected to save the state of one build after another.
+ *
+ * @since 2.11
+ */
+public class Source2GeneratedMappingStore {
+
+	private static final Logger LOG = Logger.getLogger(Source2GeneratedMappingStore.class);
+
+	private static final int MAGIC_NUMBER = 0x53324d4c;
+
+	private static final int VERSION = 1;
+
+	protected static final int COMPACTION_FACTOR = 3;
+
+	protected static final int MIN_COMPACTION_RECORDS = 1000;
+
+	private final File file;
+
+	/**
+	 * The number of records in the log, or -1 if the log was neither read nor written by this store, or if it is
+	 * damaged. The next save rewrites the log in that case.
+	 */
+	private int records = -1;
+
+	private int sourcesAtCompaction = 0;
+
+	public Source2GeneratedMappingStore(File file) {
+		this.file = file;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * @return a mapping that is read from the log when it is accessed for the first time. The mapping is empty if the
+	 *         log does not exist.
+	 */
+	public Source2GeneratedMapping load() {
+		return new LazyMapping();
+	}
+
+	/**
+	 * Appends the entries of the changed sources of the given mapping to the log and resets its changed sources. The
+	 * given mapping must be the one that was {@link #load() loaded} from or previously saved to this store, or a
+	 * {@link Source2GeneratedMapping#copy() copy} of it. The log is rewritten completely if it needs to be compacted,
+	 * if this store has not read it yet, or if the mapping did not {@link Source2GeneratedMapping#trackChanges() track
+	 * its changes} yet. The mapping tracks its changes afterwards.
+	 */
+	public void save(Source2GeneratedMapping mapping) throws IOException {
+		if (mapping instanceof LazyMapping && ((LazyMapping) mapping).getStore() == this
+				&& !((LazyMapping) mapping).isLoaded()) {
+			// the mapping wasn't touched, so it still equals the log
+			return;
+		}
+		Set<URI> changed = mapping.getChangedSources();
+		if (records < 0 || !file.exists() || !mapping.isTrackingChanges()
+				|| records + changed.size() > COMPACTION_FACTOR * Math.max(sourcesAtCompaction, MIN_COMPACTION_RECORDS)) {
+			compact(mapping);
+		} else if (!changed.isEmpty()) {
+			append(mapping, changed);
+		}
+		mapping.trackChanges();
+		mapping.clearChangedSources();
+	}
+
+	protected void append(Source2GeneratedMapping mapping, Collection<URI> sources) throws IOException {
+		int previousRecords = records;
+		// if writing fails, the log may end with a partial record, so the next save rewrites it
+		records = -1;
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+		try {
+			for (URI source : sources) {
+				writeRecord(out, mapping, source);
+			}
+		} finally {
+			out.close();
+		}
+		records = previousRecords + sources.size();
+	}
+
+	/**
+	 * Writes one record per source to a temporary file, which then replaces the log.
+	 */
+	protected void compact(Source2GeneratedMapping mapping) throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File tmp = new File(parent, file.getName() + ".tmp");
+		List<URI> sources = mapping.getAllSources();
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+		try {
+			out.writeInt(MAGIC_NUMBER);
+			out.writeInt(VERSION);
+			for (URI source : sources) {
+				writeRecord(out, mapping, source);
+			}
+		} finally {
+			out.close();
+		}
+		try {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		records = sources.size();
+		sourcesAtCompaction = sources.size();
+	}
+
+	protected void writeRecord(DataOutputStream out, Source2GeneratedMapping mapping, URI source) throws IOException {
+		List<URI> generated = mapping.getGenerated(source);
+		out.writeUTF(source.toString());
+		out.writeInt(generated.size());
+		for (URI uri : generated) {
+			String outputConfig = mapping.getOutputConfigName(uri);
+			out.writeUTF(uri.toString());
+			out.writeUTF(outputConfig != null ? outputConfig : IFileSystemAccess.DEFAULT_OUTPUT);
+		}
+	}
+
+	/**
+	 * Replays the log into the given mapping. A damaged log is read up to the damaged record, like a log whose last
+	 * record is incomplete.
+	 */
+	protected void read(Source2GeneratedMapping mapping) {
+		records = -1;
+		if (!file.exists()) {
+			return;
+		}
+		int count = 0;
+		try {
+			PushbackInputStream pushback = new PushbackInputStream(new BufferedInputStream(new FileInputStream(file)));
+			DataInputStream in = new DataInputStream(pushback);
+			try {
+				if (in.readInt() != MAGIC_NUMBER || in.readInt() != VERSION) {
+					LOG.warn("Ignoring " + file + ", it has an unknown format.");
+					return;
+				}
+				// each generated file takes at least four bytes, so larger counts can only come from damaged records
+				long maxGenerated = file.length() / 4;
+				int next;
+				while ((next = pushback.read()) >= 0) {
+					pushback.unread(next);
+					readRecord(in, mapping, maxGenerated);
+					count++;
+				}
+				records = count;
+			} finally {
+				in.close();
+			}
+		} catch (EOFException e) {
+			LOG.warn("Record " + (count + 1) + " of " + file + " is incomplete or damaged and was skipped with all later records.");
+		} catch (IOException | RuntimeException e) {
+			LOG.error("Error reading " + file + " after " + count + " records.", e);
+		} finally {
+			mapping.clearChangedSources();
+			sourcesAtCompaction = mapping.getAllSources().size();
+		}
+	}
+
+	/**
+	 * Reads one record into the given mapping. The mapping is not changed if the record is damaged.
+	 * 
+	 * @throws EOFException
+	 *             if the record is incomplete or if it has a negative number or more than the given number of
+	 *             generated files.
+	 */
+	protected void readRecord(DataInputStream in, Source2GeneratedMapping mapping, long maxGenerated) throws IOException {
+		URI source = URI.createURI(in.readUTF());
+		int size = in.readInt();
+		if (size < 0 || size > maxGenerated) {
+			throw new EOFException("Invalid number of generated files: " + size);
+		}
+		URI[] generated = new URI[size];
+		String[] outputConfigs = new String[size];
+		for (int i = 0; i < size; i++) {
+			generated[i] = URI.createURI(in.readUTF());
+			outputConfigs[i] = in.readUTF();
+		}
+		mapping.deleteSource(source);
+		for (int i = 0; i < size; i++) {
+			mapping.addSource2Generated(source, generated[i], outputConfigs[i]);
+		}
+	}
+
+	/**
+	 * A mapping that replays the log on first access. It tracks its changes from the start.
+	 */
+	protected class LazyMapping extends Source2GeneratedMapping {
+
+		private boolean loaded = false;
+
+		protected LazyMapping() {
+			trackChanges();
+		}
+
+		protected Source2GeneratedMappingStore getStore() {
+			return Source2GeneratedMappingStore.this;
+		}
+
+		protected synchronized boolean isLoaded() {
+			return loaded;
+		}
+
+		protected synchronized void ensureLoaded() {
+			if (!loaded) {
+				loaded = true;
+				read(this);
+			}
+		}
+
+		@Override
+		public Source2GeneratedMapping copy() {
+			ensureLoaded();
+			return super.copy();
+		}
+
+		@Override
+		public void addSource2Generated(URI source, URI generated, String outputCfgName) {
+			ensureLoaded();
+			super.addSource2Generated(source, generated, outputCfgName);
+		}
+
+		@Override
+		public void removeSource2Generated(URI source, URI generated) {
+			ensureLoaded();
+			super.removeSource2Generated(source, generated);
+		}
+
+		@Override
+		public Set<URI> deleteSource(URI source) {
+			ensureLoaded();
+			return super.deleteSource(source);
+		}
+
+		@Override
+		public void deleteGenerated(URI generated) {
+			ensureLoaded();
+			super.deleteGenerated(generated);
+		}
+
+		@Override
+		public String getOutputConfigName(URI generated) {
+			ensureLoaded();
+			return super.getOutputConfigName(generated);
+		}
+
+		@Override
+		public List<URI> getGenerated(URI source) {
+			ensureLoaded();
+			return super.getGenerated(source);
+		}
+
+		@Override
+		public List<URI> getSource(URI generated) {
+			ensureLoaded();
+			return super.getSource(generated);
+		}
+
+		@Override
+		public List<URI> getAllGenerated() {
+			ensureLoaded();
+			return super.getAllGenerated();
+		}
+
+		@Override
+		public List<URI> getAllSources() {
+			ensureLoaded();
+			return super.getAllSources();
+		}
+
+		@Override
+		public Set<URI> getChangedSources() {
+			ensureLoaded();
+			return super.getChangedSources();
+		}
+
+		@Override
+		public void clearChangedSources() {
+			ensureLoaded();
+			super.clearChangedSources();
+		}
+
+		@Override
+		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+			ensureLoaded();
+			super.readExternal(in);
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput out) throws IOException {
+			ensureLoaded();
+			super.writeExternal(out);
+		}
+	}
+
+}
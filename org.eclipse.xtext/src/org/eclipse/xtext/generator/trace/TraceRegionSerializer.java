@@ -18,10 +18,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.common.util.URI;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 /**
  * @noextend This interface is not intended to be extended by clients.
@@ -90,6 +92,25 @@ public class TraceRegionSerializer {
 	 */
 	private static final int VERSION_5 = 5;
 	
+	/**
+	 * changes compared to version 5:
+	 * 
+	 * - in version 6, offsets and line numbers are stored as deltas to the preceding region or location
+	 *   and each path is stored only once.
+	 */
+	private static final int VERSION_6 = 6;
+	
+	/**
+	 * The state that is needed to decode the delta encoded offsets, line numbers and paths of version 6.
+	 */
+	private static class DeltaState {
+		private int previousOffset;
+		private int previousLineNumber;
+		private int previousLocationOffset;
+		private int previousLocationLineNumber;
+		private final List<SourceRelativeURI> paths = Lists.newArrayList();
+	}
+	
 	public void writeTraceRegionTo(AbstractTraceRegion region, OutputStream stream) throws IOException {
 		if (region != null && region.getParent() != null)
 			throw new IllegalArgumentException("region must be the root");
@@ -99,39 +120,60 @@ public class TraceRegionSerializer {
 	public <Region, Location> void doWriteTo(final Strategy<Region, Location> strategy, Region region, OutputStream stream) throws IOException {
 		final DataOutputStream dataStream = new DataOutputStream(new BufferedOutputStream(stream));
 		try {
-			dataStream.writeInt(VERSION_5);
+			dataStream.writeInt(VERSION_6);
 			dataStream.writeBoolean(region != null);
 			if (region == null)
 				return;
 			strategy.writeRegion(region, new Callback<Region, Location>() {
+				private final Map<SourceRelativeURI, Integer> paths = Maps.newHashMap();
+				private int previousOffset;
+				private int previousLineNumber;
+				private int previousLocationOffset;
+				private int previousLocationLineNumber;
+				
 				@Override
 				public void doWriteRegion(int offset, int length, int lineNumber, int endLineNumber, boolean isUseForDebugging, List<Location> locations, List<Region> children) throws IOException {
-					writeCompressedInt(dataStream, offset);
+					// the first child is stored relative to its parent, the other children relative to the end of their predecessor
+					writeCompressedInt(dataStream, encodeDelta(offset - previousOffset));
 					writeCompressedInt(dataStream, length);
-					writeCompressedInt(dataStream, lineNumber);
-					writeCompressedInt(dataStream, endLineNumber);
+					writeCompressedInt(dataStream, encodeDelta(lineNumber - previousLineNumber));
+					writeCompressedInt(dataStream, encodeDelta(endLineNumber - lineNumber));
 					dataStream.writeBoolean(isUseForDebugging);
 					writeCompressedInt(dataStream, locations.size());
 					for(Location loc: locations) {
 						strategy.writeLocation(loc, this);
 					}
+					previousOffset = offset;
+					previousLineNumber = lineNumber;
 					writeCompressedInt(dataStream, children.size());
 					for(Region child: children) {
 						strategy.writeRegion(child, this);
 					}
+					previousOffset = offset + length;
+					previousLineNumber = endLineNumber;
 				}
 
 				@Override
 				public void doWriteLocation(int offset, int length, int lineNumber, int endLineNumber, SourceRelativeURI path) throws IOException {
-					writeCompressedInt(dataStream, offset);
+					writeCompressedInt(dataStream, encodeDelta(offset - previousLocationOffset));
 					writeCompressedInt(dataStream, length);
-					writeCompressedInt(dataStream, lineNumber);
-					writeCompressedInt(dataStream, endLineNumber);
+					writeCompressedInt(dataStream, encodeDelta(lineNumber - previousLocationLineNumber));
+					writeCompressedInt(dataStream, encodeDelta(endLineNumber - lineNumber));
+					previousLocationOffset = offset;
+					previousLocationLineNumber = lineNumber;
+					// 0 denotes no path, a path that is used for the first time is followed by its string representation
 					if (path != null) {
-						dataStream.writeBoolean(true);
-						dataStream.writeUTF(path.getURI().toString());
+						Integer index = paths.get(path);
+						if (index == null) {
+							index = paths.size() + 1;
+							paths.put(path, index);
+							writeCompressedInt(dataStream, index);
+							dataStream.writeUTF(path.getURI().toString());
+						} else {
+							writeCompressedInt(dataStream, index);
+						}
 					} else {
-						dataStream.writeBoolean(false);
+						writeCompressedInt(dataStream, 0);
 					}
 				}
 			});
@@ -140,6 +182,17 @@ public class TraceRegionSerializer {
 		}
 	}
 	
+	/**
+	 * Maps signed deltas to non-negative values, so small negative deltas are stored compactly, too.
+	 */
+	private static int encodeDelta(int delta) {
+		return (delta << 1) ^ (delta >> 31);
+	}
+	
+	private static int decodeDelta(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
 	private void writeCompressedInt(DataOutput output, int value) throws IOException {
 		// see EObjectOutputStream.writeCompressedInt
 		++value;
@@ -275,12 +328,14 @@ public class TraceRegionSerializer {
 	public <Region, Location> Region doReadFrom(InputStream contents, Strategy<Region, Location> reader) throws IOException {
 		DataInputStream dataStream = new DataInputStream(new BufferedInputStream(contents));
 		int version = dataStream.readInt();
-		if (version != VERSION_3 && version != VERSION_4 && version != VERSION_5)
+		if (version != VERSION_3 && version != VERSION_4 && version != VERSION_5 && version != VERSION_6)
 			return null;
 		boolean isNull = !dataStream.readBoolean();
 		if (isNull)
 			return null;
-		if (version >= VERSION_5) {
+		if (version >= VERSION_6) {
+			return doReadFrom(new CompressedIntDataInput(dataStream), reader, null, new DeltaState());
+		} else if (version >= VERSION_5) {
 			return doReadFrom(new CompressedIntDataInput(dataStream), reader, null, version);
 		} else {
 			return doReadFrom(dataStream, reader, null, version);
@@ -289,6 +344,9 @@ public class TraceRegionSerializer {
 
 	public <Location, Region> Region doReadFrom(DataInput dataStream, Strategy<Region, Location> reader, Region parent, int version)
 			throws IOException {
+		if (version >= VERSION_6) {
+			return doReadFrom(dataStream, reader, parent, new DeltaState());
+		}
 		int offset = dataStream.readInt();
 		int length = dataStream.readInt();
 		int lineNumber = dataStream.readInt();
@@ -339,4 +397,46 @@ public class TraceRegionSerializer {
 		return result;
 	}
 
+	private <Location, Region> Region doReadFrom(DataInput dataStream, Strategy<Region, Location> reader, Region parent, DeltaState state)
+			throws IOException {
+		int offset = state.previousOffset + decodeDelta(dataStream.readInt());
+		int length = dataStream.readInt();
+		int lineNumber = state.previousLineNumber + decodeDelta(dataStream.readInt());
+		int endLineNumber = lineNumber + decodeDelta(dataStream.readInt());
+		boolean useForDebugging = dataStream.readBoolean();
+		int locationSize = dataStream.readInt();
+		List<Location> allLocations = Lists.newArrayListWithCapacity(locationSize);
+		while(locationSize != 0) {
+			int locationOffset = state.previousLocationOffset + decodeDelta(dataStream.readInt());
+			int locationLength = dataStream.readInt();
+			int locationLineNumber = state.previousLocationLineNumber + decodeDelta(dataStream.readInt());
+			int locationEndLineNumber = locationLineNumber + decodeDelta(dataStream.readInt());
+			state.previousLocationOffset = locationOffset;
+			state.previousLocationLineNumber = locationLineNumber;
+			final SourceRelativeURI path;
+			int pathIndex = dataStream.readInt();
+			if (pathIndex == 0) {
+				path = null;
+			} else {
+				if (pathIndex > state.paths.size()) {
+					state.paths.add(new SourceRelativeURI(dataStream.readUTF()));
+				}
+				path = state.paths.get(pathIndex - 1);
+			}
+			allLocations.add(reader.createLocation(locationOffset, locationLength, locationLineNumber, locationEndLineNumber, path));
+			locationSize--;
+		}
+		Region result = reader.createRegion(offset, length, lineNumber, endLineNumber, useForDebugging, allLocations, parent);
+		state.previousOffset = offset;
+		state.previousLineNumber = lineNumber;
+		int childrenSize = dataStream.readInt();
+		while(childrenSize != 0) {
+			doReadFrom(dataStream, reader, result, state);
+			childrenSize--;
+		}
+		state.previousOffset = offset + length;
+		state.previousLineNumber = endLineNumber;
+		return result;
+	}
+
 }
@@ -87,6 +87,8 @@ public abstract class AbstractTrace implements ITrace {
 	
 	private AbstractTraceRegion rootTraceRegion;
 	
+	private TraceRegionIndex traceRegionIndex;
+	
 	private ITraceRegionProvider traceRegionProvider;
 	
 	private boolean isTraceToSource;
@@ -104,6 +106,22 @@ public abstract class AbstractTrace implements ITrace {
 		return rootTraceRegion;
 	}
 	
+	/**
+	 * Returns the index of the leafs of the {@link #getRootTraceRegion() root trace region}. The index is
+	 * computed on first access.
+	 * @return the index. May be <code>null</code> if no trace data is available.
+	 * @since 2.11
+	 */
+	protected final TraceRegionIndex getTraceRegionIndex() {
+		if (traceRegionIndex == null) {
+			AbstractTraceRegion root = getRootTraceRegion();
+			if (root != null) {
+				traceRegionIndex = new TraceRegionIndex(root);
+			}
+		}
+		return traceRegionIndex;
+	}
+	
 	@Override
 	public boolean hasTraceData() {
 		return getRootTraceRegion() != null;
@@ -241,26 +259,38 @@ public abstract class AbstractTrace implements ITrace {
 			// we have an inconsistent state - no candidate matches
 			return null;
 		}
-		outer: while(candidate != null) {
-			// TODO binary search?
+		while(candidate != null) {
 			List<? extends AbstractTraceRegion> children = candidate.getNestedRegions();
 			if (children.isEmpty()) {
 				return candidate;
 			}
-			for(AbstractTraceRegion child: children) {
-				if (encloses(child, offset, includeRegionEnd)) {
-					candidate = child;
-					continue outer;
-				} else {
-					if (child.getMyOffset() > offset) {
-						return candidate;
-					}
-				}
+			// the children are sorted and do not overlap, so the first child that may enclose the offset is found by a binary search
+			int index = findFirstChildNotBefore(children, offset, includeRegionEnd);
+			if (index < children.size() && encloses(children.get(index), offset, includeRegionEnd)) {
+				candidate = children.get(index);
+			} else {
+				return candidate;
 			}
-			return candidate;
 		}
 		return null;
 	}
+	
+	private int findFirstChildNotBefore(List<? extends AbstractTraceRegion> children, int offset, boolean includeRegionEnd) {
+		int low = 0;
+		int high = children.size();
+		while(low < high) {
+			int mid = (low + high) >>> 1;
+			AbstractTraceRegion child = children.get(mid);
+			int end = child.getMyOffset() + child.getMyLength();
+			boolean before = includeRegionEnd ? end < offset : end <= offset && child.getMyOffset() < offset;
+			if (before) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
 
 	public AbstractTraceRegion findTraceRegionAtLeftOffset(int offset) {
 		return findTraceRegionAt(offset, false);
@@ -408,22 +438,17 @@ public abstract class AbstractTrace implements ITrace {
 
 			@Override
 			public Iterator<AbstractTraceRegion> iterator() {
-				AbstractTraceRegion root = getRootTraceRegion();
-				if (root == null)
+				TraceRegionIndex index = getTraceRegionIndex();
+				if (index == null)
+					return ImmutableSet.<AbstractTraceRegion>of().iterator();
+				int firstIndex = index.indexOf(left.getMyOffset());
+				if (firstIndex == index.size() || index.getOffset(firstIndex) != left.getMyOffset())
 					return ImmutableSet.<AbstractTraceRegion>of().iterator();
-				final Iterator<AbstractTraceRegion> allLeafs = root.leafIterator();
+				final Iterator<AbstractTraceRegion> allLeafs = index.iterator(firstIndex + 1);
+				final AbstractTraceRegion firstLeaf = index.get(firstIndex);
 				Iterator<AbstractTraceRegion> result = new AbstractIterator<AbstractTraceRegion>() {
 					
-					AbstractTraceRegion first;
-					{
-						while(first == null && allLeafs.hasNext()) {
-							AbstractTraceRegion next = allLeafs.next();
-							if (next.getMyOffset() == left.getMyOffset()) {
-								this.first = next;
-								break;
-							}
-						}
-					}
+					AbstractTraceRegion first = firstLeaf;
 					
 					@Override
 					protected AbstractTraceRegion computeNext() {
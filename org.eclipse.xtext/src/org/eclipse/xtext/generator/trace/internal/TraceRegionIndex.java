@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.generator.trace.internal;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The leafs of a trace region tree in the order of the {@link AbstractTraceRegion#leafIterator() leaf iterator},
+ * together with a sorted array of their offsets. Allows to find the leafs at a given offset by means of a binary
+ * search instead of a traversal of all leafs.
+ *
+ * @since 2.11
+ */
+public class TraceRegionIndex {
+
+	private final List<AbstractTraceRegion> leafs;
+
+	private final int[] offsets;
+
+	public TraceRegionIndex(AbstractTraceRegion root) {
+		ImmutableList.Builder<AbstractTraceRegion> builder = ImmutableList.builder();
+		Iterator<AbstractTraceRegion> iterator = root.leafIterator();
+		while (iterator.hasNext()) {
+			builder.add(iterator.next());
+		}
+		this.leafs = builder.build();
+		this.offsets = new int[leafs.size()];
+		for (int i = 0; i < offsets.length; i++) {
+			offsets[i] = leafs.get(i).getMyOffset();
+		}
+	}
+
+	/**
+	 * @return the index of the first leaf whose offset is greater than or equal to the given offset. Returns
+	 *         {@link #size()} if there is no such leaf.
+	 */
+	public int indexOf(int offset) {
+		int low = 0;
+		int high = offsets.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (offsets[mid] < offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	public AbstractTraceRegion get(int index) {
+		return leafs.get(index);
+	}
+
+	public int getOffset(int index) {
+		return offsets[index];
+	}
+
+	public int size() {
+		return offsets.length;
+	}
+
+	/**
+	 * @return the leafs starting at the given index.
+	 */
+	public Iterator<AbstractTraceRegion> iterator(int index) {
+		return leafs.listIterator(index);
+	}
+
+}
@@ -26,8 +26,8 @@ import org.eclipse.xtext.diagnostics.IDiagnosticConsumer;
 import org.eclipse.xtext.linking.lazy.LazyLinkingResource;
 import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.nodemodel.INode;
-import org.eclipse.xtext.util.internal.Stopwatches;
-import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 
 /**
  * @author Sebastian Zarnekow
@@ -38,29 +38,33 @@ public abstract class AbstractCleaningLinker extends AbstractLinker {
 	
 	@Override
 	public void linkModel(EObject model, IDiagnosticConsumer diagnosticsConsumer) {
-		StoppedTask task = Stopwatches.forTask("installing proxies (AbstractCleaningLinker.linkModel)");
-		task.start();
-		boolean debug = log.isDebugEnabled();
-		long time = System.currentTimeMillis();
-		beforeModelLinked(model, diagnosticsConsumer);
-		if (debug) {
-			long now = System.currentTimeMillis();
-			log.debug("beforeModelLinked took: " + (now - time) + "ms");
-			time = now;
-		}
-		doLinkModel(model, diagnosticsConsumer);
-		if (debug) {
-			long now = System.currentTimeMillis();
-			log.debug("doLinkModel took: " + (now - time) + "ms");
-			time = now;
-		}
-		afterModelLinked(model, diagnosticsConsumer);
-		if (debug) {
-			long now = System.currentTimeMillis();
-			log.debug("afterModelLinked took: " + (now - time) + "ms");
-			time = now;
+		Resource resource = model.eResource();
+		String languageName = resource instanceof XtextResource ? ((XtextResource) resource).getLanguageName() : null;
+		Timer.Context timer = Metrics.timer("linking.installProxies", languageName).start();
+		try {
+			boolean debug = log.isDebugEnabled();
+			long time = System.currentTimeMillis();
+			beforeModelLinked(model, diagnosticsConsumer);
+			if (debug) {
+				long now = System.currentTimeMillis();
+				log.debug("beforeModelLinked took: " + (now - time) + "ms");
+				time = now;
+			}
+			doLinkModel(model, diagnosticsConsumer);
+			if (debug) {
+				long now = System.currentTimeMillis();
+				log.debug("doLinkModel took: " + (now - time) + "ms");
+				time = now;
+			}
+			afterModelLinked(model, diagnosticsConsumer);
+			if (debug) {
+				long now = System.currentTimeMillis();
+				log.debug("afterModelLinked took: " + (now - time) + "ms");
+				time = now;
+			}
+		} finally {
+			timer.stop();
 		}
-		task.stop();
 	}
 
 	protected void afterModelLinked(EObject model, IDiagnosticConsumer diagnosticsConsumer) {
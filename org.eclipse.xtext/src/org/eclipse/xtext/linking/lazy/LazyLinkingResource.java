@@ -44,6 +44,8 @@ import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Triple;
 import org.eclipse.xtext.util.Tuples;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
@@ -122,18 +124,23 @@ public class LazyLinkingResource extends XtextResource {
 	 */
 	public void resolveLazyCrossReferences(final CancelIndicator mon) {
 		final CancelIndicator monitor = mon == null ? CancelIndicator.NullImpl : mon;
-		TreeIterator<Object> iterator = EcoreUtil.getAllContents(this, true);
-		while (iterator.hasNext()) {
-			operationCanceledManager.checkCanceled(monitor);
-			InternalEObject source = (InternalEObject) iterator.next();
-			EStructuralFeature[] eStructuralFeatures = ((EClassImpl.FeatureSubsetSupplier) source.eClass()
-					.getEAllStructuralFeatures()).crossReferences();
-			if (eStructuralFeatures != null) {
-				for (EStructuralFeature crossRef : eStructuralFeatures) {
-					operationCanceledManager.checkCanceled(monitor);
-					resolveLazyCrossReference(source, crossRef);
+		Timer.Context timer = Metrics.timer("linking.resolve", getLanguageName()).start();
+		try {
+			TreeIterator<Object> iterator = EcoreUtil.getAllContents(this, true);
+			while (iterator.hasNext()) {
+				operationCanceledManager.checkCanceled(monitor);
+				InternalEObject source = (InternalEObject) iterator.next();
+				EStructuralFeature[] eStructuralFeatures = ((EClassImpl.FeatureSubsetSupplier) source.eClass()
+						.getEAllStructuralFeatures()).crossReferences();
+				if (eStructuralFeatures != null) {
+					for (EStructuralFeature crossRef : eStructuralFeatures) {
+						operationCanceledManager.checkCanceled(monitor);
+						resolveLazyCrossReference(source, crossRef);
+					}
 				}
 			}
+		} finally {
+			timer.stop();
 		}
 	}
 
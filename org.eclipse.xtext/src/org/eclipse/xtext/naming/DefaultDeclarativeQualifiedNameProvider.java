@@ -11,6 +11,7 @@ package org.eclipse.xtext.naming;
 import java.util.Collections;
 
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.util.DependencyTrackingCache;
 import org.eclipse.xtext.util.IResourceScopeCache;
 import org.eclipse.xtext.util.PolymorphicDispatcher;
 import org.eclipse.xtext.util.SimpleAttributeResolver;
@@ -60,6 +61,8 @@ public class DefaultDeclarativeQualifiedNameProvider extends IQualifiedNameProvi
 
 			@Override
 			public QualifiedName get() {
+				if (cache instanceof DependencyTrackingCache && isDependingOnContainersOnly())
+					((DependencyTrackingCache) cache).dependsOn(obj);
 				EObject temp = obj;
 				QualifiedName qualifiedNameFromDispatcher = qualifiedName.invoke(temp);
 				if (qualifiedNameFromDispatcher!=null)
@@ -81,6 +84,19 @@ public class DefaultDeclarativeQualifiedNameProvider extends IQualifiedNameProvi
 	
 	
 
+	/**
+	 * Whether the qualified name of an object only depends on the object itself, its contents and its containers.
+	 * The default name computation only reads the name of the object and the qualified names of its containers. If
+	 * a {@link DependencyTrackingCache} is bound, such names survive semantic changes in other parts of the resource.
+	 * Subclasses that compute names from other parts of the model, e.g. from referenced objects, have to return
+	 * <code>false</code>.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isDependingOnContainersOnly() {
+		return true;
+	}
+
 	/**
 	 * Default for qualifiedName dispatcher. Write a method with this signature but custom Type for dispatching other types.
 	 * @since 2.3
@@ -18,6 +18,8 @@ import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectOutputStrea
 import org.eclipse.xtext.util.Strings;
 
 import com.google.common.base.Function;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 /**
  * A datatype for dealing with qualified names.
@@ -36,6 +38,8 @@ public class QualifiedName implements Comparable<QualifiedName> {
 
 	private static final boolean USE_INTERNING = Boolean.getBoolean("xtext.qn.interning");
 
+	private static final Interner<QualifiedName> INTERNER = Interners.newWeakInterner();
+
 	public static final QualifiedName EMPTY = new QualifiedName() {
 		@Override
 		public QualifiedName append(QualifiedName relativeQualifiedName) {
@@ -87,7 +91,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 			}
 			newArray[i] = intern(string);
 		}
-		return new QualifiedName(newArray);
+		return intern(new QualifiedName(newArray));
 	}
 
 	/**
@@ -105,6 +109,17 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		return USE_INTERNING? CommonUtil.intern(string) : string;
 	}
 
+	/**
+	 * Returns the canonical instance of the given qualified name from a weak pool, if a system property
+	 * {@code xtext.qn.interning} is set to {@code true}, or the same object otherwise. Sharing the instances lets
+	 * equal names, e.g. the names of the exported objects of many resources, share their lower case variant, too.
+	 * Only instances of this class are pooled, since a lower case instance is equal to a plain one with the same
+	 * segments.
+	 */
+	private static QualifiedName intern(QualifiedName name) {
+		return USE_INTERNING? INTERNER.intern(name) : name;
+	}
+
 	/**
 	 * Internal low level factory method.
 	 * @noreference This method is not intended to be referenced by clients.
@@ -131,7 +146,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		if (lowerCase) {
 			return new QualifiedNameLowerCase(segments);
 		} else {
-			return new QualifiedName(segments);
+			return intern(new QualifiedName(segments));
 		}
 	}
 
@@ -186,7 +201,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 			}
 			segmentArray[i] = intern(string);
 		}
-		return new QualifiedName(segmentArray);
+		return intern(new QualifiedName(segmentArray));
 	}
 
 	/**
@@ -202,7 +217,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		if (singleSegment == null) {
 			throw new IllegalArgumentException("Segment cannot be null");
 		}
-		return new QualifiedName(intern(singleSegment));
+		return intern(new QualifiedName(intern(singleSegment)));
 	}
 
 	/**
@@ -259,7 +274,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		String[] newSegments = new String[getSegmentCount() + 1];
 		System.arraycopy(segments, 0, newSegments, 0, segments.length);
 		newSegments[segments.length] = intern(segment);
-		return new QualifiedName(newSegments);
+		return intern(new QualifiedName(newSegments));
 	}
 
 	public QualifiedName append(QualifiedName relativeQualifiedName) {
@@ -268,7 +283,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 			newSegments[i] = getSegment(i);
 		for (int i = 0; i < relativeQualifiedName.getSegmentCount(); ++i)
 			newSegments[i + getSegmentCount()] = relativeQualifiedName.getSegment(i);
-		return new QualifiedName(newSegments);
+		return intern(new QualifiedName(newSegments));
 	}
 
 	public QualifiedName skipFirst(int skipCount) {
@@ -284,7 +299,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		}
 		String[] newSegments = new String[segments.length - skipCount];
 		System.arraycopy(segments, skipCount, newSegments, 0, newSegments.length);
-		return new QualifiedName(newSegments);
+		return intern(new QualifiedName(newSegments));
 	}
 
 	public QualifiedName skipLast(int skipCount) {
@@ -300,7 +315,7 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		}
 		String[] newSegments = new String[segments.length - skipCount];
 		System.arraycopy(segments, 0, newSegments, 0, newSegments.length);
-		return new QualifiedName(newSegments);
+		return intern(new QualifiedName(newSegments));
 	}
 
 	public QualifiedName toLowerCase() {
@@ -356,8 +371,9 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		String[] newSegments = new String[getSegmentCount()];
 		for (int i = 0; i < getSegmentCount(); ++i)
 			newSegments[i] = intern(segments[i].toUpperCase());
-		QualifiedName result = new QualifiedName(newSegments);
-		result.lowerCase = this.lowerCase;
+		QualifiedName result = intern(new QualifiedName(newSegments));
+		if (result.lowerCase == null)
+			result.lowerCase = this.lowerCase;
 		return result;
 	}
 
@@ -11,8 +11,6 @@ package org.eclipse.xtext.parser;
 import java.io.Reader;
 
 import org.eclipse.xtext.util.ReplaceRegion;
-import org.eclipse.xtext.util.internal.Stopwatches;
-import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
 
 /**
  * @author Sven Efftinge - Initial contribution and API
@@ -27,13 +25,7 @@ public abstract class AbstractParser implements IParser {
 
 	@Override
 	public final IParseResult parse(Reader reader) {
-		StoppedTask task = Stopwatches.forTask("AbstractParser.parse");
-		try {
-			task.start();
-			return doParse(reader);
-		} finally {
-			task.stop();
-		}
+		return doParse(reader);
 	}
 
 	protected abstract IParseResult doParse(Reader reader);
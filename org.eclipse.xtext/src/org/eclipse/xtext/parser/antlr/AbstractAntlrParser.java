@@ -9,12 +9,12 @@ package org.eclipse.xtext.parser.antlr;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 
 import org.antlr.runtime.ANTLRReaderStream;
 import org.antlr.runtime.CharStream;
 import org.antlr.runtime.TokenSource;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.xtext.Constants;
 import org.eclipse.xtext.ParserRule;
 import org.eclipse.xtext.RuleCall;
 import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
@@ -23,6 +23,9 @@ import org.eclipse.xtext.parser.IAstFactory;
 import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.parser.ParseException;
 import org.eclipse.xtext.util.ReplaceRegion;
+import org.eclipse.xtext.util.SourceTextReader;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -51,6 +54,10 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 	
 	@Inject
 	private Provider<NodeModelBuilder> nodeModelBuilder;
+	
+	@Inject(optional = true)
+	@Named(Constants.LANGUAGE_NAME)
+	private String languageName;
 
 	@Inject
 	@Named(LexerBindings.RUNTIME)
@@ -59,7 +66,7 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 	@Override
 	public IParseResult doParse(Reader reader) {
 		try {
-			return parse(getDefaultRuleName(), new ANTLRReaderStream(reader));
+			return parse(getDefaultRuleName(), createCharStream(reader));
 		} catch (IOException e) {
 			throw new WrappedException(e);
 		}
@@ -67,7 +74,20 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 
 	@Override
 	public IParseResult doParse(CharSequence sequence) {
-		return doParse(new StringReader(sequence.toString()));
+		return doParse(new SourceTextReader(sequence.toString()));
+	}
+
+	/**
+	 * Creates the char stream for the given reader. If the reader already holds the complete text, the text is used
+	 * as is, so neither the lexer nor the node model copies it.
+	 * 
+	 * @since 2.11
+	 */
+	protected CharStream createCharStream(Reader reader) throws IOException {
+		if (reader instanceof SourceTextReader) {
+			return new StringCharStream(((SourceTextReader) reader).getText());
+		}
+		return new ANTLRReaderStream(reader);
 	}
 
 	public IAstFactory getElementFactory() {
@@ -85,6 +105,15 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 	}
 
 	protected IParseResult doParse(String ruleName, CharStream in, NodeModelBuilder nodeModelBuilder, int initialLookAhead) {
+		Timer.Context timer = Metrics.timer("parser.parse", languageName).start();
+		try {
+			return doParseWithoutMetrics(ruleName, in, nodeModelBuilder, initialLookAhead);
+		} finally {
+			timer.stop();
+		}
+	}
+
+	private IParseResult doParseWithoutMetrics(String ruleName, CharStream in, NodeModelBuilder nodeModelBuilder, int initialLookAhead) {
 		TokenSource tokenSource = createLexer(in);
 		XtextTokenStream tokenStream = createTokenStream(tokenSource);
 		tokenStream.initCurrentLookAhead(initialLookAhead);
@@ -114,7 +143,7 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 	@Override
 	public IParseResult parse(ParserRule rule, Reader reader) {
 		try {
-			IParseResult parseResult = parse(rule.getName(), new ANTLRReaderStream(reader));
+			IParseResult parseResult = parse(rule.getName(), createCharStream(reader));
 			return parseResult;
 		} catch (IOException e) {
 			throw new WrappedException(e);
@@ -126,7 +155,7 @@ public abstract class AbstractAntlrParser extends AbstractParser {
 		try {
 			NodeModelBuilder builder = nodeModelBuilder.get();
 			builder.setForcedFirstGrammarElement(ruleCall);
-			IParseResult parseResult = doParse(ruleCall.getRule().getName(), new ANTLRReaderStream(reader), builder, initialLookAhead);
+			IParseResult parseResult = doParse(ruleCall.getRule().getName(), createCharStream(reader), builder, initialLookAhead);
 			return parseResult;
 		} catch (IOException e) {
 			throw new WrappedException(e);
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.parser.antlr;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CharStream;
+
+/**
+ * A char stream that reads directly from a string instead of copying it into a char array. {@link #toString()}
+ * returns the very same string instance, so the node model shares the text with the caller.
+ * 
+ * @since 2.11
+ */
+public class StringCharStream extends ANTLRStringStream {
+
+	private final String text;
+
+	public StringCharStream(String text) {
+		super();
+		this.text = text;
+		this.n = text.length();
+	}
+
+	@Override
+	public void consume() {
+		if (p < n) {
+			charPositionInLine++;
+			if (text.charAt(p) == '\n') {
+				line++;
+				charPositionInLine = 0;
+			}
+			p++;
+		}
+	}
+
+	@Override
+	public int LA(int i) {
+		if (i == 0) {
+			return 0; // undefined
+		}
+		if (i < 0) {
+			i++; // e.g., translate LA(-1) to use offset i=0; then data[p+0-1]
+			if ((p + i - 1) < 0) {
+				return CharStream.EOF; // invalid; no char before first char
+			}
+		}
+		if ((p + i - 1) >= n) {
+			return CharStream.EOF;
+		}
+		return text.charAt(p + i - 1);
+	}
+
+	@Override
+	public String substring(int start, int stop) {
+		return text.substring(start, stop + 1);
+	}
+
+	@Override
+	public String toString() {
+		return text;
+	}
+
+}
@@ -7,7 +7,6 @@
  *******************************************************************************/
 package org.eclipse.xtext.parser.impl;
 
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -47,6 +46,7 @@ import org.eclipse.xtext.parser.ParseResult;
 import org.eclipse.xtext.parser.antlr.IPartialParsingHelper;
 import org.eclipse.xtext.parser.antlr.IReferableElementsUnloader;
 import org.eclipse.xtext.util.ReplaceRegion;
+import org.eclipse.xtext.util.SourceTextReader;
 import org.eclipse.xtext.util.XtextSwitch;
 
 import com.google.inject.Inject;
@@ -114,9 +114,9 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		IParseResult newParseResult = null;
 		try {
 			if (entryRuleOrRuleCall instanceof RuleCall)
-				newParseResult = parser.parse((RuleCall)entryRuleOrRuleCall, new StringReader(reparseRegion), oldCompositeNode.getLookAhead());
+				newParseResult = parser.parse((RuleCall)entryRuleOrRuleCall, new SourceTextReader(reparseRegion), oldCompositeNode.getLookAhead());
 			else
-				newParseResult = parser.parse((ParserRule)entryRuleOrRuleCall, new StringReader(reparseRegion));
+				newParseResult = parser.parse((ParserRule)entryRuleOrRuleCall, new SourceTextReader(reparseRegion));
 		} catch (ParseException exc) {
 		}
 		if (newParseResult == null || newParseResult.hasSyntaxErrors()) {
@@ -218,7 +218,7 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		ICompositeNode node = previousParseResult.getRootNode();
 		ParserRule parserRule = NodeModelUtils.getEntryParserRule(node);
 		String reparseRegion = insertChangeIntoReplaceRegion(previousParseResult.getRootNode(), replaceRegion);
-		return parser.parse(parserRule, new StringReader(reparseRegion));
+		return parser.parse(parserRule, new SourceTextReader(reparseRegion));
 	}
 
 	public void unloadNode(INode node) {
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.resource;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.util.IResourceScopeCache;
+
+import com.google.common.collect.Maps;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * A fragment provider that resolves fragments by means of a fragment to object index instead of walking the
+ * containment path segment by segment. The index is built on the first lookup and stored in the
+ * {@link XtextResource#getCache() resource scope cache}. It is not maintained across changes: every semantic change
+ * of the resource, including a partial reparse, discards it, and it is rebuilt on the next lookup.
+ * 
+ * The index contains the default containment path of each object, i.e. the fragment that EMF computes for objects
+ * without an ID whose containers don't customize their URI fragment segments. Other fragments, e.g. IDs or
+ * non-canonical paths, are passed to the fallback. Languages with large resources that are referenced from many other
+ * resources may bind this provider in their runtime module.
+ * 
+ * @since 2.11
+ */
+@Singleton
+public class IndexedFragmentProvider extends DefaultFragmentProvider {
+
+	public static final String FRAGMENT_INDEX_KEY = "FRAGMENT_INDEX";
+
+	@Override
+	public EObject getEObject(Resource resource, String fragment, IFragmentProvider.Fallback fallback) {
+		if (resource instanceof XtextResource) {
+			IResourceScopeCache cache = ((XtextResource) resource).getCache();
+			if (cache != null && cache != IResourceScopeCache.NullImpl.INSTANCE) {
+				Map<String, EObject> index = getIndex(cache, resource, fallback);
+				EObject result = index.get(fragment);
+				if (result != null) {
+					return result;
+				}
+			}
+		}
+		return super.getEObject(resource, fragment, fallback);
+	}
+
+	protected Map<String, EObject> getIndex(IResourceScopeCache cache, final Resource resource,
+			final IFragmentProvider.Fallback fallback) {
+		return cache.get(FRAGMENT_INDEX_KEY, resource, new Provider<Map<String, EObject>>() {
+			@Override
+			public Map<String, EObject> get() {
+				return createIndex(resource, fallback);
+			}
+		});
+	}
+
+	/**
+	 * Computes the path segments during the traversal with running indices, since
+	 * {@link InternalEObject#eURIFragmentSegment(org.eclipse.emf.ecore.EStructuralFeature, EObject)
+	 * eURIFragmentSegment} looks up the index of every object in its containment list.
+	 */
+	protected Map<String, EObject> createIndex(Resource resource, IFragmentProvider.Fallback fallback) {
+		Map<String, EObject> result = Maps.newHashMap();
+		List<EObject> contents = resource.getContents();
+		for (int i = 0; i < contents.size(); i++) {
+			String path = contents.size() > 1 ? "/" + i : "/";
+			addToIndex(contents.get(i), path, result);
+		}
+		return result;
+	}
+
+	protected void addToIndex(EObject object, String path, Map<String, EObject> index) {
+		index.put(path, object);
+		for (EReference containment : object.eClass().getEAllContainments()) {
+			if (containment.isDerived()) {
+				continue;
+			}
+			String segment = path + "/@" + containment.getName();
+			if (containment.isMany()) {
+				List<?> children = (List<?>) object.eGet(containment, false);
+				for (int i = 0; i < children.size(); i++) {
+					addChildToIndex((EObject) children.get(i), segment + "." + i, index);
+				}
+			} else {
+				EObject child = (EObject) object.eGet(containment, false);
+				if (child != null) {
+					addChildToIndex(child, segment, index);
+				}
+			}
+		}
+	}
+
+	private void addChildToIndex(EObject child, String path, Map<String, EObject> index) {
+		// skip proxies and objects that are stored in other resources
+		if (!child.eIsProxy() && ((InternalEObject) child).eDirectResource() == null) {
+			addToIndex(child, path, index);
+		}
+	}
+
+}
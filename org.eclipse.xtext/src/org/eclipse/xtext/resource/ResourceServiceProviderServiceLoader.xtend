@@ -10,12 +10,17 @@ package org.eclipse.xtext.resource
 import com.google.inject.Provider
 import java.util.ServiceLoader
 import org.eclipse.xtext.ISetup
+import org.eclipse.xtext.ISetupExtension
 import org.eclipse.xtext.resource.FileExtensionProvider
 import org.eclipse.xtext.resource.IResourceServiceProvider
 import org.eclipse.xtext.resource.impl.ResourceServiceProviderRegistryImpl
 import com.google.inject.Singleton
 
 /**
+ * Registers the languages that are contributed with the {@link ServiceLoader}. Languages whose setup implements
+ * {@link ISetupExtension} are registered with their file extensions only, their injector is created when the
+ * resource service provider is requested for the first time.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @since 2.11
  */
@@ -29,24 +34,71 @@ class ResourceServiceProviderServiceLoader implements Provider<IResourceServiceP
     private def IResourceServiceProvider.Registry loadRegistry() {
         val registry = new ResourceServiceProviderRegistryImpl()
         for (ISetup cp : setupLoader) {
-            val injector = cp.createInjectorAndDoEMFRegistration();
-            val resourceServiceProvider = injector.getInstance(IResourceServiceProvider)
-            val extensionProvider = injector.getInstance(FileExtensionProvider)
-            for (ext : extensionProvider.fileExtensions) {
-                if (registry.extensionToFactoryMap.containsKey(ext)) {
-                    if (extensionProvider.primaryFileExtension == ext) {
-                        registry.extensionToFactoryMap.put(ext, resourceServiceProvider)
-                    }
-                } else {
+            if (cp instanceof ISetupExtension) {
+                val fileExtensions = cp.fileExtensions
+                registry.register(fileExtensions, fileExtensions.head, new LazyResourceServiceProvider(cp))
+            } else {
+                val injector = cp.createInjectorAndDoEMFRegistration();
+                val resourceServiceProvider = injector.getInstance(IResourceServiceProvider)
+                val extensionProvider = injector.getInstance(FileExtensionProvider)
+                registry.register(extensionProvider.fileExtensions, extensionProvider.primaryFileExtension, resourceServiceProvider)
+            }
+        }
+        return registry;
+    }
+    
+    private def void register(IResourceServiceProvider.Registry registry, Iterable<String> fileExtensions, String primaryFileExtension, Object resourceServiceProvider) {
+        for (ext : fileExtensions) {
+            if (registry.extensionToFactoryMap.containsKey(ext)) {
+                if (primaryFileExtension == ext) {
                     registry.extensionToFactoryMap.put(ext, resourceServiceProvider)
                 }
+            } else {
+                registry.extensionToFactoryMap.put(ext, resourceServiceProvider)
             }
         }
-        return registry;
     }
 
     override get() {
         return registry
     }
+    
+    /**
+     * Creates the injector of a language on first access. The setups are run one at a time since they populate
+     * the global EMF registries.
+     */
+    static class LazyResourceServiceProvider implements Provider<IResourceServiceProvider> {
+    	
+    	static val LOCK = new Object
+    	
+    	val ISetup setup
+    	
+    	volatile IResourceServiceProvider resourceServiceProvider
+    	
+    	new(ISetup setup) {
+    		this.setup = setup
+    	}
+    	
+    	override get() {
+    		if (resourceServiceProvider === null) {
+    			synchronized (LOCK) {
+    				if (resourceServiceProvider === null) {
+    					val injector = setup.createInjectorAndDoEMFRegistration
+    					resourceServiceProvider = injector.getInstance(IResourceServiceProvider)
+    				}
+    			}
+    		}
+    		return resourceServiceProvider
+    	}
+    	
+    	def boolean isInitialized() {
+    		return resourceServiceProvider !== null
+    	}
+    	
+    	def ISetup getSetup() {
+    		return setup
+    	}
+    	
+    }
 
 }
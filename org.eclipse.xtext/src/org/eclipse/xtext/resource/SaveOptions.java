@@ -30,10 +30,20 @@ public class SaveOptions {
 	
 	@Deprecated // see https://github.com/eclipse/xtext-core/issues/48
 	private final boolean validating;
+	
+	private final boolean streaming;
 
 	protected SaveOptions(boolean formatting, boolean validating) {
+		this(formatting, validating, false);
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected SaveOptions(boolean formatting, boolean validating, boolean streaming) {
 		this.formatting = formatting;
 		this.validating = validating;
+		this.streaming = streaming;
 	}
 	
 	/**
@@ -83,9 +93,23 @@ public class SaveOptions {
 		return validating;
 	}
 	
+	/**
+	 * If <code>true</code>, the serializer writes the tokens to the output as soon as they are sequenced instead of
+	 * building a text region model of the whole document first. Such a serialization needs memory proportional to
+	 * the depth of the model rather than to its size. It uses the token stream based
+	 * {@link org.eclipse.xtext.formatting.IFormatter IFormatter} for the whitespace of new elements. If
+	 * {@link #isFormatting() formatting} is requested and an {@link org.eclipse.xtext.formatting2.IFormatter2
+	 * IFormatter2} is bound, the serializer does not stream, so that the output is formatted by the IFormatter2.
+	 * 
+	 * @since 2.11
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+	
 	@Override
 	public String toString() {
-		return "SaveOptions [formatting=" + formatting + ", validating=" + validating + "]";
+		return "SaveOptions [formatting=" + formatting + ", validating=" + validating + ", streaming=" + streaming + "]";
 	}
 
 	@Override
@@ -94,6 +118,7 @@ public class SaveOptions {
 		int result = 1;
 		result = prime * result + (formatting ? 1231 : 1237);
 		result = prime * result + (validating ? 1231 : 1237);
+		result = prime * result + (streaming ? 1231 : 1237);
 		return result;
 	}
 
@@ -110,6 +135,8 @@ public class SaveOptions {
 			return false;
 		if (validating != other.validating)
 			return false;
+		if (streaming != other.streaming)
+			return false;
 		return true;
 	}
 
@@ -133,10 +160,12 @@ public class SaveOptions {
 	public static class Builder {
 		private boolean formatting;
 		private boolean validating;
+		private boolean streaming;
 
 		protected Builder() {
 			this.formatting = false;
 			this.validating = true;
+			this.streaming = false;
 		}
 		
 		public Builder format() {
@@ -150,8 +179,17 @@ public class SaveOptions {
 			return this;
 		}
 		
+		/**
+		 * @see SaveOptions#isStreaming()
+		 * @since 2.11
+		 */
+		public Builder stream() {
+			this.streaming = true;
+			return this;
+		}
+		
 		public SaveOptions getOptions() {
-			return new SaveOptions(formatting, validating);
+			return new SaveOptions(formatting, validating, streaming);
 		}
 	}
 	
@@ -8,14 +8,11 @@
  *******************************************************************************/
 package org.eclipse.xtext.resource;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,6 +40,7 @@ import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.IResourceScopeCache;
 import org.eclipse.xtext.util.LazyStringInputStream;
 import org.eclipse.xtext.util.ReplaceRegion;
+import org.eclipse.xtext.util.SourceTextReader;
 import org.eclipse.xtext.util.TextRegion;
 import org.eclipse.xtext.validation.IConcreteSyntaxValidator;
 import org.eclipse.xtext.validation.IConcreteSyntaxValidator.IDiagnosticAcceptor;
@@ -181,13 +179,15 @@ public class XtextResource extends ResourceImpl {
 	}
 	
 	/**
+	 * Returns a {@link SourceTextReader} by default, so the decoded text is shared by the parser and the node model.
+	 * 
 	 * @since 2.5
 	 */
 	protected Reader createReader(InputStream inputStream) throws IOException {
 		if (inputStream instanceof LazyStringInputStream) {
-			return new StringReader(((LazyStringInputStream) inputStream).getString());
+			return new SourceTextReader(((LazyStringInputStream) inputStream).getString());
 		}
-		return new InputStreamReader(new BufferedInputStream(inputStream), getEncoding());
+		return SourceTextReader.read(inputStream, getEncoding());
 	}
 
 	protected void setEncodingFromOptions(Map<?, ?> options) {
@@ -266,7 +266,7 @@ public class XtextResource extends ResourceImpl {
 			} else {
 				StringBuilder builder = new StringBuilder(oldParseResult.getRootNode().getText());
 				replaceRegion.applyTo(builder);
-				newParseResult = parser.parse(entryPoint, new StringReader(builder.toString()));
+				newParseResult = parser.parse(entryPoint, new SourceTextReader(builder.toString()));
 			}
 			updateInternalState(oldParseResult, newParseResult);
 		} finally {
@@ -14,6 +14,7 @@ import java.io.ObjectInput
 import java.io.ObjectOutput
 import java.io.Serializable
 import java.util.ArrayList
+import java.util.Collections
 import java.util.HashMap
 import java.util.Map
 import java.util.concurrent.ConcurrentHashMap
@@ -43,6 +44,15 @@ import org.eclipse.xtext.util.internal.EmfAdaptable
 	
 	protected ResourceSet resourceSet
 	
+	/**
+	 * Remembers the name of the chunk that contained the description of a resource when it was last looked up.
+	 * Chunks may be replaced or modified, so an entry is verified before it is used. Stale entries are removed when
+	 * they are found during a lookup and when their chunk is removed.
+	 * 
+	 * @since 2.11
+	 */
+	protected val ConcurrentHashMap<URI, String> uri2container = new ConcurrentHashMap
+	
 	new() {}
 	
 	new(Map<String,ResourceDescriptionsData> initialData) {
@@ -82,6 +92,7 @@ import org.eclipse.xtext.util.internal.EmfAdaptable
 	}
 	
 	def ResourceDescriptionsData removeContainer(String name) {
+		uri2container.values.removeAll(Collections.singleton(name))
 		return chunk2resourceDescriptions.remove(name)
 	}
 	
@@ -94,19 +105,22 @@ import org.eclipse.xtext.util.internal.EmfAdaptable
 	}
 	
 	override getResourceDescription(URI uri) {
-		for (selectable : chunk2resourceDescriptions.values) {
-			val result = selectable.getResourceDescription(uri)
-			if (result !== null)
-				return result
-		}
-		return null
+		return getContainer(uri)?.getResourceDescription(uri)
 	}
 	
 	def ResourceDescriptionsData getContainer(URI uri) {
-		for (container : chunk2resourceDescriptions.values) {
-			val result = container.getResourceDescription(uri)
-			if (result !== null)
-				return container
+		val cachedName = uri2container.get(uri)
+		if (cachedName !== null) {
+			val cached = chunk2resourceDescriptions.get(cachedName)
+			if (cached !== null && cached.getResourceDescription(uri) !== null)
+				return cached
+			uri2container.remove(uri, cachedName)
+		}
+		for (entry : chunk2resourceDescriptions.entrySet) {
+			if (entry.value.getResourceDescription(uri) !== null) {
+				uri2container.put(uri, entry.key)
+				return entry.value
+			}
 		}
 		return null
 	}
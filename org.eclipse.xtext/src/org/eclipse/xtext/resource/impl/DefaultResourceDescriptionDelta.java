@@ -51,6 +51,23 @@ public class DefaultResourceDescriptionDelta implements IResourceDescription.Del
 	}
 
 	private Boolean hasChanges;
+	
+	private QualifiedNameHashes exportedNameHashes;
+	
+	/**
+	 * Returns the hashes of the lower-cased names that are exported by the old or the new description.
+	 * They are computed once and shared by all candidates that are checked against this delta.
+	 * 
+	 * @since 2.11
+	 */
+	public QualifiedNameHashes getExportedNameHashes() {
+		QualifiedNameHashes result = exportedNameHashes;
+		if (result == null) {
+			result = QualifiedNameHashes.ofExportedNames(old, _new);
+			exportedNameHashes = result;
+		}
+		return result;
+	}
 
 	@Override
 	public boolean haveEObjectDescriptionsChanged() {
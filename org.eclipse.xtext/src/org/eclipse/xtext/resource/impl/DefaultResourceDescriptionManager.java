@@ -22,6 +22,7 @@ import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
 import org.eclipse.xtext.util.IResourceScopeCache;
 
 import com.google.common.collect.Sets;
@@ -54,6 +55,8 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 	
 	private static final String CACHE_KEY = DefaultResourceDescriptionManager.class.getName() + "#getResourceDescription";
 	
+	private volatile Boolean canUseNameHashes;
+	
 	@Override
 	public IResourceDescription getResourceDescription(final Resource resource) {
 		return cache.get(CACHE_KEY, resource, new Provider<IResourceDescription>() {
@@ -93,6 +96,8 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 	public boolean isAffected(Delta delta, IResourceDescription candidate) throws IllegalArgumentException {
 		if (!hasChanges(delta, candidate))
 			return false;
+		if (!mightBeAffected(delta, candidate))
+			return false;
 		Set<QualifiedName> names = Sets.newHashSet();
 		addExportedNames(names,delta.getOld());
 		addExportedNames(names,delta.getNew());
@@ -127,7 +132,7 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
         // note that this method is called for each description so we have something like a 
         // number of deltas x number of resources which is not really nice
         List<IContainer> containers = null;
-        Collection<QualifiedName> importedNames = getImportedNames(candidate);
+        Collection<QualifiedName> importedNames = null;
         for (IResourceDescription.Delta delta : deltas) {
 			if (hasChanges(delta, candidate)) {
 				// not a java resource - delta's resource should be contained in a visible container
@@ -143,8 +148,12 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 					if (!descriptionIsContained)
 						return false;
 				}
-				if (isAffected(importedNames, delta.getNew()) || isAffected(importedNames, delta.getOld())) {
-					return true;
+				if (mightBeAffected(delta, candidate)) {
+					if (importedNames == null)
+						importedNames = getImportedNames(candidate);
+					if (isAffected(importedNames, delta.getNew()) || isAffected(importedNames, delta.getOld())) {
+						return true;
+					}
 				}
 			}
         }
@@ -161,6 +170,63 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 		return delta.haveEObjectDescriptionsChanged();
 	}
 
+	/**
+	 * Quickly checks whether the names exported by the delta may intersect with the names imported by the candidate.
+	 * Returns <code>true</code> if that is the case, or if there is no precomputed information available.
+	 * The result <code>false</code> means that the candidate is definitely not affected by the exported names of
+	 * the delta.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean mightBeAffected(IResourceDescription.Delta delta, IResourceDescription candidate) {
+		if (!(delta instanceof DefaultResourceDescriptionDelta) || !canUseNameHashes())
+			return true;
+		QualifiedNameHashes exportedNames = ((DefaultResourceDescriptionDelta) delta).getExportedNameHashes();
+		return exportedNames.mightIntersect(getImportedNameHashes(candidate));
+	}
+	
+	/**
+	 * The hashes of the names that are imported by the candidate. Descriptions from the index cache their hashes.
+	 * 
+	 * @since 2.11
+	 */
+	protected QualifiedNameHashes getImportedNameHashes(IResourceDescription candidate) {
+		if (candidate instanceof SerializableResourceDescription)
+			return ((SerializableResourceDescription) candidate).getImportedNameHashes();
+		return QualifiedNameHashes.of(candidate.getImportedNames());
+	}
+	
+	/**
+	 * Whether name hashes may be used to reject candidates. The hashes assume the default name matching, i.e. that a
+	 * candidate is affected if one of the lower case names exported by the delta is imported by the candidate.
+	 * Returns <code>false</code> if a subclass customizes the matching by overriding
+	 * {@link #getImportedNames(IResourceDescription)}, {@link #addExportedNames(Set, IResourceDescription)} or
+	 * {@link #isAffected(Collection, IResourceDescription)}. Such subclasses may return <code>true</code> here if they
+	 * override {@link #getImportedNameHashes(IResourceDescription)} accordingly.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean canUseNameHashes() {
+		if (canUseNameHashes == null) {
+			canUseNameHashes = !isOverridden("getImportedNames", IResourceDescription.class)
+					&& !isOverridden("addExportedNames", Set.class, IResourceDescription.class)
+					&& !isOverridden("isAffected", Collection.class, IResourceDescription.class);
+		}
+		return canUseNameHashes.booleanValue();
+	}
+	
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		for (Class<?> c = getClass(); c != DefaultResourceDescriptionManager.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod(methodName, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// not declared in this class
+			}
+		}
+		return false;
+	}
+
 	protected boolean isAffected(Collection<QualifiedName> importedNames, IResourceDescription description) {
 		if (description != null) {
 		    for (IEObjectDescription desc : description.getExportedObjects())
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+/**
+ * A compact, sorted array of the hash codes of a set of qualified names. It is used to quickly decide whether two
+ * name sets are disjoint: if the hashes do not intersect, the names do not intersect either. If they do
+ * intersect, an exact comparison of the names is still necessary.
+ *
+ * @since 2.11
+ */
+public final class QualifiedNameHashes {
+
+	public static final QualifiedNameHashes EMPTY = new QualifiedNameHashes(new int[0]);
+
+	/**
+	 * Creates the hashes of the given names as they are.
+	 */
+	public static QualifiedNameHashes of(Iterable<QualifiedName> names) {
+		int[] hashes = new int[16];
+		int size = 0;
+		for (QualifiedName name : names) {
+			if (size == hashes.length) {
+				hashes = Arrays.copyOf(hashes, size * 2);
+			}
+			hashes[size++] = name.hashCode();
+		}
+		return create(hashes, size);
+	}
+
+	/**
+	 * Creates the hashes of the lower-cased names of all objects that are exported by the given descriptions.
+	 * <code>null</code> descriptions are ignored.
+	 */
+	public static QualifiedNameHashes ofExportedNames(IResourceDescription... descriptions) {
+		int[] hashes = new int[16];
+		int size = 0;
+		for (IResourceDescription description : descriptions) {
+			if (description != null) {
+				for (IEObjectDescription exported : description.getExportedObjects()) {
+					if (size == hashes.length) {
+						hashes = Arrays.copyOf(hashes, size * 2);
+					}
+					hashes[size++] = exported.getName().toLowerCase().hashCode();
+				}
+			}
+		}
+		return create(hashes, size);
+	}
+
+	private static QualifiedNameHashes create(int[] hashes, int size) {
+		if (size == 0) {
+			return EMPTY;
+		}
+		Arrays.sort(hashes, 0, size);
+		int distinct = 1;
+		for (int i = 1; i < size; i++) {
+			if (hashes[i] != hashes[distinct - 1]) {
+				hashes[distinct++] = hashes[i];
+			}
+		}
+		return new QualifiedNameHashes(Arrays.copyOf(hashes, distinct));
+	}
+
+	private final int[] hashes;
+
+	private QualifiedNameHashes(int[] hashes) {
+		this.hashes = hashes;
+	}
+
+	public int size() {
+		return hashes.length;
+	}
+
+	public boolean isEmpty() {
+		return hashes.length == 0;
+	}
+
+	public boolean mightContain(QualifiedName name) {
+		return Arrays.binarySearch(hashes, name.hashCode()) >= 0;
+	}
+
+	/**
+	 * Returns <code>false</code> if the name sets that are represented by this and the other instance are disjoint.
+	 * A result of <code>true</code> means that the name sets may intersect.
+	 */
+	public boolean mightIntersect(QualifiedNameHashes other) {
+		int[] small = hashes;
+		int[] large = other.hashes;
+		if (small.length > large.length) {
+			small = other.hashes;
+			large = hashes;
+		}
+		if (small.length == 0 || small[0] > large[large.length - 1] || small[small.length - 1] < large[0]) {
+			return false;
+		}
+		if (small.length * 8 < large.length) {
+			for (int hash : small) {
+				if (Arrays.binarySearch(large, hash) >= 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+		int i = 0;
+		int j = 0;
+		while (i < small.length && j < large.length) {
+			if (small[i] < large[j]) {
+				i++;
+			} else if (small[i] > large[j]) {
+				j++;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
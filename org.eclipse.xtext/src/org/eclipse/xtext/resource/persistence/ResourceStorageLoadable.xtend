@@ -7,11 +7,9 @@
  *******************************************************************************/
 package org.eclipse.xtext.resource.persistence
 
-import com.google.common.io.CharStreams
 import java.io.DataInputStream
 import java.io.IOException
 import java.io.InputStream
-import java.io.InputStreamReader
 import java.io.ObjectInputStream
 import java.util.zip.ZipInputStream
 import org.apache.log4j.Logger
@@ -22,6 +20,7 @@ import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor
 import org.eclipse.xtext.nodemodel.impl.SerializableNodeModel
 import org.eclipse.xtext.nodemodel.serialization.DeserializationConversionContext
 import org.eclipse.xtext.parser.ParseResult
+import org.eclipse.xtext.util.SourceTextReader
 
 /**
  * @author Sven Efftinge - Initial contribution and API
@@ -100,8 +99,11 @@ import org.eclipse.xtext.parser.ParseResult
 			return;
 		}
 		val stream = resource.resourceSet.URIConverter.createInputStream(resource.URI)
-		val in = new InputStreamReader(stream, resource.encoding)
-		val completeContent = CharStreams.toString(in)
+		val completeContent = try {
+			SourceTextReader.readText(stream, resource.encoding)
+		} finally {
+			stream.close
+		}
 		val deserializationContext = new DeserializationConversionContext(resource, completeContent)
 		val dataIn = new DataInputStream(inputStream)
 		serializableNodeModel.readObjectData(dataIn, deserializationContext)
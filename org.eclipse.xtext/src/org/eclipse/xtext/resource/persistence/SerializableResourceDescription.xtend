@@ -28,6 +28,7 @@ import org.eclipse.xtext.resource.IEObjectDescription
 import org.eclipse.xtext.resource.IReferenceDescription
 import org.eclipse.xtext.resource.IResourceDescription
 import org.eclipse.xtext.resource.impl.AbstractResourceDescription
+import org.eclipse.xtext.resource.impl.QualifiedNameHashes
 
 import static extension org.eclipse.xtext.resource.persistence.SerializationExtensions.*
 
@@ -76,6 +77,7 @@ import static extension org.eclipse.xtext.resource.persistence.SerializationExte
 	List<SerializableReferenceDescription> references = emptyList
 	List<QualifiedName> importedNames = emptyList
 	URI uRI
+	@Accessors(NONE) transient QualifiedNameHashes importedNameHashes
 	
 	def void updateResourceURI(URI uri) {
 		for (ref : references) {
@@ -95,6 +97,26 @@ import static extension org.eclipse.xtext.resource.persistence.SerializationExte
 		importedNames
 	}
 	
+	def void setImportedNames(List<QualifiedName> importedNames) {
+		this.importedNames = importedNames
+		this.importedNameHashes = null
+	}
+	
+	/**
+	 * The hashes of the imported names are computed on demand and kept as long as this description is
+	 * part of the index. They allow to reject resources that are not affected by a change quickly.
+	 * 
+	 * @since 2.11
+	 */
+	def QualifiedNameHashes getImportedNameHashes() {
+		var result = importedNameHashes
+		if (result === null) {
+			result = QualifiedNameHashes.of(importedNames)
+			importedNameHashes = result
+		}
+		return result
+	}
+	
 	override getReferenceDescriptions() {
 		references as Iterable<?> as Iterable<IReferenceDescription>
 	}
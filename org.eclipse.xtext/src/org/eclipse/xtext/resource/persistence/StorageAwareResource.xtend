@@ -14,7 +14,7 @@ import org.apache.log4j.Logger
 import org.eclipse.xtend.lib.annotations.Accessors
 import org.eclipse.xtext.linking.lazy.LazyLinkingResource
 import org.eclipse.xtext.resource.IResourceDescription
-import org.eclipse.xtext.util.internal.Stopwatches
+import org.eclipse.xtext.util.metrics.Metrics
 
 /**
  * A resource implementation that can load itself from ResourceStorage.
@@ -56,8 +56,7 @@ class StorageAwareResource extends LazyLinkingResource {
 		if (storageInputStream === null) {
 			throw new NullPointerException('storageInputStream')
 		}
-		val task = Stopwatches.forTask("Loading from storage")
-		task.start
+		val timer = Metrics.timer("storage.load", languageName).start
 		isLoading = true;
 		isLoadedFromStorage = true;
 		try {
@@ -65,7 +64,7 @@ class StorageAwareResource extends LazyLinkingResource {
 			isLoaded = true;
 		} finally {
 			isLoading = false
-			task.stop
+			timer.stop
 		}
 	}
 	
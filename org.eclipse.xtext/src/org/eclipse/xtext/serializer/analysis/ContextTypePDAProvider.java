@@ -260,7 +260,8 @@ public class ContextTypePDAProvider implements IContextTypePDAProvider {
 			List<ISerializationContext> parents = e.getContexts();
 			Pda<ISerState, RuleCall> contextPDA = e.getValue();
 			try {
-				Map<ISerState, Integer> distances = nfaUtil.distanceToFinalStateMap(contextPDA);
+				Pda<ISerState, RuleCall> analyzed = nfaUtil.isIndexingEnabled() ? nfaUtil.index(contextPDA) : contextPDA;
+				Map<ISerState, Integer> distances = nfaUtil.distanceToFinalStateMap(analyzed);
 				Set<EClass> types = collectTypes(contextPDA, distances);
 				if (types.size() == 1) {
 					for (ISerializationContext parent : parents) {
@@ -217,7 +217,9 @@ public class SemanticSequencerNfaProvider implements ISemanticSequencerNfaProvid
 	}
 
 	protected SemNfa createNfa(Grammar grammar, ISynAbsorberState synState, EClass type) {
-		SynAbsorberNfaAdapter synNfa = new SynAbsorberNfaAdapter(synState);
+		Nfa<ISynAbsorberState> synNfa = new SynAbsorberNfaAdapter(synState);
+		if (util.isIndexingEnabled())
+			synNfa = util.index(synNfa);
 		// System.out.println(new NfaFormatter().format(synNfa));
 		Map<ISynAbsorberState, Integer> distanceMap = util.distanceToFinalStateMap(synNfa);
 		SemNfa nfa = util.create(util.sort(synNfa, distanceMap), new SemStateFactory());
@@ -166,10 +166,21 @@ public class Serializer implements ISerializer {
 		return contexts.next();
 	}
 
+	/**
+	 * Whether the tokens can be written as soon as they are sequenced. A formatting serialization falls back to the
+	 * text region based serialization if an {@link IFormatter2} is bound, since the formatter needs the complete
+	 * document.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isStreaming(SaveOptions options) {
+		return options.isStreaming() && (formatter2Provider == null || !options.isFormatting());
+	}
+
 	@Override
 	public String serialize(EObject obj, SaveOptions options) {
 		try {
-			if (formatter2Provider != null) {
+			if (formatter2Provider != null && !isStreaming(options)) {
 				StringBuilder builder = new StringBuilder();
 				serialize(obj, builder, options);
 				return builder.toString();
@@ -185,7 +196,7 @@ public class Serializer implements ISerializer {
 
 	@Override
 	public void serialize(EObject obj, Writer writer, SaveOptions options) throws IOException {
-		if (formatter2Provider != null) {
+		if (formatter2Provider != null && !isStreaming(options)) {
 			serialize(obj, (Appendable) writer, options);
 			writer.flush();
 		} else {
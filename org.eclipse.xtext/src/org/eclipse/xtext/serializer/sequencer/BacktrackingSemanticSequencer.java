@@ -7,11 +7,14 @@
  *******************************************************************************/
 package org.eclipse.xtext.serializer.sequencer;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -47,6 +50,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 
 /**
  * @author Moritz Eysholdt - Initial contribution and API
@@ -106,6 +110,10 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 		protected boolean[] optional;
 		protected Map<Pair<AbstractElement, Integer>, Boolean> valid = Maps.newHashMap();
 		protected Object[] values;
+		/**
+		 * @since 2.11
+		 */
+		protected boolean valueDependent = false;
 
 		@SuppressWarnings("unchecked")
 		public SerializableObject(ISerializationContext context, EObject eObject,
@@ -186,6 +194,30 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 			return firstNode;
 		}
 
+		/**
+		 * @return <code>true</code> if any of the values of this object is associated with a node.
+		 * @since 2.11
+		 */
+		public boolean hasNodes() {
+			if (firstNode != null)
+				return true;
+			for (List<ISemanticNode> featureNodes : nodes)
+				if (featureNodes != null)
+					for (ISemanticNode node : featureNodes)
+						if (node != null)
+							return true;
+			return false;
+		}
+
+		/**
+		 * @return <code>true</code> if the sequencing of this object made a decision that depends on the actual
+		 *         values rather than on the number of values.
+		 * @since 2.11
+		 */
+		public boolean isValueDependent() {
+			return valueDependent;
+		}
+
 		public ISemanticNode getNode(int featureID, int index) {
 			List<ISemanticNode> featureNodes = nodes[featureID];
 			if (featureNodes != null && index >= 0 && index < featureNodes.size())
@@ -236,6 +268,7 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 			List<AbstractElement> candidates = state.getToBeValidatedAssignedElements();
 			if (candidates.isEmpty())
 				return true;
+			valueDependent = true;
 
 			Pair<AbstractElement, Integer> key = Tuples.create(state.getAssignedGrammarElement(), index);
 			if (valid.get(key) == Boolean.TRUE)
@@ -294,8 +327,11 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 		}
 
 		public boolean canEnter(ISemState state) {
-			if (state.isBooleanAssignment() && !Boolean.TRUE.equals(obj.getValue(state, state.getFeatureID())))
-				return false;
+			if (state.isBooleanAssignment()) {
+				obj.valueDependent = true;
+				if (!Boolean.TRUE.equals(obj.getValue(state, state.getFeatureID())))
+					return false;
+			}
 			for (int i = 0; i < nextIndex.length; i++)
 				if (i != state.getFeatureID()) {
 					int count = nextIndex[i];
@@ -416,8 +452,86 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 
 	}
 
+	/**
+	 * The shape of an object as far as the backtracking is concerned: the constraint, the EClass and the number
+	 * and optionality of the values of each feature.
+	 * 
+	 * @since 2.11
+	 */
+	public static class Shape {
+		private final IConstraint constraint;
+		private final EClass eClass;
+		private final int[] valueCounts;
+		private final boolean[] optional;
+		private final int hashCode;
+
+		public Shape(IConstraint constraint, SerializableObject obj) {
+			this.constraint = constraint;
+			this.eClass = obj.getEObject().eClass();
+			this.valueCounts = new int[obj.values.length];
+			for (int i = 0; i < valueCounts.length; i++)
+				valueCounts[i] = obj.getValueCount(i);
+			this.optional = obj.optional.clone();
+			this.hashCode = 31 * (31 * (31 * constraint.hashCode() + eClass.hashCode()) + Arrays.hashCode(valueCounts))
+					+ Arrays.hashCode(optional);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || obj.getClass() != getClass())
+				return false;
+			Shape other = (Shape) obj;
+			return hashCode == other.hashCode && constraint == other.constraint && eClass == other.eClass
+					&& Arrays.equals(valueCounts, other.valueCounts) && Arrays.equals(optional, other.optional);
+		}
+	}
+
+	/**
+	 * Remembers the path through the constraint's NFA that was found for objects of a certain {@link Shape}. A path
+	 * is only remembered if the backtracking neither depended on the node model nor on the actual values, since
+	 * the backtracking then takes the very same decisions for all objects of that shape.
+	 * 
+	 * @since 2.11
+	 */
+	@Singleton
+	public static class ShapeCache {
+
+		private static final int MAX_SIZE = 10000;
+
+		private final ConcurrentMap<Shape, List<ISemState>> paths = new ConcurrentHashMap<Shape, List<ISemState>>();
+
+		public List<ISemState> get(Shape shape) {
+			return paths.get(shape);
+		}
+
+		public void put(Shape shape, List<ISemState> path) {
+			if (paths.size() < MAX_SIZE)
+				paths.putIfAbsent(shape, path);
+		}
+
+		public int size() {
+			return paths.size();
+		}
+
+		public void clear() {
+			paths.clear();
+		}
+	}
+
 	protected static final Object INVALID = new Object();
 
+	private static final ConcurrentMap<Class<?>, Boolean> CUSTOM_FOLLOWER_SORTERS = new ConcurrentHashMap<Class<?>, Boolean>();
+
+	@Inject
+	private ShapeCache shapeCache;
+
 	@Inject
 	protected IAssignmentFinder assignmentFinder;
 
@@ -450,6 +564,36 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 		return new FollowerSorter(obj, nodeModelEle);
 	}
 
+	/**
+	 * Whether the path found for the given object may be reused for all objects of the same {@link Shape}. Returns
+	 * <code>false</code> if a subclass overrides {@link #createFollowerSorter(SerializableObject, AbstractElement)},
+	 * since its order may depend on the values of the object. Such subclasses may return <code>true</code> here if
+	 * their order only depends on the shape.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isShapeCacheable(SerializableObject obj) {
+		return !obj.isValueDependent() && !hasCustomFollowerSorter();
+	}
+
+	private boolean hasCustomFollowerSorter() {
+		Boolean result = CUSTOM_FOLLOWER_SORTERS.get(getClass());
+		if (result == null) {
+			result = Boolean.FALSE;
+			for (Class<?> c = getClass(); c != BacktrackingSemanticSequencer.class; c = c.getSuperclass()) {
+				try {
+					c.getDeclaredMethod("createFollowerSorter", SerializableObject.class, AbstractElement.class);
+					result = Boolean.TRUE;
+					break;
+				} catch (NoSuchMethodException e) {
+					// not declared in this class
+				}
+			}
+			CUSTOM_FOLLOWER_SORTERS.put(getClass(), result);
+		}
+		return result.booleanValue();
+	}
+
 	@Override
 	@Deprecated
 	public void createSequence(EObject context, final EObject obj) {
@@ -469,7 +613,39 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 		Nfa<ISemState> nfa = constraint.getNfa();
 		final SerializableObject object = new SerializableObject(context, obj, nodes);
 		TraceItem co = new TraceItem(object);
-		List<TraceItem> trace = new NfaUtil().backtrack(nfa, co, new NfaUtil.BacktrackHandler<ISemState, TraceItem>() {
+		Shape shape = object.hasNodes() ? null : new Shape(constraint, object);
+		List<TraceItem> trace = null;
+		if (shape != null) {
+			List<ISemState> path = shapeCache.get(shape);
+			if (path != null)
+				trace = replay(co, path);
+		}
+		if (trace == null) {
+			trace = backtrack(nfa, co);
+			if (trace != null && shape != null && isShapeCacheable(object)) {
+				List<ISemState> path = Lists.newArrayListWithCapacity(trace.size() - 1);
+				for (TraceItem ti : trace.subList(1, trace.size()))
+					path.add(ti.getState());
+				shapeCache.put(shape, path);
+			}
+		}
+		SequenceFeeder feeder = feederProvider.create(context, obj, nodes, masterSequencer, sequenceAcceptor,
+				errorAcceptor);
+		if (trace != null) {
+			for (TraceItem ti : trace)
+				if (ti.getState() != null && ti.getState().getFeature() != null)
+					accept(ti, feeder);
+		} else if (errorAcceptor != null)
+			errorAcceptor.accept(diagnosticProvider.createBacktrackingFailedDiagnostic(object, context, constraint));
+		feeder.finish();
+	}
+
+	/**
+	 * @since 2.11
+	 */
+	protected List<TraceItem> backtrack(Nfa<ISemState> nfa, TraceItem co) {
+		final SerializableObject object = co.getObj();
+		return new NfaUtil().backtrack(nfa, co, new NfaUtil.BacktrackHandler<ISemState, TraceItem>() {
 			@Override
 			public TraceItem handle(ISemState state, TraceItem previous) {
 				if (!previous.canEnter(state))
@@ -493,15 +669,27 @@ public class BacktrackingSemanticSequencer extends AbstractSemanticSequencer {
 				return r;
 			}
 		});
-		SequenceFeeder feeder = feederProvider.create(context, obj, nodes, masterSequencer, sequenceAcceptor,
-				errorAcceptor);
-		if (trace != null) {
-			for (TraceItem ti : trace)
-				if (ti.getState() != null && ti.getState().getFeature() != null)
-					accept(ti, feeder);
-		} else if (errorAcceptor != null)
-			errorAcceptor.accept(diagnosticProvider.createBacktrackingFailedDiagnostic(object, context, constraint));
-		feeder.finish();
+	}
+
+	/**
+	 * Follows a path that was found for another object of the same {@link Shape}.
+	 * 
+	 * @return the trace or <code>null</code> if the path is not applicable.
+	 * @since 2.11
+	 */
+	protected List<TraceItem> replay(TraceItem co, List<ISemState> path) {
+		List<TraceItem> result = Lists.newArrayListWithCapacity(path.size() + 1);
+		result.add(co);
+		TraceItem current = co;
+		for (ISemState state : path) {
+			if (!current.canEnter(state))
+				return null;
+			current = state.getFeature() != null ? current.cloneAndConsume(state) : current.clone(state);
+			if (current == null)
+				return null;
+			result.add(current);
+		}
+		return current.isConsumed() ? result : null;
 	}
 
 }
@@ -24,8 +24,8 @@ import org.eclipse.xtext.service.OperationCanceledError;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.IAcceptor;
-import org.eclipse.xtext.util.internal.Stopwatches;
-import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 import org.eclipse.xtext.validation.impl.ConcreteSyntaxEValidator;
 
 import com.google.common.collect.Lists;
@@ -67,9 +67,9 @@ public class ResourceValidatorImpl implements IResourceValidator {
 	
 	@Override
 	public List<Issue> validate(Resource resource, final CheckMode mode, CancelIndicator mon) throws OperationCanceledError {
-		StoppedTask task = Stopwatches.forTask("ResourceValidatorImpl.validation");
+		String languageName = resource instanceof XtextResource ? ((XtextResource) resource).getLanguageName() : null;
+		Timer.Context timer = Metrics.timer("validation", languageName).start();
 		try {
-			task.start();
 			final CancelIndicator monitor = mon == null ? CancelIndicator.NullImpl : mon;
 			resolveProxies(resource, monitor);
 			operationCanceledManager.checkCanceled(monitor);
@@ -95,7 +95,7 @@ public class ResourceValidatorImpl implements IResourceValidator {
 			}
 			return result;
 		} finally {
-			task.stop();
+			timer.stop();
 		}
 	}
 
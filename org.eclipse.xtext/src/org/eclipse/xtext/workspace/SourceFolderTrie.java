@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2016 TypeFox GmbH (http://www.typefox.io) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.workspace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * A prefix tree over the source folder paths of a fixed set of projects. It finds the project that contains a given
+ * URI by walking the URI's segments, so the lookup time depends on the depth of the path rather than on the number
+ * of projects.
+ *
+ * The candidates are matched with the same rules as {@link org.eclipse.xtext.util.UriUtil#isPrefixOf(URI, URI)} and
+ * are confirmed with {@link IProjectConfig#findSourceFolderContaining(URI)}. If several projects contain the URI, the
+ * one with the deepest path wins.
+ *
+ * Source folders that are added to a project after the trie was created are not taken into account.
+ *
+ * @since 2.11
+ */
+public class SourceFolderTrie {
+
+	private static class Node {
+		private final Map<String, Node> children = new HashMap<String, Node>();
+		private final List<IProjectConfig> projects = new ArrayList<IProjectConfig>(1);
+	}
+
+	private final Map<String, Node> scheme2root = new HashMap<String, Node>();
+
+	public SourceFolderTrie(Iterable<? extends IProjectConfig> projects) {
+		for (IProjectConfig project : projects) {
+			for (ISourceFolder sourceFolder : project.getSourceFolders()) {
+				add(project, sourceFolder.getPath());
+			}
+		}
+	}
+
+	protected void add(IProjectConfig project, URI sourceFolderPath) {
+		if (sourceFolderPath == null || sourceFolderPath.scheme() == null
+				|| !sourceFolderPath.hasTrailingPathSeparator()) {
+			return;
+		}
+		Node node = scheme2root.get(sourceFolderPath.scheme());
+		if (node == null) {
+			node = new Node();
+			scheme2root.put(sourceFolderPath.scheme(), node);
+		}
+		// the last segment is the empty one of the trailing path separator
+		for (int i = 0; i < sourceFolderPath.segmentCount() - 1; i++) {
+			String segment = sourceFolderPath.segment(i);
+			Node child = node.children.get(segment);
+			if (child == null) {
+				child = new Node();
+				node.children.put(segment, child);
+			}
+			node = child;
+		}
+		if (!node.projects.contains(project)) {
+			node.projects.add(project);
+		}
+	}
+
+	/**
+	 * @return the project whose source folders physically contain this member or null if none was found
+	 */
+	public IProjectConfig findProjectContaining(URI member) {
+		if (member.scheme() == null || member.segmentCount() == 0) {
+			return null;
+		}
+		Node node = scheme2root.get(member.scheme());
+		IProjectConfig result = null;
+		int i = 0;
+		while (node != null) {
+			for (IProjectConfig candidate : node.projects) {
+				if (isBetterCandidate(candidate, result) && candidate.findSourceFolderContaining(member) != null) {
+					result = candidate;
+				}
+			}
+			node = i < member.segmentCount() ? node.children.get(member.segment(i++)) : null;
+		}
+		return result;
+	}
+
+	private boolean isBetterCandidate(IProjectConfig candidate, IProjectConfig current) {
+		return current == null || candidate.getPath().segmentCount() > current.getPath().segmentCount();
+	}
+
+}
@@ -7,6 +7,7 @@
  */
 package org.eclipse.xtext.build;
 
+import java.util.concurrent.ExecutorService;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtend.lib.annotations.Accessors;
@@ -42,6 +43,14 @@ public class BuildContext {
   @Accessors
   private final CancelIndicator cancelIndicator;
   
+  /**
+   * If set, source level resources are parsed concurrently by this executor.
+   * 
+   * @since 2.11
+   */
+  @Accessors
+  private ExecutorService loadingExecutor;
+  
   private ClusteringStorageAwareResourceLoader loader;
   
   public <T extends Object> Iterable<T> executeClustered(final Iterable<URI> uri, final Function1<? super Resource, ? extends T> operation) {
@@ -97,4 +106,13 @@ public class BuildContext {
   public CancelIndicator getCancelIndicator() {
     return this.cancelIndicator;
   }
+  
+  @Pure
+  public ExecutorService getLoadingExecutor() {
+    return this.loadingExecutor;
+  }
+  
+  public void setLoadingExecutor(final ExecutorService loadingExecutor) {
+    this.loadingExecutor = loadingExecutor;
+  }
 }
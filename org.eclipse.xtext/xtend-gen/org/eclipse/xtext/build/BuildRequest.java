@@ -9,6 +9,7 @@ package org.eclipse.xtext.build;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtend.lib.annotations.Accessors;
@@ -113,6 +114,13 @@ public class BuildRequest {
   
   private CancelIndicator cancelIndicator = CancelIndicator.NullImpl;
   
+  /**
+   * If set, source files are parsed concurrently by this executor. The executor is not shut down by the builder.
+   * 
+   * @since 2.11
+   */
+  private ExecutorService loadingExecutor;
+  
   public void setBaseDir(final URI baseDir) {
     this.baseDir = baseDir;
   }
@@ -215,4 +223,13 @@ public class BuildRequest {
   public void setCancelIndicator(final CancelIndicator cancelIndicator) {
     this.cancelIndicator = cancelIndicator;
   }
+  
+  @Pure
+  public ExecutorService getLoadingExecutor() {
+    return this.loadingExecutor;
+  }
+  
+  public void setLoadingExecutor(final ExecutorService loadingExecutor) {
+    this.loadingExecutor = loadingExecutor;
+  }
 }
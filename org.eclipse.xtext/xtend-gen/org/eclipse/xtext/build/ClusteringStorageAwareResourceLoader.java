@@ -8,28 +8,55 @@
 package org.eclipse.xtext.build;
 
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.xtend.lib.annotations.FinalFieldsConstructor;
 import org.eclipse.xtext.build.BuildContext;
+import org.eclipse.xtext.diagnostics.ExceptionDiagnostic;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.IResourceServiceProviderExtension;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.util.internal.Log;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Extension;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.ListExtensions;
 
 /**
+ * Loads resources in clusters whose size is limited by the {@link IResourceClusteringPolicy}.
+ * 
+ * If the {@link BuildContext#getLoadingExecutor() loading executor} of the build context is set, source level
+ * resources that are not yet in the resource set are parsed concurrently into detached resources. They are attached
+ * to the resource set on the calling thread before the operation is applied to the cluster. At most
+ * {@link #getMaxPendingLoads()} loads are pending while the clustering policy is consulted.
+ * 
+ * A resource that cannot be read by the loading executor is kept in the resource set with the failure among its
+ * errors, so the other resources of the cluster are still processed. Without a loading executor, the failure is
+ * propagated as a {@link WrappedException}.
+ * 
  * @author Jan Koehnlein - Initial contribution and API
  */
+@Log
 @FinalFieldsConstructor
 @SuppressWarnings("all")
 public class ClusteringStorageAwareResourceLoader {
@@ -41,30 +68,40 @@ public class ClusteringStorageAwareResourceLoader {
     {
       final ArrayList<URI> loadedURIs = CollectionLiterals.<URI>newArrayList();
       final ArrayList<URI> sourceLevelURIs = CollectionLiterals.<URI>newArrayList();
-      final ArrayList<Resource> resources = CollectionLiterals.<Resource>newArrayList();
+      final ArrayList<Future<Resource>> resources = CollectionLiterals.<Future<Resource>>newArrayList();
       final ArrayList<T> result = CollectionLiterals.<T>newArrayList();
       final Iterator<URI> iter = uris.iterator();
+      int awaitedLoads = 0;
       while (iter.hasNext()) {
         {
           final URI uri = iter.next();
+          while (((resources.size() - awaitedLoads) >= this.getMaxPendingLoads())) {
+            {
+              Future<Resource> _get = resources.get(awaitedLoads);
+              this.await(_get);
+              awaitedLoads = (awaitedLoads + 1);
+            }
+          }
           IResourceClusteringPolicy _clusteringPolicy = this.context.getClusteringPolicy();
           XtextResourceSet _resourceSet = this.context.getResourceSet();
           int _size = loadedURIs.size();
           boolean _continueProcessing = _clusteringPolicy.continueProcessing(_resourceSet, uri, _size);
           boolean _not = (!_continueProcessing);
           if (_not) {
+            List<Resource> _attach = this.attach(resources);
             final Function1<Resource, T> _function = (Resource it) -> {
               return operation.apply(it);
             };
-            List<T> _map = ListExtensions.<Resource, T>map(resources, _function);
+            List<T> _map = ListExtensions.<Resource, T>map(_attach, _function);
             Iterables.<T>addAll(result, _map);
             resources.clear();
+            awaitedLoads = 0;
             this.clearResourceSet();
             loadedURIs.clear();
           }
           loadedURIs.add(uri);
-          boolean _isSource = this.isSource(uri);
-          if (_isSource) {
+          final boolean isSource = this.isSource(uri);
+          if (isSource) {
             sourceLevelURIs.add(uri);
             XtextResourceSet _resourceSet_1 = this.context.getResourceSet();
             final Resource existingResource = _resourceSet_1.getResource(uri, false);
@@ -77,21 +114,162 @@ public class ClusteringStorageAwareResourceLoader {
             XtextResourceSet _resourceSet_2 = this.context.getResourceSet();
             SourceLevelURIsAdapter.setSourceLevelUris(_resourceSet_2, sourceLevelURIs);
           }
-          XtextResourceSet _resourceSet_3 = this.context.getResourceSet();
-          Resource _resource = _resourceSet_3.getResource(uri, true);
-          resources.add(_resource);
+          Future<Resource> _load = this.load(uri, isSource);
+          resources.add(_load);
         }
       }
+      List<Resource> _attach = this.attach(resources);
       final Function1<Resource, T> _function = (Resource it) -> {
         return operation.apply(it);
       };
-      List<T> _map = ListExtensions.<Resource, T>map(resources, _function);
+      List<T> _map = ListExtensions.<Resource, T>map(_attach, _function);
       Iterables.<T>addAll(result, _map);
       _xblockexpression = result;
     }
     return _xblockexpression;
   }
   
+  /**
+   * Loads the resource with the given URI. Source level resources that are not yet in the resource set are parsed by
+   * the loading executor, if any. Their input stream is opened by the loading task through the URI converter of the
+   * resource set, so e.g. the content of open editors is used, and only the resources that are being parsed have an
+   * open stream.
+   * 
+   * @since 2.11
+   */
+  protected Future<Resource> load(final URI uri, final boolean isSource) {
+    try {
+      final ExecutorService executor = this.context.getLoadingExecutor();
+      if ((((executor != null) && isSource) && (this.context.getResourceSet().getResource(uri, false) == null))) {
+        XtextResourceSet _resourceSet = this.context.getResourceSet();
+        Resource.Factory.Registry _resourceFactoryRegistry = _resourceSet.getResourceFactoryRegistry();
+        final Resource.Factory factory = _resourceFactoryRegistry.getFactory(uri);
+        if ((factory != null)) {
+          final Resource resource = factory.createResource(uri);
+          XtextResourceSet _resourceSet_1 = this.context.getResourceSet();
+          final Map<Object, Object> options = _resourceSet_1.getLoadOptions();
+          XtextResourceSet _resourceSet_2 = this.context.getResourceSet();
+          final URIConverter uriConverter = _resourceSet_2.getURIConverter();
+          final Callable<Resource> _function = () -> {
+            try {
+              final InputStream in = uriConverter.createInputStream(uri, options);
+              try {
+                resource.load(in, options);
+              } finally {
+                in.close();
+              }
+            } catch (final Throwable _t) {
+              if (_t instanceof IOException) {
+                final IOException e = (IOException)_t;
+                this.handleLoadException(resource, e);
+              } else {
+                throw Exceptions.sneakyThrow(_t);
+              }
+            }
+            return resource;
+          };
+          final Callable<Resource> task = _function;
+          return executor.<Resource>submit(task);
+        }
+      }
+      XtextResourceSet _resourceSet_3 = this.context.getResourceSet();
+      Resource _resource = _resourceSet_3.getResource(uri, true);
+      return Futures.<Resource>immediateFuture(_resource);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  /**
+   * Records the failure to read a resource that is loaded by the loading executor.
+   * 
+   * @since 2.11
+   */
+  protected void handleLoadException(final Resource resource, final IOException exception) {
+    URI _uRI = resource.getURI();
+    String _plus = ("Failed to load " + _uRI);
+    ClusteringStorageAwareResourceLoader.LOG.error(_plus, exception);
+    EList<Resource.Diagnostic> _errors = resource.getErrors();
+    boolean _isEmpty = _errors.isEmpty();
+    if (_isEmpty) {
+      EList<Resource.Diagnostic> _errors_1 = resource.getErrors();
+      ExceptionDiagnostic _exceptionDiagnostic = new ExceptionDiagnostic(exception);
+      _errors_1.add(_exceptionDiagnostic);
+    }
+  }
+  
+  /**
+   * The maximum number of loads that may be pending when the clustering policy is consulted. It doesn't see the
+   * memory that pending loads will occupy, so this bounds its error.
+   * 
+   * @since 2.11
+   */
+  protected int getMaxPendingLoads() {
+    Runtime _runtime = Runtime.getRuntime();
+    int _availableProcessors = _runtime.availableProcessors();
+    return (_availableProcessors * 2);
+  }
+  
+  /**
+   * Waits until the given resource is loaded. Failures are reported when the resource is attached.
+   */
+  private void await(final Future<Resource> future) {
+    try {
+      try {
+        future.get();
+      } catch (final Throwable _t) {
+        if (_t instanceof ExecutionException) {
+        } else {
+          throw Exceptions.sneakyThrow(_t);
+        }
+      }
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  /**
+   * Waits until the given resources are loaded and adds the detached ones to the resource set.
+   * 
+   * @since 2.11
+   */
+  protected List<Resource> attach(final List<Future<Resource>> futures) {
+    try {
+      final ArrayList<Resource> result = CollectionLiterals.<Resource>newArrayList();
+      for (final Future<Resource> future : futures) {
+        {
+          Resource _xtrycatchfinallyexpression = null;
+          try {
+            _xtrycatchfinallyexpression = future.get();
+          } catch (final Throwable _t) {
+            if (_t instanceof ExecutionException) {
+              final ExecutionException e = (ExecutionException)_t;
+              final Throwable cause = e.getCause();
+              if ((cause instanceof IOException)) {
+                throw new WrappedException(((Exception)cause));
+              }
+              throw cause;
+            } else {
+              throw Exceptions.sneakyThrow(_t);
+            }
+          }
+          final Resource resource = _xtrycatchfinallyexpression;
+          ResourceSet _resourceSet = resource.getResourceSet();
+          boolean _tripleEquals = (_resourceSet == null);
+          if (_tripleEquals) {
+            XtextResourceSet _resourceSet_1 = this.context.getResourceSet();
+            EList<Resource> _resources = _resourceSet_1.getResources();
+            _resources.add(resource);
+          }
+          result.add(resource);
+        }
+      }
+      return result;
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
   protected boolean isSource(final URI uri) {
     final IResourceServiceProvider provider = this.context.getResourceServiceProvider(uri);
     return ((provider instanceof IResourceServiceProviderExtension) && 
@@ -113,6 +291,8 @@ public class ClusteringStorageAwareResourceLoader {
     }
   }
   
+  private final static Logger LOG = Logger.getLogger(ClusteringStorageAwareResourceLoader.class);
+  
   public ClusteringStorageAwareResourceLoader(final BuildContext context) {
     super();
     this.context = context;
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
@@ -44,6 +45,7 @@ import org.eclipse.xtext.generator.trace.TraceRegionSerializer;
 import org.eclipse.xtext.parser.IEncodingProvider;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.DisabledClusteringPolicy;
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
@@ -54,6 +56,8 @@ import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.internal.Log;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 import org.eclipse.xtext.validation.CheckMode;
 import org.eclipse.xtext.validation.IResourceValidator;
 import org.eclipse.xtext.validation.Issue;
@@ -314,7 +318,16 @@ public class IncrementalBuilder {
       }
       final GeneratorContext generatorContext = new GeneratorContext();
       generatorContext.setCancelIndicator(request.getCancelIndicator());
-      generator.generate(resource, fileSystemAccess, generatorContext);
+      String _xifexpression = null;
+      if ((resource instanceof XtextResource)) {
+        _xifexpression = ((XtextResource)resource).getLanguageName();
+      }
+      final Timer.Context timer = Metrics.timer("generation", _xifexpression).start();
+      try {
+        generator.generate(resource, fileSystemAccess, generatorContext);
+      } finally {
+        timer.stop();
+      }
       final Consumer<URI> _function_1 = (URI it) -> {
         try {
           IncrementalBuilder.InternalStatefulIncrementalBuilder.LOG.info(("Deleting stale generated file " + it));
@@ -409,6 +422,8 @@ public class IncrementalBuilder {
       final IndexState oldState = new IndexState(_copy, _copy_1);
       CancelIndicator _cancelIndicator = request.getCancelIndicator();
       final BuildContext context = new BuildContext(languages, resourceSet, oldState, clusteringPolicy, _cancelIndicator);
+      ExecutorService _loadingExecutor = request.getLoadingExecutor();
+      context.setLoadingExecutor(_loadingExecutor);
       final IncrementalBuilder.InternalStatefulIncrementalBuilder builder = this.provider.get();
       builder.context = context;
       builder.request = request;
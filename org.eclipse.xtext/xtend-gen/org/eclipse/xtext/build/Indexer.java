@@ -40,6 +40,7 @@ import org.eclipse.xtext.resource.IReferenceDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
@@ -48,6 +49,8 @@ import org.eclipse.xtext.resource.persistence.SerializableEObjectDescriptionProv
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.internal.Log;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Extension;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
@@ -324,7 +327,18 @@ public class Indexer {
     final URI uri = resource.getURI();
     final IResourceServiceProvider serviceProvider = context.getResourceServiceProvider(uri);
     final IResourceDescription.Manager manager = serviceProvider.getResourceDescriptionManager();
-    final IResourceDescription newDescription = manager.getResourceDescription(resource);
+    String _xifexpression = null;
+    if ((resource instanceof XtextResource)) {
+      _xifexpression = ((XtextResource)resource).getLanguageName();
+    }
+    final Timer.Context timer = Metrics.timer("indexing", _xifexpression).start();
+    IResourceDescription _xtrycatchfinallyexpression = null;
+    try {
+      _xtrycatchfinallyexpression = manager.getResourceDescription(resource);
+    } finally {
+      timer.stop();
+    }
+    final IResourceDescription newDescription = _xtrycatchfinallyexpression;
     final IResourceDescription toBeAdded = new Indexer.ResolvedResourceDescription(newDescription);
     IResourceDescription _resourceDescription = null;
     if (oldIndex!=null) {
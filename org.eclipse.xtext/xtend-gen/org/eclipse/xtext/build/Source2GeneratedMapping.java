@@ -8,6 +8,7 @@
 package org.eclipse.xtext.build;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import java.io.Externalizable;
@@ -40,6 +41,11 @@ public class Source2GeneratedMapping implements Externalizable {
   
   private final Map<URI, String> generated2OutputConfigName;
   
+  /**
+   * The sources whose entries changed, or <code>null</code> if changes are not tracked.
+   */
+  private Set<URI> changedSources;
+  
   public Source2GeneratedMapping() {
     this(HashMultimap.<URI, URI>create(), HashMultimap.<URI, URI>create(), CollectionLiterals.<URI, String>newHashMap());
   }
@@ -48,7 +54,12 @@ public class Source2GeneratedMapping implements Externalizable {
     HashMultimap<URI, URI> _create = HashMultimap.<URI, URI>create(this.source2generated);
     HashMultimap<URI, URI> _create_1 = HashMultimap.<URI, URI>create(this.generated2source);
     HashMap<URI, String> _hashMap = new HashMap<URI, String>(this.generated2OutputConfigName);
-    return new Source2GeneratedMapping(_create, _create_1, _hashMap);
+    final Source2GeneratedMapping result = new Source2GeneratedMapping(_create, _create_1, _hashMap);
+    if ((this.changedSources != null)) {
+      HashSet<URI> _hashSet = new HashSet<URI>(this.changedSources);
+      result.changedSources = _hashSet;
+    }
+    return result;
   }
   
   public void addSource2Generated(final URI source, final URI generated) {
@@ -59,11 +70,17 @@ public class Source2GeneratedMapping implements Externalizable {
     this.source2generated.put(source, generated);
     this.generated2source.put(generated, source);
     this.generated2OutputConfigName.put(generated, outputCfgName);
+    if (this.changedSources!=null) {
+      this.changedSources.add(source);
+    }
   }
   
   public void removeSource2Generated(final URI source, final URI generated) {
     this.source2generated.remove(source, generated);
     this.generated2source.remove(generated, source);
+    if (this.changedSources!=null) {
+      this.changedSources.add(source);
+    }
   }
   
   public Set<URI> deleteSource(final URI source) {
@@ -73,6 +90,9 @@ public class Source2GeneratedMapping implements Externalizable {
       this.generated2source.remove(it, source);
     };
     generated.forEach(_function);
+    if (this.changedSources!=null) {
+      this.changedSources.add(source);
+    }
     return generated;
   }
   
@@ -80,6 +100,9 @@ public class Source2GeneratedMapping implements Externalizable {
     Collection<URI> _removeAll = this.generated2source.removeAll(generated);
     final Consumer<URI> _function = (URI it) -> {
       this.source2generated.remove(it, generated);
+      if (this.changedSources!=null) {
+        this.changedSources.add(it);
+      }
     };
     _removeAll.forEach(_function);
     this.generated2OutputConfigName.remove(generated);
@@ -104,6 +127,56 @@ public class Source2GeneratedMapping implements Externalizable {
     return Lists.<URI>newArrayList(_keySet);
   }
   
+  /**
+   * @since 2.11
+   */
+  public List<URI> getAllSources() {
+    Set<URI> _keySet = this.source2generated.keySet();
+    return Lists.<URI>newArrayList(_keySet);
+  }
+  
+  /**
+   * Starts to track the sources whose generated files change, so an {@link Source2GeneratedMappingStore} can persist
+   * only the entries of these sources. Copies of this mapping inherit the changed sources and keep tracking.
+   * 
+   * @since 2.11
+   */
+  public void trackChanges() {
+    if ((this.changedSources == null)) {
+      HashSet<URI> _newHashSet = CollectionLiterals.<URI>newHashSet();
+      this.changedSources = _newHashSet;
+    }
+  }
+  
+  /**
+   * @since 2.11
+   */
+  public boolean isTrackingChanges() {
+    return (this.changedSources != null);
+  }
+  
+  /**
+   * Returns the sources whose generated files changed since {@link #trackChanges()} or
+   * {@link #clearChangedSources()} was called, or an empty set if changes are not tracked.
+   * 
+   * @since 2.11
+   */
+  public Set<URI> getChangedSources() {
+    if ((this.changedSources == null)) {
+      return CollectionLiterals.<URI>emptySet();
+    }
+    return ImmutableSet.<URI>copyOf(this.changedSources);
+  }
+  
+  /**
+   * @since 2.11
+   */
+  public void clearChangedSources() {
+    if (this.changedSources!=null) {
+      this.changedSources.clear();
+    }
+  }
+  
   @Override
   public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
     final int numEntries = in.readInt();
@@ -119,7 +192,9 @@ public class Source2GeneratedMapping implements Externalizable {
             String _readUTF_1 = in.readUTF();
             final URI generated = URI.createURI(_readUTF_1);
             final String outputConfig = in.readUTF();
-            this.addSource2Generated(source, generated, outputConfig);
+            this.source2generated.put(source, generated);
+            this.generated2source.put(generated, source);
+            this.generated2OutputConfigName.put(generated, outputConfig);
           }
         }
       }
@@ -11,21 +11,66 @@ import com.google.common.base.Objects;
 import com.google.inject.Injector;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import org.eclipse.xtext.ISetup;
+import org.eclipse.xtext.ISetupExtension;
 import org.eclipse.xtext.resource.FileExtensionProvider;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.impl.ResourceServiceProviderRegistryImpl;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
 
 /**
+ * Registers the languages that are contributed with the {@link ServiceLoader}. Languages whose setup implements
+ * {@link ISetupExtension} are registered with their file extensions only, their injector is created when the
+ * resource service provider is requested for the first time.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @since 2.11
  */
 @Singleton
 @SuppressWarnings("all")
 public class ResourceServiceProviderServiceLoader implements Provider<IResourceServiceProvider.Registry> {
+  /**
+   * Creates the injector of a language on first access. The setups are run one at a time since they populate
+   * the global EMF registries.
+   */
+  public static class LazyResourceServiceProvider implements Provider<IResourceServiceProvider> {
+    private final static Object LOCK = new Object();
+    
+    private final ISetup setup;
+    
+    private volatile IResourceServiceProvider resourceServiceProvider;
+    
+    public LazyResourceServiceProvider(final ISetup setup) {
+      this.setup = setup;
+    }
+    
+    @Override
+    public IResourceServiceProvider get() {
+      if ((this.resourceServiceProvider == null)) {
+        synchronized (ResourceServiceProviderServiceLoader.LazyResourceServiceProvider.LOCK) {
+          if ((this.resourceServiceProvider == null)) {
+            final Injector injector = this.setup.createInjectorAndDoEMFRegistration();
+            IResourceServiceProvider _instance = injector.<IResourceServiceProvider>getInstance(IResourceServiceProvider.class);
+            this.resourceServiceProvider = _instance;
+          }
+        }
+      }
+      return this.resourceServiceProvider;
+    }
+    
+    public boolean isInitialized() {
+      return (this.resourceServiceProvider != null);
+    }
+    
+    public ISetup getSetup() {
+      return this.setup;
+    }
+  }
+  
   private ServiceLoader<ISetup> setupLoader = ServiceLoader.<ISetup>load(ISetup.class);
   
   private IResourceServiceProvider.Registry registry = this.loadRegistry();
@@ -33,31 +78,40 @@ public class ResourceServiceProviderServiceLoader implements Provider<IResourceS
   private IResourceServiceProvider.Registry loadRegistry() {
     final ResourceServiceProviderRegistryImpl registry = new ResourceServiceProviderRegistryImpl();
     for (final ISetup cp : this.setupLoader) {
-      {
+      if ((cp instanceof ISetupExtension)) {
+        final List<String> fileExtensions = ((ISetupExtension)cp).getFileExtensions();
+        String _head = IterableExtensions.<String>head(fileExtensions);
+        ResourceServiceProviderServiceLoader.LazyResourceServiceProvider _lazyResourceServiceProvider = new ResourceServiceProviderServiceLoader.LazyResourceServiceProvider(cp);
+        this.register(registry, fileExtensions, _head, _lazyResourceServiceProvider);
+      } else {
         final Injector injector = cp.createInjectorAndDoEMFRegistration();
         final IResourceServiceProvider resourceServiceProvider = injector.<IResourceServiceProvider>getInstance(IResourceServiceProvider.class);
         final FileExtensionProvider extensionProvider = injector.<FileExtensionProvider>getInstance(FileExtensionProvider.class);
         Set<String> _fileExtensions = extensionProvider.getFileExtensions();
-        for (final String ext : _fileExtensions) {
-          Map<String, Object> _extensionToFactoryMap = registry.getExtensionToFactoryMap();
-          boolean _containsKey = _extensionToFactoryMap.containsKey(ext);
-          if (_containsKey) {
-            String _primaryFileExtension = extensionProvider.getPrimaryFileExtension();
-            boolean _equals = Objects.equal(_primaryFileExtension, ext);
-            if (_equals) {
-              Map<String, Object> _extensionToFactoryMap_1 = registry.getExtensionToFactoryMap();
-              _extensionToFactoryMap_1.put(ext, resourceServiceProvider);
-            }
-          } else {
-            Map<String, Object> _extensionToFactoryMap_2 = registry.getExtensionToFactoryMap();
-            _extensionToFactoryMap_2.put(ext, resourceServiceProvider);
-          }
-        }
+        String _primaryFileExtension = extensionProvider.getPrimaryFileExtension();
+        this.register(registry, _fileExtensions, _primaryFileExtension, resourceServiceProvider);
       }
     }
     return registry;
   }
   
+  private void register(final IResourceServiceProvider.Registry registry, final Iterable<String> fileExtensions, final String primaryFileExtension, final Object resourceServiceProvider) {
+    for (final String ext : fileExtensions) {
+      Map<String, Object> _extensionToFactoryMap = registry.getExtensionToFactoryMap();
+      boolean _containsKey = _extensionToFactoryMap.containsKey(ext);
+      if (_containsKey) {
+        boolean _equals = Objects.equal(primaryFileExtension, ext);
+        if (_equals) {
+          Map<String, Object> _extensionToFactoryMap_1 = registry.getExtensionToFactoryMap();
+          _extensionToFactoryMap_1.put(ext, resourceServiceProvider);
+        }
+      } else {
+        Map<String, Object> _extensionToFactoryMap_2 = registry.getExtensionToFactoryMap();
+        _extensionToFactoryMap_2.put(ext, resourceServiceProvider);
+      }
+    }
+  }
+  
   @Override
   public IResourceServiceProvider.Registry get() {
     return this.registry;
@@ -16,6 +16,7 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +77,15 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable impl
   
   protected ResourceSet resourceSet;
   
+  /**
+   * Remembers the name of the chunk that contained the description of a resource when it was last looked up.
+   * Chunks may be replaced or modified, so an entry is verified before it is used. Stale entries are removed when
+   * they are found during a lookup and when their chunk is removed.
+   * 
+   * @since 2.11
+   */
+  protected final ConcurrentHashMap<URI, String> uri2container = new ConcurrentHashMap<URI, String>();
+  
   public ChunkedResourceDescriptions() {
   }
   
@@ -125,6 +135,9 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable impl
   }
   
   public ResourceDescriptionsData removeContainer(final String name) {
+    Collection<String> _values = this.uri2container.values();
+    Set<String> _singleton = Collections.<String>singleton(name);
+    _values.removeAll(_singleton);
     return this.chunk2resourceDescriptions.remove(name);
   }
   
@@ -145,26 +158,32 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable impl
   
   @Override
   public IResourceDescription getResourceDescription(final URI uri) {
-    Collection<ResourceDescriptionsData> _values = this.chunk2resourceDescriptions.values();
-    for (final ResourceDescriptionsData selectable : _values) {
-      {
-        final IResourceDescription result = selectable.getResourceDescription(uri);
-        if ((result != null)) {
-          return result;
-        }
-      }
+    ResourceDescriptionsData _container = this.getContainer(uri);
+    IResourceDescription _resourceDescription = null;
+    if (_container!=null) {
+      _resourceDescription=_container.getResourceDescription(uri);
     }
-    return null;
+    return _resourceDescription;
   }
   
   public ResourceDescriptionsData getContainer(final URI uri) {
-    Collection<ResourceDescriptionsData> _values = this.chunk2resourceDescriptions.values();
-    for (final ResourceDescriptionsData container : _values) {
-      {
-        final IResourceDescription result = container.getResourceDescription(uri);
-        if ((result != null)) {
-          return container;
-        }
+    final String cachedName = this.uri2container.get(uri);
+    if ((cachedName != null)) {
+      final ResourceDescriptionsData cached = this.chunk2resourceDescriptions.get(cachedName);
+      if (((cached != null) && (cached.getResourceDescription(uri) != null))) {
+        return cached;
+      }
+      this.uri2container.remove(uri, cachedName);
+    }
+    Set<Map.Entry<String, ResourceDescriptionsData>> _entrySet = this.chunk2resourceDescriptions.entrySet();
+    for (final Map.Entry<String, ResourceDescriptionsData> entry : _entrySet) {
+      ResourceDescriptionsData _value = entry.getValue();
+      IResourceDescription _resourceDescription = _value.getResourceDescription(uri);
+      boolean _tripleNotEquals = (_resourceDescription != null);
+      if (_tripleNotEquals) {
+        String _key = entry.getKey();
+        this.uri2container.put(uri, _key);
+        return entry.getValue();
       }
     }
     return null;
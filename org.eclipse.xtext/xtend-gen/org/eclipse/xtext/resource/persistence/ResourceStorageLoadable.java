@@ -7,11 +7,9 @@
  */
 package org.eclipse.xtext.resource.persistence;
 
-import com.google.common.io.CharStreams;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
 import java.util.Map;
 import java.util.zip.ZipInputStream;
@@ -29,6 +27,7 @@ import org.eclipse.xtext.nodemodel.serialization.DeserializationConversionContex
 import org.eclipse.xtext.parser.ParseResult;
 import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+import org.eclipse.xtext.util.SourceTextReader;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
@@ -133,9 +132,14 @@ public class ResourceStorageLoadable {
     URIConverter _uRIConverter_1 = _resourceSet_2.getURIConverter();
     URI _uRI_2 = resource.getURI();
     final InputStream stream = _uRIConverter_1.createInputStream(_uRI_2);
-    String _encoding = resource.getEncoding();
-    final InputStreamReader in = new InputStreamReader(stream, _encoding);
-    final String completeContent = CharStreams.toString(in);
+    String _xtrycatchfinallyexpression = null;
+    try {
+      String _encoding = resource.getEncoding();
+      _xtrycatchfinallyexpression = SourceTextReader.readText(stream, _encoding);
+    } finally {
+      stream.close();
+    }
+    final String completeContent = _xtrycatchfinallyexpression;
     final DeserializationConversionContext deserializationContext = new DeserializationConversionContext(resource, completeContent);
     final DataInputStream dataIn = new DataInputStream(inputStream);
     serializableNodeModel.readObjectData(dataIn, deserializationContext);
@@ -17,12 +17,14 @@ import java.util.List;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.xtend.lib.annotations.AccessorType;
 import org.eclipse.xtend.lib.annotations.Accessors;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IReferenceDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
+import org.eclipse.xtext.resource.impl.QualifiedNameHashes;
 import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
 import org.eclipse.xtext.resource.persistence.SerializableEObjectDescriptionProvider;
 import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
@@ -120,6 +122,9 @@ public class SerializableResourceDescription extends AbstractResourceDescription
   
   private URI uRI;
   
+  @Accessors(AccessorType.NONE)
+  private transient QualifiedNameHashes importedNameHashes;
+  
   public void updateResourceURI(final URI uri) {
     for (final SerializableReferenceDescription ref : this.references) {
       ref.updateResourceURI(uri, this.uRI);
@@ -140,6 +145,27 @@ public class SerializableResourceDescription extends AbstractResourceDescription
     return this.importedNames;
   }
   
+  public void setImportedNames(final List<QualifiedName> importedNames) {
+    this.importedNames = importedNames;
+    this.importedNameHashes = null;
+  }
+  
+  /**
+   * The hashes of the imported names are computed on demand and kept as long as this description is
+   * part of the index. They allow to reject resources that are not affected by a change quickly.
+   * 
+   * @since 2.11
+   */
+  public QualifiedNameHashes getImportedNameHashes() {
+    QualifiedNameHashes result = this.importedNameHashes;
+    if ((result == null)) {
+      QualifiedNameHashes _of = QualifiedNameHashes.of(this.importedNames);
+      result = _of;
+      this.importedNameHashes = result;
+    }
+    return result;
+  }
+  
   @Override
   public Iterable<IReferenceDescription> getReferenceDescriptions() {
     return ((Iterable<IReferenceDescription>) ((Iterable<?>) this.references));
@@ -213,10 +239,6 @@ public class SerializableResourceDescription extends AbstractResourceDescription
     this.references = references;
   }
   
-  public void setImportedNames(final List<QualifiedName> importedNames) {
-    this.importedNames = importedNames;
-  }
-  
   @Pure
   public URI getURI() {
     return this.uRI;
@@ -22,7 +22,8 @@ import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.PortableURIs;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
-import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.metrics.Metrics;
+import org.eclipse.xtext.util.metrics.Timer;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -84,8 +85,7 @@ public class StorageAwareResource extends LazyLinkingResource {
     if ((storageInputStream == null)) {
       throw new NullPointerException("storageInputStream");
     }
-    final Stopwatches.StoppedTask task = Stopwatches.forTask("Loading from storage");
-    task.start();
+    final Timer.Context timer = Metrics.timer("storage.load", this.getLanguageName()).start();
     this.isLoading = true;
     this.isLoadedFromStorage = true;
     try {
@@ -93,7 +93,7 @@ public class StorageAwareResource extends LazyLinkingResource {
       this.isLoaded = true;
     } finally {
       this.isLoading = false;
-      task.stop();
+      timer.stop();
     }
   }
   